@@ -0,0 +1,25 @@
+package cloud.metaapi.sdk.copy_factory.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs benchmarks with the GC profiler enabled, so that allocation rate is reported along with throughput and latency.
+ * Accepts standard JMH command line arguments
+ */
+public class BenchmarkRunner {
+
+  /**
+   * Runs benchmarks
+   * @param args JMH command line arguments
+   * @throws Exception if failed to run benchmarks
+   */
+  public static void main(String[] args) throws Exception {
+    new Runner(new OptionsBuilder()
+      .parent(new CommandLineOptions(args))
+      .addProfiler(GCProfiler.class)
+      .build()).run();
+  }
+}
@@ -0,0 +1,109 @@
+package cloud.metaapi.sdk.copy_factory.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryAccount;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryUserLogRecord;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.CompactTransaction;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.CompactUserLogRecord;
+import cloud.metaapi.sdk.util.JsonMapper;
+
+/**
+ * Measures decoding of API responses with the mapper used by the SDK clients
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecodeBenchmark {
+
+  /**
+   * Number of records in a page or subscriptions in an account
+   */
+  @Param({"10", "100", "1000", "10000"})
+  public int size;
+  private ObjectMapper mapper;
+  private String transactionsJson;
+  private String userLogJson;
+  private String accountJson;
+
+  /**
+   * Generates payloads
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    mapper = JsonMapper.getInstance();
+    Payloads payloads = new Payloads(42);
+    transactionsJson = Payloads.toJson(payloads.transactions(size));
+    userLogJson = Payloads.toJson(payloads.userLogRecords(size));
+    accountJson = Payloads.toJson(payloads.account(Math.min(size, 1000)));
+  }
+
+  /**
+   * Decodes a page of transactions
+   * @return transactions
+   * @throws Exception if failed to decode
+   */
+  @Benchmark
+  public CopyFactoryTransaction[] decodeTransactions() throws Exception {
+    return mapper.readValue(transactionsJson, CopyFactoryTransaction[].class);
+  }
+
+  /**
+   * Decodes a page of user log records
+   * @return user log records
+   * @throws Exception if failed to decode
+   */
+  @Benchmark
+  public CopyFactoryUserLogRecord[] decodeUserLog() throws Exception {
+    return mapper.readValue(userLogJson, CopyFactoryUserLogRecord[].class);
+  }
+
+  /**
+   * Decodes a page of transactions into the compact model flavor
+   * @return transactions
+   * @throws Exception if failed to decode
+   */
+  @Benchmark
+  public CompactTransaction[] decodeCompactTransactions() throws Exception {
+    return mapper.readValue(transactionsJson, CompactTransaction[].class);
+  }
+
+  /**
+   * Decodes a page of user log records into the compact model flavor
+   * @return user log records
+   * @throws Exception if failed to decode
+   */
+  @Benchmark
+  public CompactUserLogRecord[] decodeCompactUserLog() throws Exception {
+    return mapper.readValue(userLogJson, CompactUserLogRecord[].class);
+  }
+
+  /**
+   * Decodes an account with nested subscriptions, number of subscriptions is capped at 1000
+   * @return account
+   * @throws Exception if failed to decode
+   */
+  @Benchmark
+  public CopyFactoryAccount decodeAccount() throws Exception {
+    return mapper.readValue(accountJson, CopyFactoryAccount.class);
+  }
+}
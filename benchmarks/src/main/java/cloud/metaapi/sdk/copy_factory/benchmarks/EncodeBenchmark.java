@@ -0,0 +1,74 @@
+package cloud.metaapi.sdk.copy_factory.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryAccountUpdate;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyUpdate;
+import cloud.metaapi.sdk.util.JsonMapper;
+
+/**
+ * Measures encoding of request bodies with the mapper used by the SDK clients
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncodeBenchmark {
+
+  /**
+   * Number of subscriptions in an account update
+   */
+  @Param({"10", "100", "1000"})
+  public int subscriptionCount;
+  private ObjectMapper mapper;
+  private CopyFactoryAccountUpdate accountUpdate;
+  private CopyFactoryStrategyUpdate strategyUpdate;
+
+  /**
+   * Generates payloads
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    mapper = JsonMapper.getInstance();
+    Payloads payloads = new Payloads(42);
+    accountUpdate = payloads.accountUpdate(subscriptionCount);
+    strategyUpdate = payloads.strategyUpdate();
+  }
+
+  /**
+   * Encodes an account update with nested subscriptions
+   * @return JSON
+   * @throws Exception if failed to encode
+   */
+  @Benchmark
+  public String encodeAccountUpdate() throws Exception {
+    return mapper.writeValueAsString(accountUpdate);
+  }
+
+  /**
+   * Encodes a strategy update
+   * @return JSON
+   * @throws Exception if failed to encode
+   */
+  @Benchmark
+  public String encodeStrategyUpdate() throws Exception {
+    return mapper.writeValueAsString(strategyUpdate);
+  }
+}
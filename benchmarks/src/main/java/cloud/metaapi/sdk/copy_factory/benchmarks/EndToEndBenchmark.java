@@ -0,0 +1,291 @@
+package cloud.metaapi.sdk.copy_factory.benchmarks;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction;
+import cloud.metaapi.sdk.clients.models.IsoTime;
+import cloud.metaapi.sdk.copy_factory.CopyFactory;
+
+/**
+ * Measures end-to-end throughput and latency of the SDK clients against an in-process {@link StubServer}. Each
+ * scenario is run with an increasing number of concurrent callers, which call the real {@link CopyFactory} facade in
+ * a loop. Runs offline.
+ * <p>
+ * Arguments are {@code key=value} pairs, see {@link #main(String[])}. The report is printed to standard output and
+ * optionally saved as CSV.
+ */
+public class EndToEndBenchmark {
+
+  private static final String TOKEN = "header.payload.signature";
+  private static final String WORKER_THREAD_PREFIX = "benchmark-worker-";
+  private static final Map<String, Scenario> SCENARIOS = new LinkedHashMap<>();
+
+  static {
+    SCENARIOS.put("getAccounts", copyFactory -> {
+      copyFactory.getConfigurationApi().getAccounts().join();
+      return 1;
+    });
+    SCENARIOS.put("getStrategies", copyFactory -> {
+      copyFactory.getConfigurationApi().getStrategies().join();
+      return 1;
+    });
+    SCENARIOS.put("getProvidedStrategiesTransactions", copyFactory -> {
+      IsoTime from = new IsoTime(new Date(0));
+      IsoTime till = new IsoTime(new Date());
+      int pageSize = 1000;
+      int pages = 0;
+      List<CopyFactoryTransaction> page;
+      do {
+        page = copyFactory.getHistoryApi().getProvidedStrategiesTransactions(from, till, null, null, null,
+          pages * pageSize, pageSize).join();
+        pages++;
+      } while (page.size() == pageSize);
+      return pages;
+    });
+    SCENARIOS.put("getUserLog", copyFactory -> {
+      copyFactory.getTradingApi().getUserLog("accountId").join();
+      return 1;
+    });
+    SCENARIOS.put("getStopouts", copyFactory -> {
+      copyFactory.getTradingApi().getStopouts("accountId").join();
+      return 1;
+    });
+  }
+
+  /**
+   * Benchmark scenario
+   */
+  private interface Scenario {
+    /**
+     * Runs one operation of the scenario
+     * @param copyFactory CopyFactory SDK instance
+     * @return number of API calls made
+     */
+    int run(CopyFactory copyFactory);
+  }
+
+  /**
+   * Result of a scenario run
+   */
+  private static class Result {
+    String scenario;
+    int concurrency;
+    long operations;
+    long calls;
+    long errors;
+    long httpRequests;
+    long throttled;
+    double durationInSeconds;
+    long[] latencies;
+    int sdkThreads;
+  }
+
+  /**
+   * Runs the benchmark. Supported arguments:
+   * <ul>
+   * <li>{@code scenarios} - comma-separated scenarios to run, default is all of {@code getAccounts, getStrategies,
+   * getProvidedStrategiesTransactions, getUserLog, getStopouts}</li>
+   * <li>{@code concurrency} - comma-separated numbers of concurrent callers, default is {@code 1,4,16,64}</li>
+   * <li>{@code duration} - measurement duration of each run in seconds, default is 10</li>
+   * <li>{@code warmup} - warm-up duration of each run in seconds, default is 3</li>
+   * <li>{@code latency} - latency added by the stub server in milliseconds, default is 5</li>
+   * <li>{@code pageSize} - maximum page size of the stub server, default is 1000</li>
+   * <li>{@code historySize} - number of transactions in the history, default is 10000</li>
+   * <li>{@code configurationSize} - number of accounts and strategies, default is 100</li>
+   * <li>{@code throttleRate} - share of requests answered with 429 status, default is 0</li>
+   * <li>{@code slowRate} - share of requests answered with additional latency, default is 0</li>
+   * <li>{@code slowLatency} - additional latency of slow requests in milliseconds, default is 200</li>
+   * <li>{@code clientRateLimit} - whether the SDK client-side rate limiter is enabled, default is false</li>
+   * <li>{@code hedging} - whether calls of {@code getStopouts} and {@code getUserLog} are hedged, default is
+   * false</li>
+   * <li>{@code report} - path of the CSV file to save the report to, default is none</li>
+   * </ul>
+   * @param args arguments
+   * @throws Exception if the benchmark failed
+   */
+  public static void main(String[] args) throws Exception {
+    Map<String, String> arguments = new HashMap<>();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (separator <= 0) {
+        throw new IllegalArgumentException("Argument must be a key=value pair: " + arg);
+      }
+      arguments.put(arg.substring(0, separator), arg.substring(separator + 1));
+    }
+    List<String> scenarios = Arrays.asList(arguments.getOrDefault("scenarios",
+      String.join(",", SCENARIOS.keySet())).split(","));
+    for (String scenario : scenarios) {
+      if (!SCENARIOS.containsKey(scenario)) {
+        throw new IllegalArgumentException("Unknown scenario " + scenario);
+      }
+    }
+    String[] concurrencies = arguments.getOrDefault("concurrency", "1,4,16,64").split(",");
+    int duration = Integer.parseInt(arguments.getOrDefault("duration", "10"));
+    int warmup = Integer.parseInt(arguments.getOrDefault("warmup", "3"));
+    boolean clientRateLimit = Boolean.parseBoolean(arguments.getOrDefault("clientRateLimit", "false"));
+    boolean hedging = Boolean.parseBoolean(arguments.getOrDefault("hedging", "false"));
+    StubServer.Options stubOptions = new StubServer.Options();
+    stubOptions.latencyInMilliseconds = Integer.parseInt(arguments.getOrDefault("latency", "5"));
+    stubOptions.maxPageSize = Integer.parseInt(arguments.getOrDefault("pageSize", "1000"));
+    stubOptions.historySize = Integer.parseInt(arguments.getOrDefault("historySize", "10000"));
+    stubOptions.configurationSize = Integer.parseInt(arguments.getOrDefault("configurationSize", "100"));
+    stubOptions.throttleRate = Double.parseDouble(arguments.getOrDefault("throttleRate", "0"));
+    stubOptions.slowRate = Double.parseDouble(arguments.getOrDefault("slowRate", "0"));
+    stubOptions.slowLatencyInMilliseconds = Integer.parseInt(arguments.getOrDefault("slowLatency", "200"));
+    List<Result> results = new ArrayList<>();
+    try (StubServer server = new StubServer(stubOptions)) {
+      printHeader(System.out);
+      for (String scenario : scenarios) {
+        for (String concurrency : concurrencies) {
+          Result result = run(server, scenario, Integer.parseInt(concurrency.trim()), warmup, duration,
+            clientRateLimit, hedging);
+          printResult(System.out, result);
+          results.add(result);
+        }
+      }
+    }
+    if (arguments.containsKey("report")) {
+      saveReport(arguments.get("report"), results);
+    }
+  }
+
+  private static Result run(StubServer server, String scenarioName, int concurrency, int warmup, int duration,
+    boolean clientRateLimit, boolean hedging) throws Exception {
+    Scenario scenario = SCENARIOS.get(scenarioName);
+    CopyFactory.Options options = new CopyFactory.Options();
+    options.url = server.getUrl();
+    options.rateLimit.enabled = clientRateLimit;
+    options.hedging.enabled = hedging;
+    options.connectionPool.maxConnectionsPerHost = Math.max(options.connectionPool.maxConnectionsPerHost,
+      concurrency);
+    options.connectionPool.maxConnections = Math.max(options.connectionPool.maxConnections, concurrency);
+    CopyFactory copyFactory = new CopyFactory(TOKEN, options);
+    AtomicInteger workerCount = new AtomicInteger();
+    ExecutorService workers = Executors.newFixedThreadPool(concurrency, runnable ->
+      new Thread(runnable, WORKER_THREAD_PREFIX + workerCount.incrementAndGet()));
+    ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable ->
+      new Thread(runnable, WORKER_THREAD_PREFIX + "sampler"));
+    AtomicInteger sdkThreads = new AtomicInteger();
+    try {
+      long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmup);
+      long end = warmupEnd + TimeUnit.SECONDS.toNanos(duration);
+      AtomicLong calls = new AtomicLong();
+      AtomicLong errors = new AtomicLong();
+      AtomicLong warmupRequests = new AtomicLong();
+      AtomicLong warmupThrottled = new AtomicLong();
+      sampler.schedule(() -> {
+        warmupRequests.set(server.getRequestCount());
+        warmupThrottled.set(server.getThrottledCount());
+      }, warmupEnd - System.nanoTime(), TimeUnit.NANOSECONDS);
+      sampler.scheduleAtFixedRate(() -> sdkThreads.accumulateAndGet(countSdkThreads(), Math::max),
+        warmup * 1000L, 100, TimeUnit.MILLISECONDS);
+      List<Future<List<Long>>> futures = new ArrayList<>();
+      for (int i = 0; i < concurrency; i++) {
+        futures.add(workers.submit(() -> {
+          List<Long> latencies = new ArrayList<>();
+          long now;
+          while ((now = System.nanoTime()) < end) {
+            try {
+              int callCount = scenario.run(copyFactory);
+              long latency = System.nanoTime() - now;
+              if (now >= warmupEnd) {
+                latencies.add(latency);
+                calls.addAndGet(callCount);
+              }
+            } catch (Exception e) {
+              if (now >= warmupEnd) {
+                errors.incrementAndGet();
+              }
+            }
+          }
+          return latencies;
+        }));
+      }
+      List<Long> latencies = new ArrayList<>();
+      for (Future<List<Long>> future : futures) {
+        latencies.addAll(future.get());
+      }
+      Result result = new Result();
+      result.scenario = scenarioName;
+      result.concurrency = concurrency;
+      result.operations = latencies.size();
+      result.calls = calls.get();
+      result.errors = errors.get();
+      result.httpRequests = server.getRequestCount() - warmupRequests.get();
+      result.throttled = server.getThrottledCount() - warmupThrottled.get();
+      result.durationInSeconds = duration;
+      result.latencies = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+      result.sdkThreads = sdkThreads.get();
+      return result;
+    } finally {
+      sampler.shutdownNow();
+      workers.shutdownNow();
+      copyFactory.close();
+    }
+  }
+
+  private static int countSdkThreads() {
+    int result = 0;
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (!thread.getName().startsWith(WORKER_THREAD_PREFIX) && !thread.getName().startsWith("stub-server-")) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+  private static double percentileInMilliseconds(long[] sortedLatencies, double percentile) {
+    if (sortedLatencies.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+    return sortedLatencies[Math.max(index, 0)] / 1e6;
+  }
+
+  private static void printHeader(PrintStream out) {
+    out.println(String.format("%-36s %6s %10s %10s %10s %9s %9s %9s %7s %9s %8s", "scenario", "conc", "ops/s",
+      "calls/s", "http/s", "p50 ms", "p99 ms", "max ms", "errors", "throttled", "threads"));
+  }
+
+  private static void printResult(PrintStream out, Result result) {
+    out.println(String.format("%-36s %6d %10.1f %10.1f %10.1f %9.2f %9.2f %9.2f %7d %9d %8d", result.scenario,
+      result.concurrency, result.operations / result.durationInSeconds, result.calls / result.durationInSeconds,
+      result.httpRequests / result.durationInSeconds, percentileInMilliseconds(result.latencies, 50),
+      percentileInMilliseconds(result.latencies, 99), percentileInMilliseconds(result.latencies, 100),
+      result.errors, result.throttled, result.sdkThreads));
+  }
+
+  private static void saveReport(String path, List<Result> results) throws Exception {
+    StringBuilder report = new StringBuilder("scenario,concurrency,operationsPerSecond,callsPerSecond,"
+      + "httpRequestsPerSecond,p50InMilliseconds,p99InMilliseconds,maxInMilliseconds,errors,throttled,sdkThreads\n");
+    for (Result result : results) {
+      report.append(String.join(",", result.scenario, String.valueOf(result.concurrency),
+        String.valueOf(result.operations / result.durationInSeconds),
+        String.valueOf(result.calls / result.durationInSeconds),
+        String.valueOf(result.httpRequests / result.durationInSeconds),
+        String.valueOf(percentileInMilliseconds(result.latencies, 50)),
+        String.valueOf(percentileInMilliseconds(result.latencies, 99)),
+        String.valueOf(percentileInMilliseconds(result.latencies, 100)),
+        String.valueOf(result.errors), String.valueOf(result.throttled), String.valueOf(result.sdkThreads)))
+        .append('\n');
+    }
+    Files.write(Paths.get(path), report.toString().getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,345 @@
+package cloud.metaapi.sdk.copy_factory.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryAccount;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryAccountUpdate;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategy;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyBreakingNewsFilter;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyCommissionScheme;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyIdAndName;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyMaxStopLoss;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyNewsFilter;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyRiskLimit;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyStopOutRisk;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySubscription;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySymbolFilter;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySymbolMapping;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyTradeSizeScaling;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyUpdate;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactorySubscriberOrProvider;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransactionMetrics;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryUserLogRecord;
+import cloud.metaapi.sdk.clients.models.IsoTime;
+import cloud.metaapi.sdk.util.JsonMapper;
+
+/**
+ * Generator of realistic API payloads. Payloads are generated with a fixed seed, so that they are identical in all
+ * benchmark runs. Like in real history pages, ids, symbols and strategies are drawn from small pools, so that values
+ * repeat across records
+ */
+public class Payloads {
+
+  private static final List<String> SYMBOLS = Arrays.asList("EURUSD", "GBPUSD", "USDJPY", "AUDUSD", "USDCHF",
+    "XAUUSD", "BTCUSD", "US30", "GER40", "NZDUSD");
+  private static final long START_TIME = 1600000000000L;
+  private final Random random;
+  private final List<String> accountIds = new ArrayList<>();
+  private final List<String> strategyIds = new ArrayList<>();
+
+  /**
+   * Constructs payload generator
+   * @param seed random seed
+   */
+  public Payloads(long seed) {
+    random = new Random(seed);
+    for (int i = 0; i < 20; i++) {
+      accountIds.add(randomId(64));
+    }
+    for (int i = 0; i < 50; i++) {
+      strategyIds.add(randomId(4));
+    }
+  }
+
+  /**
+   * Generates a page of transactions
+   * @param size number of records
+   * @return transactions
+   */
+  public CopyFactoryTransaction[] transactions(int size) {
+    CopyFactoryTransaction[] result = new CopyFactoryTransaction[size];
+    for (int i = 0; i < size; i++) {
+      CopyFactoryTransaction transaction = new CopyFactoryTransaction();
+      transaction.id = randomId(8) + "#" + i;
+      transaction.type = random.nextBoolean() ? CopyFactoryTransaction.DealType.DEAL_TYPE_BUY
+        : CopyFactoryTransaction.DealType.DEAL_TYPE_SELL;
+      transaction.time = time(i);
+      transaction.accountId = pick(accountIds);
+      transaction.symbol = pick(SYMBOLS);
+      transaction.subscriber = subscriberOrProvider();
+      transaction.demo = random.nextBoolean();
+      transaction.provider = subscriberOrProvider();
+      transaction.strategy = strategyIdAndName();
+      transaction.positionId = String.valueOf(1000000 + random.nextInt(1000000));
+      transaction.improvement = random.nextDouble();
+      transaction.providerCommission = random.nextDouble();
+      transaction.platformCommission = random.nextDouble();
+      transaction.quantity = 0.01 * (1 + random.nextInt(100));
+      transaction.lotPrice = 100000.0;
+      transaction.tickPrice = 1.0;
+      transaction.amount = random.nextDouble() * 1000;
+      transaction.commission = -random.nextDouble();
+      transaction.swap = -random.nextDouble();
+      transaction.profit = random.nextGaussian() * 100;
+      transaction.metrics = new CopyFactoryTransactionMetrics();
+      transaction.metrics.tradeCopyingLatency = 100.0 + random.nextInt(500);
+      transaction.metrics.tradeCopyingSlippageInBasisPoints = random.nextGaussian();
+      transaction.metrics.tradeCopyingSlippageInAccountCurrency = random.nextGaussian();
+      transaction.metrics.mtAndBrokerSignalLatency = 10.0 + random.nextInt(100);
+      transaction.metrics.tradeAlgorithmLatency = 1.0 + random.nextInt(10);
+      transaction.metrics.mtAndBrokerTradeLatency = 10.0 + random.nextInt(100);
+      transaction.metrics.totalLatency = 200.0 + random.nextInt(500);
+      result[i] = transaction;
+    }
+    return result;
+  }
+
+  /**
+   * Generates a page of user log records
+   * @param size number of records
+   * @return user log records
+   */
+  public CopyFactoryUserLogRecord[] userLogRecords(int size) {
+    CopyFactoryUserLogRecord[] result = new CopyFactoryUserLogRecord[size];
+    for (int i = 0; i < size; i++) {
+      CopyFactoryUserLogRecord record = new CopyFactoryUserLogRecord();
+      CopyFactoryStrategyIdAndName strategy = strategyIdAndName();
+      record.time = time(i);
+      record.level = CopyFactoryUserLogRecord.LogLevel.values()[random.nextInt(3)];
+      record.message = "Trade copying failed: not enough money to open position with volume " + random.nextInt(100);
+      record.symbol = pick(SYMBOLS);
+      record.strategyId = strategy.id;
+      record.strategyName = strategy.name;
+      record.positionId = String.valueOf(1000000 + random.nextInt(1000000));
+      record.side = random.nextBoolean() ? "buy" : "sell";
+      record.type = "market";
+      record.openPrice = 1 + random.nextDouble();
+      result[i] = record;
+    }
+    return result;
+  }
+
+  /**
+   * Generates an account with deeply nested subscriptions
+   * @param subscriptionCount number of subscriptions
+   * @return account
+   */
+  public CopyFactoryAccount account(int subscriptionCount) {
+    CopyFactoryAccount account = new CopyFactoryAccount();
+    account._id = pick(accountIds);
+    fillAccountUpdate(account, subscriptionCount);
+    return account;
+  }
+
+  /**
+   * Generates an account update with deeply nested subscriptions
+   * @param subscriptionCount number of subscriptions
+   * @return account update
+   */
+  public CopyFactoryAccountUpdate accountUpdate(int subscriptionCount) {
+    CopyFactoryAccountUpdate update = new CopyFactoryAccountUpdate();
+    fillAccountUpdate(update, subscriptionCount);
+    return update;
+  }
+
+  /**
+   * Generates a strategy with all filters specified
+   * @param id strategy id
+   * @return strategy
+   */
+  public CopyFactoryStrategy strategy(String id) {
+    CopyFactoryStrategy strategy = new CopyFactoryStrategy();
+    strategy._id = id;
+    fillStrategyUpdate(strategy);
+    return strategy;
+  }
+
+  /**
+   * Generates a strategy update with all filters specified
+   * @return strategy update
+   */
+  public CopyFactoryStrategyUpdate strategyUpdate() {
+    CopyFactoryStrategyUpdate update = new CopyFactoryStrategyUpdate();
+    fillStrategyUpdate(update);
+    return update;
+  }
+
+  /**
+   * Serializes a payload into JSON
+   * @param payload payload
+   * @return JSON
+   */
+  public static String toJson(Object payload) {
+    try {
+      return JsonMapper.getInstance().writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void fillStrategyUpdate(CopyFactoryStrategyUpdate update) {
+    update.name = "Strategy " + random.nextInt(1000);
+    update.description = "Trend following strategy on major currency pairs";
+    update.positionLifecycle = "hedging";
+    update.connectionId = pick(accountIds);
+    update.skipPendingOrders = true;
+    update.commissionScheme = new CopyFactoryStrategyCommissionScheme();
+    update.commissionScheme.type = "high-water-mark";
+    update.commissionScheme.billingPeriod = "month";
+    update.commissionScheme.commissionRate = 0.1;
+    update.maxTradeRisk = 0.1;
+    update.reverse = false;
+    update.reduceCorrelations = "by-symbol";
+    update.stopOutRisk = stopOutRisk();
+    update.symbolFilter = symbolFilter();
+    update.newsFilter = newsFilter();
+    update.riskLimits = riskLimits();
+    update.maxStopLoss = new CopyFactoryStrategyMaxStopLoss();
+    update.maxStopLoss.value = 100;
+    update.maxStopLoss.units = "pips";
+    update.maxLeverage = 100.0;
+    update.symbolMapping = symbolMapping();
+    update.tradeSizeScaling = tradeSizeScaling();
+    update.copyStopLoss = true;
+    update.copyTakeProfit = true;
+    update.minTradeVolume = 0.01;
+    update.maxTradeVolume = 10.0;
+  }
+
+  private void fillAccountUpdate(CopyFactoryAccountUpdate update, int subscriptionCount) {
+    update.name = "Account " + random.nextInt(1000);
+    update.connectionId = pick(accountIds);
+    update.reservedMarginFraction = 0.25;
+    update.phoneNumbers = Arrays.asList("+12345678901");
+    update.minTradeAmount = 1000.0;
+    update.closeOnly = "immediately";
+    update.stopOutRisk = stopOutRisk();
+    update.riskLimits = riskLimits();
+    update.maxLeverage = 100.0;
+    update.copyStopLoss = true;
+    update.copyTakeProfit = true;
+    update.minTradeVolume = 0.01;
+    update.maxTradeVolume = 10.0;
+    update.subscriptions = new ArrayList<>();
+    for (int i = 0; i < subscriptionCount; i++) {
+      CopyFactoryStrategySubscription subscription = new CopyFactoryStrategySubscription();
+      subscription.strategyId = strategyIds.get(i % strategyIds.size());
+      subscription.multiplier = 0.5 + random.nextInt(4) * 0.5;
+      subscription.skipPendingOrders = true;
+      subscription.maxTradeRisk = 0.1;
+      subscription.reverse = random.nextBoolean();
+      subscription.reduceCorrelations = "by-strategy";
+      subscription.stopOutRisk = stopOutRisk();
+      subscription.symbolFilter = symbolFilter();
+      subscription.newsFilter = newsFilter();
+      subscription.riskLimits = riskLimits();
+      subscription.maxStopLoss = new CopyFactoryStrategyMaxStopLoss();
+      subscription.maxStopLoss.value = 50;
+      subscription.maxStopLoss.units = "pips";
+      subscription.maxLeverage = 50.0;
+      subscription.symbolMapping = symbolMapping();
+      subscription.tradeSizeScaling = tradeSizeScaling();
+      subscription.copyStopLoss = true;
+      subscription.copyTakeProfit = false;
+      subscription.minTradeVolume = 0.01;
+      subscription.maxTradeVolume = 5.0;
+      update.subscriptions.add(subscription);
+    }
+  }
+
+  private CopyFactorySubscriberOrProvider subscriberOrProvider() {
+    CopyFactorySubscriberOrProvider result = new CopyFactorySubscriberOrProvider();
+    result.id = pick(accountIds);
+    result.name = "Account " + result.id.substring(0, 6);
+    result.strategies = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      result.strategies.add(strategyIdAndName());
+    }
+    return result;
+  }
+
+  private CopyFactoryStrategyIdAndName strategyIdAndName() {
+    CopyFactoryStrategyIdAndName result = new CopyFactoryStrategyIdAndName();
+    result.id = pick(strategyIds);
+    result.name = "Strategy " + result.id;
+    return result;
+  }
+
+  private CopyFactoryStrategyStopOutRisk stopOutRisk() {
+    CopyFactoryStrategyStopOutRisk result = new CopyFactoryStrategyStopOutRisk();
+    result.value = 0.4;
+    result.startTime = time(0);
+    return result;
+  }
+
+  private CopyFactoryStrategySymbolFilter symbolFilter() {
+    CopyFactoryStrategySymbolFilter result = new CopyFactoryStrategySymbolFilter();
+    result.included = new ArrayList<>(SYMBOLS.subList(0, 5));
+    result.excluded = new ArrayList<>(SYMBOLS.subList(8, 10));
+    return result;
+  }
+
+  private CopyFactoryStrategyNewsFilter newsFilter() {
+    CopyFactoryStrategyNewsFilter result = new CopyFactoryStrategyNewsFilter();
+    result.breakingNewsFilter = new CopyFactoryStrategyBreakingNewsFilter();
+    result.breakingNewsFilter.priorities = Arrays.asList("high", "medium");
+    result.breakingNewsFilter.closePositionTimeGapInMinutes = 30;
+    result.breakingNewsFilter.openPositionFollowingTimeGapInMinutes = 60;
+    return result;
+  }
+
+  private List<CopyFactoryStrategyRiskLimit> riskLimits() {
+    List<CopyFactoryStrategyRiskLimit> result = new ArrayList<>();
+    for (String type : Arrays.asList("day", "week", "month")) {
+      CopyFactoryStrategyRiskLimit limit = new CopyFactoryStrategyRiskLimit();
+      limit.type = type;
+      limit.applyTo = "balance-difference";
+      limit.maxRisk = 0.1;
+      limit.closePositions = true;
+      limit.startTime = time(0);
+      result.add(limit);
+    }
+    return result;
+  }
+
+  private List<CopyFactoryStrategySymbolMapping> symbolMapping() {
+    List<CopyFactoryStrategySymbolMapping> result = new ArrayList<>();
+    for (String symbol : SYMBOLS.subList(0, 3)) {
+      CopyFactoryStrategySymbolMapping mapping = new CopyFactoryStrategySymbolMapping();
+      mapping.from = symbol;
+      mapping.to = symbol + ".m";
+      result.add(mapping);
+    }
+    return result;
+  }
+
+  private CopyFactoryStrategyTradeSizeScaling tradeSizeScaling() {
+    CopyFactoryStrategyTradeSizeScaling result = new CopyFactoryStrategyTradeSizeScaling();
+    result.mode = "fixedVolume";
+    result.tradeVolume = 0.1;
+    return result;
+  }
+
+  private IsoTime time(int index) {
+    return new IsoTime(new Date(START_TIME + index * 60000L + random.nextInt(60000)));
+  }
+
+  private <T> T pick(List<T> values) {
+    return values.get(random.nextInt(values.size()));
+  }
+
+  private String randomId(int length) {
+    StringBuilder result = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      result.append(Character.forDigit(random.nextInt(16), 16));
+    }
+    return result.toString();
+  }
+}
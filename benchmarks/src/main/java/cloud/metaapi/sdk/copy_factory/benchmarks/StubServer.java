@@ -0,0 +1,245 @@
+package cloud.metaapi.sdk.copy_factory.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyStopout;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyIdAndName;
+import cloud.metaapi.sdk.clients.models.IsoTime;
+
+/**
+ * In-process HTTP server emulating the CopyFactory API endpoints used by configuration, history and trading clients.
+ * Responses are generated once on start, so that the server itself adds little overhead to measurements
+ */
+public class StubServer implements AutoCloseable {
+
+  private final Options options;
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final AtomicLong requestCount = new AtomicLong();
+  private final AtomicLong throttledCount = new AtomicLong();
+  private final Map<String, byte[]> responses = new HashMap<>();
+  private String[] transactions;
+  private String[] userLogRecords;
+
+  /**
+   * Stub server options
+   */
+  public static class Options {
+    /**
+     * Latency added to each response in milliseconds
+     */
+    public int latencyInMilliseconds = 5;
+    /**
+     * Maximum page size of history and user log endpoints
+     */
+    public int maxPageSize = 1000;
+    /**
+     * Number of transactions in the history of each history endpoint
+     */
+    public int historySize = 10000;
+    /**
+     * Number of records in the user log of an account
+     */
+    public int userLogSize = 1000;
+    /**
+     * Number of accounts and strategies returned by configuration endpoints
+     */
+    public int configurationSize = 100;
+    /**
+     * Number of subscriptions of each account
+     */
+    public int subscriptionsPerAccount = 10;
+    /**
+     * Share of requests answered with 429 status, from 0 to 1
+     */
+    public double throttleRate = 0;
+    /**
+     * Share of requests answered with additional latency, from 0 to 1, to emulate tail latency
+     */
+    public double slowRate = 0;
+    /**
+     * Additional latency of slow requests in milliseconds
+     */
+    public int slowLatencyInMilliseconds = 200;
+    /**
+     * Request limit per minute reported in 429 responses
+     */
+    public int requestsPerMinuteAllowed = 600000;
+    /**
+     * Time in milliseconds after which throttled requests can be retried
+     */
+    public int retryAfterInMilliseconds = 100;
+  }
+
+  /**
+   * Constructs and starts stub server on a random local port
+   * @param options stub server options
+   * @throws IOException if failed to start the server
+   */
+  public StubServer(Options options) throws IOException {
+    this.options = options;
+    generatePayloads();
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+    server.createContext("/users/current/", this::handle);
+    AtomicInteger threadCount = new AtomicInteger();
+    executor = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "stub-server-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    server.setExecutor(executor);
+    server.start();
+  }
+
+  /**
+   * Returns base URL of the server
+   * @return base URL
+   */
+  public String getUrl() {
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  /**
+   * Returns number of requests received
+   * @return number of requests
+   */
+  public long getRequestCount() {
+    return requestCount.get();
+  }
+
+  /**
+   * Returns number of requests answered with 429 status
+   * @return number of throttled requests
+   */
+  public long getThrottledCount() {
+    return throttledCount.get();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void generatePayloads() {
+    Payloads payloads = new Payloads(42);
+    StringBuilder accounts = new StringBuilder("[");
+    for (int i = 0; i < options.configurationSize; i++) {
+      accounts.append(i > 0 ? "," : "").append(Payloads.toJson(payloads.account(options.subscriptionsPerAccount)));
+    }
+    responses.put("/users/current/configuration/accounts", bytes(accounts.append("]").toString()));
+    StringBuilder strategies = new StringBuilder("[");
+    for (int i = 0; i < options.configurationSize; i++) {
+      strategies.append(i > 0 ? "," : "").append(Payloads.toJson(payloads.strategy("S" + i)));
+    }
+    responses.put("/users/current/configuration/strategies", bytes(strategies.append("]").toString()));
+    responses.put("/users/current/configuration/portfolio-strategies", bytes("[]"));
+    CopyFactoryStrategyStopout stopout = new CopyFactoryStrategyStopout();
+    stopout.strategy = new CopyFactoryStrategyIdAndName();
+    stopout.strategy.id = "ABCD";
+    stopout.strategy.name = "Strategy ABCD";
+    stopout.reason = "daily-equity";
+    stopout.stoppedAt = new IsoTime(new Date(1600000000000L));
+    stopout.stoppedTill = new IsoTime(new Date(1600086400000L));
+    responses.put("stopouts", bytes("[" + Payloads.toJson(stopout) + "]"));
+    transactions = toJsonRecords(payloads.transactions(options.historySize));
+    userLogRecords = toJsonRecords(payloads.userLogRecords(options.userLogSize));
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try {
+      requestCount.incrementAndGet();
+      if (options.latencyInMilliseconds > 0) {
+        Thread.sleep(options.latencyInMilliseconds);
+      }
+      if (options.slowRate > 0 && ThreadLocalRandom.current().nextDouble() < options.slowRate) {
+        Thread.sleep(options.slowLatencyInMilliseconds);
+      }
+      if (options.throttleRate > 0 && ThreadLocalRandom.current().nextDouble() < options.throttleRate) {
+        throttledCount.incrementAndGet();
+        send(exchange, 429, bytes("{\"id\":1,\"error\":\"TooManyRequestsError\",\"message\":\"Too many requests\","
+          + "\"metadata\":{\"periodInMinutes\":1,\"requestsPerPeriodAllowed\":" + options.requestsPerMinuteAllowed
+          + ",\"recommendedRetryTime\":\"" + new IsoTime(new Date(System.currentTimeMillis()
+          + options.retryAfterInMilliseconds)).getIsoString() + "\",\"type\":\"LIMIT_REQUEST_RATE_PER_USER\"}}"));
+        return;
+      }
+      String path = exchange.getRequestURI().getPath();
+      Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(204, -1);
+      } else if (path.endsWith("/transactions")) {
+        send(exchange, 200, page(transactions, query));
+      } else if (path.endsWith("/user-log")) {
+        send(exchange, 200, page(userLogRecords, query));
+      } else if (path.endsWith("/stopouts")) {
+        send(exchange, 200, responses.get("stopouts"));
+      } else if (responses.containsKey(path)) {
+        send(exchange, 200, responses.get(path));
+      } else {
+        send(exchange, 404, bytes("{\"id\":1,\"error\":\"NotFoundError\",\"message\":\"Not found\"}"));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private byte[] page(String[] records, Map<String, String> query) {
+    int offset = query.containsKey("offset") ? Integer.parseInt(query.get("offset")) : 0;
+    int limit = Math.min(query.containsKey("limit") ? Integer.parseInt(query.get("limit")) : 1000,
+      options.maxPageSize);
+    StringBuilder result = new StringBuilder("[");
+    for (int i = offset; i < Math.min(offset + limit, records.length); i++) {
+      result.append(i > offset ? "," : "").append(records[i]);
+    }
+    return bytes(result.append("]").toString());
+  }
+
+  private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+    exchange.getResponseHeaders().set("content-type", "application/json");
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream stream = exchange.getResponseBody()) {
+      stream.write(body);
+    }
+  }
+
+  private static Map<String, String> parseQuery(String query) {
+    Map<String, String> result = new HashMap<>();
+    if (query != null) {
+      for (String parameter : query.split("&")) {
+        int separator = parameter.indexOf('=');
+        if (separator > 0) {
+          result.put(parameter.substring(0, separator), parameter.substring(separator + 1));
+        }
+      }
+    }
+    return result;
+  }
+
+  private static String[] toJsonRecords(Object[] records) {
+    String[] result = new String[records.length];
+    for (int i = 0; i < records.length; i++) {
+      result[i] = Payloads.toJson(records[i]);
+    }
+    return result;
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
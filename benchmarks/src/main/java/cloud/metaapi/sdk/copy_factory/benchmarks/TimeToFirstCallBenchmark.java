@@ -0,0 +1,138 @@
+package cloud.metaapi.sdk.copy_factory.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import cloud.metaapi.sdk.clients.models.IsoTime;
+import cloud.metaapi.sdk.copy_factory.CopyFactory;
+
+/**
+ * Measures time to the first calls of a new {@link CopyFactory} instance in a fresh JVM, with and without
+ * {@link CopyFactory#warmUp()}. Each sample runs in its own child JVM against an in-process {@link StubServer} of the
+ * parent, so that class loading and construction of JSON codecs are included as they are in short-lived jobs. Runs
+ * offline.
+ * <p>
+ * Arguments are {@code key=value} pairs, see {@link #main(String[])}.
+ */
+public class TimeToFirstCallBenchmark {
+
+  private static final String TOKEN = "header.payload.signature";
+  private static final String[] METRICS = {"construct", "firstRead", "firstWrite", "secondRead"};
+
+  /**
+   * Runs the benchmark. Supported arguments:
+   * <ul>
+   * <li>{@code samples} - number of child JVMs started for each mode, default is 10</li>
+   * <li>{@code warmUp} - comma-separated modes, {@code false} makes the first calls right after construction,
+   * {@code true} starts the warm-up right after construction, default is {@code false,true}</li>
+   * <li>{@code startupWork} - time in milliseconds the child spends on other startup work between construction and
+   * the first call, default is 300</li>
+   * <li>{@code latency} - latency added by the stub server in milliseconds, default is 5</li>
+   * </ul>
+   * @param args arguments
+   * @throws Exception if the benchmark failed
+   */
+  public static void main(String[] args) throws Exception {
+    Map<String, String> arguments = new HashMap<>();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (separator <= 0) {
+        throw new IllegalArgumentException("Argument must be a key=value pair: " + arg);
+      }
+      arguments.put(arg.substring(0, separator), arg.substring(separator + 1));
+    }
+    int startupWork = Integer.parseInt(arguments.getOrDefault("startupWork", "300"));
+    if (arguments.containsKey("url")) {
+      runSample(arguments.get("url"), Boolean.parseBoolean(arguments.get("warmUp")), startupWork);
+      System.exit(0);
+    }
+    int samples = Integer.parseInt(arguments.getOrDefault("samples", "10"));
+    List<String> modes = Arrays.asList(arguments.getOrDefault("warmUp", "false,true").split(","));
+    StubServer.Options stubOptions = new StubServer.Options();
+    stubOptions.latencyInMilliseconds = Integer.parseInt(arguments.getOrDefault("latency", "5"));
+    try (StubServer server = new StubServer(stubOptions)) {
+      System.out.printf("%-8s %-12s %10s %10s %10s%n", "warmUp", "metric", "p50 ms", "max ms", "samples");
+      for (String mode : modes) {
+        List<List<Double>> values = new ArrayList<>();
+        for (int i = 0; i < METRICS.length; i++) {
+          values.add(new ArrayList<>());
+        }
+        for (int i = 0; i < samples; i++) {
+          double[] sample = startSample(server.getUrl(), mode.trim(), startupWork);
+          for (int j = 0; j < METRICS.length; j++) {
+            values.get(j).add(sample[j]);
+          }
+        }
+        for (int i = 0; i < METRICS.length; i++) {
+          List<Double> metric = values.get(i);
+          metric.sort(null);
+          System.out.printf("%-8s %-12s %10.1f %10.1f %10d%n", mode.trim(), METRICS[i], metric.get(metric.size() / 2),
+            metric.get(metric.size() - 1), metric.size());
+        }
+      }
+    }
+  }
+
+  private static double[] startSample(String url, String warmUp, int startupWork) throws Exception {
+    String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+    Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+      TimeToFirstCallBenchmark.class.getName(), "url=" + url, "warmUp=" + warmUp, "startupWork=" + startupWork)
+      .redirectErrorStream(true).start();
+    String result = null;
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(),
+      StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.startsWith("sample ")) {
+          result = line;
+        }
+      }
+    }
+    if (process.waitFor() != 0 || result == null) {
+      throw new IllegalStateException("Sample process failed with exit code " + process.exitValue());
+    }
+    String[] fields = result.substring("sample ".length()).split(" ");
+    double[] sample = new double[fields.length];
+    for (int i = 0; i < fields.length; i++) {
+      sample[i] = Double.parseDouble(fields[i]);
+    }
+    return sample;
+  }
+
+  private static void runSample(String url, boolean warmUp, int startupWork) throws Exception {
+    long startTime = System.nanoTime();
+    CopyFactory.Options options = new CopyFactory.Options();
+    options.url = url;
+    CopyFactory copyFactory = new CopyFactory(TOKEN, options);
+    if (warmUp) {
+      copyFactory.warmUp();
+    }
+    double construct = millisSince(startTime);
+    Thread.sleep(startupWork);
+    IsoTime from = new IsoTime(new Date(0));
+    IsoTime till = new IsoTime(new Date());
+    startTime = System.nanoTime();
+    copyFactory.getHistoryApi().getProvidedStrategiesTransactions(from, till, null, null, null, 0, 100).join();
+    double firstRead = millisSince(startTime);
+    startTime = System.nanoTime();
+    copyFactory.getConfigurationApi().updateAccount("accountId", new Payloads(42).accountUpdate(10)).join();
+    double firstWrite = millisSince(startTime);
+    startTime = System.nanoTime();
+    copyFactory.getHistoryApi().getProvidedStrategiesTransactions(from, till, null, null, null, 100, 100).join();
+    double secondRead = millisSince(startTime);
+    copyFactory.close();
+    System.out.printf("sample %.3f %.3f %.3f %.3f%n", construct, firstRead, firstWrite, secondRead);
+  }
+
+  private static double millisSince(long startTime) {
+    return (System.nanoTime() - startTime) / 1e6;
+  }
+}
@@ -1,25 +1,40 @@
 package cloud.metaapi.sdk.clients.copy_factory;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.lang3.RandomStringUtils;
 
 import cloud.metaapi.sdk.clients.HttpClient;
 import cloud.metaapi.sdk.clients.HttpRequestOptions;
 import cloud.metaapi.sdk.clients.HttpRequestOptions.Method;
+import cloud.metaapi.sdk.clients.copy_factory.http.CallOptions;
+import cloud.metaapi.sdk.clients.copy_factory.http.CopyFactoryHttpClient;
+import cloud.metaapi.sdk.clients.copy_factory.http.ModelCanonicalizer;
 import cloud.metaapi.sdk.clients.copy_factory.models.*;
-import cloud.metaapi.sdk.clients.MetaApiClient;
+import cloud.metaapi.sdk.clients.copy_factory.models.snapshot.AccountSnapshot;
+import cloud.metaapi.sdk.clients.copy_factory.models.snapshot.PortfolioStrategySnapshot;
+import cloud.metaapi.sdk.clients.copy_factory.models.snapshot.StrategySnapshot;
 import cloud.metaapi.sdk.clients.TimeoutException;
+import cloud.metaapi.sdk.util.Async;
 
 /**
  * metaapi.cloud CopyFactory configuration API (trade copying configuration API) client (see
  * https://metaapi.cloud/docs/copyfactory/)
  */
-public class ConfigurationClient extends MetaApiClient {
+public class ConfigurationClient extends CopyFactoryApiClient {
+
+  private final SnapshotListCache<CopyFactoryAccount, AccountSnapshot> accountSnapshots =
+    new SnapshotListCache<>(AccountSnapshot::of, model -> model._id);
+  private final SnapshotListCache<CopyFactoryStrategy, StrategySnapshot> strategySnapshots =
+    new SnapshotListCache<>(StrategySnapshot::of, model -> model._id);
+  private final SnapshotListCache<CopyFactoryPortfolioStrategy, PortfolioStrategySnapshot> portfolioStrategySnapshots =
+    new SnapshotListCache<>(PortfolioStrategySnapshot::of, model -> model._id);
 
   /**
    * Constructs CopyFactory configuration API client instance. Domain is set to {@code agiliumtrade.agiliumtrade.ai}
@@ -38,7 +53,16 @@ public class ConfigurationClient extends MetaApiClient {
    */
   public ConfigurationClient(HttpClient httpClient, String token, String domain) {
     super(httpClient, token, domain);
-    this.host = "https://trading-api-v1." + domain;
+  }
+  
+  /**
+   * Returns a view of this client which applies the specified options to its calls
+   * @param callOptions call options
+   * @return client view
+   */
+  @Override
+  public ConfigurationClient withCallOptions(CallOptions callOptions) {
+    return (ConfigurationClient) super.withCallOptions(callOptions);
   }
   
   /**
@@ -51,7 +75,7 @@ public class ConfigurationClient extends MetaApiClient {
     HttpRequestOptions opts = new HttpRequestOptions(
       host + "/users/current/configuration/unused-strategy-id", Method.GET);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.requestJson(opts, StrategyId.class);
+    return requestJson("generateStrategyId", opts, StrategyId.class);
   }
   
   /**
@@ -65,14 +89,38 @@ public class ConfigurationClient extends MetaApiClient {
   /**
    * Retrieves CopyFactory copy trading accounts. See
    * https://metaapi.cloud/docs/copyfactory/restApi/api/configuration/getAccounts/
+   * Unchanged data is revalidated with the server instead of being transferred again. The returned list and its
+   * elements are copies owned by the caller, use {@link #getAccountSnapshots()} to read the accounts without copying.
    * @return completable future resolving with CopyFactory accounts found
    */
   public CompletableFuture<List<CopyFactoryAccount>> getAccounts() {
     if (isNotJwtToken()) return handleNoAccessError("getAccounts");
+    return requestAccountSnapshots().thenApply(snapshots -> {
+      List<CopyFactoryAccount> result = new ArrayList<>(snapshots.size());
+      for (AccountSnapshot snapshot : snapshots) {
+        result.add(snapshot.toModel());
+      }
+      return result;
+    });
+  }
+  
+  /**
+   * Retrieves immutable snapshots of CopyFactory accounts. Unchanged data is revalidated with the server instead of
+   * being transferred again, and the snapshots are then returned without being created again. The snapshots can be
+   * shared between threads, and snapshots of unchanged elements are reused between calls
+   * @return completable future resolving with unmodifiable list of snapshots of CopyFactory accounts found
+   */
+  public CompletableFuture<List<AccountSnapshot>> getAccountSnapshots() {
+    if (isNotJwtToken()) return handleNoAccessError("getAccountSnapshots");
+    return requestAccountSnapshots();
+  }
+  
+  private CompletableFuture<List<AccountSnapshot>> requestAccountSnapshots() {
     HttpRequestOptions opts = new HttpRequestOptions(
       host + "/users/current/configuration/accounts", Method.GET);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.requestJson(opts, CopyFactoryAccount[].class).thenApply((array) -> Arrays.asList(array));
+    return requestConditionalJson("getAccounts", opts, CopyFactoryAccount[].class)
+      .thenApply(array -> accountSnapshots.get(array, getModelCanonicalizer()));
   }
   
   /**
@@ -86,7 +134,7 @@ public class ConfigurationClient extends MetaApiClient {
     HttpRequestOptions opts = new HttpRequestOptions(
       host + "/users/current/configuration/accounts/" + accountId, Method.GET);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.requestJson(opts, CopyFactoryAccount.class);
+    return requestJson("getAccount", opts, CopyFactoryAccount.class);
   }
   
   /**
@@ -102,7 +150,7 @@ public class ConfigurationClient extends MetaApiClient {
       host + "/users/current/configuration/accounts/" + id, Method.PUT);
     opts.getHeaders().put("auth-token", token);
     opts.setBody(account);
-    return httpClient.request(opts).thenApply((response) -> null);
+    return request("updateAccount", opts).thenApply((response) -> null);
   }
   
   /**
@@ -116,20 +164,45 @@ public class ConfigurationClient extends MetaApiClient {
     HttpRequestOptions opts = new HttpRequestOptions(
       host + "/users/current/configuration/accounts/" + id, Method.DELETE);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.request(opts).thenApply((response) -> null);
+    return request("removeAccount", opts).thenApply((response) -> null);
   }
   
   /**
    * Retrieves CopyFactory copy trading strategies. See
    * https://metaapi.cloud/docs/copyfactory/restApi/api/configuration/getStrategies/
+   * Unchanged data is revalidated with the server instead of being transferred again. The returned list and its
+   * elements are copies owned by the caller, use {@link #getStrategySnapshots()} to read the strategies without
+   * copying.
    * @return completable future resolving with CopyFactory strategies found
    */
   public CompletableFuture<List<CopyFactoryStrategy>> getStrategies() {
     if (isNotJwtToken()) return handleNoAccessError("getStrategies");
+    return requestStrategySnapshots().thenApply(snapshots -> {
+      List<CopyFactoryStrategy> result = new ArrayList<>(snapshots.size());
+      for (StrategySnapshot snapshot : snapshots) {
+        result.add(snapshot.toModel());
+      }
+      return result;
+    });
+  }
+  
+  /**
+   * Retrieves immutable snapshots of CopyFactory strategies. Unchanged data is revalidated with the server instead of
+   * being transferred again, and the snapshots are then returned without being created again. The snapshots can be
+   * shared between threads, and snapshots of unchanged elements are reused between calls
+   * @return completable future resolving with unmodifiable list of snapshots of CopyFactory strategies found
+   */
+  public CompletableFuture<List<StrategySnapshot>> getStrategySnapshots() {
+    if (isNotJwtToken()) return handleNoAccessError("getStrategySnapshots");
+    return requestStrategySnapshots();
+  }
+  
+  private CompletableFuture<List<StrategySnapshot>> requestStrategySnapshots() {
     HttpRequestOptions opts = new HttpRequestOptions(
       host + "/users/current/configuration/strategies", Method.GET);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.requestJson(opts, CopyFactoryStrategy[].class).thenApply(array -> Arrays.asList(array));
+    return requestConditionalJson("getStrategies", opts, CopyFactoryStrategy[].class)
+      .thenApply(array -> strategySnapshots.get(array, getModelCanonicalizer()));
   }
   
   /**
@@ -143,7 +216,7 @@ public class ConfigurationClient extends MetaApiClient {
     HttpRequestOptions opts = new HttpRequestOptions(
       host + "/users/current/configuration/strategies/" + strategyId, Method.GET);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.requestJson(opts, CopyFactoryStrategy.class);
+    return requestJson("getStrategy", opts, CopyFactoryStrategy.class);
   }
   
   /**
@@ -159,7 +232,7 @@ public class ConfigurationClient extends MetaApiClient {
       host + "/users/current/configuration/strategies/" + id, Method.PUT);
     opts.getHeaders().put("auth-token", token);
     opts.setBody(strategy);
-    return httpClient.request(opts).thenApply((response) -> null);
+    return request("updateStrategy", opts).thenApply((response) -> null);
   }
   
   /**
@@ -173,21 +246,45 @@ public class ConfigurationClient extends MetaApiClient {
     HttpRequestOptions opts = new HttpRequestOptions(
       host + "/users/current/configuration/strategies/" + id, Method.DELETE);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.request(opts).thenApply((response) -> null);
+    return request("removeStrategy", opts).thenApply((response) -> null);
   }
   
   /**
    * Retrieves CopyFactory copy portfolio strategies. See
    * https://metaapi.cloud/docs/copyfactory/restApi/api/configuration/getPortfolioStrategies/
+   * Unchanged data is revalidated with the server instead of being transferred again. The returned list and its
+   * elements are copies owned by the caller, use {@link #getPortfolioStrategySnapshots()} to read the portfolio
+   * strategies without copying.
    * @return completable future resolving with CopyFactory portfolio strategies found
    */
   public CompletableFuture<List<CopyFactoryPortfolioStrategy>> getPortfolioStrategies() {
     if (isNotJwtToken()) return handleNoAccessError("getPortfolioStrategies");
+    return requestPortfolioStrategySnapshots().thenApply(snapshots -> {
+      List<CopyFactoryPortfolioStrategy> result = new ArrayList<>(snapshots.size());
+      for (PortfolioStrategySnapshot snapshot : snapshots) {
+        result.add(snapshot.toModel());
+      }
+      return result;
+    });
+  }
+  
+  /**
+   * Retrieves immutable snapshots of CopyFactory portfolio strategies. Unchanged data is revalidated with the server
+   * instead of being transferred again, and the snapshots are then returned without being created again. The
+   * snapshots can be shared between threads, and snapshots of unchanged elements are reused between calls
+   * @return completable future resolving with unmodifiable list of snapshots of CopyFactory portfolio strategies found
+   */
+  public CompletableFuture<List<PortfolioStrategySnapshot>> getPortfolioStrategySnapshots() {
+    if (isNotJwtToken()) return handleNoAccessError("getPortfolioStrategySnapshots");
+    return requestPortfolioStrategySnapshots();
+  }
+  
+  private CompletableFuture<List<PortfolioStrategySnapshot>> requestPortfolioStrategySnapshots() {
     HttpRequestOptions opts = new HttpRequestOptions(
       host + "/users/current/configuration/portfolio-strategies", Method.GET);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.requestJson(opts, CopyFactoryPortfolioStrategy[].class)
-      .thenApply(array -> Arrays.asList(array));
+    return requestConditionalJson("getPortfolioStrategies", opts, CopyFactoryPortfolioStrategy[].class)
+      .thenApply(array -> portfolioStrategySnapshots.get(array, getModelCanonicalizer()));
   }
   
   /**
@@ -201,7 +298,7 @@ public class ConfigurationClient extends MetaApiClient {
     HttpRequestOptions opts = new HttpRequestOptions(
       host + "/users/current/configuration/portfolio-strategies/" + portfolioId, Method.GET);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.requestJson(opts, CopyFactoryPortfolioStrategy.class);
+    return requestJson("getPortfolioStrategy", opts, CopyFactoryPortfolioStrategy.class);
   }
   
   /**
@@ -217,7 +314,7 @@ public class ConfigurationClient extends MetaApiClient {
       host + "/users/current/configuration/portfolio-strategies/" + id, Method.PUT);
     opts.getHeaders().put("auth-token", token);
     opts.setBody(strategy);
-    return httpClient.request(opts).thenApply((response) -> null);
+    return request("updatePortfolioStrategy", opts).thenApply((response) -> null);
   }
   
   /**
@@ -231,7 +328,7 @@ public class ConfigurationClient extends MetaApiClient {
     HttpRequestOptions opts = new HttpRequestOptions(
       host + "/users/current/configuration/portfolio-strategies/" + id, Method.DELETE);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.request(opts).thenApply((response) -> null);
+    return request("removePortfolioStrategy", opts).thenApply((response) -> null);
   }
   
   /**
@@ -245,7 +342,8 @@ public class ConfigurationClient extends MetaApiClient {
     HttpRequestOptions opts = new HttpRequestOptions(host + "/users/current/configuration/connections/" 
       + connectionId + "/active-resynchronization-tasks", Method.GET);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.requestJson(opts, ResynchronizationTask[].class).thenApply(array -> Arrays.asList(array));
+    return requestJson("getActiveResynchronizationTasks", opts, ResynchronizationTask[].class)
+      .thenApply(array -> Arrays.asList(array));
   }
   
   /**
@@ -285,6 +383,16 @@ public class ConfigurationClient extends MetaApiClient {
       } catch (Exception e) {
         throw new CompletionException(e);
       }
-    });
+    }, getExecutor());
+  }
+  
+  private Executor getExecutor() {
+    return httpClient instanceof CopyFactoryHttpClient
+      ? ((CopyFactoryHttpClient) httpClient).getExecutor() : Async.getExecutor();
+  }
+  
+  private ModelCanonicalizer getModelCanonicalizer() {
+    return httpClient instanceof CopyFactoryHttpClient
+      ? ((CopyFactoryHttpClient) httpClient).getModelCanonicalizer() : null;
   }
-}
\ No newline at end of file
+}
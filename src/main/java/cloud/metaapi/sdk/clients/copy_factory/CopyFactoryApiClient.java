@@ -0,0 +1,102 @@
+package cloud.metaapi.sdk.clients.copy_factory;
+
+import java.util.concurrent.CompletableFuture;
+
+import cloud.metaapi.sdk.clients.HttpClient;
+import cloud.metaapi.sdk.clients.HttpRequestOptions;
+import cloud.metaapi.sdk.clients.MetaApiClient;
+import cloud.metaapi.sdk.clients.copy_factory.http.CallOptions;
+import cloud.metaapi.sdk.clients.copy_factory.http.CopyFactoryHttpClient;
+
+/**
+ * Base class of CopyFactory API clients
+ */
+public abstract class CopyFactoryApiClient extends MetaApiClient implements Cloneable {
+
+  /**
+   * Options applied to calls made by this client instance, or {@code null}
+   */
+  protected CallOptions callOptions;
+
+  /**
+   * Constructs CopyFactory API client instance
+   * @param httpClient HTTP client
+   * @param token authorization token
+   * @param domain domain to connect to
+   */
+  protected CopyFactoryApiClient(HttpClient httpClient, String token, String domain) {
+    super(httpClient, token, domain);
+    this.host = "https://trading-api-v1." + domain;
+  }
+
+  /**
+   * Sets URL of the API host, overriding the one derived from the domain, e.g. to connect to a local stub server
+   * @param host API host URL without trailing slash
+   */
+  public void setHost(String host) {
+    this.host = host;
+  }
+
+  /**
+   * Returns a view of this client which applies the specified options to its calls. The view shares HTTP client and
+   * authorization token with this client
+   * @param callOptions call options
+   * @return client view
+   */
+  protected CopyFactoryApiClient withCallOptions(CallOptions callOptions) {
+    try {
+      CopyFactoryApiClient client = (CopyFactoryApiClient) clone();
+      client.callOptions = callOptions;
+      return client;
+    } catch (CloneNotSupportedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Performs a request on behalf of an API operation applying call options of this client
+   * @param operation operation name
+   * @param opts request options
+   * @return completable future with request results
+   */
+  protected CompletableFuture<String> request(String operation, HttpRequestOptions opts) {
+    if (httpClient instanceof CopyFactoryHttpClient) {
+      return ((CopyFactoryHttpClient) httpClient).request(opts, operation, callOptions);
+    }
+    return httpClient.request(opts);
+  }
+
+  /**
+   * Performs a request on behalf of an API operation applying call options of this client and converts the
+   * response JSON into an object
+   * @param <T> type of the response object
+   * @param operation operation name
+   * @param opts request options
+   * @param valueType class of the response object
+   * @return completable future with request results
+   */
+  protected <T> CompletableFuture<T> requestJson(String operation, HttpRequestOptions opts, Class<T> valueType) {
+    if (httpClient instanceof CopyFactoryHttpClient) {
+      return ((CopyFactoryHttpClient) httpClient).requestJson(opts, valueType, operation, callOptions);
+    }
+    return httpClient.requestJson(opts, valueType);
+  }
+
+  /**
+   * Performs a conditional request on behalf of an API operation applying call options of this client and converts
+   * the response JSON into an object. If the resource is not modified since the previous request, the previously
+   * decoded object is returned. The object is shared by callers and must not be modified
+   * @param <T> type of the response object
+   * @param operation operation name
+   * @param opts request options
+   * @param valueType class of the response object
+   * @return completable future with request results
+   */
+  protected <T> CompletableFuture<T> requestConditionalJson(String operation, HttpRequestOptions opts,
+    Class<T> valueType) {
+    if (httpClient instanceof CopyFactoryHttpClient) {
+      return ((CopyFactoryHttpClient) httpClient).requestConditionalJson(opts, valueType, operation, callOptions);
+    }
+    return httpClient.requestJson(opts, valueType);
+  }
+}
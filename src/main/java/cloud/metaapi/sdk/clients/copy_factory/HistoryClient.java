@@ -6,16 +6,17 @@ import java.util.concurrent.CompletableFuture;
 
 import cloud.metaapi.sdk.clients.HttpClient;
 import cloud.metaapi.sdk.clients.HttpRequestOptions;
-import cloud.metaapi.sdk.clients.MetaApiClient;
 import cloud.metaapi.sdk.clients.HttpRequestOptions.Method;
+import cloud.metaapi.sdk.clients.copy_factory.http.CallOptions;
 import cloud.metaapi.sdk.clients.copy_factory.models.*;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.CompactTransaction;
 import cloud.metaapi.sdk.clients.models.IsoTime;
 
 /**
  * metaapi.cloud CopyFactory history API (trade copying history API) client (see
  * https://metaapi.cloud/docs/copyfactory/)
  */
-public class HistoryClient extends MetaApiClient {
+public class HistoryClient extends CopyFactoryApiClient {
 
   /**
    * Constructs CopyFactory history API client instance. Domain is set to {@code agiliumtrade.agiliumtrade.ai}
@@ -34,7 +35,16 @@ public class HistoryClient extends MetaApiClient {
    */
   public HistoryClient(HttpClient httpClient, String token, String domain) {
     super(httpClient, token, domain);
-    this.host = "https://trading-api-v1." + domain;
+  }
+  
+  /**
+   * Returns a view of this client which applies the specified options to its calls
+   * @param callOptions call options
+   * @return client view
+   */
+  @Override
+  public HistoryClient withCallOptions(CallOptions callOptions) {
+    return (HistoryClient) super.withCallOptions(callOptions);
   }
   
   /**
@@ -46,7 +56,7 @@ public class HistoryClient extends MetaApiClient {
     if (isNotJwtToken()) return handleNoAccessError("getProviders");
     HttpRequestOptions opts = new HttpRequestOptions(host + "/users/current/providers", Method.GET);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.requestJson(opts, CopyFactorySubscriberOrProvider[].class)
+    return requestJson("getProviders", opts, CopyFactorySubscriberOrProvider[].class)
       .thenApply((array) -> Arrays.asList(array));
   }
   
@@ -59,7 +69,7 @@ public class HistoryClient extends MetaApiClient {
     if (isNotJwtToken()) return handleNoAccessError("getSubscribers");
     HttpRequestOptions opts = new HttpRequestOptions(host + "/users/current/subscribers", Method.GET);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.requestJson(opts, CopyFactorySubscriberOrProvider[].class)
+    return requestJson("getSubscribers", opts, CopyFactorySubscriberOrProvider[].class)
       .thenApply((array) -> Arrays.asList(array));
   }
   
@@ -72,7 +82,7 @@ public class HistoryClient extends MetaApiClient {
     if (isNotJwtToken()) return handleNoAccessError("getStrategiesSubscribed");
     HttpRequestOptions opts = new HttpRequestOptions(host + "/users/current/strategies-subscribed", Method.GET);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.requestJson(opts, CopyFactoryStrategyIdAndName[].class)
+    return requestJson("getStrategiesSubscribed", opts, CopyFactoryStrategyIdAndName[].class)
       .thenApply((array) -> Arrays.asList(array));
   }
   
@@ -85,7 +95,7 @@ public class HistoryClient extends MetaApiClient {
     if (isNotJwtToken()) return handleNoAccessError("getProvidedStrategies");
     HttpRequestOptions opts = new HttpRequestOptions(host + "/users/current/provided-strategies", Method.GET);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.requestJson(opts, CopyFactoryStrategyIdAndName[].class)
+    return requestJson("getProvidedStrategies", opts, CopyFactoryStrategyIdAndName[].class)
       .thenApply((array) -> Arrays.asList(array));
   }
   
@@ -134,20 +144,32 @@ public class HistoryClient extends MetaApiClient {
     IsoTime from, IsoTime till, List<String> strategyIds, List<String> accountIds,
     List<String> subscriberIds, Integer offset, Integer limit) {
     if (isNotJwtToken()) return handleNoAccessError("getProvidedStrategiesTransactions");
-    HttpRequestOptions opts = new HttpRequestOptions(
-      host + "/users/current/provided-strategies/transactions", Method.GET);
-    opts.getHeaders().put("auth-token", token);
-    opts.getQueryParameters().put("from", from);
-    opts.getQueryParameters().put("till", till);
-    if (strategyIds != null && !strategyIds.isEmpty())
-      opts.getQueryParameters().put("strategyId", strategyIds);
-    if (accountIds != null && !accountIds.isEmpty())
-      opts.getQueryParameters().put("accountId", accountIds);
-    if (subscriberIds != null && !subscriberIds.isEmpty())
-      opts.getQueryParameters().put("subscriberId", subscriberIds);
-    if (offset != null) opts.getQueryParameters().put("offset", offset);
-    if (limit != null) opts.getQueryParameters().put("limit", limit);
-    return httpClient.requestJson(opts, CopyFactoryTransaction[].class)
+    HttpRequestOptions opts = createTransactionsOptions("provided-strategies", from, till, strategyIds, accountIds,
+      "subscriberId", subscriberIds, offset, limit);
+    return requestJson("getProvidedStrategiesTransactions", opts, CopyFactoryTransaction[].class)
+      .thenApply((array) -> Arrays.asList(array));
+  }
+  
+  /**
+   * Returns list of transactions on the strategies the current user provides to other users in the compact model
+   * flavor, which is decoded directly into primitive times and enums and retains less memory
+   * https://metaapi.cloud/docs/copyfactory/restApi/api/history/getProvidedStrategiesTransactions/
+   * @param from time to load transactions from
+   * @param till time to load transactions till
+   * @param strategyIds optional list of strategy ids to filter transactions by, or {@code null}
+   * @param accountIds the list of CopyFactory subscriber account id (64-character long) to filter by, or {@code null}
+   * @param subscriberIds optional list of subscribers to filter transactions by, or {@code null}
+   * @param offset pagination offset, or {@code null}. Default value is 0
+   * @param limit pagination limit, or {@code null}. Default value is 1000
+   * @return completable future resolving with transactions found
+   */
+  public CompletableFuture<List<CompactTransaction>> getProvidedStrategiesTransactionsCompact(
+    IsoTime from, IsoTime till, List<String> strategyIds, List<String> accountIds,
+    List<String> subscriberIds, Integer offset, Integer limit) {
+    if (isNotJwtToken()) return handleNoAccessError("getProvidedStrategiesTransactions");
+    HttpRequestOptions opts = createTransactionsOptions("provided-strategies", from, till, strategyIds, accountIds,
+      "subscriberId", subscriberIds, offset, limit);
+    return requestJson("getProvidedStrategiesTransactions", opts, CompactTransaction[].class)
       .thenApply((array) -> Arrays.asList(array));
   }
   
@@ -196,8 +218,39 @@ public class HistoryClient extends MetaApiClient {
     IsoTime from, IsoTime till, List<String> strategyIds, List<String> accountIds,
     List<String> providerIds, Integer offset, Integer limit) {
     if (isNotJwtToken()) return handleNoAccessError("getStrategiesSubscribedTransactions");
-    HttpRequestOptions opts = new HttpRequestOptions(
-      host + "/users/current/strategies-subscribed/transactions", Method.GET);
+    HttpRequestOptions opts = createTransactionsOptions("strategies-subscribed", from, till, strategyIds, accountIds,
+      "providerId", providerIds, offset, limit);
+    return requestJson("getStrategiesSubscribedTransactions", opts, CopyFactoryTransaction[].class)
+      .thenApply((array) -> Arrays.asList(array));
+  }
+  
+  /**
+   * Returns list of trades on the strategies the current user subscribed to in the compact model flavor, which is
+   * decoded directly into primitive times and enums and retains less memory
+   * https://metaapi.cloud/docs/copyfactory/restApi/api/history/getStrategiesSubscribedTransactions/
+   * @param from time to load transactions from
+   * @param till time to load transactions till
+   * @param strategyIds optional list of strategy ids to filter transactions by, or {@code null}
+   * @param accountIds the list of CopyFactory subscriber account id (64-character long) to filter by, or {@code null}
+   * @param providerIds optional list of providers to filter transactions by, or {@code null}
+   * @param offset pagination offset, or {@code null}. Default value is 0
+   * @param limit pagination limit, or {@code null}. Default value is 1000
+   * @return completable future resolving with transactions found
+   */
+  public CompletableFuture<List<CompactTransaction>> getStrategiesSubscribedTransactionsCompact(
+    IsoTime from, IsoTime till, List<String> strategyIds, List<String> accountIds,
+    List<String> providerIds, Integer offset, Integer limit) {
+    if (isNotJwtToken()) return handleNoAccessError("getStrategiesSubscribedTransactions");
+    HttpRequestOptions opts = createTransactionsOptions("strategies-subscribed", from, till, strategyIds, accountIds,
+      "providerId", providerIds, offset, limit);
+    return requestJson("getStrategiesSubscribedTransactions", opts, CompactTransaction[].class)
+      .thenApply((array) -> Arrays.asList(array));
+  }
+  
+  private HttpRequestOptions createTransactionsOptions(String path, IsoTime from, IsoTime till,
+    List<String> strategyIds, List<String> accountIds, String userParameter, List<String> userIds, Integer offset,
+    Integer limit) {
+    HttpRequestOptions opts = new HttpRequestOptions(host + "/users/current/" + path + "/transactions", Method.GET);
     opts.getHeaders().put("auth-token", token);
     opts.getQueryParameters().put("from", from);
     opts.getQueryParameters().put("till", till);
@@ -205,11 +258,10 @@ public class HistoryClient extends MetaApiClient {
       opts.getQueryParameters().put("strategyId", strategyIds);
     if (accountIds != null && !accountIds.isEmpty())
       opts.getQueryParameters().put("accountId", accountIds);
-    if (providerIds != null && !providerIds.isEmpty())
-      opts.getQueryParameters().put("providerId", providerIds);
+    if (userIds != null && !userIds.isEmpty())
+      opts.getQueryParameters().put(userParameter, userIds);
     if (offset != null) opts.getQueryParameters().put("offset", offset);
     if (limit != null) opts.getQueryParameters().put("limit", limit);
-    return httpClient.requestJson(opts, CopyFactoryTransaction[].class)
-      .thenApply((array) -> Arrays.asList(array));
+    return opts;
   }
 }
\ No newline at end of file
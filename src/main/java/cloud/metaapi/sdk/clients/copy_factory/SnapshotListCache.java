@@ -0,0 +1,75 @@
+package cloud.metaapi.sdk.clients.copy_factory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import cloud.metaapi.sdk.clients.copy_factory.http.ModelCanonicalizer;
+import cloud.metaapi.sdk.clients.copy_factory.models.snapshot.Snapshot;
+
+/**
+ * Cache of snapshots of the last decoded list of configuration models. Conditional requests return the same decoded
+ * list while the resource is not modified, so snapshots are only created when a new list is decoded. Snapshots of
+ * models which did not change since the previous list are reused
+ * @param <M> model type
+ * @param <S> snapshot type
+ */
+class SnapshotListCache<M, S extends Snapshot> {
+
+  private final BiFunction<M, S, S> snapshot;
+  private final Function<M, String> id;
+  private volatile Entry<S> entry;
+
+  private static class Entry<S> {
+    final Object models;
+    final List<S> snapshots;
+    final Map<String, S> snapshotsById;
+
+    Entry(Object models, List<S> snapshots, Map<String, S> snapshotsById) {
+      this.models = models;
+      this.snapshots = snapshots;
+      this.snapshotsById = snapshotsById;
+    }
+  }
+
+  /**
+   * Constructs cache
+   * @param snapshot function creating snapshot of a model given the previous snapshot of the model
+   * @param id function returning id of a model
+   */
+  SnapshotListCache(BiFunction<M, S, S> snapshot, Function<M, String> id) {
+    this.snapshot = snapshot;
+    this.id = id;
+  }
+
+  /**
+   * Returns snapshots of decoded models, creating them if the models were not decoded by the previous call
+   * @param models decoded models
+   * @param canonicalizer canonicalizer to replace created snapshots with shared instances through, or {@code null}
+   * @return unmodifiable list of snapshots
+   */
+  List<S> get(M[] models, ModelCanonicalizer canonicalizer) {
+    Entry<S> current = entry;
+    if (current != null && current.models == models) {
+      return current.snapshots;
+    }
+    List<S> snapshots = new ArrayList<>(models.length);
+    Map<String, S> snapshotsById = new HashMap<>();
+    for (M model : models) {
+      String modelId = id.apply(model);
+      S item = snapshot.apply(model, current != null ? current.snapshotsById.get(modelId) : null);
+      if (canonicalizer != null) {
+        item = canonicalizer.canonicalize(item);
+      }
+      snapshots.add(item);
+      snapshotsById.put(modelId, item);
+    }
+    current = new Entry<>(models, Collections.unmodifiableList(snapshots), snapshotsById);
+    entry = current;
+    return current.snapshots;
+  }
+}
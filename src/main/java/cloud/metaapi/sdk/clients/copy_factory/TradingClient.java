@@ -6,16 +6,18 @@ import java.util.concurrent.CompletableFuture;
 
 import cloud.metaapi.sdk.clients.HttpClient;
 import cloud.metaapi.sdk.clients.HttpRequestOptions;
-import cloud.metaapi.sdk.clients.MetaApiClient;
 import cloud.metaapi.sdk.clients.HttpRequestOptions.Method;
+import cloud.metaapi.sdk.clients.copy_factory.http.CallOptions;
 import cloud.metaapi.sdk.clients.copy_factory.models.*;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.CompactStopout;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.CompactUserLogRecord;
 import cloud.metaapi.sdk.clients.models.IsoTime;
 
 /**
  * metaapi.cloud CopyFactory trading API (trade copying trading API) client (see
  * https://metaapi.cloud/docs/copyfactory/)
  */
-public class TradingClient extends MetaApiClient {
+public class TradingClient extends CopyFactoryApiClient {
 
   /**
    * Constructs CopyFactory trading API client instance. Domain is set to {@code agiliumtrade.agiliumtrade.ai}
@@ -34,7 +36,16 @@ public class TradingClient extends MetaApiClient {
    */
   public TradingClient(HttpClient httpClient, String token, String domain) {
     super(httpClient, token, domain);
-    this.host = "https://trading-api-v1." + domain;
+  }
+  
+  /**
+   * Returns a view of this client which applies the specified options to its calls
+   * @param callOptions call options
+   * @return client view
+   */
+  @Override
+  public TradingClient withCallOptions(CallOptions callOptions) {
+    return (TradingClient) super.withCallOptions(callOptions);
   }
   
   /**
@@ -51,7 +62,7 @@ public class TradingClient extends MetaApiClient {
       host + "/users/current/accounts/" + accountId + "/resynchronize", Method.POST);
     opts.getHeaders().put("auth-token", token);
     if (strategyIds != null && !strategyIds.isEmpty()) opts.getQueryParameters().put("strategyId", strategyIds);
-    return httpClient.request(opts).thenApply(response -> null);
+    return request("resynchronize", opts).thenApply(response -> null);
   }
   
   /**
@@ -65,7 +76,23 @@ public class TradingClient extends MetaApiClient {
     HttpRequestOptions opts = new HttpRequestOptions(
       host + "/users/current/accounts/" + accountId + "/stopouts", Method.GET);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.requestJson(opts, CopyFactoryStrategyStopout[].class)
+    return requestJson("getStopouts", opts, CopyFactoryStrategyStopout[].class)
+      .thenApply((array) -> Arrays.asList(array));
+  }
+  
+  /**
+   * Returns subscriber account stopouts in the compact model flavor, which is decoded directly into primitive times
+   * and enums. See
+   * https://metaapi.cloud/docs/copyfactory/restApi/api/trading/getStopOuts/
+   * @param accountId account id
+   * @return completable future which resolves with stopouts found
+   */
+  public CompletableFuture<List<CompactStopout>> getStopoutsCompact(String accountId) {
+    if (isNotJwtToken()) return handleNoAccessError("getStopouts");
+    HttpRequestOptions opts = new HttpRequestOptions(
+      host + "/users/current/accounts/" + accountId + "/stopouts", Method.GET);
+    opts.getHeaders().put("auth-token", token);
+    return requestJson("getStopouts", opts, CompactStopout[].class)
       .thenApply((array) -> Arrays.asList(array));
   }
   
@@ -83,7 +110,7 @@ public class TradingClient extends MetaApiClient {
     HttpRequestOptions opts = new HttpRequestOptions(host + "/users/current/accounts/" + accountId
       + "/strategies-subscribed/" + strategyId + "/stopouts/" + reason + "/reset", Method.POST);
     opts.getHeaders().put("auth-token", token);
-    return httpClient.request(opts).thenApply(response -> null);
+    return request("resetStopouts", opts).thenApply(response -> null);
   }
   
   /**
@@ -122,6 +149,30 @@ public class TradingClient extends MetaApiClient {
   public CompletableFuture<List<CopyFactoryUserLogRecord>> getUserLog(String accountId,
     IsoTime startTime, IsoTime endTime, Integer offset, Integer limit) {
     if (isNotJwtToken()) return handleNoAccessError("getUserLog");
+    return requestJson("getUserLog", createUserLogOptions(accountId, startTime, endTime, offset, limit),
+      CopyFactoryUserLogRecord[].class).thenApply((array) -> Arrays.asList(array));
+  }
+  
+  /**
+   * Returns copy trading user log for an account and time range in the compact model flavor, which is decoded
+   * directly into primitive times and enums and retains less memory. See
+   * https://metaapi.cloud/docs/copyfactory/restApi/api/trading/getUserLog/
+   * @param accountId account id
+   * @param startTime time to start loading data from, or {@code null}
+   * @param endTime time to stop loading data at, or {@code null}
+   * @param offset pagination offset, or {@code null}. Default is 0
+   * @param limit pagination limit, or {@code null}. Default is 1000
+   * @return completable future which resolves with log records found
+   */
+  public CompletableFuture<List<CompactUserLogRecord>> getUserLogCompact(String accountId,
+    IsoTime startTime, IsoTime endTime, Integer offset, Integer limit) {
+    if (isNotJwtToken()) return handleNoAccessError("getUserLog");
+    return requestJson("getUserLog", createUserLogOptions(accountId, startTime, endTime, offset, limit),
+      CompactUserLogRecord[].class).thenApply((array) -> Arrays.asList(array));
+  }
+  
+  private HttpRequestOptions createUserLogOptions(String accountId, IsoTime startTime, IsoTime endTime,
+    Integer offset, Integer limit) {
     HttpRequestOptions opts = new HttpRequestOptions(
       host + "/users/current/accounts/" + accountId + "/user-log", Method.GET);
     opts.getHeaders().put("auth-token", token);
@@ -129,7 +180,6 @@ public class TradingClient extends MetaApiClient {
     if (endTime != null) opts.getQueryParameters().put("endTime", endTime);
     if (offset != null) opts.getQueryParameters().put("offset", offset);
     if (limit != null) opts.getQueryParameters().put("limit", limit);
-    return httpClient.requestJson(opts, CopyFactoryUserLogRecord[].class)
-      .thenApply((array) -> Arrays.asList(array));
+    return opts;
   }
 }
\ No newline at end of file
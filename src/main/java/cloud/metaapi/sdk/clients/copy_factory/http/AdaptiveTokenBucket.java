@@ -0,0 +1,145 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+/**
+ * Token bucket which adapts its rate to server limits. When the server reports its limit in a 429 response, the rate
+ * is set slightly below that limit, so that throughput settles under it. Otherwise the rate is halved on each 429
+ * response and slowly restored on successful responses. A bucket without a configured rate lets requests through
+ * without limit until the first 429 response, and becomes unlimited again once its rate is restored to the one
+ * requests were sent at when they were throttled, unless the server has reported its limit
+ */
+class AdaptiveTokenBucket {
+
+  /**
+   * Share of the server limit the bucket rate is set to
+   */
+  static final double SERVER_LIMIT_SHARE = 0.9;
+  private static final double MIN_RATE = 0.1;
+  private double maxRate;
+  private double ceiling;
+  private double recoveryRate;
+  private double rate;
+  private double maxBurst;
+  private double burst;
+  private double tokens;
+  private long updatedAt;
+  private long blockedUntil;
+  private long windowStart;
+  private int windowCount;
+  private double observedRate;
+
+  /**
+   * Constructs token bucket
+   * @param rate initial and maximum rate in requests per second, or 0 to send requests without limit until they are
+   * throttled
+   * @param burst maximum number of requests which can be sent in a burst
+   * @param now current time in milliseconds
+   */
+  AdaptiveTokenBucket(double rate, int burst, long now) {
+    this.maxRate = rate > 0 ? rate : Double.POSITIVE_INFINITY;
+    this.ceiling = maxRate;
+    this.rate = maxRate;
+    this.maxBurst = Math.max(burst, 1);
+    this.burst = maxBurst;
+    this.tokens = this.burst;
+    this.updatedAt = now;
+    this.windowStart = now;
+  }
+
+  /**
+   * Reserves a token
+   * @param now current time in milliseconds
+   * @param maxWait maximum time in milliseconds the caller is ready to wait for the token
+   * @return time in milliseconds to wait before the request can be sent, or -1 if the token can not be reserved
+   * within the allowed wait time
+   */
+  synchronized long reserve(long now, long maxWait) {
+    refill(now);
+    long wait = Math.max(blockedUntil - now, 0);
+    if (tokens < 1) {
+      wait = Math.max(wait, (long) Math.ceil((1 - tokens) / rate * 1000));
+    }
+    if (wait > maxWait) {
+      return -1;
+    }
+    tokens--;
+    if (Double.isInfinite(rate)) {
+      observe(now);
+    }
+    return wait;
+  }
+
+  /**
+   * Adjusts the rate after a 429 response
+   * @param now current time in milliseconds
+   * @param retryAfter time in milliseconds after which requests can be retried, or 0 if unknown
+   * @param serverRate server limit in requests per second, or 0 if unknown
+   */
+  synchronized void onThrottled(long now, long retryAfter, double serverRate) {
+    refill(now);
+    if (serverRate > 0) {
+      ceiling = Math.max(Math.min(maxRate, serverRate * SERVER_LIMIT_SHARE), MIN_RATE);
+      rate = ceiling;
+    } else if (Double.isInfinite(rate)) {
+      recoveryRate = Math.max(Math.max(observedRate, windowCount), MIN_RATE);
+      rate = Math.max(recoveryRate / 2, MIN_RATE);
+    } else {
+      rate = Math.max(rate / 2, MIN_RATE);
+    }
+    burst = Math.max(Math.min(maxBurst, rate), 1);
+    tokens = Math.min(tokens, 0);
+    blockedUntil = Math.max(blockedUntil, now + retryAfter);
+  }
+
+  /**
+   * Slowly restores the rate after a successful response
+   * @param now current time in milliseconds
+   */
+  synchronized void onSuccess(long now) {
+    if (rate < ceiling) {
+      refill(now);
+      double target = Double.isInfinite(ceiling) ? recoveryRate : ceiling;
+      rate = rate + Math.max(target / 100, MIN_RATE / 10);
+      if (rate >= target) {
+        rate = ceiling;
+      }
+      burst = Math.max(Math.min(maxBurst, rate), 1);
+    }
+  }
+
+  /**
+   * Checks whether the bucket is refilled and not blocked, i.e. whether it is in the same state as a new bucket
+   * @param now current time in milliseconds
+   * @return whether the bucket is full
+   */
+  synchronized boolean isFull(long now) {
+    refill(now);
+    return tokens >= burst && rate >= ceiling && blockedUntil <= now;
+  }
+
+  /**
+   * Returns current rate
+   * @return current rate in requests per second, or {@link Double#POSITIVE_INFINITY} if requests are not limited
+   */
+  synchronized double getRate() {
+    return rate;
+  }
+
+  private void refill(long now) {
+    if (Double.isInfinite(rate)) {
+      tokens = burst;
+      updatedAt = now;
+    } else if (now > updatedAt) {
+      tokens = Math.min(burst, tokens + (now - updatedAt) * rate / 1000);
+      updatedAt = now;
+    }
+  }
+
+  private void observe(long now) {
+    if (now - windowStart >= 1000) {
+      observedRate = windowCount * 1000.0 / (now - windowStart);
+      windowStart = now;
+      windowCount = 0;
+    }
+    windowCount++;
+  }
+}
@@ -0,0 +1,18 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+/**
+ * Options applied to individual API calls
+ */
+public class CallOptions {
+  /**
+   * Policy for requests exceeding client-side rate limit, or {@code null} to use the default policy
+   */
+  public RateLimitPolicy rateLimitPolicy;
+  /**
+   * Deadline of the call in milliseconds counted from the moment the call is made, or 0 to only apply request timeout
+   * of the client. When the deadline passes, the call fails with {@link cloud.metaapi.sdk.clients.TimeoutException},
+   * the request in flight is aborted and no further retries are made. Request attempts are given the remaining time
+   * of the deadline as their timeout. Calls with a deadline do not share requests with identical calls in flight
+   */
+  public int timeoutInMilliseconds;
+}
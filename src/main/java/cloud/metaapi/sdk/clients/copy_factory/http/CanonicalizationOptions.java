@@ -0,0 +1,17 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+/**
+ * Options of canonicalization of model snapshots. When enabled, structurally equal snapshots of configuration models
+ * are returned as one shared instance. The canonicalizer holds a bounded number of instances and evicts the least
+ * recently used ones first
+ */
+public class CanonicalizationOptions {
+  /**
+   * Whether snapshots are canonicalized. Disabled by default
+   */
+  public boolean enabled = false;
+  /**
+   * Maximum number of canonical instances held
+   */
+  public int maximumSize = 16384;
+}
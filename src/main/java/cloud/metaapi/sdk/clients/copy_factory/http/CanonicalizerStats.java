@@ -0,0 +1,23 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+/**
+ * Statistics of the model canonicalizer
+ */
+public class CanonicalizerStats {
+  /**
+   * Number of canonical instances held
+   */
+  public int size;
+  /**
+   * Number of snapshots replaced with an equal canonical instance
+   */
+  public long hits;
+  /**
+   * Number of snapshots which became canonical instances
+   */
+  public long misses;
+  /**
+   * Share of snapshots replaced with a canonical instance in percent
+   */
+  public double hitRate;
+}
@@ -0,0 +1,214 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+/**
+ * Circuit breaker of a host and endpoint family. Outcomes of request attempts are counted in one-second buckets of a
+ * sliding window. The breaker opens when the failure or slow call rate in the window reaches its threshold, lets a
+ * limited number of probe requests through after the wait time, and closes when all of them succeed. Outcomes are
+ * attributed to the state the attempt was admitted in, so attempts admitted before the breaker opened do not count as
+ * probes, and probes of an earlier half-open period are ignored
+ */
+class CircuitBreaker {
+
+  /**
+   * Admission of a request attempt
+   */
+  static class Admission {
+    /**
+     * Circuit breaker which admitted the attempt
+     */
+    final CircuitBreaker breaker;
+    /**
+     * Time in milliseconds after which probe requests are let through if the attempt is rejected, or 0 if it is
+     * permitted
+     */
+    final long retryAfter;
+    /**
+     * Number of the half-open period the attempt is a probe of, or 0 if the attempt was admitted while the breaker
+     * was closed
+     */
+    final long probePeriod;
+
+    private Admission(CircuitBreaker breaker, long retryAfter, long probePeriod) {
+      this.breaker = breaker;
+      this.retryAfter = retryAfter;
+      this.probePeriod = probePeriod;
+    }
+  }
+
+
+  final String host;
+  final EndpointFamily family;
+  private CircuitBreakerOptions options;
+  private CircuitState state = CircuitState.CLOSED;
+  private long[] bucketSeconds;
+  private int[] calls;
+  private int[] failures;
+  private int[] slowCalls;
+  private long openedAt;
+  private long halfOpenPeriod;
+  private int probes;
+  private int succeededProbes;
+  private long rejectedCalls;
+  private Admission closedAdmission = new Admission(this, 0, 0);
+
+  /**
+   * Constructs circuit breaker
+   * @param host host the breaker guards
+   * @param family endpoint family the breaker guards
+   * @param options circuit breaker options
+   */
+  CircuitBreaker(String host, EndpointFamily family, CircuitBreakerOptions options) {
+    this.host = host;
+    this.family = family;
+    this.options = options;
+    int size = Math.max(options.windowInSeconds, 1);
+    bucketSeconds = new long[size];
+    calls = new int[size];
+    failures = new int[size];
+    slowCalls = new int[size];
+  }
+
+  /**
+   * Checks whether a request attempt can be sent. While the breaker is half-open, each permitted attempt takes one of
+   * the probe slots
+   * @param now current time in milliseconds
+   * @return admission of the attempt
+   */
+  synchronized Admission tryAcquire(long now) {
+    if (state == CircuitState.OPEN) {
+      long retryAfter = openedAt + options.waitInOpenStateInSeconds * 1000L - now;
+      if (retryAfter > 0) {
+        rejectedCalls++;
+        return new Admission(this, retryAfter, 0);
+      }
+      state = CircuitState.HALF_OPEN;
+      halfOpenPeriod++;
+      probes = 0;
+      succeededProbes = 0;
+    }
+    if (state == CircuitState.HALF_OPEN) {
+      if (probes >= options.permittedCallsInHalfOpenState) {
+        rejectedCalls++;
+        return new Admission(this, 1, 0);
+      }
+      probes++;
+      return new Admission(this, 0, halfOpenPeriod);
+    }
+    return closedAdmission;
+  }
+
+  /**
+   * Returns a probe slot taken by an attempt which was not sent or whose outcome says nothing about the endpoints
+   * @param admission admission of the attempt
+   */
+  synchronized void release(Admission admission) {
+    if (isCurrentProbe(admission)) {
+      probes--;
+    }
+  }
+
+  /**
+   * Records outcome of a request attempt
+   * @param admission admission of the attempt
+   * @param now current time in milliseconds
+   * @param duration duration of the attempt in milliseconds
+   * @param failed whether the attempt failed
+   */
+  synchronized void onResult(Admission admission, long now, long duration, boolean failed) {
+    boolean slow = duration >= options.slowCallDurationInMilliseconds;
+    if (admission.probePeriod != 0) {
+      if (!isCurrentProbe(admission)) {
+        return;
+      }
+      if (failed || slow) {
+        open(now);
+      } else if (++succeededProbes >= options.permittedCallsInHalfOpenState) {
+        state = CircuitState.CLOSED;
+        clear();
+      }
+    } else if (state == CircuitState.CLOSED) {
+      int index = bucket(now);
+      calls[index]++;
+      failures[index] += failed ? 1 : 0;
+      slowCalls[index] += slow ? 1 : 0;
+      int[] totals = totals(now);
+      if (totals[0] >= Math.max(options.minimumCalls, 1) && (totals[1] * 100.0 / totals[0]
+        >= options.failureRateThreshold || totals[2] * 100.0 / totals[0] >= options.slowCallRateThreshold)) {
+        open(now);
+      }
+    }
+  }
+
+  /**
+   * Returns current state
+   * @param now current time in milliseconds
+   * @return current state
+   */
+  synchronized CircuitState getState(long now) {
+    if (state == CircuitState.OPEN && now >= openedAt + options.waitInOpenStateInSeconds * 1000L) {
+      return CircuitState.HALF_OPEN;
+    }
+    return state;
+  }
+
+  /**
+   * Returns breaker statistics
+   * @param now current time in milliseconds
+   * @return breaker statistics
+   */
+  synchronized CircuitBreakerStats getStats(long now) {
+    int[] totals = totals(now);
+    CircuitBreakerStats stats = new CircuitBreakerStats();
+    stats.host = host;
+    stats.endpointFamily = family;
+    stats.state = getState(now);
+    stats.calls = totals[0];
+    stats.failureRate = totals[0] > 0 ? totals[1] * 100.0 / totals[0] : 0;
+    stats.slowCallRate = totals[0] > 0 ? totals[2] * 100.0 / totals[0] : 0;
+    stats.rejectedCalls = rejectedCalls;
+    return stats;
+  }
+
+  private boolean isCurrentProbe(Admission admission) {
+    return state == CircuitState.HALF_OPEN && admission.probePeriod == halfOpenPeriod;
+  }
+
+  private void open(long now) {
+    state = CircuitState.OPEN;
+    openedAt = now;
+    clear();
+  }
+
+  private void clear() {
+    for (int i = 0; i < calls.length; i++) {
+      calls[i] = 0;
+      failures[i] = 0;
+      slowCalls[i] = 0;
+    }
+  }
+
+  private int bucket(long now) {
+    long second = now / 1000;
+    int index = (int) (second % calls.length);
+    if (bucketSeconds[index] != second) {
+      bucketSeconds[index] = second;
+      calls[index] = 0;
+      failures[index] = 0;
+      slowCalls[index] = 0;
+    }
+    return index;
+  }
+
+  private int[] totals(long now) {
+    long second = now / 1000;
+    int[] totals = new int[3];
+    for (int i = 0; i < calls.length; i++) {
+      if (second - bucketSeconds[i] < calls.length) {
+        totals[0] += calls[i];
+        totals[1] += failures[i];
+        totals[2] += slowCalls[i];
+      }
+    }
+    return totals;
+  }
+}
@@ -0,0 +1,97 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import kong.unirest.HttpResponse;
+
+/**
+ * Fails attempts fast while the circuit breaker of their host and endpoint family is open, and records outcomes of
+ * the attempts it admits to the breaker. Attempts which are not sent, cancelled, or time out because the call deadline
+ * shortened their timeouts give their admission back without an outcome
+ */
+class CircuitBreakerInterceptor implements RequestInterceptor {
+
+  private final CircuitBreakers breakers;
+  private final Map<RequestAttempt, CircuitBreaker.Admission> admissions = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs circuit breaker interceptor
+   * @param options circuit breaker options
+   */
+  CircuitBreakerInterceptor(CircuitBreakerOptions options) {
+    breakers = new CircuitBreakers(options);
+  }
+
+  /**
+   * Returns statistics of circuit breakers of the hosts and endpoint families requests have been sent to
+   * @param now current time in milliseconds
+   * @return circuit breaker statistics
+   */
+  List<CircuitBreakerStats> getStats(long now) {
+    return breakers.getStats(now);
+  }
+
+  @Override
+  public CompletableFuture<Void> admit(RequestAttempt attempt) {
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    CircuitBreaker.Admission admission = breakers.get(attempt.options.getUrl())
+      .tryAcquire(System.currentTimeMillis());
+    if (admission.retryAfter > 0) {
+      String host = admission.breaker.host;
+      result.completeExceptionally(new CircuitBreakerOpenException("Circuit breaker of " + attempt.family
+        + " endpoints of " + host + " is open", host, attempt.family, admission.retryAfter));
+      return result;
+    }
+    admissions.put(attempt, admission);
+    result.complete(null);
+    return result;
+  }
+
+  @Override
+  public void onRejected(RequestAttempt attempt) {
+    CircuitBreaker.Admission admission = admissions.remove(attempt);
+    if (admission != null) {
+      admission.breaker.release(admission);
+    }
+  }
+
+  @Override
+  public void onExchange(RequestAttempt attempt, HttpResponse<String> response, Throwable error) {
+    CircuitBreaker.Admission admission = admissions.remove(attempt);
+    if (admission == null) {
+      return;
+    }
+    RequestContext context = attempt.context;
+    if (response != null) {
+      admission.breaker.onResult(admission, System.currentTimeMillis(), attempt.getDuration(),
+        response.getStatus() >= 500);
+    } else if (attempt.sent && (context == null || (!context.cancelled && !isCappedTimeout(context, error)))) {
+      admission.breaker.onResult(admission, System.currentTimeMillis(), attempt.getDuration(), true);
+    } else {
+      admission.breaker.release(admission);
+    }
+  }
+
+  /**
+   * Returns whether a request attempt failed with a timeout shortened to the remaining time of the call deadline,
+   * which says nothing about the health of the endpoints
+   * @param context request context
+   * @param error error the attempt failed with
+   * @return whether the attempt failed with a capped timeout
+   */
+  static boolean isCappedTimeout(RequestContext context, Throwable error) {
+    if (!context.attemptTimeoutCapped) {
+      return false;
+    }
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof InterruptedIOException) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,40 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import cloud.metaapi.sdk.clients.error_handler.ApiException;
+
+/**
+ * Exception thrown when a request is rejected without being sent because the circuit breaker of its endpoints is open.
+ * Callers can fall back to cached data instead of waiting for the endpoints to recover
+ */
+public class CircuitBreakerOpenException extends ApiException {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Host the open circuit breaker guards
+   */
+  public String host;
+  /**
+   * Endpoint family the open circuit breaker guards
+   */
+  public EndpointFamily endpointFamily;
+  /**
+   * Time in milliseconds after which probe requests are let through
+   */
+  public long retryAfterInMilliseconds;
+
+  /**
+   * Constructs the exception
+   * @param message exception message
+   * @param host host the open circuit breaker guards
+   * @param endpointFamily endpoint family the open circuit breaker guards
+   * @param retryAfterInMilliseconds time in milliseconds after which probe requests are let through
+   */
+  public CircuitBreakerOpenException(String message, String host, EndpointFamily endpointFamily,
+    long retryAfterInMilliseconds) {
+    super(message, 503);
+    this.host = host;
+    this.endpointFamily = endpointFamily;
+    this.retryAfterInMilliseconds = retryAfterInMilliseconds;
+  }
+}
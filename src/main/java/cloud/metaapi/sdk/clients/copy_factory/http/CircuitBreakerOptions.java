@@ -0,0 +1,43 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+/**
+ * Options of circuit breakers. Each host and endpoint family has its own circuit breaker, which records outcomes of
+ * request attempts over a sliding time window. When the share of failed or slow attempts exceeds a threshold, the
+ * breaker opens and further requests fail fast with {@link CircuitBreakerOpenException}. After a wait time, a limited
+ * number of probe requests is let through, and the breaker closes if they succeed or opens again otherwise. Attempts
+ * which time out because their timeout was shortened to the remaining time of the call deadline are not failures
+ */
+public class CircuitBreakerOptions {
+  /**
+   * Whether circuit breakers are enabled. Disabled by default
+   */
+  public boolean enabled = false;
+  /**
+   * Length of the sliding window of recorded attempts in seconds
+   */
+  public int windowInSeconds = 60;
+  /**
+   * Minimum number of attempts in the window required to open the breaker
+   */
+  public int minimumCalls = 20;
+  /**
+   * Share of failed attempts in percent at which the breaker opens. Network errors and 5xx responses are failures
+   */
+  public double failureRateThreshold = 50;
+  /**
+   * Share of slow attempts in percent at which the breaker opens
+   */
+  public double slowCallRateThreshold = 80;
+  /**
+   * Duration in milliseconds after which an attempt is considered slow
+   */
+  public int slowCallDurationInMilliseconds = 10000;
+  /**
+   * Time the breaker stays open before probe requests are let through, in seconds
+   */
+  public int waitInOpenStateInSeconds = 30;
+  /**
+   * Number of probe requests let through while the breaker is half-open
+   */
+  public int permittedCallsInHalfOpenState = 3;
+}
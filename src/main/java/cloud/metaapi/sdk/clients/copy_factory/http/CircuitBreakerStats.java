@@ -0,0 +1,35 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+/**
+ * Statistics of a circuit breaker
+ */
+public class CircuitBreakerStats {
+  /**
+   * Host the breaker guards
+   */
+  public String host;
+  /**
+   * Endpoint family the breaker guards
+   */
+  public EndpointFamily endpointFamily;
+  /**
+   * Current state
+   */
+  public CircuitState state;
+  /**
+   * Number of attempts recorded in the sliding window
+   */
+  public int calls;
+  /**
+   * Share of failed attempts in the sliding window in percent
+   */
+  public double failureRate;
+  /**
+   * Share of slow attempts in the sliding window in percent
+   */
+  public double slowCallRate;
+  /**
+   * Number of requests rejected since the breaker was created
+   */
+  public long rejectedCalls;
+}
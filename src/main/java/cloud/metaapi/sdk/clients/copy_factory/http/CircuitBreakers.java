@@ -0,0 +1,54 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Circuit breakers of the hosts and endpoint families requests are sent to
+ */
+class CircuitBreakers {
+
+  private CircuitBreakerOptions options;
+  private Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs circuit breakers
+   * @param options circuit breaker options
+   */
+  CircuitBreakers(CircuitBreakerOptions options) {
+    this.options = options;
+  }
+
+  /**
+   * Returns circuit breaker guarding a request URL, creating it if needed
+   * @param url request URL
+   * @return circuit breaker
+   */
+  CircuitBreaker get(String url) {
+    String host = getHost(url);
+    EndpointFamily family = EndpointFamily.of(url);
+    return breakers.computeIfAbsent(host + " " + family, key -> new CircuitBreaker(host, family, options));
+  }
+
+  /**
+   * Returns statistics of all circuit breakers
+   * @param now current time in milliseconds
+   * @return circuit breaker statistics
+   */
+  List<CircuitBreakerStats> getStats(long now) {
+    List<CircuitBreakerStats> result = new ArrayList<>();
+    for (CircuitBreaker breaker : breakers.values()) {
+      result.add(breaker.getStats(now));
+    }
+    return result;
+  }
+
+  private static String getHost(String url) {
+    int start = url.indexOf("://");
+    start = start >= 0 ? start + 3 : 0;
+    int end = url.indexOf('/', start);
+    return end >= 0 ? url.substring(start, end) : url.substring(start);
+  }
+}
@@ -0,0 +1,19 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+/**
+ * State of a circuit breaker
+ */
+public enum CircuitState {
+  /**
+   * Requests are sent and their outcomes are recorded
+   */
+  CLOSED,
+  /**
+   * Requests fail fast without being sent
+   */
+  OPEN,
+  /**
+   * A limited number of probe requests is sent to check whether the endpoints have recovered
+   */
+  HALF_OPEN
+}
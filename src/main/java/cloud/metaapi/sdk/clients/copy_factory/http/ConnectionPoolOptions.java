@@ -0,0 +1,25 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+/**
+ * Options of the connection pool shared by CopyFactory API clients
+ */
+public class ConnectionPoolOptions {
+  /**
+   * Maximum number of pooled connections
+   */
+  public int maxConnections = 200;
+  /**
+   * Maximum number of pooled connections to a single host
+   */
+  public int maxConnectionsPerHost = 50;
+  /**
+   * Time in seconds an idle connection is kept alive in the pool for reuse after a response. A shorter time
+   * requested by the server in its Keep-Alive header takes precedence. Set to 0 to keep connections for as long as
+   * the server allows
+   */
+  public int keepAliveInSeconds = 300;
+  /**
+   * Time in seconds after which idle connections are evicted from the pool. Set to 0 to disable idle eviction
+   */
+  public int idleEvictionInSeconds = 60;
+}
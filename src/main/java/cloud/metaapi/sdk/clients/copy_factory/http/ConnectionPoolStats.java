@@ -0,0 +1,23 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+/**
+ * Connection pool statistics
+ */
+public class ConnectionPoolStats {
+  /**
+   * Number of connections currently used to execute requests
+   */
+  public int leased;
+  /**
+   * Number of idle connections kept alive for reuse
+   */
+  public int idle;
+  /**
+   * Number of requests waiting for a connection
+   */
+  public int pending;
+  /**
+   * Maximum number of connections
+   */
+  public int max;
+}
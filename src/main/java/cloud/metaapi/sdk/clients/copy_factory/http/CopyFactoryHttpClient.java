@@ -0,0 +1,715 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CountingInputStream;
+import org.apache.http.client.methods.HttpUriRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import cloud.metaapi.sdk.clients.HttpClient;
+import cloud.metaapi.sdk.clients.HttpRequestOptions;
+import cloud.metaapi.sdk.clients.HttpRequestOptions.Method;
+import cloud.metaapi.sdk.clients.RetryOptions;
+import cloud.metaapi.sdk.clients.TimeoutException;
+import cloud.metaapi.sdk.clients.copy_factory.metrics.MetricsRegistry;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.IdentifierInterner;
+import cloud.metaapi.sdk.clients.error_handler.ApiException;
+import cloud.metaapi.sdk.clients.error_handler.ConflictException;
+import cloud.metaapi.sdk.clients.error_handler.InternalException;
+import cloud.metaapi.sdk.clients.error_handler.ValidationException;
+import cloud.metaapi.sdk.util.Async;
+import kong.unirest.HttpResponse;
+import kong.unirest.RawResponse;
+
+/**
+ * HTTP client used by CopyFactory API clients. Requests are sent through a pooled transport owned by the client and run
+ * on a configurable executor. Calls made on behalf of named operations are tracked with a request context carrying
+ * their deadline, cancellation state and metrics, and each request attempt passes through a chain of request
+ * interceptors, such as rate limits and circuit breakers, before it is sent. Optional features are described by their
+ * setters
+ */
+public class CopyFactoryHttpClient extends HttpClient {
+
+  private static final List<Class<?>> RETRYABLE_ERRORS = Arrays.asList(ConflictException.class,
+    InternalException.class, ApiException.class);
+  private PooledTransport transport;
+  private Executor executor;
+  private int retries;
+  private int minRetryDelay;
+  private int maxRetryDelay;
+  private SingleFlight singleFlight = new SingleFlight();
+  private boolean deduplicateRequests = false;
+  private Map<HttpRequestOptions, RequestContext> requestContexts = new ConcurrentHashMap<>();
+  private Map<HttpRequestOptions, RequestAttempt> admittedAttempts = new ConcurrentHashMap<>();
+  private MetricsRegistry metricsRegistry;
+  private volatile ValidatorCache validatorCache = new ValidatorCache(1000);
+  private volatile TenantBudgets tenantBudgets;
+  private volatile HedgingPolicy hedgingPolicy;
+  private volatile RateLimitInterceptor rateLimit = new RateLimitInterceptor(new RateLimitOptions());
+  private volatile CircuitBreakerInterceptor circuitBreaker;
+  private volatile InterceptorChain interceptors;
+  private volatile IdentifierRegistry identifierRegistry;
+  private volatile ModelCanonicalizer modelCanonicalizer;
+
+  /**
+   * Constructs HTTP client instance with default options
+   * @throws ValidationException if options are invalid
+   */
+  public CopyFactoryHttpClient() throws ValidationException {
+    this(60000, 60000, new RetryOptions(), new ConnectionPoolOptions());
+  }
+
+  /**
+   * Constructs HTTP client instance running requests on the default SDK executor
+   * @param requestTimeout request timeout in milliseconds
+   * @param connectTimeout connect timeout in milliseconds
+   * @param retryOpts retry options
+   * @param poolOpts connection pool options
+   * @throws ValidationException if options are invalid
+   */
+  public CopyFactoryHttpClient(int requestTimeout, int connectTimeout, RetryOptions retryOpts,
+    ConnectionPoolOptions poolOpts) throws ValidationException {
+    this(requestTimeout, connectTimeout, retryOpts, poolOpts, Async.getExecutor());
+  }
+
+  /**
+   * Constructs HTTP client instance
+   * @param requestTimeout request timeout in milliseconds
+   * @param connectTimeout connect timeout in milliseconds
+   * @param retryOpts retry options
+   * @param poolOpts connection pool options
+   * @param executor executor to run requests and their completions on
+   * @throws ValidationException if options are invalid
+   */
+  public CopyFactoryHttpClient(int requestTimeout, int connectTimeout, RetryOptions retryOpts,
+    ConnectionPoolOptions poolOpts, Executor executor) throws ValidationException {
+    super(requestTimeout, connectTimeout, retryOpts);
+    if (poolOpts.maxConnections < 1 || poolOpts.maxConnectionsPerHost < 1) {
+      throw new ValidationException("Connection pool size must be positive", poolOpts);
+    }
+    this.executor = executor;
+    retries = retryOpts.retries;
+    minRetryDelay = retryOpts.minDelayInSeconds * 1000;
+    maxRetryDelay = retryOpts.maxDelayInSeconds * 1000;
+    transport = new PooledTransport(requestTimeout, connectTimeout, poolOpts);
+    updateInterceptors();
+  }
+
+  /**
+   * Returns executor requests and their completions are run on
+   * @return executor
+   */
+  public Executor getExecutor() {
+    return executor;
+  }
+
+  /**
+   * Returns statistics of the connection pool
+   * @return connection pool statistics
+   */
+  public ConnectionPoolStats getPoolStats() {
+    return transport.getPoolStats();
+  }
+
+  /**
+   * Sets whether identical GET requests in flight at the same time should share one network call. Callers sharing a
+   * call receive the same decoded object, which must then not be modified. Calls with a deadline always make their own
+   * network call. Disabled by default
+   * @param deduplicateRequests whether to deduplicate requests
+   */
+  public void setDeduplicateRequests(boolean deduplicateRequests) {
+    this.deduplicateRequests = deduplicateRequests;
+  }
+
+  /**
+   * Sets maximum number of decoded responses kept to make conditional requests. 1000 by default
+   * @param maxEntries maximum number of responses, or 0 to disable conditional requests and drop cached responses
+   */
+  public void setValidatorCacheSize(int maxEntries) {
+    validatorCache = maxEntries > 0 ? new ValidatorCache(maxEntries) : null;
+  }
+
+  /**
+   * Sets client-side rate limit options
+   * @param rateLimitOptions rate limit options
+   */
+  public void setRateLimitOptions(RateLimitOptions rateLimitOptions) {
+    rateLimit = new RateLimitInterceptor(rateLimitOptions);
+    updateInterceptors();
+  }
+
+  /**
+   * Returns current client-side rate limit of an endpoint family
+   * @param family endpoint family
+   * @return current rate limit in requests per second, or {@link Double#POSITIVE_INFINITY} if requests of the family
+   * are not limited
+   */
+  public double getRateLimit(EndpointFamily family) {
+    return rateLimit.getRate(family);
+  }
+
+  /**
+   * Sets options of per-tenant budgets. Tenants are identified by authorization tokens of the calls. Disabled by
+   * default
+   * @param tenantBudgetOptions tenant budget options, or {@code null} to disable tenant budgets
+   */
+  public void setTenantBudgetOptions(TenantBudgetOptions tenantBudgetOptions) {
+    tenantBudgets = tenantBudgetOptions != null && tenantBudgetOptions.enabled
+      ? new TenantBudgets(tenantBudgetOptions) : null;
+    updateInterceptors();
+  }
+
+  /**
+   * Returns number of tenants which have made calls recently and have budgets allocated
+   * @return number of active tenants, or 0 if tenant budgets are disabled
+   */
+  public int getActiveTenantCount() {
+    TenantBudgets budgets = tenantBudgets;
+    return budgets != null ? budgets.size() : 0;
+  }
+
+  /**
+   * Sets request hedging options. Disabled by default
+   * @param hedgingOptions hedging options, or {@code null} to disable hedging
+   */
+  public void setHedgingOptions(HedgingOptions hedgingOptions) {
+    hedgingPolicy = hedgingOptions != null && hedgingOptions.enabled ? new HedgingPolicy(hedgingOptions) : null;
+  }
+
+  /**
+   * Returns number of duplicate requests sent by hedged calls
+   * @return number of duplicate requests
+   */
+  public long getHedgedRequestCount() {
+    HedgingPolicy policy = hedgingPolicy;
+    return policy != null ? policy.getHedgeCount() : 0;
+  }
+
+  /**
+   * Sets circuit breaker options. Circuit breakers are disabled by default
+   * @param circuitBreakerOptions circuit breaker options, or {@code null} to disable circuit breakers
+   */
+  public void setCircuitBreakerOptions(CircuitBreakerOptions circuitBreakerOptions) {
+    circuitBreaker = circuitBreakerOptions != null && circuitBreakerOptions.enabled
+      ? new CircuitBreakerInterceptor(circuitBreakerOptions) : null;
+    updateInterceptors();
+  }
+
+  /**
+   * Returns statistics of circuit breakers of the hosts and endpoint families requests have been sent to
+   * @return circuit breaker statistics, or an empty list if circuit breakers are disabled
+   */
+  public List<CircuitBreakerStats> getCircuitBreakerStats() {
+    CircuitBreakerInterceptor breaker = circuitBreaker;
+    return breaker != null ? breaker.getStats(System.currentTimeMillis()) : new ArrayList<>();
+  }
+
+  /**
+   * Sets registry to deduplicate identifiers of decoded models through. A client constructed directly has none,
+   * while {@link cloud.metaapi.sdk.copy_factory.CopyFactory} sets one unless
+   * {@link IdentifierRegistryOptions#enabled} is turned off
+   * @param identifierRegistry identifier registry, or {@code null} to decode identifiers as they are
+   */
+  public void setIdentifierRegistry(IdentifierRegistry identifierRegistry) {
+    this.identifierRegistry = identifierRegistry;
+  }
+
+  /**
+   * Returns registry identifiers of decoded models are deduplicated through
+   * @return identifier registry, or {@code null} if identifiers are not deduplicated
+   */
+  public IdentifierRegistry getIdentifierRegistry() {
+    return identifierRegistry;
+  }
+
+  /**
+   * Sets canonicalizer to replace snapshots returned by the API clients with shared instances through. Disabled by
+   * default
+   * @param modelCanonicalizer model canonicalizer, or {@code null} to return a new instance of each snapshot
+   */
+  public void setModelCanonicalizer(ModelCanonicalizer modelCanonicalizer) {
+    this.modelCanonicalizer = modelCanonicalizer;
+  }
+
+  /**
+   * Returns canonicalizer snapshots returned by the API clients are replaced with shared instances through
+   * @return model canonicalizer, or {@code null} if snapshots are not canonicalized
+   */
+  public ModelCanonicalizer getModelCanonicalizer() {
+    return modelCanonicalizer;
+  }
+
+  /**
+   * Sets metrics registry to record request metrics to
+   * @param metricsRegistry metrics registry, or {@code null} to disable metrics
+   */
+  public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+    this.metricsRegistry = metricsRegistry;
+  }
+
+  /**
+   * Sets whether compressed responses should be requested. Enabled by default. Must be set before the first request
+   * @param compressResponses whether to request compressed responses
+   */
+  public void setCompressResponses(boolean compressResponses) {
+    transport.setCompressResponses(compressResponses);
+  }
+
+  /**
+   * Builds the pooled transport and loads flight recorder event classes, which is otherwise done by the first request.
+   * Does not open connections
+   */
+  public void warmUp() {
+    transport.warmUp();
+    if (FlightRecorderEvents.AVAILABLE) {
+      FlightRecorderEvents.begin();
+    }
+  }
+
+  /**
+   * Closes pooled connections. The client can not be used after that
+   */
+  public void close() {
+    transport.close();
+  }
+
+  /**
+   * Performs a request on behalf of an API operation. Response errors are returned as ApiError or subclasses.
+   * @param options request options
+   * @param operation operation name
+   * @param callOptions call options, or {@code null}
+   * @return completable future with request results
+   */
+  public CompletableFuture<String> request(HttpRequestOptions options, String operation, CallOptions callOptions) {
+    return track(options, new RequestContext(operation, callOptions), () -> request(options));
+  }
+
+  /**
+   * Performs a request on behalf of an API operation and converts the response JSON into an object. GET requests of
+   * hedged operations are duplicated if their responses are late. Response errors are returned as ApiError or
+   * subclasses.
+   * @param <T> type of the response object
+   * @param options request options
+   * @param valueType class of the response object
+   * @param operation operation name
+   * @param callOptions call options, or {@code null}
+   * @return completable future with request results
+   */
+  public <T> CompletableFuture<T> requestJson(HttpRequestOptions options, Class<T> valueType, String operation,
+    CallOptions callOptions) {
+    HedgingPolicy hedging = hedgingPolicy;
+    if (hedging != null && options.getMethod() == Method.GET && hedging.isHedged(operation)) {
+      return hedging.call(operation, () -> trackJson(options, valueType, operation, callOptions, false),
+        () -> trackJson(copyOptions(options), valueType, operation, callOptions, true));
+    }
+    return trackJson(options, valueType, operation, callOptions, false);
+  }
+
+  /**
+   * Performs a conditional GET request on behalf of an API operation and converts the response JSON into an object.
+   * Validators of the response are stored, and if the server reports that the resource is not modified since, the
+   * previously decoded object is returned without decoding. The returned object is shared by callers and must not be
+   * modified. Response errors are returned as ApiError or subclasses.
+   * @param <T> type of the response object
+   * @param options request options
+   * @param valueType class of the response object
+   * @param operation operation name
+   * @param callOptions call options, or {@code null}
+   * @return completable future with request results
+   */
+  public <T> CompletableFuture<T> requestConditionalJson(HttpRequestOptions options, Class<T> valueType,
+    String operation, CallOptions callOptions) {
+    RequestContext context = new RequestContext(operation, callOptions);
+    context.valueType = valueType;
+    ValidatorCache cache = validatorCache;
+    if (cache != null) {
+      context.validatorCache = cache;
+      context.validatorKey = getRequestKey(options, valueType);
+      context.cachedResponse = cache.get(context.validatorKey);
+    }
+    return track(options, context, () -> requestJson(options, valueType));
+  }
+
+  @Override
+  public <T> CompletableFuture<T> requestJson(HttpRequestOptions options, Class<T> valueType, int retryCounter) {
+    RequestContext context = requestContexts.get(options);
+    if (!isShared(options, context)) {
+      return requestAndDecode(options, valueType, retryCounter);
+    }
+    SingleFlight.Flight<T> flight = singleFlight.join(getFlightKey(options, valueType, context),
+      () -> requestAndDecode(options, valueType, retryCounter), context != null ? () -> abortExchange(context) : null);
+    if (context != null) {
+      boolean left;
+      synchronized (context) {
+        context.flight = flight;
+        left = context.leftFlight;
+      }
+      if (left) {
+        singleFlight.leave(flight);
+      }
+    }
+    return flight.promise;
+  }
+
+  @Override
+  protected CompletableFuture<HttpResponse<String>> makeCheckedRequest(HttpRequestOptions options,
+    int retryCounter, long endTime) {
+    RequestAttempt attempt = new RequestAttempt(options, requestContexts.get(options), interceptors);
+    RequestContext context = attempt.context;
+    return attempt.interceptors.admit(attempt).thenCompose(ignored -> {
+      admittedAttempts.put(options, attempt);
+      if (context == null) {
+        return super.makeCheckedRequest(options, retryCounter, endTime);
+      }
+      return super.makeCheckedRequest(options, retries, context.deadline > 0 ? Math.min(endTime, context.deadline)
+        : endTime).handle((response, error) -> error == null ? CompletableFuture.completedFuture(response)
+          : retry(options, context, endTime, error)).thenCompose(Function.identity());
+    });
+  }
+
+  /**
+   * Retries a failed attempt of a tracked call. The base client blocks a thread for the retry delay, so tracked calls
+   * are sent to it with no retries left and are retried here instead. The next attempt is scheduled after the delay,
+   * and the call fails without waiting if it is cancelled or its deadline passes before the delay ends
+   */
+  private CompletableFuture<HttpResponse<String>> retry(HttpRequestOptions options, RequestContext context,
+    long endTime, Throwable error) {
+    CompletableFuture<HttpResponse<String>> result = new CompletableFuture<>();
+    if (DeadlineInterceptor.isExpired(context)) {
+      result.completeExceptionally(DeadlineInterceptor.getExpirationError(context));
+      return result;
+    }
+    long delay = (long) Math.min(Math.pow(2, context.retryCounter) * minRetryDelay, maxRetryDelay);
+    if (context.retryCounter >= retries || !RETRYABLE_ERRORS.contains(unwrap(error).getClass())
+      || (context.deadline > 0 && System.currentTimeMillis() + delay >= context.deadline)) {
+      result.completeExceptionally(error);
+      return result;
+    }
+    context.retryCounter++;
+    return RateLimiter.delay(delay).thenComposeAsync(ignored -> makeCheckedRequest(options, context.retryCounter,
+      endTime), executor);
+  }
+
+  @Override
+  protected CompletableFuture<HttpResponse<String>> makeRequest(HttpRequestOptions options) {
+    RequestAttempt admitted = admittedAttempts.remove(options);
+    RequestAttempt attempt = admitted != null ? admitted
+      : new RequestAttempt(options, requestContexts.get(options), interceptors);
+    RequestContext context = attempt.context;
+    MetricsRegistry metrics = metricsRegistry;
+    return CompletableFuture.supplyAsync(() -> {
+      attempt.startTime = System.nanoTime();
+      if (context != null) {
+        context.queueTime += attempt.startTime - context.queuedAt;
+      }
+      HttpResponse<String> response;
+      try {
+        if (context != null && DeadlineInterceptor.isExpired(context)) {
+          throw DeadlineInterceptor.getExpirationError(context);
+        }
+        attempt.sent = true;
+        response = transport.execute(options, context, context != null && context.valueType != null
+          ? raw -> readBody(raw, context, metrics) : null);
+      } catch (Throwable e) {
+        attempt.interceptors.onExchange(attempt, null, e);
+        throw new CompletionException(e);
+      } finally {
+        if (context != null) {
+          context.networkTime += System.nanoTime() - attempt.startTime;
+        }
+      }
+      attempt.interceptors.onExchange(attempt, response, null);
+      if (context != null && context.valueType == null) {
+        long responseBytes = getResponseBytes(response);
+        context.responseBytes += responseBytes;
+        if (metrics != null) {
+          metrics.recordResponse(context.operation, responseBytes);
+        }
+      }
+      return response;
+    }, executor);
+  }
+
+  /**
+   * Rebuilds the chain of interceptors request attempts pass through from the enabled features. Attempts in flight
+   * complete with the chain which admitted them
+   */
+  private synchronized void updateInterceptors() {
+    List<RequestInterceptor> chain = new ArrayList<>();
+    chain.add(new DeadlineInterceptor());
+    if (circuitBreaker != null) {
+      chain.add(circuitBreaker);
+    }
+    if (tenantBudgets != null) {
+      chain.add(new TenantBudgetInterceptor());
+    }
+    chain.add(rateLimit);
+    interceptors = new InterceptorChain(chain);
+  }
+
+  private <T> CompletableFuture<T> track(HttpRequestOptions options, RequestContext context,
+    Supplier<CompletableFuture<T>> request) {
+    requestContexts.put(options, context);
+    if (FlightRecorderEvents.AVAILABLE) {
+      context.flightRecorderEvent = FlightRecorderEvents.begin();
+    }
+    long startTime = System.nanoTime();
+    int timeout = context.callOptions != null ? context.callOptions.timeoutInMilliseconds : 0;
+    if (timeout > 0) {
+      context.deadline = System.currentTimeMillis() + timeout;
+    }
+    TenantBudgets budgets = tenantBudgets;
+    String tenant = options.getHeaders().get("auth-token");
+    CompletableFuture<TenantBudgets.Budget> slot = budgets != null && tenant != null ? budgets.acquire(tenant) : null;
+    CompletableFuture<T> result;
+    if (slot != null) {
+      result = slot.thenCompose(budget -> {
+        context.tenantBudget = budget;
+        context.queueTime += System.nanoTime() - startTime;
+        return start(request);
+      });
+    } else {
+      result = start(request);
+    }
+    CompletableFuture<T> tracked = result.whenComplete((value, error) -> {
+      if (context.tenantBudget != null) {
+        context.tenantBudget.release();
+      }
+      requestContexts.remove(options);
+      MetricsRegistry metrics = metricsRegistry;
+      if (metrics != null) {
+        metrics.recordCall(context.operation, System.nanoTime() - startTime,
+          Math.max(context.attempts.get() - 1, 0), unwrap(error));
+      }
+      if (context.flightRecorderEvent != null) {
+        FlightRecorderEvents.commit(context.flightRecorderEvent, options, context, unwrap(error));
+      }
+    });
+    CompletableFuture<T> call = new CompletableFuture<>();
+    ScheduledFuture<?> deadlineTimer = timeout > 0 ? RateLimiter.schedule(() -> {
+      if (call.completeExceptionally(new TimeoutException("Deadline of " + context.operation + " call of "
+        + timeout + " ms has passed"))) {
+        abort(options, context);
+      }
+    }, timeout) : null;
+    tracked.whenComplete((value, error) -> {
+      if (error != null) {
+        call.completeExceptionally(error);
+      } else {
+        call.complete(value);
+      }
+    });
+    call.whenComplete((value, error) -> {
+      if (deadlineTimer != null) {
+        deadlineTimer.cancel(false);
+      }
+      if (error != null && slot != null) {
+        slot.cancel(false);
+      }
+      if (error instanceof CancellationException) {
+        abort(options, context);
+      }
+    });
+    return call;
+  }
+
+  /**
+   * Aborts a call after it is cancelled or its deadline has passed. The HTTP exchange in flight is aborted, which
+   * closes its connection and releases it from the pool. A call sharing its exchange with other callers leaves it
+   * instead, and the exchange is aborted once all its callers have left
+   */
+  private void abort(HttpRequestOptions options, RequestContext context) {
+    if (context.valueType != null && isShared(options, context)) {
+      SingleFlight.Flight<?> flight;
+      synchronized (context) {
+        if (context.leftFlight) {
+          return;
+        }
+        context.leftFlight = true;
+        flight = context.flight;
+      }
+      if (flight != null) {
+        singleFlight.leave(flight);
+      }
+      return;
+    }
+    abortExchange(context);
+  }
+
+  private static void abortExchange(RequestContext context) {
+    context.cancelled = true;
+    HttpUriRequest exchange = context.exchange;
+    if (exchange != null) {
+      exchange.abort();
+    }
+  }
+
+  /**
+   * Returns whether a request may share one network call with identical requests in flight. Calls with a deadline
+   * are not shared, because the deadline caps timeouts and stops retries of the shared request
+   */
+  private boolean isShared(HttpRequestOptions options, RequestContext context) {
+    return deduplicateRequests && options.getMethod() == Method.GET
+      && (context == null || (!context.hedge && context.deadline == 0));
+  }
+
+  private <T> CompletableFuture<T> trackJson(HttpRequestOptions options, Class<T> valueType, String operation,
+    CallOptions callOptions, boolean hedge) {
+    RequestContext context = new RequestContext(operation, callOptions);
+    context.valueType = valueType;
+    context.hedge = hedge;
+    return track(options, context, () -> requestJson(options, valueType));
+  }
+
+  private static HttpRequestOptions copyOptions(HttpRequestOptions options) {
+    HttpRequestOptions copy = new HttpRequestOptions(options.getUrl(), options.getMethod());
+    copy.getHeaders().putAll(options.getHeaders());
+    copy.getQueryParameters().putAll(options.getQueryParameters());
+    return copy;
+  }
+
+  private static <T> CompletableFuture<T> start(Supplier<CompletableFuture<T>> request) {
+    try {
+      return request.get();
+    } catch (Throwable e) {
+      CompletableFuture<T> result = new CompletableFuture<>();
+      result.completeExceptionally(e);
+      return result;
+    }
+  }
+
+  private <T> CompletableFuture<T> requestAndDecode(HttpRequestOptions options, Class<T> valueType,
+    int retryCounter) {
+    return request(options, retryCounter).thenApply(body -> {
+      RequestContext decodedContext = requestContexts.get(options);
+      if (decodedContext != null && decodedContext.notModified && decodedContext.cachedResponse != null) {
+        return valueType.cast(decodedContext.cachedResponse.value);
+      }
+      if (decodedContext != null && decodedContext.bodyDecoded) {
+        if (decodedContext.decodeError != null) {
+          throw new CompletionException(decodedContext.decodeError);
+        }
+        if (decodedContext.validatorKey != null && (decodedContext.etag != null
+          || decodedContext.lastModified != null)) {
+          decodedContext.validatorCache.put(decodedContext.validatorKey, new ValidatorCache.Entry(decodedContext.etag,
+            decodedContext.lastModified, decodedContext.decodedBody));
+        }
+        return valueType.cast(decodedContext.decodedBody);
+      }
+      long startTime = System.nanoTime();
+      try {
+        return valueType.cast(reader(valueType).readValue(body));
+      } catch (JsonProcessingException e) {
+        throw new CompletionException(e);
+      } finally {
+        RequestContext context = requestContexts.get(options);
+        MetricsRegistry metrics = metricsRegistry;
+        long decodeTime = System.nanoTime() - startTime;
+        if (context != null) {
+          context.decodeTime += decodeTime;
+          if (metrics != null) {
+            metrics.recordDecode(context.operation, decodeTime);
+          }
+        }
+      }
+    });
+  }
+
+  /**
+   * Reads response body. Successful responses are decoded into the value type of the call while they are received
+   * and an empty body is returned, other responses are returned as strings for error handling
+   */
+  private String readBody(RawResponse response, RequestContext context, MetricsRegistry metrics) {
+    int status = response.getStatus();
+    context.bodyDecoded = false;
+    context.notModified = status == 304;
+    context.etag = getHeader(response, "etag");
+    context.lastModified = getHeader(response, "last-modified");
+    CountingInputStream stream = new CountingInputStream(response.getContent());
+    try {
+      if (status / 100 != 2 || status == 202 || status == 204) {
+        return IOUtils.toString(stream, StandardCharsets.UTF_8);
+      }
+      long startTime = System.nanoTime();
+      try {
+        context.decodedBody = reader(context.valueType).readValue(stream);
+        context.decodeError = null;
+      } catch (IOException e) {
+        context.decodedBody = null;
+        context.decodeError = e;
+      }
+      context.bodyDecoded = true;
+      long decodeTime = System.nanoTime() - startTime;
+      context.decodeTime += decodeTime;
+      if (metrics != null) {
+        metrics.recordDecode(context.operation, decodeTime);
+      }
+      return "";
+    } catch (IOException e) {
+      throw new CompletionException(e);
+    } finally {
+      context.responseBytes += stream.getByteCount();
+      if (metrics != null) {
+        metrics.recordResponse(context.operation, stream.getByteCount());
+      }
+    }
+  }
+
+  private static String getHeader(RawResponse response, String name) {
+    String value = response.getHeaders().getFirst(name);
+    return value != null && !value.isEmpty() ? value : null;
+  }
+
+  private static long getResponseBytes(HttpResponse<String> response) {
+    String contentLength = response.getHeaders().getFirst("content-length");
+    if (contentLength != null && contentLength.matches("\\d+")) {
+      return Long.parseLong(contentLength);
+    }
+    return response.getBody() != null ? response.getBody().length() : 0;
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    while (error instanceof CompletionException && error.getCause() != null) {
+      error = error.getCause();
+    }
+    return error;
+  }
+
+  private ObjectReader reader(Class<?> valueType) {
+    IdentifierRegistry registry = identifierRegistry;
+    ObjectReader reader = JsonCodecs.reader(valueType, registry != null);
+    return registry != null ? reader.withAttribute(IdentifierInterner.class, registry) : reader;
+  }
+
+  private static Object getRequestKey(HttpRequestOptions options, Class<?> valueType) {
+    return Arrays.asList(valueType, options.getUrl(), new TreeMap<>(options.getQueryParameters()),
+      new TreeMap<>(options.getHeaders()));
+  }
+
+  /**
+   * Returns key of a request in single flight. Requests are shared only by calls with the same rate limit policy, so
+   * that a call does not inherit the policy of another caller
+   */
+  private static Object getFlightKey(HttpRequestOptions options, Class<?> valueType, RequestContext context) {
+    RateLimitPolicy policy = context != null && context.callOptions != null ? context.callOptions.rateLimitPolicy
+      : null;
+    return Arrays.asList(getRequestKey(options, valueType), policy);
+  }
+}
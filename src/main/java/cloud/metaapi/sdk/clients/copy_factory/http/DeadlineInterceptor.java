@@ -0,0 +1,49 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+import cloud.metaapi.sdk.clients.TimeoutException;
+
+/**
+ * Fails attempts of calls which are cancelled or whose deadline has passed, and counts attempts of the other calls
+ */
+class DeadlineInterceptor implements RequestInterceptor {
+
+  @Override
+  public CompletableFuture<Void> admit(RequestAttempt attempt) {
+    RequestContext context = attempt.context;
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    if (context != null && isExpired(context)) {
+      result.completeExceptionally(getExpirationError(context));
+      return result;
+    }
+    if (context != null) {
+      context.attempts.incrementAndGet();
+      context.queuedAt = System.nanoTime();
+    }
+    result.complete(null);
+    return result;
+  }
+
+  /**
+   * Returns whether a call is cancelled or its deadline has passed
+   * @param context request context
+   * @return whether the call is expired
+   */
+  static boolean isExpired(RequestContext context) {
+    return context.cancelled || (context.deadline > 0 && System.currentTimeMillis() >= context.deadline);
+  }
+
+  /**
+   * Returns error an expired call fails with
+   * @param context request context
+   * @return timeout exception if the deadline of the call has passed, or cancellation exception otherwise
+   */
+  static Exception getExpirationError(RequestContext context) {
+    if (context.deadline > 0 && System.currentTimeMillis() >= context.deadline) {
+      return new TimeoutException("Deadline of " + context.operation + " call has passed");
+    }
+    return new CancellationException(context.operation + " call is cancelled");
+  }
+}
@@ -0,0 +1,40 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+/**
+ * Family of CopyFactory API endpoints sharing server-side rate limits
+ */
+public enum EndpointFamily {
+  /**
+   * Configuration API endpoints
+   */
+  CONFIGURATION,
+  /**
+   * History API endpoints
+   */
+  HISTORY,
+  /**
+   * Trading API endpoints, except user log
+   */
+  TRADING,
+  /**
+   * User log endpoint
+   */
+  USER_LOG;
+
+  /**
+   * Determines endpoint family by request URL
+   * @param url request URL
+   * @return endpoint family
+   */
+  public static EndpointFamily of(String url) {
+    if (url.contains("/users/current/configuration/")) {
+      return CONFIGURATION;
+    } else if (url.endsWith("/user-log")) {
+      return USER_LOG;
+    } else if (url.contains("/users/current/accounts/")) {
+      return TRADING;
+    } else {
+      return HISTORY;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import cloud.metaapi.sdk.clients.HttpRequestOptions;
+
+/**
+ * Emits JDK Flight Recorder events of API calls. The SDK targets Java 8, so the implementation using flight recorder
+ * API is compiled for Java 11 into the versioned part of the multi-release jar and is only loaded if the flight
+ * recorder API is available in the running JVM. Events are only populated when they are enabled in the active
+ * recording, so the overhead is negligible while recording is off
+ */
+abstract class FlightRecorderEvents {
+
+  private static final FlightRecorderEvents INSTANCE = load();
+
+  /**
+   * Whether flight recorder API is available in the running JVM
+   */
+  static final boolean AVAILABLE = INSTANCE != null;
+
+  /**
+   * Starts an event of an API call. Must only be called if flight recorder API is available
+   * @return started event, or {@code null} if the event is disabled
+   */
+  static Object begin() {
+    return INSTANCE.beginEvent();
+  }
+
+  /**
+   * Commits an event of an API call
+   * @param event event started by {@link #begin()}
+   * @param options request options
+   * @param context request context
+   * @param error error the call failed with, or {@code null}
+   */
+  static void commit(Object event, HttpRequestOptions options, RequestContext context, Throwable error) {
+    INSTANCE.commitEvent(event, options, context, error);
+  }
+
+  /**
+   * Starts an event of an API call
+   * @return started event, or {@code null} if the event is disabled
+   */
+  abstract Object beginEvent();
+
+  /**
+   * Commits an event of an API call
+   * @param event event started by {@link #beginEvent()}
+   * @param options request options
+   * @param context request context
+   * @param error error the call failed with, or {@code null}
+   */
+  abstract void commitEvent(Object event, HttpRequestOptions options, RequestContext context, Throwable error);
+
+  private static FlightRecorderEvents load() {
+    try {
+      Class.forName("jdk.jfr.Event");
+      return (FlightRecorderEvents) Class.forName(FlightRecorderEvents.class.getPackage().getName()
+        + ".JdkFlightRecorderEvents").getDeclaredConstructor().newInstance();
+    } catch (ReflectiveOperationException | LinkageError e) {
+      return null;
+    }
+  }
+}
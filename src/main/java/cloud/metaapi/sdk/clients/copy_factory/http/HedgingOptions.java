@@ -0,0 +1,37 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Options of request hedging. When a response to an idempotent GET call is not received within a percentile of recent
+ * latencies of its operation, a duplicate request is sent and the response which arrives first is used, while the
+ * other request is aborted. The number of duplicate requests is limited by a hedge budget
+ */
+public class HedgingOptions {
+  /**
+   * Whether request hedging is enabled
+   */
+  public boolean enabled = false;
+  /**
+   * Names of the operations to hedge. Only idempotent GET operations should be listed
+   */
+  public Set<String> operations = new HashSet<>(Arrays.asList("getStrategy", "getStopouts", "getUserLog"));
+  /**
+   * Percentile of recent latencies of an operation after which a duplicate request is sent, from 0 to 100
+   */
+  public double percentile = 95;
+  /**
+   * Minimum time in milliseconds to wait for a response before sending a duplicate request
+   */
+  public int minDelayInMilliseconds = 20;
+  /**
+   * Number of recent latencies of an operation required to start hedging its calls
+   */
+  public int minSamples = 20;
+  /**
+   * Maximum number of duplicate requests per hedged call, e.g. 0.05 allows to duplicate 5% of the calls
+   */
+  public double maxHedgeRatio = 0.05;
+}
@@ -0,0 +1,192 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Decides when calls of hedged operations should send duplicate requests, and makes hedged calls. Keeps a window of
+ * recent latencies of each operation and a hedge budget which is replenished by each hedged call according to the
+ * maximum hedge ratio
+ */
+class HedgingPolicy {
+
+  /**
+   * Number of recent latencies kept for each operation
+   */
+  static final int WINDOW_SIZE = 256;
+  /**
+   * Maximum number of duplicate requests which can be accumulated in the hedge budget
+   */
+  static final double MAX_BUDGET = 10;
+  private HedgingOptions options;
+  private Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+  private double budget;
+  private AtomicLong hedgeCount = new AtomicLong();
+
+  /**
+   * Window of recent latencies of an operation
+   */
+  private static class LatencyWindow {
+    private final long[] values = new long[WINDOW_SIZE];
+    private int count;
+    private int next;
+
+    synchronized void add(long value) {
+      values[next] = value;
+      next = (next + 1) % values.length;
+      count = Math.min(count + 1, values.length);
+    }
+
+    synchronized long[] snapshot() {
+      return Arrays.copyOf(values, count);
+    }
+  }
+
+  /**
+   * Constructs hedging policy
+   * @param options hedging options
+   */
+  HedgingPolicy(HedgingOptions options) {
+    this.options = options;
+  }
+
+  /**
+   * Checks whether calls of an operation are hedged
+   * @param operation operation name
+   * @return whether calls of the operation are hedged
+   */
+  boolean isHedged(String operation) {
+    return options.operations.contains(operation);
+  }
+
+  /**
+   * Records a hedged call and replenishes the hedge budget accordingly
+   */
+  synchronized void onCall() {
+    budget = Math.min(budget + options.maxHedgeRatio, MAX_BUDGET);
+  }
+
+  /**
+   * Records latency of a successful request of an operation
+   * @param operation operation name
+   * @param latency latency in milliseconds
+   */
+  void recordLatency(String operation, long latency) {
+    latencies.computeIfAbsent(operation, key -> new LatencyWindow()).add(latency);
+  }
+
+  /**
+   * Returns time to wait for a response before sending a duplicate request
+   * @param operation operation name
+   * @return delay in milliseconds, or -1 if there are not enough latency samples of the operation yet
+   */
+  long getHedgeDelay(String operation) {
+    LatencyWindow window = latencies.get(operation);
+    long[] samples = window != null ? window.snapshot() : new long[0];
+    if (samples.length == 0 || samples.length < options.minSamples) {
+      return -1;
+    }
+    Arrays.sort(samples);
+    int rank = (int) Math.ceil(options.percentile / 100 * samples.length);
+    return Math.max(samples[Math.min(Math.max(rank - 1, 0), samples.length - 1)], options.minDelayInMilliseconds);
+  }
+
+  /**
+   * Takes a duplicate request from the hedge budget
+   * @return whether a duplicate request can be sent
+   */
+  synchronized boolean tryAcquire() {
+    if (budget < 1) {
+      return false;
+    }
+    budget--;
+    hedgeCount.incrementAndGet();
+    return true;
+  }
+
+  /**
+   * Returns number of duplicate requests sent
+   * @return number of duplicate requests
+   */
+  long getHedgeCount() {
+    return hedgeCount.get();
+  }
+
+  /**
+   * Makes a hedged call of an operation. If the response is not received within the hedge delay of the operation and
+   * the hedge budget allows, a duplicate request is sent. The first successful response completes the call and the
+   * other request is cancelled. The call fails only if all its requests fail. When the duplicate request wins, the time
+   * the original request has been waiting is recorded as its latency, so that slow responses keep their weight in the
+   * latency window
+   * @param <T> type of the response object
+   * @param operation operation name
+   * @param primary starts the original request
+   * @param duplicate starts a duplicate request
+   * @return completable future with the call result
+   */
+  <T> CompletableFuture<T> call(String operation, Supplier<CompletableFuture<T>> primary,
+    Supplier<CompletableFuture<T>> duplicate) {
+    onCall();
+    CompletableFuture<T> result = new CompletableFuture<>();
+    AtomicReference<CompletableFuture<T>> hedge = new AtomicReference<>();
+    AtomicBoolean primaryFailed = new AtomicBoolean();
+    long startTime = System.nanoTime();
+    CompletableFuture<T> original = primary.get();
+    long delay = getHedgeDelay(operation);
+    ScheduledFuture<?> hedgeTimer = delay >= 0 && !original.isDone() ? RateLimiter.schedule(() -> {
+      CompletableFuture<T> secondary;
+      synchronized (result) {
+        if (result.isDone() || primaryFailed.get() || !tryAcquire()) {
+          return;
+        }
+        secondary = duplicate.get();
+        hedge.set(secondary);
+      }
+      secondary.whenComplete((value, error) -> {
+        if (error == null) {
+          recordLatency(operation, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+          result.complete(value);
+        } else if (primaryFailed.get()) {
+          result.completeExceptionally(error);
+        }
+      });
+      if (result.isDone()) {
+        secondary.cancel(true);
+      }
+    }, delay) : null;
+    original.whenComplete((value, error) -> {
+      if (error == null) {
+        recordLatency(operation, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        result.complete(value);
+        return;
+      }
+      CompletableFuture<T> secondary;
+      synchronized (result) {
+        primaryFailed.set(true);
+        secondary = hedge.get();
+      }
+      if (secondary == null || (secondary.isDone() && secondary.isCompletedExceptionally())) {
+        result.completeExceptionally(error);
+      }
+    });
+    result.whenComplete((value, error) -> {
+      if (hedgeTimer != null) {
+        hedgeTimer.cancel(false);
+      }
+      original.cancel(true);
+      CompletableFuture<T> secondary = hedge.get();
+      if (secondary != null) {
+        secondary.cancel(true);
+      }
+    });
+    return result;
+  }
+}
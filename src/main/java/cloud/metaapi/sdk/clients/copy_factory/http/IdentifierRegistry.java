@@ -0,0 +1,250 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.IdentifierInterner;
+
+/**
+ * Bounded concurrent registry of identifier strings. Decoders look identifiers up by the characters of the parsed
+ * token, so that a string is only created for values the registry does not hold yet. The registry is split into
+ * segments guarded by their own locks, and each segment evicts with the clock algorithm: a string is evicted once the
+ * clock hand passes it without it having been looked up since the previous pass. Identifiers can also be mapped to
+ * int handles, which stay valid for the lifetime of the registry regardless of eviction
+ */
+public class IdentifierRegistry implements IdentifierInterner {
+
+  private static final int SEGMENT_COUNT = 16;
+  private final Segment[] segments = new Segment[SEGMENT_COUNT];
+  private final int maximumLength;
+  private final int maximumHandles;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final Map<String, Integer> handles = new ConcurrentHashMap<>();
+  private volatile String[] handleIdentifiers = new String[0];
+
+  /**
+   * Deserializer of identifier fields, registered by {@link ModelDecodingModule}. Deduplicates values through the
+   * interner set as the {@link IdentifierInterner} attribute of the reader, and decodes them as usual if there is none
+   */
+  static class Deserializer extends StdDeserializer<String> {
+    private static final long serialVersionUID = 1L;
+
+    Deserializer() {
+      super(String.class);
+    }
+
+    @Override
+    public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+      IdentifierInterner interner = (IdentifierInterner) context.getAttribute(IdentifierInterner.class);
+      if (interner == null || !parser.hasToken(JsonToken.VALUE_STRING)) {
+        return StringDeserializer.instance.deserialize(parser, context);
+      }
+      return interner.intern(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+  }
+
+  /**
+   * Constructs registry
+   * @param options registry options
+   */
+  public IdentifierRegistry(IdentifierRegistryOptions options) {
+    int segmentSize = Math.max(1, (options.maximumSize + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      segments[i] = new Segment(segmentSize);
+    }
+    maximumLength = options.maximumLength;
+    maximumHandles = options.maximumHandles;
+  }
+
+  /**
+   * Returns the registered string equal to the given one, registering it if there is none
+   * @param value string, or {@code null}
+   * @return registered string, or the value itself if it is {@code null} or longer than the maximum length
+   */
+  public String intern(String value) {
+    if (value == null || value.length() > maximumLength) {
+      return value;
+    }
+    int hash = value.hashCode();
+    return segmentOf(hash).intern(value, null, 0, value.length(), hash);
+  }
+
+  /**
+   * Returns the registered string consisting of the given characters, registering a new one if there is none
+   * @param characters character buffer
+   * @param offset offset of the first character
+   * @param length number of characters
+   * @return registered string, or a new string if it is longer than the maximum length
+   */
+  @Override
+  public String intern(char[] characters, int offset, int length) {
+    if (length > maximumLength) {
+      return new String(characters, offset, length);
+    }
+    int hash = 0;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + characters[i];
+    }
+    return segmentOf(hash).intern(null, characters, offset, length, hash);
+  }
+
+  /**
+   * Returns int handle of an identifier, assigning the next free handle if it has none. Handles are assigned
+   * sequentially starting from 0
+   * @param identifier identifier
+   * @return handle, or -1 if handles are disabled or all of them are assigned
+   */
+  public int getHandle(String identifier) {
+    Integer handle = handles.get(identifier);
+    if (handle != null) {
+      return handle;
+    }
+    synchronized (handles) {
+      handle = handles.get(identifier);
+      if (handle != null) {
+        return handle;
+      }
+      int next = handles.size();
+      if (next >= maximumHandles) {
+        return -1;
+      }
+      String[] identifiers = handleIdentifiers;
+      if (next == identifiers.length) {
+        String[] grown = new String[Math.min(maximumHandles, Math.max(16, next * 2))];
+        System.arraycopy(identifiers, 0, grown, 0, next);
+        identifiers = grown;
+      }
+      identifiers[next] = intern(identifier);
+      handleIdentifiers = identifiers;
+      handles.put(identifiers[next], next);
+      return next;
+    }
+  }
+
+  /**
+   * Returns identifier of an int handle
+   * @param handle handle returned by {@link #getHandle(String)}
+   * @return identifier, or {@code null} if the handle is not assigned
+   */
+  public String getIdentifier(int handle) {
+    String[] identifiers = handleIdentifiers;
+    return handle >= 0 && handle < identifiers.length ? identifiers[handle] : null;
+  }
+
+  /**
+   * Returns registry statistics
+   * @return registry statistics
+   */
+  public IdentifierRegistryStats getStats() {
+    IdentifierRegistryStats stats = new IdentifierRegistryStats();
+    for (Segment segment : segments) {
+      stats.size += segment.size();
+    }
+    stats.hits = hits.sum();
+    stats.misses = misses.sum();
+    stats.evictions = evictions.sum();
+    long lookups = stats.hits + stats.misses;
+    stats.hitRate = lookups != 0 ? stats.hits * 100.0 / lookups : 0;
+    stats.handles = handles.size();
+    return stats;
+  }
+
+  private Segment segmentOf(int hash) {
+    return segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+  }
+
+  private static boolean matches(String value, String string, char[] characters, int offset, int length) {
+    if (value.length() != length) {
+      return false;
+    }
+    if (string != null) {
+      return value.equals(string);
+    }
+    for (int i = 0; i < length; i++) {
+      if (value.charAt(i) != characters[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static class Entry {
+    final String value;
+    final int hash;
+    Entry next;
+    boolean referenced;
+
+    Entry(String value, int hash) {
+      this.value = value;
+      this.hash = hash;
+    }
+  }
+
+  private class Segment {
+    private final Entry[] table;
+    private final Entry[] clock;
+    private int size;
+    private int hand;
+
+    Segment(int capacity) {
+      table = new Entry[Integer.highestOneBit(Math.max(1, capacity - 1)) << 2];
+      clock = new Entry[capacity];
+    }
+
+    synchronized int size() {
+      return size;
+    }
+
+    synchronized String intern(String string, char[] characters, int offset, int length, int hash) {
+      int bucket = (hash * 0x9E3779B9 >>> 16) & (table.length - 1);
+      for (Entry entry = table[bucket]; entry != null; entry = entry.next) {
+        if (entry.hash == hash && matches(entry.value, string, characters, offset, length)) {
+          entry.referenced = true;
+          hits.increment();
+          return entry.value;
+        }
+      }
+      misses.increment();
+      Entry added = new Entry(string != null ? string : new String(characters, offset, length), hash);
+      if (size < clock.length) {
+        clock[size++] = added;
+      } else {
+        while (clock[hand].referenced) {
+          clock[hand].referenced = false;
+          hand = (hand + 1) % clock.length;
+        }
+        remove(clock[hand]);
+        evictions.increment();
+        clock[hand] = added;
+        hand = (hand + 1) % clock.length;
+      }
+      added.next = table[bucket];
+      table[bucket] = added;
+      return added.value;
+    }
+
+    private void remove(Entry removed) {
+      int bucket = (removed.hash * 0x9E3779B9 >>> 16) & (table.length - 1);
+      if (table[bucket] == removed) {
+        table[bucket] = removed.next;
+        return;
+      }
+      for (Entry entry = table[bucket]; entry.next != null; entry = entry.next) {
+        if (entry.next == removed) {
+          entry.next = removed.next;
+          return;
+        }
+      }
+    }
+  }
+}
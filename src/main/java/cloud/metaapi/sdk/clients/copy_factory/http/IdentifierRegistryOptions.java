@@ -0,0 +1,26 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+/**
+ * Options of the identifier registry, which deduplicates account ids, strategy ids, names and symbols of decoded
+ * models, so that records of a response share one string instance per distinct value. The registry holds a bounded
+ * number of strings and evicts the ones not seen recently first
+ */
+public class IdentifierRegistryOptions {
+  /**
+   * Whether identifiers of decoded models are deduplicated. Enabled by default, since it only changes which string
+   * instances the models hold
+   */
+  public boolean enabled = true;
+  /**
+   * Maximum number of strings held by the registry
+   */
+  public int maximumSize = 65536;
+  /**
+   * Maximum length of deduplicated strings. Longer strings are decoded as they are
+   */
+  public int maximumLength = 128;
+  /**
+   * Maximum number of identifiers which can be mapped to int handles, or 0 to disable handles
+   */
+  public int maximumHandles = 0;
+}
@@ -0,0 +1,31 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+/**
+ * Statistics of the identifier registry
+ */
+public class IdentifierRegistryStats {
+  /**
+   * Number of strings held by the registry
+   */
+  public int size;
+  /**
+   * Number of lookups which returned a string already held by the registry
+   */
+  public long hits;
+  /**
+   * Number of lookups which added a new string to the registry
+   */
+  public long misses;
+  /**
+   * Number of strings evicted to make room for new ones
+   */
+  public long evictions;
+  /**
+   * Share of lookups which were hits in percent
+   */
+  public double hitRate;
+  /**
+   * Number of identifiers mapped to int handles
+   */
+  public int handles;
+}
@@ -0,0 +1,65 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import kong.unirest.HttpResponse;
+
+/**
+ * Immutable chain of request interceptors. Clients replace the whole chain when their options change, so that
+ * attempts in flight complete with the interceptors which admitted them
+ */
+class InterceptorChain {
+
+  private final List<RequestInterceptor> interceptors;
+
+  /**
+   * Constructs interceptor chain
+   * @param interceptors interceptors in the order they admit attempts
+   */
+  InterceptorChain(List<RequestInterceptor> interceptors) {
+    this.interceptors = new ArrayList<>(interceptors);
+  }
+
+  /**
+   * Passes an attempt through the admission of each interceptor in turn. If an interceptor fails the attempt, the
+   * interceptors which already admitted it are notified
+   * @param attempt request attempt
+   * @return future completed once all interceptors admit the attempt
+   */
+  CompletableFuture<Void> admit(RequestAttempt attempt) {
+    return admit(attempt, 0);
+  }
+
+  /**
+   * Reports completed exchange of an admitted attempt to the interceptors
+   * @param attempt request attempt
+   * @param response response, or {@code null} if the exchange failed
+   * @param error error the exchange failed with, or {@code null}
+   */
+  void onExchange(RequestAttempt attempt, HttpResponse<String> response, Throwable error) {
+    for (RequestInterceptor interceptor : interceptors) {
+      interceptor.onExchange(attempt, response, error);
+    }
+  }
+
+  private CompletableFuture<Void> admit(RequestAttempt attempt, int index) {
+    if (index == interceptors.size()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    RequestInterceptor interceptor = interceptors.get(index);
+    CompletableFuture<Void> admitted;
+    try {
+      admitted = interceptor.admit(attempt);
+    } catch (Throwable e) {
+      admitted = new CompletableFuture<>();
+      admitted.completeExceptionally(e);
+    }
+    return admitted.thenCompose(ignored -> admit(attempt, index + 1).whenComplete((result, error) -> {
+      if (error != null) {
+        interceptor.onRejected(attempt);
+      }
+    }));
+  }
+}
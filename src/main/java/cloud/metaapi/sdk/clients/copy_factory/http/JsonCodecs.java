@@ -0,0 +1,65 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import cloud.metaapi.sdk.util.JsonMapper;
+
+/**
+ * Cache of JSON readers and writers of the shared SDK object mapper. Readers and writers fetch their root
+ * deserializers and serializers when they are created, so creating them in advance moves the cost of introspecting
+ * the model classes off the first call. Readers which deduplicate identifiers are created from a copy of the mapper
+ * with {@link ModelDecodingModule} registered
+ */
+public class JsonCodecs {
+
+  @SuppressWarnings("unchecked")
+  private static Map<Class<?>, ObjectReader>[] readers = new Map[] {new ConcurrentHashMap<>(),
+    new ConcurrentHashMap<>()};
+  private static ObjectMapper[] mappers = new ObjectMapper[2];
+  private static Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+  private JsonCodecs() {}
+
+  /**
+   * Returns reader of a value type, creating it if needed. The reader decodes identifiers as they are
+   * @param valueType class of the values to read
+   * @return JSON reader
+   */
+  public static ObjectReader reader(Class<?> valueType) {
+    return reader(valueType, false);
+  }
+
+  /**
+   * Returns reader of a value type, creating it if needed
+   * @param valueType class of the values to read
+   * @param identifiers whether identifiers are deduplicated through the {@link IdentifierRegistry} set as the
+   * {@link cloud.metaapi.sdk.clients.copy_factory.models.compact.IdentifierInterner} attribute of the reader
+   * @return JSON reader
+   */
+  public static ObjectReader reader(Class<?> valueType, boolean identifiers) {
+    int variant = identifiers ? 1 : 0;
+    return readers[variant].computeIfAbsent(valueType, type -> mapper(variant).readerFor(type));
+  }
+
+  /**
+   * Returns writer of a value type, creating it if needed
+   * @param valueType class of the values to write
+   * @return JSON writer
+   */
+  public static ObjectWriter writer(Class<?> valueType) {
+    return writers.computeIfAbsent(valueType, type -> JsonMapper.getInstance().writerFor(type));
+  }
+
+  private static synchronized ObjectMapper mapper(int variant) {
+    if (mappers[variant] == null) {
+      mappers[variant] = variant == 0 ? JsonMapper.getInstance() : JsonMapper.getInstance().copy()
+        .registerModule(new ModelDecodingModule());
+    }
+    return mappers[variant];
+  }
+}
@@ -0,0 +1,83 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.snapshot.Snapshot;
+
+/**
+ * Bounded concurrent table of canonical instances of immutable model snapshots. Snapshots are replaced with the
+ * structurally equal instance created before, so that repeated values share one instance and can be compared by
+ * reference. Only immutable snapshots are canonicalized, so canonical instances can be shared between calls and
+ * tenants. The table is split into segments guarded by their own locks, and each segment evicts the least recently
+ * used instances first
+ */
+public class ModelCanonicalizer {
+
+  private static final int SEGMENT_COUNT = 16;
+  private final Map<Snapshot, Snapshot>[] segments;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Constructs canonicalizer
+   * @param options canonicalization options
+   */
+  @SuppressWarnings("unchecked")
+  public ModelCanonicalizer(CanonicalizationOptions options) {
+    int segmentSize = Math.max(1, (options.maximumSize + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+    segments = new Map[SEGMENT_COUNT];
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      segments[i] = Collections.synchronizedMap(new LinkedHashMap<Snapshot, Snapshot>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Snapshot, Snapshot> eldest) {
+          return size() > segmentSize;
+        }
+      });
+    }
+  }
+
+  /**
+   * Returns the canonical instance structurally equal to a snapshot, making the snapshot canonical if there is none
+   * @param <S> snapshot type
+   * @param snapshot snapshot, or {@code null}
+   * @return canonical instance, or {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public <S extends Snapshot> S canonicalize(S snapshot) {
+    if (snapshot == null) {
+      return null;
+    }
+    Map<Snapshot, Snapshot> segment = segments[snapshot.hashCode() * 0x9E3779B9 >>> 28];
+    synchronized (segment) {
+      Snapshot canonical = segment.get(snapshot);
+      if (canonical != null) {
+        hits.increment();
+        return (S) canonical;
+      }
+      misses.increment();
+      segment.put(snapshot, snapshot);
+      return snapshot;
+    }
+  }
+
+  /**
+   * Returns canonicalizer statistics
+   * @return canonicalizer statistics
+   */
+  public CanonicalizerStats getStats() {
+    CanonicalizerStats stats = new CanonicalizerStats();
+    for (Map<Snapshot, Snapshot> segment : segments) {
+      stats.size += segment.size();
+    }
+    stats.hits = hits.sum();
+    stats.misses = misses.sum();
+    long lookups = stats.hits + stats.misses;
+    stats.hitRate = lookups != 0 ? stats.hits * 100.0 / lookups : 0;
+    return stats;
+  }
+}
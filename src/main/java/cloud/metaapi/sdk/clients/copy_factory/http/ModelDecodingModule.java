@@ -0,0 +1,82 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryPortfolioMember;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyIdAndName;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyStopout;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySubscription;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySymbolFilter;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactorySubscriberOrProvider;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryUserLogRecord;
+
+/**
+ * Jackson module which decodes identifier fields of the models with {@link IdentifierRegistry.Deserializer}. The
+ * fields are listed here instead of being annotated on the models, so that the deserializer only takes part in
+ * decoding when the module is registered
+ */
+class ModelDecodingModule extends SimpleModule {
+
+  private static final long serialVersionUID = 1L;
+  static final Map<Class<?>, Set<String>> IDENTIFIER_FIELDS = new HashMap<>();
+  static final Map<Class<?>, Set<String>> IDENTIFIER_ELEMENT_FIELDS = new HashMap<>();
+
+  static {
+    IDENTIFIER_FIELDS.put(CopyFactoryTransaction.class, fields("accountId", "symbol"));
+    IDENTIFIER_FIELDS.put(CopyFactorySubscriberOrProvider.class, fields("id", "name"));
+    IDENTIFIER_FIELDS.put(CopyFactoryStrategyIdAndName.class, fields("id", "name"));
+    IDENTIFIER_FIELDS.put(CopyFactoryStrategySubscription.class, fields("strategyId"));
+    IDENTIFIER_FIELDS.put(CopyFactoryPortfolioMember.class, fields("strategyId"));
+    IDENTIFIER_FIELDS.put(CopyFactoryStrategyStopout.class, fields("reason"));
+    IDENTIFIER_FIELDS.put(CopyFactoryUserLogRecord.class, fields("symbol", "strategyId", "strategyName", "side",
+      "type"));
+    IDENTIFIER_ELEMENT_FIELDS.put(CopyFactoryStrategySymbolFilter.class, fields("included", "excluded"));
+  }
+
+  /**
+   * Constructs module
+   */
+  ModelDecodingModule() {
+    super("ModelDecodingModule");
+  }
+
+  @Override
+  public void setupModule(SetupContext context) {
+    super.setupModule(context);
+    context.insertAnnotationIntrospector(new NopAnnotationIntrospector() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public Object findDeserializer(Annotated annotated) {
+        return isListed(IDENTIFIER_FIELDS, annotated) ? new IdentifierRegistry.Deserializer() : null;
+      }
+
+      @Override
+      public Object findContentDeserializer(Annotated annotated) {
+        return isListed(IDENTIFIER_ELEMENT_FIELDS, annotated) ? new IdentifierRegistry.Deserializer() : null;
+      }
+    });
+  }
+
+  private static boolean isListed(Map<Class<?>, Set<String>> fields, Annotated annotated) {
+    if (!(annotated instanceof AnnotatedField)) {
+      return false;
+    }
+    Set<String> names = fields.get(((AnnotatedField) annotated).getDeclaringClass());
+    return names != null && names.contains(annotated.getName());
+  }
+
+  private static Set<String> fields(String... names) {
+    return new HashSet<>(Arrays.asList(names));
+  }
+}
@@ -0,0 +1,202 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.client.methods.HttpRequestWrapper;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.pool.PoolStats;
+
+import cloud.metaapi.sdk.clients.HttpRequestOptions;
+import cloud.metaapi.sdk.clients.HttpRequestOptions.FileStreamField;
+import cloud.metaapi.sdk.clients.HttpRequestOptions.Method;
+import kong.unirest.HttpRequest;
+import kong.unirest.HttpRequestWithBody;
+import kong.unirest.HttpResponse;
+import kong.unirest.MultipartBody;
+import kong.unirest.RawResponse;
+import kong.unirest.Unirest;
+import kong.unirest.UnirestInstance;
+import kong.unirest.apache.ApacheClient;
+
+/**
+ * Transport of a CopyFactory HTTP client. Unlike the global Unirest instance used by the base client, it owns a pool
+ * of connections which are kept alive and reused by all requests of the client. The HTTP exchange of the request
+ * being executed is exposed to its context, so that cancelled calls can abort it
+ */
+class PooledTransport {
+
+  private UnirestInstance unirest;
+  private volatile ApacheClient client;
+  private int requestTimeout;
+  private int connectTimeout;
+  private ThreadLocal<RequestContext> executingContext = new ThreadLocal<>();
+
+  /**
+   * Constructs transport
+   * @param requestTimeout request timeout in milliseconds
+   * @param connectTimeout connect timeout in milliseconds
+   * @param poolOpts connection pool options
+   */
+  PooledTransport(int requestTimeout, int connectTimeout, ConnectionPoolOptions poolOpts) {
+    this.requestTimeout = requestTimeout;
+    this.connectTimeout = connectTimeout;
+    unirest = Unirest.spawnInstance();
+    unirest.config()
+      .concurrency(poolOpts.maxConnections, poolOpts.maxConnectionsPerHost)
+      .httpClient(config -> {
+        client = new ApacheClient(config, builder -> {
+          builder.setKeepAliveStrategy((response, httpContext) -> getKeepAliveDuration(
+            DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, httpContext),
+            poolOpts.keepAliveInSeconds));
+          if (poolOpts.idleEvictionInSeconds > 0) {
+            builder.evictIdleConnections(poolOpts.idleEvictionInSeconds, TimeUnit.SECONDS);
+          }
+          builder.addInterceptorLast((HttpRequestInterceptor) (request, httpContext) -> {
+            RequestContext context = executingContext.get();
+            if (context != null && request instanceof HttpRequestWrapper
+              && ((HttpRequestWrapper) request).getOriginal() instanceof HttpUriRequest) {
+              HttpUriRequest exchange = (HttpUriRequest) ((HttpRequestWrapper) request).getOriginal();
+              context.exchange = exchange;
+              if (context.cancelled) {
+                exchange.abort();
+              }
+            }
+          });
+        });
+        return client;
+      });
+  }
+
+  /**
+   * Returns statistics of the connection pool
+   * @return connection pool statistics
+   */
+  ConnectionPoolStats getPoolStats() {
+    ConnectionPoolStats result = new ConnectionPoolStats();
+    if (client != null) {
+      PoolStats stats = client.getManager().getTotalStats();
+      result.leased = stats.getLeased();
+      result.idle = stats.getAvailable();
+      result.pending = stats.getPending();
+      result.max = stats.getMax();
+    }
+    return result;
+  }
+
+  /**
+   * Sets whether compressed responses should be requested. Must be set before the first request
+   * @param compressResponses whether to request compressed responses
+   */
+  void setCompressResponses(boolean compressResponses) {
+    unirest.config().requestCompression(compressResponses);
+  }
+
+  /**
+   * Builds the pooled client without opening connections
+   */
+  void warmUp() {
+    unirest.config().getClient();
+  }
+
+  /**
+   * Closes pooled connections
+   */
+  void close() {
+    unirest.shutDown();
+  }
+
+  /**
+   * Executes a request on the current thread. Timeouts of the request are shortened to the remaining time of the call
+   * deadline, and conditional requests carry validators of the cached response
+   * @param options request options
+   * @param context request context, or {@code null}
+   * @param bodyReader reader of the response body, or {@code null} to read it as a string
+   * @return response
+   * @throws Exception if failed to execute the request
+   */
+  HttpResponse<String> execute(HttpRequestOptions options, RequestContext context,
+    Function<RawResponse, String> bodyReader) throws Exception {
+    executingContext.set(context);
+    try {
+      HttpRequest<?> request = createRequest(options, context);
+      return bodyReader != null ? request.asObject(bodyReader) : request.asString();
+    } finally {
+      executingContext.remove();
+      if (context != null) {
+        context.exchange = null;
+      }
+    }
+  }
+
+  /**
+   * Returns time a connection may stay idle in the pool after a response before it is closed
+   * @param serverDuration time in milliseconds the server keeps the connection open for, or a negative value if the
+   * server does not say
+   * @param keepAliveInSeconds configured keep-alive time in seconds, or 0 to follow the server
+   * @return keep-alive time in milliseconds, or a negative value to keep the connection indefinitely
+   */
+  static long getKeepAliveDuration(long serverDuration, int keepAliveInSeconds) {
+    if (keepAliveInSeconds <= 0) {
+      return serverDuration;
+    }
+    long keepAlive = keepAliveInSeconds * 1000L;
+    return serverDuration >= 0 ? Math.min(serverDuration, keepAlive) : keepAlive;
+  }
+
+  private HttpRequest<?> createRequest(HttpRequestOptions options, RequestContext context) throws Exception {
+    HttpRequest<?> request;
+    if (options.getMethod() == Method.GET) {
+      request = unirest.get(options.getUrl());
+    } else {
+      HttpRequestWithBody requestWithBody = unirest.request(options.getMethod().name(), options.getUrl());
+      request = requestWithBody;
+      if (options.getBodyJson().isPresent()) {
+        Object body = options.getBodyJson().get();
+        request = requestWithBody.body(JsonCodecs.writer(body.getClass()).writeValueAsString(body))
+          .header("content-type", "application/json");
+      } else if (options.getBodyFields().isPresent() && !options.getBodyFields().get().isEmpty()) {
+        MultipartBody multipartBody = requestWithBody.fields(null);
+        options.getBodyFields().get().forEach((key, value) -> {
+          if (value instanceof FileStreamField) {
+            FileStreamField field = (FileStreamField) value;
+            multipartBody.field(key, field.getStream(), field.getFileName());
+          } else {
+            multipartBody.field(key, value.toString());
+          }
+        });
+        request = multipartBody;
+      }
+    }
+    int attemptConnectTimeout = connectTimeout;
+    int attemptRequestTimeout = requestTimeout;
+    if (context != null && context.deadline > 0) {
+      int remainingTime = (int) Math.max(context.deadline - System.currentTimeMillis(), 1);
+      context.attemptTimeoutCapped = remainingTime < Math.max(attemptConnectTimeout, attemptRequestTimeout);
+      attemptConnectTimeout = Math.min(attemptConnectTimeout, remainingTime);
+      attemptRequestTimeout = Math.min(attemptRequestTimeout, remainingTime);
+    }
+    request = request.connectTimeout(attemptConnectTimeout).socketTimeout(attemptRequestTimeout)
+      .headers(options.getHeaders());
+    if (context != null && context.cachedResponse != null) {
+      if (context.cachedResponse.etag != null) {
+        request = request.header("if-none-match", context.cachedResponse.etag);
+      }
+      if (context.cachedResponse.lastModified != null) {
+        request = request.header("if-modified-since", context.cachedResponse.lastModified);
+      }
+    }
+    for (Map.Entry<String, Object> parameter : options.getQueryParameters().entrySet()) {
+      if (parameter.getValue() instanceof Collection) {
+        request = request.queryString(parameter.getKey(), (Collection<?>) parameter.getValue());
+      } else {
+        request = request.queryString(parameter.getKey(), parameter.getValue());
+      }
+    }
+    return request;
+  }
+}
@@ -0,0 +1,26 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import cloud.metaapi.sdk.clients.error_handler.ApiException;
+
+/**
+ * Exception thrown when a request is rejected by client-side rate limiter
+ */
+public class RateLimitExceededException extends ApiException {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Endpoint family the rate limit of which is exceeded
+   */
+  public EndpointFamily endpointFamily;
+
+  /**
+   * Constructs the exception
+   * @param message exception message
+   * @param endpointFamily endpoint family the rate limit of which is exceeded
+   */
+  public RateLimitExceededException(String message, EndpointFamily endpointFamily) {
+    super(message, 429);
+    this.endpointFamily = endpointFamily;
+  }
+}
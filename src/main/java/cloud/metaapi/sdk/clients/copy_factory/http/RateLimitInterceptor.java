@@ -0,0 +1,77 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import cloud.metaapi.sdk.clients.models.IsoTime;
+import cloud.metaapi.sdk.util.JsonMapper;
+import kong.unirest.HttpResponse;
+
+/**
+ * Delays attempts according to the client-side rate limit of their endpoint family, and adapts the limit to throttling
+ * responses of the server
+ */
+class RateLimitInterceptor implements RequestInterceptor {
+
+  private final RateLimiter limiter;
+
+  /**
+   * Constructs rate limit interceptor
+   * @param options rate limit options
+   */
+  RateLimitInterceptor(RateLimitOptions options) {
+    limiter = new RateLimiter(options);
+  }
+
+  /**
+   * Returns current client-side rate limit of an endpoint family
+   * @param family endpoint family
+   * @return current rate limit in requests per second
+   */
+  double getRate(EndpointFamily family) {
+    return limiter.getRate(family);
+  }
+
+  @Override
+  public CompletableFuture<Void> admit(RequestAttempt attempt) {
+    RequestContext context = attempt.context;
+    return limiter.acquire(attempt.family, context != null && context.callOptions != null
+      ? context.callOptions.rateLimitPolicy : null);
+  }
+
+  @Override
+  public void onExchange(RequestAttempt attempt, HttpResponse<String> response, Throwable error) {
+    if (response == null) {
+      return;
+    }
+    if (response.getStatus() == 429) {
+      onThrottled(attempt.family, response);
+    } else if (response.getStatus() < 400) {
+      limiter.onSuccess(attempt.family);
+    }
+  }
+
+  private void onThrottled(EndpointFamily family, HttpResponse<String> response) {
+    long retryAfter = 0;
+    double serverRate = 0;
+    String retryAfterHeader = response.getHeaders().getFirst("retry-after");
+    if (retryAfterHeader != null && retryAfterHeader.matches("\\d+")) {
+      retryAfter = Long.parseLong(retryAfterHeader) * 1000;
+    }
+    try {
+      JsonNode metadata = JsonMapper.getInstance().readTree(response.getBody()).path("metadata");
+      if (metadata.hasNonNull("recommendedRetryTime")) {
+        retryAfter = Math.max(retryAfter, new IsoTime(metadata.get("recommendedRetryTime").asText())
+          .getDate().getTime() - System.currentTimeMillis());
+      }
+      if (metadata.path("periodInMinutes").asDouble() > 0) {
+        serverRate = metadata.path("requestsPerPeriodAllowed").asDouble() / (metadata.get("periodInMinutes")
+          .asDouble() * 60);
+      }
+    } catch (Exception e) {
+      // response body is not a JSON error, only retry-after header is taken into account
+    }
+    limiter.onThrottled(family, retryAfter, serverRate);
+  }
+}
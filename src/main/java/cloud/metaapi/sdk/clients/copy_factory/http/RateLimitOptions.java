@@ -0,0 +1,30 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+/**
+ * Options of client-side rate limiter. Each endpoint family has its own token bucket which adapts its rate to the
+ * server limits reported in 429 responses. By default requests are not limited until the server throttles them
+ */
+public class RateLimitOptions {
+  /**
+   * Whether client-side rate limiting is enabled
+   */
+  public boolean enabled = true;
+  /**
+   * Initial and maximum request rate per endpoint family, in requests per second, or 0 to send requests without limit
+   * until the server throttles them
+   */
+  public double requestsPerSecond = 0;
+  /**
+   * Maximum number of requests which can be sent in a burst
+   */
+  public int burst = 50;
+  /**
+   * Default policy for requests exceeding the rate limit
+   */
+  public RateLimitPolicy policy = RateLimitPolicy.QUEUE;
+  /**
+   * Maximum time a queued request can wait for the rate limiter in seconds. Requests which would have to wait
+   * longer fail with {@link RateLimitExceededException}
+   */
+  public int maxQueueTimeInSeconds = 60;
+}
@@ -0,0 +1,15 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+/**
+ * Behavior of a request which exceeds client-side rate limit
+ */
+public enum RateLimitPolicy {
+  /**
+   * Wait until the request is allowed by rate limiter
+   */
+  QUEUE,
+  /**
+   * Fail immediately with {@link RateLimitExceededException}
+   */
+  FAIL_FAST
+}
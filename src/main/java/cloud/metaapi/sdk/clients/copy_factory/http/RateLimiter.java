@@ -0,0 +1,109 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side rate limiter keeping an adaptive token bucket per endpoint family
+ */
+class RateLimiter {
+
+  private static ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "CopyFactoryRateLimiter");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private RateLimitOptions options;
+  private Map<EndpointFamily, AdaptiveTokenBucket> buckets = new EnumMap<>(EndpointFamily.class);
+
+  /**
+   * Constructs rate limiter
+   * @param options rate limit options
+   */
+  RateLimiter(RateLimitOptions options) {
+    this.options = options;
+    long now = System.currentTimeMillis();
+    for (EndpointFamily family : EndpointFamily.values()) {
+      buckets.put(family, new AdaptiveTokenBucket(options.requestsPerSecond, options.burst, now));
+    }
+  }
+
+  /**
+   * Acquires permission to send a request
+   * @param family endpoint family of the request
+   * @param policy rate limit policy of the request, or {@code null} to use the default policy
+   * @return completable future which resolves when the request can be sent, or completes exceptionally with
+   * {@link RateLimitExceededException} if the request is rejected
+   */
+  CompletableFuture<Void> acquire(EndpointFamily family, RateLimitPolicy policy) {
+    if (!options.enabled) {
+      return CompletableFuture.completedFuture(null);
+    }
+    RateLimitPolicy effectivePolicy = policy != null ? policy : options.policy;
+    long maxWait = effectivePolicy == RateLimitPolicy.FAIL_FAST ? 0 : options.maxQueueTimeInSeconds * 1000L;
+    long wait = buckets.get(family).reserve(System.currentTimeMillis(), maxWait);
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    if (wait < 0) {
+      result.completeExceptionally(new RateLimitExceededException("Client-side rate limit of "
+        + family.name().toLowerCase() + " endpoints exceeded", family));
+    } else if (wait == 0) {
+      result.complete(null);
+    } else {
+      return delay(wait);
+    }
+    return result;
+  }
+
+  /**
+   * Returns a future which completes after a delay
+   * @param delay delay in milliseconds
+   * @return completable future which resolves after the delay
+   */
+  static CompletableFuture<Void> delay(long delay) {
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    schedule(() -> result.complete(null), delay);
+    return result;
+  }
+
+  /**
+   * Runs a task after a delay on the rate limiter thread. The task must not block
+   * @param task task to run
+   * @param delay delay in milliseconds
+   * @return scheduled future which can be used to cancel the task
+   */
+  static ScheduledFuture<?> schedule(Runnable task, long delay) {
+    return scheduler.schedule(task, delay, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Records that the server rejected a request because of its rate limit
+   * @param family endpoint family of the request
+   * @param retryAfter time in milliseconds after which requests can be retried, or 0 if unknown
+   * @param serverRate server limit in requests per second, or 0 if unknown
+   */
+  void onThrottled(EndpointFamily family, long retryAfter, double serverRate) {
+    buckets.get(family).onThrottled(System.currentTimeMillis(), retryAfter, serverRate);
+  }
+
+  /**
+   * Records that the server accepted a request
+   * @param family endpoint family of the request
+   */
+  void onSuccess(EndpointFamily family) {
+    buckets.get(family).onSuccess(System.currentTimeMillis());
+  }
+
+  /**
+   * Returns current rate of an endpoint family
+   * @param family endpoint family
+   * @return current rate in requests per second
+   */
+  double getRate(EndpointFamily family) {
+    return buckets.get(family).getRate();
+  }
+}
@@ -0,0 +1,56 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import cloud.metaapi.sdk.clients.HttpRequestOptions;
+
+/**
+ * Request attempt passing through the interceptors of a client. Each attempt of a call, including retries, is a new
+ * attempt with the request options and context of the call
+ */
+class RequestAttempt {
+
+  /**
+   * Request options
+   */
+  final HttpRequestOptions options;
+  /**
+   * Context of the call, or {@code null} if the request is not made on behalf of an operation
+   */
+  final RequestContext context;
+  /**
+   * Endpoint family of the request
+   */
+  final EndpointFamily family;
+  /**
+   * Interceptors the attempt passes through
+   */
+  final InterceptorChain interceptors;
+  /**
+   * Whether the request has been handed to the transport
+   */
+  volatile boolean sent;
+  /**
+   * Time the exchange started at in nanoseconds
+   */
+  volatile long startTime;
+
+  /**
+   * Constructs request attempt
+   * @param options request options
+   * @param context context of the call, or {@code null}
+   * @param interceptors interceptors the attempt passes through
+   */
+  RequestAttempt(HttpRequestOptions options, RequestContext context, InterceptorChain interceptors) {
+    this.options = options;
+    this.context = context;
+    this.family = EndpointFamily.of(options.getUrl());
+    this.interceptors = interceptors;
+  }
+
+  /**
+   * Returns time elapsed since the exchange started
+   * @return time in milliseconds
+   */
+  long getDuration() {
+    return (System.nanoTime() - startTime) / 1000000;
+  }
+}
@@ -0,0 +1,136 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * Context of an API call, passed along with request options to the transport. Request attempts of a call are made
+ * sequentially, so the context is not modified concurrently
+ */
+class RequestContext {
+
+  /**
+   * Operation name
+   */
+  final String operation;
+  /**
+   * Call options, or {@code null}
+   */
+  final CallOptions callOptions;
+  /**
+   * Number of request attempts made
+   */
+  final AtomicInteger attempts = new AtomicInteger();
+  /**
+   * Whether the call is a duplicate request of a hedged call, which must not be deduplicated with the original one
+   */
+  boolean hedge;
+  /**
+   * Time in milliseconds by which the call must complete, or 0 if the call has no deadline
+   */
+  long deadline;
+  /**
+   * Number of retries made after retryable errors
+   */
+  int retryCounter;
+  /**
+   * Whether timeouts of the current request attempt are shortened to the remaining time of the deadline
+   */
+  volatile boolean attemptTimeoutCapped;
+  /**
+   * Whether the call is cancelled or its deadline has passed, so that no further request attempts are made
+   */
+  volatile boolean cancelled;
+  /**
+   * HTTP exchange of the current request attempt, used to abort it on cancellation, or {@code null}
+   */
+  volatile HttpUriRequest exchange;
+  /**
+   * Time the current request attempt was queued at in nanoseconds
+   */
+  long queuedAt;
+  /**
+   * Time spent waiting for rate limiter and executor in nanoseconds
+   */
+  long queueTime;
+  /**
+   * Time spent in network calls in nanoseconds
+   */
+  long networkTime;
+  /**
+   * Time spent decoding responses in nanoseconds
+   */
+  long decodeTime;
+  /**
+   * Total size of responses in bytes
+   */
+  long responseBytes;
+  /**
+   * Class of the response object to decode successful responses into while they are received, or {@code null} to
+   * return response bodies as strings
+   */
+  Class<?> valueType;
+  /**
+   * Whether the body of the last response was decoded while it was received
+   */
+  boolean bodyDecoded;
+  /**
+   * Response object decoded while the response was received
+   */
+  Object decodedBody;
+  /**
+   * Error decoding the response body failed with, or {@code null}
+   */
+  Throwable decodeError;
+  /**
+   * Cache the response of a conditional request is stored to, or {@code null}
+   */
+  ValidatorCache validatorCache;
+  /**
+   * Key of the request in the validator cache if the request is conditional, or {@code null}
+   */
+  Object validatorKey;
+  /**
+   * Previously cached response the request is conditional on, or {@code null}
+   */
+  ValidatorCache.Entry cachedResponse;
+  /**
+   * Whether the last response had 304 status
+   */
+  boolean notModified;
+  /**
+   * Value of ETag header of the last response, or {@code null}
+   */
+  String etag;
+  /**
+   * Value of Last-Modified header of the last response, or {@code null}
+   */
+  String lastModified;
+  /**
+   * Shared operation in single flight the call waits for, or {@code null}. Guarded by the context
+   */
+  SingleFlight.Flight<?> flight;
+  /**
+   * Whether the call no longer waits for a shared operation because it is cancelled. Guarded by the context
+   */
+  boolean leftFlight;
+  /**
+   * Budget of the tenant the call is made on behalf of, or {@code null} if tenant budgets are disabled
+   */
+  TenantBudgets.Budget tenantBudget;
+  /**
+   * Flight recorder event of the call, or {@code null} if flight recorder is not available
+   */
+  Object flightRecorderEvent;
+
+  /**
+   * Constructs request context
+   * @param operation operation name
+   * @param callOptions call options, or {@code null}
+   */
+  RequestContext(String operation, CallOptions callOptions) {
+    this.operation = operation;
+    this.callOptions = callOptions;
+  }
+}
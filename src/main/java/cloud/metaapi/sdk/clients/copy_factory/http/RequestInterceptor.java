@@ -0,0 +1,37 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.concurrent.CompletableFuture;
+
+import kong.unirest.HttpResponse;
+
+/**
+ * Stage request attempts pass through on their way to the transport. Interceptors admit an attempt in the order they
+ * are chained, and an attempt which fails admission fails without being sent or retried. Once the exchange of an
+ * admitted attempt completes, every interceptor observes its outcome
+ */
+interface RequestInterceptor {
+
+  /**
+   * Admits an attempt before it is sent
+   * @param attempt request attempt
+   * @return future completed once the attempt may proceed, or completed exceptionally to fail the attempt
+   */
+  default CompletableFuture<Void> admit(RequestAttempt attempt) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Called when an attempt admitted by the interceptor is failed by one of the interceptors chained after it
+   * @param attempt request attempt
+   */
+  default void onRejected(RequestAttempt attempt) {}
+
+  /**
+   * Called on the executor of the client once the exchange of an admitted attempt completes. The exchange fails
+   * without the request being sent if the call is cancelled or its deadline passes before that
+   * @param attempt request attempt
+   * @param response response, or {@code null} if the exchange failed
+   * @param error error the exchange failed with, or {@code null}
+   */
+  default void onExchange(RequestAttempt attempt, HttpResponse<String> response, Throwable error) {}
+}
@@ -0,0 +1,101 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent operations, so that callers which start an operation while an identical one is in
+ * flight share its result instead of starting a new one
+ */
+class SingleFlight {
+
+  private Map<Object, Flight<?>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * Operation in flight shared by its callers
+   * @param <T> result type
+   */
+  static class Flight<T> {
+    /**
+     * Result of the operation
+     */
+    final CompletableFuture<T> promise = new CompletableFuture<>();
+    private final Object key;
+    private final Runnable onAbandoned;
+    private int callers = 1;
+
+    private Flight(Object key, Runnable onAbandoned) {
+      this.key = key;
+      this.onAbandoned = onAbandoned;
+    }
+  }
+
+  /**
+   * Executes an operation or joins an identical operation which is already in flight
+   * @param <T> result type
+   * @param key operation key. Operations with equal keys are considered identical
+   * @param operation operation to execute
+   * @param onAbandoned action run if all callers leave the operation before it completes, or {@code null}. Only the
+   * action of the caller which starts the operation is used
+   * @return operation in flight
+   */
+  @SuppressWarnings("unchecked")
+  <T> Flight<T> join(Object key, Supplier<CompletableFuture<T>> operation, Runnable onAbandoned) {
+    Flight<T> flight = new Flight<>(key, onAbandoned);
+    Flight<T> current = (Flight<T>) inFlight.compute(key, (k, existing) -> {
+      if (existing != null) {
+        existing.callers++;
+        return existing;
+      }
+      return flight;
+    });
+    if (current != flight) {
+      return current;
+    }
+    CompletableFuture<T> promise = flight.promise;
+    try {
+      operation.get().whenComplete((result, error) -> {
+        inFlight.remove(key, flight);
+        if (error != null) {
+          promise.completeExceptionally(error);
+        } else {
+          promise.complete(result);
+        }
+      });
+    } catch (Throwable e) {
+      inFlight.remove(key, flight);
+      promise.completeExceptionally(e);
+    }
+    return flight;
+  }
+
+  /**
+   * Removes a caller which no longer waits for the result, e.g. because its call is cancelled. Once the last caller
+   * leaves, the operation is detached, so that new callers start a new operation instead of joining it, and its
+   * abandon action is run. Each caller must leave at most once
+   * @param flight operation in flight
+   */
+  void leave(Flight<?> flight) {
+    boolean[] abandoned = new boolean[1];
+    inFlight.computeIfPresent(flight.key, (k, current) -> {
+      if (current != flight || --current.callers > 0) {
+        return current;
+      }
+      abandoned[0] = true;
+      return null;
+    });
+    if (abandoned[0] && flight.onAbandoned != null) {
+      flight.onAbandoned.run();
+    }
+  }
+
+  /**
+   * Returns number of operations in flight
+   * @return number of operations in flight
+   */
+  int size() {
+    return inFlight.size();
+  }
+}
@@ -0,0 +1,20 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Reserves a request of each attempt from the rate budget of the tenant the call is made on behalf of. Calls acquire
+ * their tenant budget when they start, so attempts of calls without one are admitted immediately
+ */
+class TenantBudgetInterceptor implements RequestInterceptor {
+
+  @Override
+  public CompletableFuture<Void> admit(RequestAttempt attempt) {
+    RequestContext context = attempt.context;
+    if (context == null || context.tenantBudget == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return context.tenantBudget.reserve(attempt.family, context.callOptions != null
+      ? context.callOptions.rateLimitPolicy : null);
+  }
+}
@@ -0,0 +1,30 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+/**
+ * Options of per-tenant budgets of a transport shared by several authorization tokens. Each tenant, identified by its
+ * authorization token, can have a limited number of calls in flight and is throttled by its own token bucket, so that
+ * one tenant can not use up the capacity of the shared transport
+ */
+public class TenantBudgetOptions {
+  /**
+   * Whether per-tenant budgets are enabled
+   */
+  public boolean enabled = true;
+  /**
+   * Maximum number of calls of a tenant in flight. Further calls wait until one of them completes
+   */
+  public int maxConcurrentRequests = 8;
+  /**
+   * Maximum request rate of a tenant, in requests per second
+   */
+  public double requestsPerSecond = 10;
+  /**
+   * Maximum number of requests of a tenant which can be sent in a burst
+   */
+  public int burst = 20;
+  /**
+   * Maximum time a request can wait for the rate limit of its tenant in seconds. Requests which would have to wait
+   * longer fail with {@link RateLimitExceededException}
+   */
+  public int maxQueueTimeInSeconds = 60;
+}
@@ -0,0 +1,150 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrency and rate budgets of tenants sharing a transport. A budget is created when a tenant makes a call and is
+ * dropped once the tenant has no calls in flight and its token bucket is refilled, so that memory use depends on the
+ * number of recently active tenants rather than on the total number of tenants
+ */
+class TenantBudgets {
+
+  /**
+   * Minimum interval between sweeps of idle budgets in milliseconds
+   */
+  static final long SWEEP_INTERVAL = 1000;
+  private TenantBudgetOptions options;
+  private Map<String, Budget> budgets = new ConcurrentHashMap<>();
+  private volatile long sweptAt;
+
+  /**
+   * Budget of a tenant
+   */
+  class Budget {
+
+    private final AdaptiveTokenBucket bucket;
+    private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private int active;
+
+    private Budget(long now) {
+      this.bucket = new AdaptiveTokenBucket(options.requestsPerSecond, options.burst, now);
+    }
+
+    /**
+     * Acquires permission to send a request attempt according to the rate limit of the tenant
+     * @param family endpoint family of the request
+     * @param policy rate limit policy of the request, or {@code null} to queue the request
+     * @return completable future which resolves when the request can be sent, or completes exceptionally with
+     * {@link RateLimitExceededException} if the request is rejected
+     */
+    CompletableFuture<Void> reserve(EndpointFamily family, RateLimitPolicy policy) {
+      long maxWait = policy == RateLimitPolicy.FAIL_FAST ? 0 : options.maxQueueTimeInSeconds * 1000L;
+      long wait = bucket.reserve(System.currentTimeMillis(), maxWait);
+      if (wait < 0) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        result.completeExceptionally(new RateLimitExceededException("Client-side rate limit of the tenant exceeded",
+          family));
+        return result;
+      }
+      return wait == 0 ? CompletableFuture.completedFuture(null) : RateLimiter.delay(wait);
+    }
+
+    /**
+     * Releases the call slot taken by {@link TenantBudgets#acquire(String)}, passing it to the next waiting call
+     */
+    void release() {
+      CompletableFuture<Void> next;
+      synchronized (this) {
+        next = waiters.poll();
+        if (next == null) {
+          active--;
+        }
+      }
+      if (next != null) {
+        next.complete(null);
+      }
+    }
+
+    private synchronized CompletableFuture<Budget> acquire() {
+      CompletableFuture<Budget> result = new CompletableFuture<>();
+      if (active < options.maxConcurrentRequests) {
+        active++;
+        result.complete(this);
+      } else {
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        waiter.thenRun(() -> {
+          if (!result.complete(this)) {
+            release();
+          }
+        });
+        result.whenComplete((budget, error) -> {
+          if (error != null) {
+            synchronized (this) {
+              waiters.remove(waiter);
+            }
+          }
+        });
+      }
+      return result;
+    }
+
+    private synchronized boolean isIdle(long now) {
+      return active == 0 && waiters.isEmpty() && bucket.isFull(now);
+    }
+  }
+
+  /**
+   * Constructs tenant budgets
+   * @param options tenant budget options
+   */
+  TenantBudgets(TenantBudgetOptions options) {
+    this.options = options;
+  }
+
+  /**
+   * Takes a call slot of a tenant. The slot must be released with {@link Budget#release()} when the call completes
+   * @param tenant tenant key
+   * @return completable future which resolves with the budget of the tenant when the call can be started. Cancelling
+   * it while the call waits for a slot removes the call from the queue
+   */
+  CompletableFuture<Budget> acquire(String tenant) {
+    long now = System.currentTimeMillis();
+    if (now - sweptAt >= SWEEP_INTERVAL) {
+      sweptAt = now;
+      sweep(now);
+    }
+    @SuppressWarnings("unchecked")
+    CompletableFuture<Budget>[] result = new CompletableFuture[1];
+    budgets.compute(tenant, (key, budget) -> {
+      if (budget == null) {
+        budget = new Budget(now);
+      }
+      result[0] = budget.acquire();
+      return budget;
+    });
+    return result[0];
+  }
+
+  /**
+   * Returns number of tenants which have budgets allocated
+   * @return number of tenants
+   */
+  int size() {
+    return budgets.size();
+  }
+
+  /**
+   * Drops budgets of idle tenants
+   * @param now current time in milliseconds
+   */
+  void sweep(long now) {
+    for (String tenant : budgets.keySet()) {
+      budgets.computeIfPresent(tenant, (key, budget) -> budget.isIdle(now) ? null : budget);
+    }
+  }
+}
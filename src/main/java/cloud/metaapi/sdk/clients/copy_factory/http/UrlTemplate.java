@@ -0,0 +1,64 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Request URL path with resource ids replaced by placeholders
+ */
+class UrlTemplate {
+
+  private static final Set<String> ACCOUNT_COLLECTIONS = new HashSet<>(Arrays.asList("accounts", "connections"));
+  private static final Set<String> STRATEGY_COLLECTIONS = new HashSet<>(Arrays.asList("strategies",
+    "portfolio-strategies", "strategies-subscribed"));
+
+  /**
+   * URL path template, e.g. {@code /users/current/accounts/:accountId/stopouts}
+   */
+  final String template;
+  /**
+   * Account id found in the URL, or {@code null}
+   */
+  final String accountId;
+  /**
+   * Strategy id found in the URL, or {@code null}
+   */
+  final String strategyId;
+
+  private UrlTemplate(String template, String accountId, String strategyId) {
+    this.template = template;
+    this.accountId = accountId;
+    this.strategyId = strategyId;
+  }
+
+  /**
+   * Creates URL template from a request URL
+   * @param url request URL
+   * @return URL template
+   */
+  static UrlTemplate of(String url) {
+    int pathStart = url.indexOf("://");
+    pathStart = url.indexOf('/', pathStart >= 0 ? pathStart + 3 : 0);
+    String[] segments = pathStart >= 0 ? url.substring(pathStart + 1).split("/") : new String[0];
+    StringBuilder template = new StringBuilder();
+    String accountId = null;
+    String strategyId = null;
+    for (int i = 0; i < segments.length; i++) {
+      template.append('/');
+      String collection = i > 0 ? segments[i - 1] : "";
+      if (ACCOUNT_COLLECTIONS.contains(collection) && !"current".equals(segments[i])) {
+        accountId = segments[i];
+        template.append(":accountId");
+      } else if (STRATEGY_COLLECTIONS.contains(collection) && !"transactions".equals(segments[i])) {
+        strategyId = segments[i];
+        template.append(":strategyId");
+      } else if ("stopouts".equals(collection)) {
+        template.append(":reason");
+      } else {
+        template.append(segments[i]);
+      }
+    }
+    return new UrlTemplate(template.toString(), accountId, strategyId);
+  }
+}
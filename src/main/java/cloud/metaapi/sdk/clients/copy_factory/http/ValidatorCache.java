@@ -0,0 +1,85 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of decoded responses and their validators used to make conditional requests. Least recently used
+ * entries are evicted first
+ */
+class ValidatorCache {
+
+  /**
+   * Cached response
+   */
+  static class Entry {
+    /**
+     * Value of ETag header, or {@code null}
+     */
+    final String etag;
+    /**
+     * Value of Last-Modified header, or {@code null}
+     */
+    final String lastModified;
+    /**
+     * Decoded response
+     */
+    final Object value;
+
+    /**
+     * Constructs cached response
+     * @param etag value of ETag header, or {@code null}
+     * @param lastModified value of Last-Modified header, or {@code null}
+     * @param value decoded response
+     */
+    Entry(String etag, String lastModified, Object value) {
+      this.etag = etag;
+      this.lastModified = lastModified;
+      this.value = value;
+    }
+  }
+
+  private Map<Object, Entry> entries;
+
+  /**
+   * Constructs cache
+   * @param maxEntries maximum number of entries
+   */
+  ValidatorCache(int maxEntries) {
+    entries = Collections.synchronizedMap(new LinkedHashMap<Object, ValidatorCache.Entry>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Object, ValidatorCache.Entry> eldest) {
+        return size() > maxEntries;
+      }
+    });
+  }
+
+  /**
+   * Returns cached response
+   * @param key request key
+   * @return cached response, or {@code null}
+   */
+  Entry get(Object key) {
+    return entries.get(key);
+  }
+
+  /**
+   * Caches a response
+   * @param key request key
+   * @param entry response
+   */
+  void put(Object key, Entry entry) {
+    entries.put(key, entry);
+  }
+
+  /**
+   * Returns number of cached responses
+   * @return number of cached responses
+   */
+  int size() {
+    return entries.size();
+  }
+}
@@ -0,0 +1,46 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Provides access to virtual threads on JDK 21+. The SDK is compiled for Java 8, so the virtual thread executor is
+ * looked up at runtime and is not available on older JDKs
+ */
+public class VirtualThreads {
+
+  private static Method newExecutorMethod = findNewExecutorMethod();
+
+  /**
+   * Checks whether virtual threads are supported by the current JDK
+   * @return {@code true} if virtual threads are supported
+   */
+  public static boolean isSupported() {
+    return newExecutorMethod != null;
+  }
+
+  /**
+   * Creates executor which starts a new virtual thread for each task
+   * @return virtual thread executor
+   * @throws UnsupportedOperationException if virtual threads are not supported by the current JDK
+   */
+  public static ExecutorService newExecutor() {
+    if (newExecutorMethod == null) {
+      throw new UnsupportedOperationException("Virtual threads require JDK 21 or newer");
+    }
+    try {
+      return (ExecutorService) newExecutorMethod.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new UnsupportedOperationException("Failed to create virtual thread executor", e);
+    }
+  }
+
+  private static Method findNewExecutorMethod() {
+    try {
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+}
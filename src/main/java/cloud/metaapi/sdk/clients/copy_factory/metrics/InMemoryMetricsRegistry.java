@@ -0,0 +1,120 @@
+package cloud.metaapi.sdk.clients.copy_factory.metrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics registry keeping metrics in memory. Uses lock-free counters, so that recording adds no contention between
+ * request threads
+ */
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+
+  private static final int BUCKET_COUNT = OperationMetrics.LATENCY_BUCKET_BOUNDS_IN_MILLISECONDS.length + 1;
+  private Map<String, Counters> operations = new ConcurrentHashMap<>();
+
+  @Override
+  public void recordCall(String operation, long durationInNanos, int retries, Throwable error) {
+    Counters counters = getCounters(operation);
+    counters.count.increment();
+    counters.retries.add(retries);
+    counters.totalLatency.add(durationInNanos);
+    counters.latencyHistogram[getBucket(TimeUnit.NANOSECONDS.toMillis(durationInNanos))].increment();
+    if (error != null) {
+      counters.errors.computeIfAbsent(error.getClass().getSimpleName(), type -> new LongAdder()).increment();
+    }
+  }
+
+  @Override
+  public void recordResponse(String operation, long responseBytes) {
+    getCounters(operation).responseBytes.add(responseBytes);
+  }
+
+  @Override
+  public void recordDecode(String operation, long durationInNanos) {
+    Counters counters = getCounters(operation);
+    counters.decodeCount.increment();
+    counters.totalDecodeTime.add(durationInNanos);
+  }
+
+  /**
+   * Returns metrics of an operation
+   * @param operation operation name
+   * @return operation metrics snapshot, or {@code null} if nothing was recorded for the operation
+   */
+  public OperationMetrics getOperationMetrics(String operation) {
+    Counters counters = operations.get(operation);
+    return counters != null ? counters.snapshot(operation) : null;
+  }
+
+  /**
+   * Returns metrics of all operations
+   * @return operation metrics snapshots
+   */
+  public List<OperationMetrics> getMetrics() {
+    List<OperationMetrics> result = new ArrayList<>();
+    operations.forEach((operation, counters) -> result.add(counters.snapshot(operation)));
+    return result;
+  }
+
+  /**
+   * Resets all metrics
+   */
+  public void reset() {
+    operations.clear();
+  }
+
+  private Counters getCounters(String operation) {
+    Counters counters = operations.get(operation);
+    return counters != null ? counters : operations.computeIfAbsent(operation, key -> new Counters());
+  }
+
+  private static int getBucket(long durationInMilliseconds) {
+    long[] bounds = OperationMetrics.LATENCY_BUCKET_BOUNDS_IN_MILLISECONDS;
+    for (int i = 0; i < bounds.length; i++) {
+      if (durationInMilliseconds <= bounds[i]) {
+        return i;
+      }
+    }
+    return bounds.length;
+  }
+
+  private static class Counters {
+    private LongAdder count = new LongAdder();
+    private Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private LongAdder retries = new LongAdder();
+    private LongAdder[] latencyHistogram = new LongAdder[BUCKET_COUNT];
+    private LongAdder totalLatency = new LongAdder();
+    private LongAdder responseBytes = new LongAdder();
+    private LongAdder decodeCount = new LongAdder();
+    private LongAdder totalDecodeTime = new LongAdder();
+
+    private Counters() {
+      for (int i = 0; i < latencyHistogram.length; i++) {
+        latencyHistogram[i] = new LongAdder();
+      }
+    }
+
+    private OperationMetrics snapshot(String operation) {
+      OperationMetrics metrics = new OperationMetrics();
+      metrics.operation = operation;
+      metrics.count = count.sum();
+      metrics.errors = new HashMap<>();
+      errors.forEach((type, counter) -> metrics.errors.put(type, counter.sum()));
+      metrics.retries = retries.sum();
+      metrics.latencyHistogram = new long[latencyHistogram.length];
+      for (int i = 0; i < latencyHistogram.length; i++) {
+        metrics.latencyHistogram[i] = latencyHistogram[i].sum();
+      }
+      metrics.totalLatencyInNanos = totalLatency.sum();
+      metrics.responseBytes = responseBytes.sum();
+      metrics.decodeCount = decodeCount.sum();
+      metrics.totalDecodeTimeInNanos = totalDecodeTime.sum();
+      return metrics;
+    }
+  }
+}
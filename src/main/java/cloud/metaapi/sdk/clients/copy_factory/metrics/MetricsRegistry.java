@@ -0,0 +1,31 @@
+package cloud.metaapi.sdk.clients.copy_factory.metrics;
+
+/**
+ * Registry of CopyFactory API request metrics. Implement this interface to forward metrics to a metrics backend.
+ * Methods are called concurrently from request threads, so implementations should be thread-safe and cheap
+ */
+public interface MetricsRegistry {
+
+  /**
+   * Records completed API call
+   * @param operation operation name, e.g. {@code getUserLog}
+   * @param durationInNanos call duration including retries in nanoseconds
+   * @param retries number of retries made
+   * @param error error the call failed with, or {@code null} if the call succeeded
+   */
+  void recordCall(String operation, long durationInNanos, int retries, Throwable error);
+
+  /**
+   * Records received response
+   * @param operation operation name
+   * @param responseBytes response size in bytes
+   */
+  void recordResponse(String operation, long responseBytes);
+
+  /**
+   * Records response decoding
+   * @param operation operation name
+   * @param durationInNanos decoding duration in nanoseconds
+   */
+  void recordDecode(String operation, long durationInNanos);
+}
@@ -0,0 +1,78 @@
+package cloud.metaapi.sdk.clients.copy_factory.metrics;
+
+import java.util.Map;
+
+/**
+ * Snapshot of metrics of an API operation
+ */
+public class OperationMetrics {
+
+  /**
+   * Upper bounds of latency histogram buckets in milliseconds. The last bucket has no upper bound
+   */
+  public static final long[] LATENCY_BUCKET_BOUNDS_IN_MILLISECONDS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000,
+    5000, 10000, 30000, 60000};
+
+  /**
+   * Operation name
+   */
+  public String operation;
+  /**
+   * Number of calls
+   */
+  public long count;
+  /**
+   * Number of failed calls by error type
+   */
+  public Map<String, Long> errors;
+  /**
+   * Number of retries
+   */
+  public long retries;
+  /**
+   * Number of calls by latency bucket, see {@link #LATENCY_BUCKET_BOUNDS_IN_MILLISECONDS}
+   */
+  public long[] latencyHistogram;
+  /**
+   * Total latency of calls in nanoseconds
+   */
+  public long totalLatencyInNanos;
+  /**
+   * Total size of responses in bytes
+   */
+  public long responseBytes;
+  /**
+   * Number of decoded responses
+   */
+  public long decodeCount;
+  /**
+   * Total response decoding time in nanoseconds
+   */
+  public long totalDecodeTimeInNanos;
+
+  /**
+   * Returns total number of failed calls
+   * @return number of failed calls
+   */
+  public long getErrorCount() {
+    return errors.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  /**
+   * Estimates latency percentile from the histogram
+   * @param percentile percentile, from 0 to 100
+   * @return upper bound of the histogram bucket containing the percentile in milliseconds, or
+   * {@link Long#MAX_VALUE} if it is in the last bucket
+   */
+  public long getLatencyPercentileInMilliseconds(double percentile) {
+    long rank = (long) Math.ceil(percentile / 100 * count);
+    long seen = 0;
+    for (int i = 0; i < LATENCY_BUCKET_BOUNDS_IN_MILLISECONDS.length; i++) {
+      seen += latencyHistogram[i];
+      if (seen >= rank) {
+        return LATENCY_BUCKET_BOUNDS_IN_MILLISECONDS[i];
+      }
+    }
+    return Long.MAX_VALUE;
+  }
+}
@@ -0,0 +1,97 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.compact;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyStopout;
+
+/**
+ * Compact flavor of {@link CopyFactoryStrategyStopout} with the strategy flattened, times in epoch milliseconds and
+ * the reason as an enum
+ */
+@JsonDeserialize(using = CompactStopout.Deserializer.class)
+public class CompactStopout {
+  /**
+   * Id of the strategy which was stopped out
+   */
+  public String strategyId;
+  /**
+   * Name of the strategy which was stopped out, or {@code null}
+   */
+  public String strategyName;
+  /**
+   * Stopout reason, or {@code null}
+   */
+  public StopoutReason reason;
+  /**
+   * Human-readable description of the stopout reason, or {@code null}
+   */
+  public String reasonDescription;
+  /**
+   * Time the strategy was stopped at in epoch milliseconds, or 0
+   */
+  public long stoppedAt;
+  /**
+   * Time the strategy is stopped till in epoch milliseconds, or 0
+   */
+  public long stoppedTill;
+
+  /**
+   * Decodes compact stopouts from JSON of {@link CopyFactoryStrategyStopout}
+   */
+  public static class Deserializer extends StdDeserializer<CompactStopout> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs deserializer
+     */
+    public Deserializer() {
+      super(CompactStopout.class);
+    }
+
+    @Override
+    public CompactStopout deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+      CompactStopout value = new CompactStopout();
+      for (String name = JsonFields.firstField(parser); name != null; name = parser.nextFieldName()) {
+        JsonToken token = parser.nextToken();
+        switch (name) {
+          case "strategy":
+            if (token == JsonToken.START_OBJECT) {
+              for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                parser.nextToken();
+                if (field.equals("id")) {
+                  value.strategyId = JsonFields.readIdentifier(parser, context);
+                } else if (field.equals("name")) {
+                  value.strategyName = JsonFields.readIdentifier(parser, context);
+                } else {
+                  parser.skipChildren();
+                }
+              }
+            }
+            break;
+          case "reason":
+            value.reason = StopoutReason.of(JsonFields.readString(parser));
+            break;
+          case "reasonDescription":
+            value.reasonDescription = JsonFields.readString(parser);
+            break;
+          case "stoppedAt":
+            value.stoppedAt = JsonFields.readTime(parser);
+            break;
+          case "stoppedTill":
+            value.stoppedTill = JsonFields.readTime(parser);
+            break;
+          default:
+            parser.skipChildren();
+        }
+      }
+      return value;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.compact;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Parses ISO 8601 times of API responses into epoch milliseconds. UTC times with optional fractions of a second, which
+ * the API returns, are parsed without allocations, other times are parsed with {@link OffsetDateTime}
+ */
+class CompactTimes {
+
+  private CompactTimes() {}
+
+  /**
+   * Parses time
+   * @param value ISO 8601 time
+   * @return time in epoch milliseconds
+   */
+  static long parse(String value) {
+    int length = value.length();
+    if (length >= 20 && value.charAt(length - 1) == 'Z' && value.charAt(4) == '-' && value.charAt(7) == '-'
+      && value.charAt(10) == 'T' && value.charAt(13) == ':' && value.charAt(16) == ':') {
+      int year = digits(value, 0, 4);
+      int month = digits(value, 5, 7);
+      int day = digits(value, 8, 10);
+      int hour = digits(value, 11, 13);
+      int minute = digits(value, 14, 16);
+      int second = digits(value, 17, 19);
+      int millis = 0;
+      boolean valid = year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= daysInMonth(year, month) && hour >= 0
+        && hour < 24 && minute >= 0 && minute < 60 && second >= 0 && second < 60;
+      if (length > 20) {
+        int fractionDigits = length - 21;
+        valid &= value.charAt(19) == '.' && fractionDigits >= 1 && fractionDigits <= 9
+          && digits(value, 20, length - 1) >= 0;
+        if (valid) {
+          millis = digits(value, 20, 20 + Math.min(fractionDigits, 3));
+          for (int i = fractionDigits; i < 3; i++) {
+            millis *= 10;
+          }
+        }
+      }
+      if (valid) {
+        return ((daysFromEpoch(year, month, day) * 24 + hour) * 60 + minute) * 60000L + second * 1000L + millis;
+      }
+    }
+    return OffsetDateTime.parse(value).toInstant().toEpochMilli();
+  }
+
+  private static int digits(String value, int start, int end) {
+    int result = 0;
+    for (int i = start; i < end; i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      result = result * 10 + c - '0';
+    }
+    return result;
+  }
+
+  private static int daysInMonth(int year, int month) {
+    if (month == 2) {
+      return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+    }
+    return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+  }
+
+  /**
+   * Returns number of days from 1970-01-01 to a date of the proleptic Gregorian calendar
+   */
+  private static long daysFromEpoch(int year, int month, int day) {
+    long y = month <= 2 ? year - 1 : year;
+    long era = Math.floorDiv(y, 400);
+    long yearOfEra = y - era * 400;
+    long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+    long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * 146097 + dayOfEra - 719468;
+  }
+}
@@ -0,0 +1,326 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.compact;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction.DealType;
+
+/**
+ * Compact flavor of {@link CopyFactoryTransaction} with the subscriber, provider, strategy and metrics flattened, the
+ * time in epoch milliseconds and optional numbers as primitives which are {@link Double#NaN} when absent
+ */
+@JsonDeserialize(using = CompactTransaction.Deserializer.class)
+public class CompactTransaction {
+  /**
+   * Transaction id
+   */
+  public String id;
+  /**
+   * Transaction type, or {@code null} if the type is not known to this SDK version
+   */
+  public DealType type;
+  /**
+   * Transaction time in epoch milliseconds
+   */
+  public long time;
+  /**
+   * CopyFactory account id
+   */
+  public String accountId;
+  /**
+   * Symbol traded, or {@code null}
+   */
+  public String symbol;
+  /**
+   * Strategy subscriber id
+   */
+  public String subscriberId;
+  /**
+   * Strategy subscriber name, or {@code null}
+   */
+  public String subscriberName;
+  /**
+   * Demo account flag
+   */
+  public boolean demo;
+  /**
+   * Strategy provider id
+   */
+  public String providerId;
+  /**
+   * Strategy provider name, or {@code null}
+   */
+  public String providerName;
+  /**
+   * Strategy id
+   */
+  public String strategyId;
+  /**
+   * Strategy name, or {@code null}
+   */
+  public String strategyName;
+  /**
+   * Source position id, or {@code null}
+   */
+  public String positionId;
+  /**
+   * High-water mark strategy balance improvement
+   */
+  public double improvement;
+  /**
+   * Provider commission
+   */
+  public double providerCommission;
+  /**
+   * Platform commission
+   */
+  public double platformCommission;
+  /**
+   * Trade volume, or {@link Double#NaN}
+   */
+  public double quantity = Double.NaN;
+  /**
+   * Incoming provider commission, or {@link Double#NaN}
+   */
+  public double incomingProviderCommission = Double.NaN;
+  /**
+   * Incoming platform commission, or {@link Double#NaN}
+   */
+  public double incomingPlatformCommission = Double.NaN;
+  /**
+   * Trade lot price, or {@link Double#NaN}
+   */
+  public double lotPrice = Double.NaN;
+  /**
+   * Trade tick price, or {@link Double#NaN}
+   */
+  public double tickPrice = Double.NaN;
+  /**
+   * Trade amount, or {@link Double#NaN}
+   */
+  public double amount = Double.NaN;
+  /**
+   * Trade commission, or {@link Double#NaN}
+   */
+  public double commission = Double.NaN;
+  /**
+   * Swap, or {@link Double#NaN}
+   */
+  public double swap = Double.NaN;
+  /**
+   * Profit, or {@link Double#NaN}
+   */
+  public double profit = Double.NaN;
+  /**
+   * Trade copying latency in milliseconds based on transaction time provided by broker, or {@link Double#NaN}
+   */
+  public double tradeCopyingLatency = Double.NaN;
+  /**
+   * Trade copying slippage in basis points, or {@link Double#NaN}
+   */
+  public double tradeCopyingSlippageInBasisPoints = Double.NaN;
+  /**
+   * Trade copying slippage in account currency, or {@link Double#NaN}
+   */
+  public double tradeCopyingSlippageInAccountCurrency = Double.NaN;
+  /**
+   * Trade signal latency introduced by broker and MT platform in milliseconds, or {@link Double#NaN}
+   */
+  public double mtAndBrokerSignalLatency = Double.NaN;
+  /**
+   * Trade algorithm latency introduced by CopyFactory servers in milliseconds, or {@link Double#NaN}
+   */
+  public double tradeAlgorithmLatency = Double.NaN;
+  /**
+   * Trade latency for a copied trade introduced by broker and MT platform in milliseconds, or {@link Double#NaN}
+   */
+  public double mtAndBrokerTradeLatency = Double.NaN;
+  /**
+   * Total trade copying latency in milliseconds, or {@link Double#NaN}
+   */
+  public double totalLatency = Double.NaN;
+
+  /**
+   * Decodes compact transactions from JSON of {@link CopyFactoryTransaction}
+   */
+  public static class Deserializer extends StdDeserializer<CompactTransaction> {
+
+    private static final long serialVersionUID = 1L;
+    private static final DealType[] TYPES = DealType.values();
+
+    /**
+     * Constructs deserializer
+     */
+    public Deserializer() {
+      super(CompactTransaction.class);
+    }
+
+    @Override
+    public CompactTransaction deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+      CompactTransaction value = new CompactTransaction();
+      for (String name = JsonFields.firstField(parser); name != null; name = parser.nextFieldName()) {
+        JsonToken token = parser.nextToken();
+        switch (name) {
+          case "id":
+            value.id = JsonFields.readString(parser);
+            break;
+          case "type":
+            value.type = readType(JsonFields.readString(parser));
+            break;
+          case "time":
+            value.time = JsonFields.readTime(parser);
+            break;
+          case "accountId":
+            value.accountId = JsonFields.readIdentifier(parser, context);
+            break;
+          case "symbol":
+            value.symbol = JsonFields.readIdentifier(parser, context);
+            break;
+          case "subscriber":
+          case "provider":
+          case "strategy":
+            readIdAndName(parser, context, token, name, value);
+            break;
+          case "demo":
+            value.demo = token == JsonToken.VALUE_TRUE;
+            break;
+          case "positionId":
+            value.positionId = JsonFields.readString(parser);
+            break;
+          case "improvement":
+            value.improvement = readPrimitive(parser);
+            break;
+          case "providerCommission":
+            value.providerCommission = readPrimitive(parser);
+            break;
+          case "platformCommission":
+            value.platformCommission = readPrimitive(parser);
+            break;
+          case "quantity":
+            value.quantity = JsonFields.readDouble(parser);
+            break;
+          case "incomingProviderCommission":
+            value.incomingProviderCommission = JsonFields.readDouble(parser);
+            break;
+          case "incomingPlatformCommission":
+            value.incomingPlatformCommission = JsonFields.readDouble(parser);
+            break;
+          case "lotPrice":
+            value.lotPrice = JsonFields.readDouble(parser);
+            break;
+          case "tickPrice":
+            value.tickPrice = JsonFields.readDouble(parser);
+            break;
+          case "amount":
+            value.amount = JsonFields.readDouble(parser);
+            break;
+          case "commission":
+            value.commission = JsonFields.readDouble(parser);
+            break;
+          case "swap":
+            value.swap = JsonFields.readDouble(parser);
+            break;
+          case "profit":
+            value.profit = JsonFields.readDouble(parser);
+            break;
+          case "metrics":
+            readMetrics(parser, token, value);
+            break;
+          default:
+            parser.skipChildren();
+        }
+      }
+      return value;
+    }
+
+    private static void readIdAndName(JsonParser parser, DeserializationContext context, JsonToken token,
+      String object, CompactTransaction value) throws IOException {
+      if (token != JsonToken.START_OBJECT) {
+        parser.skipChildren();
+        return;
+      }
+      for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+        parser.nextToken();
+        if (field.equals("id") || field.equals("name")) {
+          String text = JsonFields.readIdentifier(parser, context);
+          boolean id = field.equals("id");
+          if (object.equals("subscriber")) {
+            if (id) {
+              value.subscriberId = text;
+            } else {
+              value.subscriberName = text;
+            }
+          } else if (object.equals("provider")) {
+            if (id) {
+              value.providerId = text;
+            } else {
+              value.providerName = text;
+            }
+          } else if (id) {
+            value.strategyId = text;
+          } else {
+            value.strategyName = text;
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+
+    private static void readMetrics(JsonParser parser, JsonToken token, CompactTransaction value)
+      throws IOException {
+      if (token != JsonToken.START_OBJECT) {
+        parser.skipChildren();
+        return;
+      }
+      for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+        parser.nextToken();
+        switch (field) {
+          case "tradeCopyingLatency":
+            value.tradeCopyingLatency = JsonFields.readDouble(parser);
+            break;
+          case "tradeCopyingSlippageInBasisPoints":
+            value.tradeCopyingSlippageInBasisPoints = JsonFields.readDouble(parser);
+            break;
+          case "tradeCopyingSlippageInAccountCurrency":
+            value.tradeCopyingSlippageInAccountCurrency = JsonFields.readDouble(parser);
+            break;
+          case "mtAndBrokerSignalLatency":
+            value.mtAndBrokerSignalLatency = JsonFields.readDouble(parser);
+            break;
+          case "tradeAlgorithmLatency":
+            value.tradeAlgorithmLatency = JsonFields.readDouble(parser);
+            break;
+          case "mtAndBrokerTradeLatency":
+            value.mtAndBrokerTradeLatency = JsonFields.readDouble(parser);
+            break;
+          case "totalLatency":
+            value.totalLatency = JsonFields.readDouble(parser);
+            break;
+          default:
+            parser.skipChildren();
+        }
+      }
+    }
+
+    private static double readPrimitive(JsonParser parser) throws IOException {
+      double result = JsonFields.readDouble(parser);
+      return Double.isNaN(result) ? 0 : result;
+    }
+
+    private static DealType readType(String value) {
+      for (DealType type : TYPES) {
+        if (type.name().equals(value)) {
+          return type;
+        }
+      }
+      return null;
+    }
+  }
+}
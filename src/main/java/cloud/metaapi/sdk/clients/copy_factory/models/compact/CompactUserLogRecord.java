@@ -0,0 +1,127 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.compact;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryUserLogRecord;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryUserLogRecord.LogLevel;
+
+/**
+ * Compact flavor of {@link CopyFactoryUserLogRecord} with the time in epoch milliseconds, the trade side and type as
+ * enums and the open price as a primitive
+ */
+@JsonDeserialize(using = CompactUserLogRecord.Deserializer.class)
+public class CompactUserLogRecord {
+  /**
+   * Log record time in epoch milliseconds
+   */
+  public long time;
+  /**
+   * Log level, or {@code null} if the level is not known to this SDK version
+   */
+  public LogLevel level;
+  /**
+   * Log message
+   */
+  public String message;
+  /**
+   * Symbol traded, or {@code null}
+   */
+  public String symbol;
+  /**
+   * Id of the strategy event relates to, or {@code null}
+   */
+  public String strategyId;
+  /**
+   * Name of the strategy event relates to, or {@code null}
+   */
+  public String strategyName;
+  /**
+   * Position id event relates to, or {@code null}
+   */
+  public String positionId;
+  /**
+   * Side of the trade event relates to, or {@code null}
+   */
+  public TradeSide side;
+  /**
+   * Type of the trade event relates to, or {@code null}
+   */
+  public OrderType type;
+  /**
+   * Open price for limit and stop orders, or {@link Double#NaN}
+   */
+  public double openPrice = Double.NaN;
+
+  /**
+   * Decodes compact user log records from JSON of {@link CopyFactoryUserLogRecord}
+   */
+  public static class Deserializer extends StdDeserializer<CompactUserLogRecord> {
+
+    private static final long serialVersionUID = 1L;
+    private static final LogLevel[] LEVELS = LogLevel.values();
+
+    /**
+     * Constructs deserializer
+     */
+    public Deserializer() {
+      super(CompactUserLogRecord.class);
+    }
+
+    @Override
+    public CompactUserLogRecord deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+      CompactUserLogRecord value = new CompactUserLogRecord();
+      for (String name = JsonFields.firstField(parser); name != null; name = parser.nextFieldName()) {
+        parser.nextToken();
+        switch (name) {
+          case "time":
+            value.time = JsonFields.readTime(parser);
+            break;
+          case "level":
+            value.level = readLevel(JsonFields.readString(parser));
+            break;
+          case "message":
+            value.message = JsonFields.readString(parser);
+            break;
+          case "symbol":
+            value.symbol = JsonFields.readIdentifier(parser, context);
+            break;
+          case "strategyId":
+            value.strategyId = JsonFields.readIdentifier(parser, context);
+            break;
+          case "strategyName":
+            value.strategyName = JsonFields.readIdentifier(parser, context);
+            break;
+          case "positionId":
+            value.positionId = JsonFields.readString(parser);
+            break;
+          case "side":
+            value.side = TradeSide.of(JsonFields.readString(parser));
+            break;
+          case "type":
+            value.type = OrderType.of(JsonFields.readString(parser));
+            break;
+          case "openPrice":
+            value.openPrice = JsonFields.readDouble(parser);
+            break;
+          default:
+            parser.skipChildren();
+        }
+      }
+      return value;
+    }
+
+    private static LogLevel readLevel(String value) {
+      for (LogLevel level : LEVELS) {
+        if (level.name().equals(value)) {
+          return level;
+        }
+      }
+      return null;
+    }
+  }
+}
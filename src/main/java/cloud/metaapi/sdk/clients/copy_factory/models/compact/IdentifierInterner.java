@@ -0,0 +1,17 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.compact;
+
+/**
+ * Table of shared identifier strings. Streaming deserializers of compact models look identifiers up in the interner
+ * set as the {@link IdentifierInterner} attribute of the reader, and decode them as they are if there is none
+ */
+public interface IdentifierInterner {
+
+  /**
+   * Returns the shared string consisting of the given characters
+   * @param characters character buffer
+   * @param offset offset of the first character
+   * @param length number of characters
+   * @return shared string
+   */
+  String intern(char[] characters, int offset, int length);
+}
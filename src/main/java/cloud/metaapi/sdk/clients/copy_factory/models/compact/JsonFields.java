@@ -0,0 +1,72 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.compact;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+/**
+ * Helpers of streaming deserializers of compact models, which read JSON tokens straight into primitive fields without
+ * building intermediate objects
+ */
+class JsonFields {
+
+  private JsonFields() {}
+
+  /**
+   * Returns name of the first field of the object the parser is positioned at
+   * @param parser parser positioned at the start of an object or at its first field name
+   * @return field name, or {@code null} if the object is empty
+   * @throws IOException if failed to read the object
+   */
+  static String firstField(JsonParser parser) throws IOException {
+    return parser.isExpectedStartObjectToken() ? parser.nextFieldName() : parser.currentName();
+  }
+
+  /**
+   * Reads string value
+   * @param parser parser positioned at the value
+   * @return string, or {@code null}
+   * @throws IOException if failed to read the value
+   */
+  static String readString(JsonParser parser) throws IOException {
+    return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getText();
+  }
+
+  /**
+   * Reads identifier value, deduplicating it through the {@link IdentifierInterner} attribute of the deserialization
+   * context if there is one
+   * @param parser parser positioned at the value
+   * @param context deserialization context
+   * @return string, or {@code null}
+   * @throws IOException if failed to read the value
+   */
+  static String readIdentifier(JsonParser parser, DeserializationContext context) throws IOException {
+    IdentifierInterner interner = (IdentifierInterner) context.getAttribute(IdentifierInterner.class);
+    if (interner == null || parser.currentToken() != JsonToken.VALUE_STRING) {
+      return readString(parser);
+    }
+    return interner.intern(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+  }
+
+  /**
+   * Reads number value
+   * @param parser parser positioned at the value
+   * @return number, or {@link Double#NaN} if the value is {@code null}
+   * @throws IOException if failed to read the value
+   */
+  static double readDouble(JsonParser parser) throws IOException {
+    return parser.currentToken() == JsonToken.VALUE_NULL ? Double.NaN : parser.getDoubleValue();
+  }
+
+  /**
+   * Reads ISO 8601 time value
+   * @param parser parser positioned at the value
+   * @return time in epoch milliseconds, or 0 if the value is {@code null}
+   * @throws IOException if failed to read the value
+   */
+  static long readTime(JsonParser parser) throws IOException {
+    return parser.currentToken() == JsonToken.VALUE_NULL ? 0 : CompactTimes.parse(parser.getText());
+  }
+}
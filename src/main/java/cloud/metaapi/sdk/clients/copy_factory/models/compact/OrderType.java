@@ -0,0 +1,46 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.compact;
+
+/**
+ * Type of a trade a user log record relates to
+ */
+public enum OrderType {
+  MARKET("market"),
+  LIMIT("limit"),
+  STOP("stop"),
+  /**
+   * Type not known to this SDK version
+   */
+  UNKNOWN(null);
+
+  private static final OrderType[] VALUES = values();
+  private final String value;
+
+  private OrderType(String value) {
+    this.value = value;
+  }
+
+  /**
+   * Returns API value of the type
+   * @return API value, or {@code null} for {@link #UNKNOWN}
+   */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Returns type of an API value
+   * @param value API value, or {@code null}
+   * @return type, {@link #UNKNOWN} if the value is not known, or {@code null} if the value is {@code null}
+   */
+  public static OrderType of(String value) {
+    if (value == null) {
+      return null;
+    }
+    for (OrderType type : VALUES) {
+      if (type.value != null && type.value.equals(value)) {
+        return type;
+      }
+    }
+    return UNKNOWN;
+  }
+}
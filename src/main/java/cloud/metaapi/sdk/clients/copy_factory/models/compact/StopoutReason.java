@@ -0,0 +1,50 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.compact;
+
+/**
+ * Stopout reason
+ */
+public enum StopoutReason {
+  YEARLY_BALANCE("yearly-balance"),
+  MONTHLY_BALANCE("monthly-balance"),
+  DAILY_BALANCE("daily-balance"),
+  YEARLY_EQUITY("yearly-equity"),
+  MONTHLY_EQUITY("monthly-equity"),
+  DAILY_EQUITY("daily-equity"),
+  MAX_DRAWDOWN("max-drawdown"),
+  /**
+   * Reason not known to this SDK version
+   */
+  UNKNOWN(null);
+
+  private static final StopoutReason[] VALUES = values();
+  private final String value;
+
+  private StopoutReason(String value) {
+    this.value = value;
+  }
+
+  /**
+   * Returns API value of the reason
+   * @return API value, or {@code null} for {@link #UNKNOWN}
+   */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Returns reason of an API value
+   * @param value API value, or {@code null}
+   * @return reason, {@link #UNKNOWN} if the value is not known, or {@code null} if the value is {@code null}
+   */
+  public static StopoutReason of(String value) {
+    if (value == null) {
+      return null;
+    }
+    for (StopoutReason reason : VALUES) {
+      if (reason.value != null && reason.value.equals(value)) {
+        return reason;
+      }
+    }
+    return UNKNOWN;
+  }
+}
@@ -0,0 +1,46 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.compact;
+
+/**
+ * Side of a trade a user log record relates to
+ */
+public enum TradeSide {
+  BUY("buy"),
+  SELL("sell"),
+  CLOSE("close"),
+  /**
+   * Side not known to this SDK version
+   */
+  UNKNOWN(null);
+
+  private static final TradeSide[] VALUES = values();
+  private final String value;
+
+  private TradeSide(String value) {
+    this.value = value;
+  }
+
+  /**
+   * Returns API value of the side
+   * @return API value, or {@code null} for {@link #UNKNOWN}
+   */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Returns side of an API value
+   * @param value API value, or {@code null}
+   * @return side, {@link #UNKNOWN} if the value is not known, or {@code null} if the value is {@code null}
+   */
+  public static TradeSide of(String value) {
+    if (value == null) {
+      return null;
+    }
+    for (TradeSide side : VALUES) {
+      if (side.value != null && side.value.equals(value)) {
+        return side;
+      }
+    }
+    return UNKNOWN;
+  }
+}
@@ -0,0 +1,187 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryAccount;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryAccount}
+ */
+public final class AccountSnapshot extends Snapshot {
+  /**
+   * Account unique identifier
+   */
+  public final String id;
+  /**
+   * Account human-readable name
+   */
+  public final String name;
+  /**
+   * Id of the MetaApi MetaTrader account this copy trading account is connected to
+   */
+  public final String connectionId;
+  /**
+   * Optional fraction of reserved margin to reduce a risk of margin call, or {@code null}. Default is to reserve no
+   * margin. We recommend using maxLeverage setting instead. Specified as a fraction of balance thus the value is
+   * usually greater than 1
+   */
+  public final Double reservedMarginFraction;
+  /**
+   * Optional phone numbers to send sms notifications to, or {@code null}. Leave empty to receive no sms notifications
+   */
+  public final List<String> phoneNumbers;
+  /**
+   * Optional value of minimal trade size allowed, expressed in amount of account currency, or {@code null}. Can be
+   * useful if your broker charges a fixed fee per transaction so that you can skip small trades with high broker
+   * commission rates. Default is 100
+   */
+  public final Double minTradeAmount;
+  /**
+   * Optional setting which instructs the application not to open new positions. by-symbol means that it is still
+   * allowed to open new positions with a symbol equal to the symbol of an existing strategy position (can be used to
+   * gracefully exit strategies trading in netting mode or placing a series of related trades per symbol). One of
+   * by-position, by-symbol or leave empty to disable this setting.
+   */
+  public final String closeOnly;
+  /**
+   * Optional stop out setting, or {@code null}. All trading will be terminated and positions closed once equity
+   * drawdown reaches this value
+   */
+  public final StopOutRiskSnapshot stopOutRisk;
+  /**
+   * Optional account risk limits, or {@code null}. You can configure trading to be stopped once total drawdown
+   * generated during specific period is exceeded. Can be specified either for balance or equity drawdown
+   */
+  public final List<RiskLimitSnapshot> riskLimits;
+  /**
+   * Optional setting indicating maximum leverage allowed when opening a new positions, or {@code null}. Any trade which
+   * results in a higher leverage will be discarded.
+   */
+  public final Double maxLeverage;
+  /**
+   * Flag indicating whether stop loss should be copied. Default ({@code null}) is to copy stop loss
+   */
+  public final Boolean copyStopLoss;
+  /**
+   * Flag indicating whether take profit should be copied. Default ({@code null}) is to copy take profit
+   */
+  public final Boolean copyTakeProfit;
+  /**
+   * Minimum trade volume to copy, or {@code null}. Trade signals with a smaller volume will not be copied
+   */
+  public final Double minTradeVolume;
+  /**
+   * Maximum trade volume to copy, or {@code null}. Trade signals with a larger volume will be copied with maximum
+   * volume instead
+   */
+  public final Double maxTradeVolume;
+  /**
+   * Strategy subscriptions
+   */
+  public final List<SubscriptionSnapshot> subscriptions;
+
+  private AccountSnapshot(CopyFactoryAccount model, AccountSnapshot previous) {
+    id = model._id;
+    name = model.name;
+    connectionId = model.connectionId;
+    reservedMarginFraction = model.reservedMarginFraction;
+    phoneNumbers = strings(model.phoneNumbers, previous != null ? previous.phoneNumbers : null);
+    minTradeAmount = model.minTradeAmount;
+    closeOnly = model.closeOnly;
+    stopOutRisk = StopOutRiskSnapshot.of(model.stopOutRisk, previous != null ? previous.stopOutRisk : null);
+    riskLimits = list(model.riskLimits, previous != null ? previous.riskLimits : null, RiskLimitSnapshot::of);
+    maxLeverage = model.maxLeverage;
+    copyStopLoss = model.copyStopLoss;
+    copyTakeProfit = model.copyTakeProfit;
+    minTradeVolume = model.minTradeVolume;
+    maxTradeVolume = model.maxTradeVolume;
+    subscriptions = list(model.subscriptions, previous != null ? previous.subscriptions : null,
+      SubscriptionSnapshot::of);
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static AccountSnapshot of(CopyFactoryAccount model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static AccountSnapshot of(CopyFactoryAccount model, AccountSnapshot previous) {
+    return model != null ? share(new AccountSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryAccount toModel() {
+    CopyFactoryAccount model = new CopyFactoryAccount();
+    model._id = id;
+    model.name = name;
+    model.connectionId = connectionId;
+    model.reservedMarginFraction = reservedMarginFraction;
+    model.phoneNumbers = phoneNumbers != null ? new ArrayList<>(phoneNumbers) : null;
+    model.minTradeAmount = minTradeAmount;
+    model.closeOnly = closeOnly;
+    model.stopOutRisk = stopOutRisk != null ? stopOutRisk.toModel() : null;
+    model.riskLimits = models(riskLimits, RiskLimitSnapshot::toModel);
+    model.maxLeverage = maxLeverage;
+    model.copyStopLoss = copyStopLoss;
+    model.copyTakeProfit = copyTakeProfit;
+    model.minTradeVolume = minTradeVolume;
+    model.maxTradeVolume = maxTradeVolume;
+    model.subscriptions = models(subscriptions, SubscriptionSnapshot::toModel);
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof AccountSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    AccountSnapshot snapshot = (AccountSnapshot) other;
+    return Objects.equals(id, snapshot.id) && Objects.equals(name, snapshot.name)
+      && Objects.equals(connectionId, snapshot.connectionId)
+      && Objects.equals(reservedMarginFraction, snapshot.reservedMarginFraction)
+      && Objects.equals(phoneNumbers, snapshot.phoneNumbers) && Objects.equals(minTradeAmount, snapshot.minTradeAmount)
+      && Objects.equals(closeOnly, snapshot.closeOnly) && Objects.equals(stopOutRisk, snapshot.stopOutRisk)
+      && Objects.equals(riskLimits, snapshot.riskLimits) && Objects.equals(maxLeverage, snapshot.maxLeverage)
+      && Objects.equals(copyStopLoss, snapshot.copyStopLoss) && Objects.equals(copyTakeProfit, snapshot.copyTakeProfit)
+      && Objects.equals(minTradeVolume, snapshot.minTradeVolume)
+      && Objects.equals(maxTradeVolume, snapshot.maxTradeVolume)
+      && Objects.equals(subscriptions, snapshot.subscriptions);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(id);
+    result = 31 * result + Objects.hashCode(name);
+    result = 31 * result + Objects.hashCode(connectionId);
+    result = 31 * result + Objects.hashCode(reservedMarginFraction);
+    result = 31 * result + Objects.hashCode(phoneNumbers);
+    result = 31 * result + Objects.hashCode(minTradeAmount);
+    result = 31 * result + Objects.hashCode(closeOnly);
+    result = 31 * result + Objects.hashCode(stopOutRisk);
+    result = 31 * result + Objects.hashCode(riskLimits);
+    result = 31 * result + Objects.hashCode(maxLeverage);
+    result = 31 * result + Objects.hashCode(copyStopLoss);
+    result = 31 * result + Objects.hashCode(copyTakeProfit);
+    result = 31 * result + Objects.hashCode(minTradeVolume);
+    result = 31 * result + Objects.hashCode(maxTradeVolume);
+    result = 31 * result + Objects.hashCode(subscriptions);
+    return result;
+  }
+}
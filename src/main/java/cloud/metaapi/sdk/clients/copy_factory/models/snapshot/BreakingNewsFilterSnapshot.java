@@ -0,0 +1,88 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyBreakingNewsFilter;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryStrategyBreakingNewsFilter}
+ */
+public final class BreakingNewsFilterSnapshot extends Snapshot {
+  /**
+   * List of breaking news priorities to stop trading on, or {@code null}. Leave empty to disable breaking news filter.
+   * One of high, medium, low.
+   */
+  public final List<String> priorities;
+  /**
+   * Optional time interval specifying when to force close an already open position after breaking news, or {@code
+   * null}. Default value is 60 minutes
+   */
+  public final Integer closePositionTimeGapInMinutes;
+  /**
+   * Optional time interval specifying when it is allowed to open position after calendar news, or {@code null}. Default
+   * value is 60 minutes
+   */
+  public final Integer openPositionFollowingTimeGapInMinutes;
+
+  private BreakingNewsFilterSnapshot(CopyFactoryStrategyBreakingNewsFilter model, BreakingNewsFilterSnapshot previous) {
+    priorities = strings(model.priorities, previous != null ? previous.priorities : null);
+    closePositionTimeGapInMinutes = model.closePositionTimeGapInMinutes;
+    openPositionFollowingTimeGapInMinutes = model.openPositionFollowingTimeGapInMinutes;
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static BreakingNewsFilterSnapshot of(CopyFactoryStrategyBreakingNewsFilter model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static BreakingNewsFilterSnapshot of(CopyFactoryStrategyBreakingNewsFilter model,
+    BreakingNewsFilterSnapshot previous) {
+    return model != null ? share(new BreakingNewsFilterSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryStrategyBreakingNewsFilter toModel() {
+    CopyFactoryStrategyBreakingNewsFilter model = new CopyFactoryStrategyBreakingNewsFilter();
+    model.priorities = priorities != null ? new ArrayList<>(priorities) : null;
+    model.closePositionTimeGapInMinutes = closePositionTimeGapInMinutes;
+    model.openPositionFollowingTimeGapInMinutes = openPositionFollowingTimeGapInMinutes;
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof BreakingNewsFilterSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    BreakingNewsFilterSnapshot snapshot = (BreakingNewsFilterSnapshot) other;
+    return Objects.equals(priorities, snapshot.priorities)
+      && Objects.equals(closePositionTimeGapInMinutes, snapshot.closePositionTimeGapInMinutes)
+      && Objects.equals(openPositionFollowingTimeGapInMinutes, snapshot.openPositionFollowingTimeGapInMinutes);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(priorities);
+    result = 31 * result + Objects.hashCode(closePositionTimeGapInMinutes);
+    result = 31 * result + Objects.hashCode(openPositionFollowingTimeGapInMinutes);
+    return result;
+  }
+}
@@ -0,0 +1,97 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyCalendarNewsFilter;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryStrategyCalendarNewsFilter}
+ */
+public final class CalendarNewsFilterSnapshot extends Snapshot {
+  /**
+   * List of calendar news priorities to stop trading on, or {@code null}, leave empty to disable calendar news filter.
+   * One of election, high, medium, low.
+   */
+  public final List<String> priorities;
+  /**
+   * Optional time interval specifying when to force close an already open position before calendar news, or {@code
+   * null}. Default value is 60 minutes
+   */
+  public final Integer closePositionTimeGapInMinutes;
+  /**
+   * Optional time interval specifying when it is still allowed to open position before calendar news, or {@code null}.
+   * Default value is 120 minutes
+   */
+  public final Integer openPositionPrecedingTimeGapInMinutes;
+  /**
+   * Optional time interval specifying when it is allowed to open position after calendar news, or {@code null}. Default
+   * value is 60 minutes
+   */
+  public final Integer openPositionFollowingTimeGapInMinutes;
+
+  private CalendarNewsFilterSnapshot(CopyFactoryStrategyCalendarNewsFilter model, CalendarNewsFilterSnapshot previous) {
+    priorities = strings(model.priorities, previous != null ? previous.priorities : null);
+    closePositionTimeGapInMinutes = model.closePositionTimeGapInMinutes;
+    openPositionPrecedingTimeGapInMinutes = model.openPositionPrecedingTimeGapInMinutes;
+    openPositionFollowingTimeGapInMinutes = model.openPositionFollowingTimeGapInMinutes;
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static CalendarNewsFilterSnapshot of(CopyFactoryStrategyCalendarNewsFilter model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static CalendarNewsFilterSnapshot of(CopyFactoryStrategyCalendarNewsFilter model,
+    CalendarNewsFilterSnapshot previous) {
+    return model != null ? share(new CalendarNewsFilterSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryStrategyCalendarNewsFilter toModel() {
+    CopyFactoryStrategyCalendarNewsFilter model = new CopyFactoryStrategyCalendarNewsFilter();
+    model.priorities = priorities != null ? new ArrayList<>(priorities) : null;
+    model.closePositionTimeGapInMinutes = closePositionTimeGapInMinutes;
+    model.openPositionPrecedingTimeGapInMinutes = openPositionPrecedingTimeGapInMinutes;
+    model.openPositionFollowingTimeGapInMinutes = openPositionFollowingTimeGapInMinutes;
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof CalendarNewsFilterSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    CalendarNewsFilterSnapshot snapshot = (CalendarNewsFilterSnapshot) other;
+    return Objects.equals(priorities, snapshot.priorities)
+      && Objects.equals(closePositionTimeGapInMinutes, snapshot.closePositionTimeGapInMinutes)
+      && Objects.equals(openPositionPrecedingTimeGapInMinutes, snapshot.openPositionPrecedingTimeGapInMinutes)
+      && Objects.equals(openPositionFollowingTimeGapInMinutes, snapshot.openPositionFollowingTimeGapInMinutes);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(priorities);
+    result = 31 * result + Objects.hashCode(closePositionTimeGapInMinutes);
+    result = 31 * result + Objects.hashCode(openPositionPrecedingTimeGapInMinutes);
+    result = 31 * result + Objects.hashCode(openPositionFollowingTimeGapInMinutes);
+    return result;
+  }
+}
@@ -0,0 +1,84 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyCommissionScheme;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryStrategyCommissionScheme}
+ */
+public final class CommissionSchemeSnapshot extends Snapshot {
+  /**
+   * Commission type. One of flat-fee, lots-traded, lots-won, amount-traded, amount-won, high-water-mark
+   */
+  public final String type;
+  /**
+   * Billing period. One of week, month, quarter
+   */
+  public final String billingPeriod;
+  /**
+   * Commission rate. Should be greater than or equal to zero if commission type is flat-fee, lots-traded or lots-won,
+   * should be greater than or equal to zero and less than or equal to 1 if commission type is amount-traded,
+   * amount-won, high-water-mark.
+   */
+  public final double commissionRate;
+
+  private CommissionSchemeSnapshot(CopyFactoryStrategyCommissionScheme model, CommissionSchemeSnapshot previous) {
+    type = model.type;
+    billingPeriod = model.billingPeriod;
+    commissionRate = model.commissionRate;
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static CommissionSchemeSnapshot of(CopyFactoryStrategyCommissionScheme model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static CommissionSchemeSnapshot of(CopyFactoryStrategyCommissionScheme model,
+    CommissionSchemeSnapshot previous) {
+    return model != null ? share(new CommissionSchemeSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryStrategyCommissionScheme toModel() {
+    CopyFactoryStrategyCommissionScheme model = new CopyFactoryStrategyCommissionScheme();
+    model.type = type;
+    model.billingPeriod = billingPeriod;
+    model.commissionRate = commissionRate;
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof CommissionSchemeSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    CommissionSchemeSnapshot snapshot = (CommissionSchemeSnapshot) other;
+    return Objects.equals(type, snapshot.type) && Objects.equals(billingPeriod, snapshot.billingPeriod)
+      && Double.compare(commissionRate, snapshot.commissionRate) == 0;
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(type);
+    result = 31 * result + Objects.hashCode(billingPeriod);
+    result = 31 * result + Double.hashCode(commissionRate);
+    return result;
+  }
+}
@@ -0,0 +1,74 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyEquityCurveFilter;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryStrategyEquityCurveFilter}
+ */
+public final class EquityCurveFilterSnapshot extends Snapshot {
+  /**
+   * Moving average period, must be greater or equal to 1
+   */
+  public final float period;
+  /**
+   * Moving average granularity, a positive integer followed by time unit, e.g. 2h. Allowed units are s, m, h, d and w.
+   */
+  public final String granularity;
+
+  private EquityCurveFilterSnapshot(CopyFactoryStrategyEquityCurveFilter model, EquityCurveFilterSnapshot previous) {
+    period = model.period;
+    granularity = model.granularity;
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static EquityCurveFilterSnapshot of(CopyFactoryStrategyEquityCurveFilter model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static EquityCurveFilterSnapshot of(CopyFactoryStrategyEquityCurveFilter model,
+    EquityCurveFilterSnapshot previous) {
+    return model != null ? share(new EquityCurveFilterSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryStrategyEquityCurveFilter toModel() {
+    CopyFactoryStrategyEquityCurveFilter model = new CopyFactoryStrategyEquityCurveFilter();
+    model.period = period;
+    model.granularity = granularity;
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof EquityCurveFilterSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    EquityCurveFilterSnapshot snapshot = (EquityCurveFilterSnapshot) other;
+    return Float.compare(period, snapshot.period) == 0 && Objects.equals(granularity, snapshot.granularity);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Float.hashCode(period);
+    result = 31 * result + Objects.hashCode(granularity);
+    return result;
+  }
+}
@@ -0,0 +1,73 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyMaxStopLoss;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryStrategyMaxStopLoss}
+ */
+public final class MaxStopLossSnapshot extends Snapshot {
+  /**
+   * Maximum SL value
+   */
+  public final double value;
+  /**
+   * SL units. Only pips value is supported at this point
+   */
+  public final String units;
+
+  private MaxStopLossSnapshot(CopyFactoryStrategyMaxStopLoss model, MaxStopLossSnapshot previous) {
+    value = model.value;
+    units = model.units;
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static MaxStopLossSnapshot of(CopyFactoryStrategyMaxStopLoss model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static MaxStopLossSnapshot of(CopyFactoryStrategyMaxStopLoss model, MaxStopLossSnapshot previous) {
+    return model != null ? share(new MaxStopLossSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryStrategyMaxStopLoss toModel() {
+    CopyFactoryStrategyMaxStopLoss model = new CopyFactoryStrategyMaxStopLoss();
+    model.value = value;
+    model.units = units;
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof MaxStopLossSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    MaxStopLossSnapshot snapshot = (MaxStopLossSnapshot) other;
+    return Double.compare(value, snapshot.value) == 0 && Objects.equals(units, snapshot.units);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Double.hashCode(value);
+    result = 31 * result + Objects.hashCode(units);
+    return result;
+  }
+}
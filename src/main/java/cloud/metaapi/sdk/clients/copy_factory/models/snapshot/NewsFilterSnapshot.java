@@ -0,0 +1,76 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyNewsFilter;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryStrategyNewsFilter}
+ */
+public final class NewsFilterSnapshot extends Snapshot {
+  /**
+   * Optional breaking news filter, or {@code null}
+   */
+  public final BreakingNewsFilterSnapshot breakingNewsFilter;
+  /**
+   * Optional calendar news filter, or {@code null}
+   */
+  public final CalendarNewsFilterSnapshot calendarNewsFilter;
+
+  private NewsFilterSnapshot(CopyFactoryStrategyNewsFilter model, NewsFilterSnapshot previous) {
+    breakingNewsFilter = BreakingNewsFilterSnapshot.of(model.breakingNewsFilter,
+      previous != null ? previous.breakingNewsFilter : null);
+    calendarNewsFilter = CalendarNewsFilterSnapshot.of(model.calendarNewsFilter,
+      previous != null ? previous.calendarNewsFilter : null);
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static NewsFilterSnapshot of(CopyFactoryStrategyNewsFilter model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static NewsFilterSnapshot of(CopyFactoryStrategyNewsFilter model, NewsFilterSnapshot previous) {
+    return model != null ? share(new NewsFilterSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryStrategyNewsFilter toModel() {
+    CopyFactoryStrategyNewsFilter model = new CopyFactoryStrategyNewsFilter();
+    model.breakingNewsFilter = breakingNewsFilter != null ? breakingNewsFilter.toModel() : null;
+    model.calendarNewsFilter = calendarNewsFilter != null ? calendarNewsFilter.toModel() : null;
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof NewsFilterSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    NewsFilterSnapshot snapshot = (NewsFilterSnapshot) other;
+    return Objects.equals(breakingNewsFilter, snapshot.breakingNewsFilter)
+      && Objects.equals(calendarNewsFilter, snapshot.calendarNewsFilter);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(breakingNewsFilter);
+    result = 31 * result + Objects.hashCode(calendarNewsFilter);
+    return result;
+  }
+}
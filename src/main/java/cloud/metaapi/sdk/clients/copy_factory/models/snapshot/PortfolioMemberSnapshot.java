@@ -0,0 +1,209 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.util.List;
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryPortfolioMember;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryPortfolioMember}
+ */
+public final class PortfolioMemberSnapshot extends Snapshot {
+  /**
+   * Member strategy id
+   */
+  public final String strategyId;
+  /**
+   * Copying multiplier (weight in the portfolio)
+   */
+  public final double multiplier;
+  /**
+   * Flag indicating that pending orders should not be copied, or {@code null}. Default is to copy pending orders
+   */
+  public final Boolean skipPendingOrders;
+  /**
+   * Max risk per trade, expressed as a fraction of 1, or {@code null}. If trade has a SL, the trade size will be
+   * adjusted to match the risk limit. If not, the trade SL will be applied according to the risk limit
+   */
+  public final Double maxTradeRisk;
+  /**
+   * Flag indicating that the strategy should be copied in a reverse direction, or {@code null}
+   */
+  public final Boolean reverse;
+  /**
+   * Setting indicating whether to enable automatic trade correlation reduction, or {@code null}. Possible settings are
+   * not specified (disable correlation risk restrictions), by-strategy (limit correlations on strategy level) or
+   * by-symbol (limit correlations on symbol level)
+   */
+  public final String reduceCorrelations;
+  /**
+   * Stop out setting, or {@code null}. All trading will be terminated and positions closed once equity drawdown reaches
+   * this value
+   */
+  public final StopOutRiskSnapshot stopOutRisk;
+  /**
+   * Symbol filters which can be used to copy only specific symbols or exclude some symbols from copying, or {@code
+   * null}
+   */
+  public final SymbolFilterSnapshot symbolFilter;
+  /**
+   * News risk filter configuration, or {@code null}
+   */
+  public final NewsFilterSnapshot newsFilter;
+  /**
+   * Strategy risk limits, or {@code null}. You can configure trading to be stopped once total drawdown generated during
+   * specific period is exceeded. Can be specified either for balance or equity drawdown
+   */
+  public final List<RiskLimitSnapshot> riskLimits;
+  /**
+   * Stop loss value restriction, or {@code null}
+   */
+  public final MaxStopLossSnapshot maxStopLoss;
+  /**
+   * Max leverage risk restriction, or {@code null}. All trades resulting in a leverage value higher than specified will
+   * be skipped
+   */
+  public final Double maxLeverage;
+  /**
+   * Defines how symbol name should be changed when trading (e.g. when broker uses symbol names with unusual suffixes).
+   * By default ({@code null}) this setting is disabled and the trades are copied using signal source symbol name
+   */
+  public final List<SymbolMappingSnapshot> symbolMapping;
+  /**
+   * Trade size scaling settings, or {@code null}. By default the trade size on strategy subscriber side will be scaled
+   * according to balance to preserve risk.
+   */
+  public final TradeSizeScalingSnapshot tradeSizeScaling;
+  /**
+   * Flag indicating whether stop loss should be copied. Default ({@code null}) is to copy stop loss
+   */
+  public final Boolean copyStopLoss;
+  /**
+   * Flag indicating whether take profit should be copied. Default ({@code null}) is to copy take profit
+   */
+  public final Boolean copyTakeProfit;
+  /**
+   * Minimum trade volume to copy, or {@code null}. Trade signals with a smaller volume will not be copied
+   */
+  public final Double minTradeVolume;
+  /**
+   * Maximum trade volume to copy, or {@code null}. Trade signals with a larger volume will be copied with maximum
+   * volume instead
+   */
+  public final Double maxTradeVolume;
+
+  private PortfolioMemberSnapshot(CopyFactoryPortfolioMember model, PortfolioMemberSnapshot previous) {
+    strategyId = model.strategyId;
+    multiplier = model.multiplier;
+    skipPendingOrders = model.skipPendingOrders;
+    maxTradeRisk = model.maxTradeRisk;
+    reverse = model.reverse;
+    reduceCorrelations = model.reduceCorrelations;
+    stopOutRisk = StopOutRiskSnapshot.of(model.stopOutRisk, previous != null ? previous.stopOutRisk : null);
+    symbolFilter = SymbolFilterSnapshot.of(model.symbolFilter, previous != null ? previous.symbolFilter : null);
+    newsFilter = NewsFilterSnapshot.of(model.newsFilter, previous != null ? previous.newsFilter : null);
+    riskLimits = list(model.riskLimits, previous != null ? previous.riskLimits : null, RiskLimitSnapshot::of);
+    maxStopLoss = MaxStopLossSnapshot.of(model.maxStopLoss, previous != null ? previous.maxStopLoss : null);
+    maxLeverage = model.maxLeverage;
+    symbolMapping = list(model.symbolMapping, previous != null ? previous.symbolMapping : null,
+      SymbolMappingSnapshot::of);
+    tradeSizeScaling = TradeSizeScalingSnapshot.of(model.tradeSizeScaling,
+      previous != null ? previous.tradeSizeScaling : null);
+    copyStopLoss = model.copyStopLoss;
+    copyTakeProfit = model.copyTakeProfit;
+    minTradeVolume = model.minTradeVolume;
+    maxTradeVolume = model.maxTradeVolume;
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static PortfolioMemberSnapshot of(CopyFactoryPortfolioMember model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static PortfolioMemberSnapshot of(CopyFactoryPortfolioMember model, PortfolioMemberSnapshot previous) {
+    return model != null ? share(new PortfolioMemberSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryPortfolioMember toModel() {
+    CopyFactoryPortfolioMember model = new CopyFactoryPortfolioMember();
+    model.strategyId = strategyId;
+    model.multiplier = multiplier;
+    model.skipPendingOrders = skipPendingOrders;
+    model.maxTradeRisk = maxTradeRisk;
+    model.reverse = reverse;
+    model.reduceCorrelations = reduceCorrelations;
+    model.stopOutRisk = stopOutRisk != null ? stopOutRisk.toModel() : null;
+    model.symbolFilter = symbolFilter != null ? symbolFilter.toModel() : null;
+    model.newsFilter = newsFilter != null ? newsFilter.toModel() : null;
+    model.riskLimits = models(riskLimits, RiskLimitSnapshot::toModel);
+    model.maxStopLoss = maxStopLoss != null ? maxStopLoss.toModel() : null;
+    model.maxLeverage = maxLeverage;
+    model.symbolMapping = models(symbolMapping, SymbolMappingSnapshot::toModel);
+    model.tradeSizeScaling = tradeSizeScaling != null ? tradeSizeScaling.toModel() : null;
+    model.copyStopLoss = copyStopLoss;
+    model.copyTakeProfit = copyTakeProfit;
+    model.minTradeVolume = minTradeVolume;
+    model.maxTradeVolume = maxTradeVolume;
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof PortfolioMemberSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    PortfolioMemberSnapshot snapshot = (PortfolioMemberSnapshot) other;
+    return Objects.equals(strategyId, snapshot.strategyId) && Double.compare(multiplier, snapshot.multiplier) == 0
+      && Objects.equals(skipPendingOrders, snapshot.skipPendingOrders)
+      && Objects.equals(maxTradeRisk, snapshot.maxTradeRisk) && Objects.equals(reverse, snapshot.reverse)
+      && Objects.equals(reduceCorrelations, snapshot.reduceCorrelations)
+      && Objects.equals(stopOutRisk, snapshot.stopOutRisk) && Objects.equals(symbolFilter, snapshot.symbolFilter)
+      && Objects.equals(newsFilter, snapshot.newsFilter) && Objects.equals(riskLimits, snapshot.riskLimits)
+      && Objects.equals(maxStopLoss, snapshot.maxStopLoss) && Objects.equals(maxLeverage, snapshot.maxLeverage)
+      && Objects.equals(symbolMapping, snapshot.symbolMapping)
+      && Objects.equals(tradeSizeScaling, snapshot.tradeSizeScaling)
+      && Objects.equals(copyStopLoss, snapshot.copyStopLoss) && Objects.equals(copyTakeProfit, snapshot.copyTakeProfit)
+      && Objects.equals(minTradeVolume, snapshot.minTradeVolume)
+      && Objects.equals(maxTradeVolume, snapshot.maxTradeVolume);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(strategyId);
+    result = 31 * result + Double.hashCode(multiplier);
+    result = 31 * result + Objects.hashCode(skipPendingOrders);
+    result = 31 * result + Objects.hashCode(maxTradeRisk);
+    result = 31 * result + Objects.hashCode(reverse);
+    result = 31 * result + Objects.hashCode(reduceCorrelations);
+    result = 31 * result + Objects.hashCode(stopOutRisk);
+    result = 31 * result + Objects.hashCode(symbolFilter);
+    result = 31 * result + Objects.hashCode(newsFilter);
+    result = 31 * result + Objects.hashCode(riskLimits);
+    result = 31 * result + Objects.hashCode(maxStopLoss);
+    result = 31 * result + Objects.hashCode(maxLeverage);
+    result = 31 * result + Objects.hashCode(symbolMapping);
+    result = 31 * result + Objects.hashCode(tradeSizeScaling);
+    result = 31 * result + Objects.hashCode(copyStopLoss);
+    result = 31 * result + Objects.hashCode(copyTakeProfit);
+    result = 31 * result + Objects.hashCode(minTradeVolume);
+    result = 31 * result + Objects.hashCode(maxTradeVolume);
+    return result;
+  }
+}
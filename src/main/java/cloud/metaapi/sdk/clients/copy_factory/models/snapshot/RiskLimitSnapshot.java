@@ -0,0 +1,99 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyRiskLimit;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryStrategyRiskLimit}
+ */
+public final class RiskLimitSnapshot extends Snapshot {
+  /**
+   * Restriction type. One of daily, monthly, or yearly
+   */
+  public final String type;
+  /**
+   * Account metric to apply limit to. One of balance, equity
+   */
+  public final String applyTo;
+  /**
+   * Max drawdown allowed, expressed as a fraction of 1
+   */
+  public final double maxRisk;
+  /**
+   * Whether to force close positions when the risk is reached. If value is false then only the new trades will be
+   * halted, but existing ones will not be closed
+   */
+  public final boolean closePositions;
+  /**
+   * Optional time to start risk tracking from, or {code null}. All previous trades will be ignored. You can use this
+   * value to reset the filter after stopout event
+   */
+  public final Instant startTime;
+
+  private RiskLimitSnapshot(CopyFactoryStrategyRiskLimit model, RiskLimitSnapshot previous) {
+    type = model.type;
+    applyTo = model.applyTo;
+    maxRisk = model.maxRisk;
+    closePositions = model.closePositions;
+    startTime = instant(model.startTime);
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static RiskLimitSnapshot of(CopyFactoryStrategyRiskLimit model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static RiskLimitSnapshot of(CopyFactoryStrategyRiskLimit model, RiskLimitSnapshot previous) {
+    return model != null ? share(new RiskLimitSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryStrategyRiskLimit toModel() {
+    CopyFactoryStrategyRiskLimit model = new CopyFactoryStrategyRiskLimit();
+    model.type = type;
+    model.applyTo = applyTo;
+    model.maxRisk = maxRisk;
+    model.closePositions = closePositions;
+    model.startTime = isoTime(startTime);
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof RiskLimitSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    RiskLimitSnapshot snapshot = (RiskLimitSnapshot) other;
+    return Objects.equals(type, snapshot.type) && Objects.equals(applyTo, snapshot.applyTo)
+      && Double.compare(maxRisk, snapshot.maxRisk) == 0 && closePositions == snapshot.closePositions
+      && Objects.equals(startTime, snapshot.startTime);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(type);
+    result = 31 * result + Objects.hashCode(applyTo);
+    result = 31 * result + Double.hashCode(maxRisk);
+    result = 31 * result + Boolean.hashCode(closePositions);
+    result = 31 * result + Objects.hashCode(startTime);
+    return result;
+  }
+}
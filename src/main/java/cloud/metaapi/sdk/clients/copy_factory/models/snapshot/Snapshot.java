@@ -0,0 +1,127 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import cloud.metaapi.sdk.clients.models.IsoTime;
+
+/**
+ * Base class of immutable snapshots of CopyFactory models. Snapshots have final fields, times as {@link Instant}s and
+ * unmodifiable lists, so they can be cached and shared between threads without copying or locking. Snapshots are
+ * compared structurally. When a snapshot is created from an updated model with the previous snapshot given, parts
+ * equal to the previous snapshot are reused instead of new instances, so that unchanged parts stay shared and can be
+ * compared by reference. {@code toModel()} returns a mutable copy for making update requests
+ */
+public abstract class Snapshot {
+
+  private int hash;
+
+  Snapshot() {}
+
+  @Override
+  public final int hashCode() {
+    int result = hash;
+    if (result == 0) {
+      result = computeHashCode();
+      hash = result;
+    }
+    return result;
+  }
+
+  /**
+   * Computes structural hash code of the snapshot. The hash code is computed once and cached, since snapshots do not
+   * change
+   * @return hash code
+   */
+  abstract int computeHashCode();
+
+  /**
+   * Returns the previous snapshot if it is equal to the created one
+   * @param <S> snapshot type
+   * @param created created snapshot
+   * @param previous previous snapshot, or {@code null}
+   * @return previous snapshot if it is equal, or the created one otherwise
+   */
+  static <S extends Snapshot> S share(S created, S previous) {
+    return previous != null && previous.equals(created) ? previous : created;
+  }
+
+  /**
+   * Creates unmodifiable list of snapshots of models, reusing snapshots of the previous list at the same positions
+   * where they are equal
+   * @param <M> model type
+   * @param <S> snapshot type
+   * @param models models, or {@code null}
+   * @param previous previous snapshots, or {@code null}
+   * @param snapshot function creating snapshot of a model given the previous one
+   * @return snapshots, the previous list if all of them are reused, or {@code null}
+   */
+  static <M, S> List<S> list(List<M> models, List<S> previous, BiFunction<M, S, S> snapshot) {
+    if (models == null) {
+      return null;
+    }
+    List<S> result = new ArrayList<>(models.size());
+    boolean reused = previous != null && previous.size() == models.size();
+    for (int i = 0; i < models.size(); i++) {
+      S previousItem = previous != null && i < previous.size() ? previous.get(i) : null;
+      S item = snapshot.apply(models.get(i), previousItem);
+      reused &= item == previousItem;
+      result.add(item);
+    }
+    return reused ? previous : Collections.unmodifiableList(result);
+  }
+
+  /**
+   * Creates unmodifiable copy of a list of strings
+   * @param values strings, or {@code null}
+   * @param previous previous copy, or {@code null}
+   * @return copy, the previous copy if it is equal, or {@code null}
+   */
+  static List<String> strings(List<String> values, List<String> previous) {
+    if (values == null) {
+      return null;
+    }
+    return values.equals(previous) ? previous : Collections.unmodifiableList(new ArrayList<>(values));
+  }
+
+  /**
+   * Creates mutable list of models of snapshots
+   * @param <M> model type
+   * @param <S> snapshot type
+   * @param snapshots snapshots, or {@code null}
+   * @param toModel function creating model of a snapshot
+   * @return models, or {@code null}
+   */
+  static <M, S> List<M> models(List<S> snapshots, Function<S, M> toModel) {
+    if (snapshots == null) {
+      return null;
+    }
+    List<M> result = new ArrayList<>(snapshots.size());
+    for (S snapshot : snapshots) {
+      result.add(snapshot != null ? toModel.apply(snapshot) : null);
+    }
+    return result;
+  }
+
+  /**
+   * Converts time to instant
+   * @param time time, or {@code null}
+   * @return instant, or {@code null}
+   */
+  static Instant instant(IsoTime time) {
+    return time != null && time.getDate() != null ? time.getDate().toInstant() : null;
+  }
+
+  /**
+   * Converts instant to time
+   * @param instant instant, or {@code null}
+   * @return time, or {@code null}
+   */
+  static IsoTime isoTime(Instant instant) {
+    return instant != null ? new IsoTime(instant) : null;
+  }
+}
@@ -0,0 +1,75 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyStopOutRisk;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryStrategyStopOutRisk}
+ */
+public final class StopOutRiskSnapshot extends Snapshot {
+  /**
+   * Value of the stop out risk, expressed as a fraction of 1
+   */
+  public final double value;
+  /**
+   * The time to start risk calculation from, or {@code null}. All previous trades will be ignored. You can use it to
+   * reset the risk counter after a stopout event
+   */
+  public final Instant startTime;
+
+  private StopOutRiskSnapshot(CopyFactoryStrategyStopOutRisk model, StopOutRiskSnapshot previous) {
+    value = model.value;
+    startTime = instant(model.startTime);
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static StopOutRiskSnapshot of(CopyFactoryStrategyStopOutRisk model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static StopOutRiskSnapshot of(CopyFactoryStrategyStopOutRisk model, StopOutRiskSnapshot previous) {
+    return model != null ? share(new StopOutRiskSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryStrategyStopOutRisk toModel() {
+    CopyFactoryStrategyStopOutRisk model = new CopyFactoryStrategyStopOutRisk();
+    model.value = value;
+    model.startTime = isoTime(startTime);
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof StopOutRiskSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    StopOutRiskSnapshot snapshot = (StopOutRiskSnapshot) other;
+    return Double.compare(value, snapshot.value) == 0 && Objects.equals(startTime, snapshot.startTime);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Double.hashCode(value);
+    result = 31 * result + Objects.hashCode(startTime);
+    return result;
+  }
+}
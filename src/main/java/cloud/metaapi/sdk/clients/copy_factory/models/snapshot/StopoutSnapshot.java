@@ -0,0 +1,98 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyStopout;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryStrategyStopout}
+ */
+public final class StopoutSnapshot extends Snapshot {
+  /**
+   * Strategy which was stopped out
+   */
+  public final StrategyIdAndNameSnapshot strategy;
+  /**
+   * Stopout reason. One of yearly-balance, monthly-balance, daily-balance, yearly-equity, monthly-equity, daily-equity,
+   * max-drawdown
+   */
+  public final String reason;
+  /**
+   * Human-readable description of the stopout reason
+   */
+  public final String reasonDescription;
+  /**
+   * Time the strategy was stopped at
+   */
+  public final Instant stoppedAt;
+  /**
+   * Time the strategy is stopped till
+   */
+  public final Instant stoppedTill;
+
+  private StopoutSnapshot(CopyFactoryStrategyStopout model, StopoutSnapshot previous) {
+    strategy = StrategyIdAndNameSnapshot.of(model.strategy, previous != null ? previous.strategy : null);
+    reason = model.reason;
+    reasonDescription = model.reasonDescription;
+    stoppedAt = instant(model.stoppedAt);
+    stoppedTill = instant(model.stoppedTill);
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static StopoutSnapshot of(CopyFactoryStrategyStopout model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static StopoutSnapshot of(CopyFactoryStrategyStopout model, StopoutSnapshot previous) {
+    return model != null ? share(new StopoutSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryStrategyStopout toModel() {
+    CopyFactoryStrategyStopout model = new CopyFactoryStrategyStopout();
+    model.strategy = strategy != null ? strategy.toModel() : null;
+    model.reason = reason;
+    model.reasonDescription = reasonDescription;
+    model.stoppedAt = isoTime(stoppedAt);
+    model.stoppedTill = isoTime(stoppedTill);
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof StopoutSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    StopoutSnapshot snapshot = (StopoutSnapshot) other;
+    return Objects.equals(strategy, snapshot.strategy) && Objects.equals(reason, snapshot.reason)
+      && Objects.equals(reasonDescription, snapshot.reasonDescription) && Objects.equals(stoppedAt, snapshot.stoppedAt)
+      && Objects.equals(stoppedTill, snapshot.stoppedTill);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(strategy);
+    result = 31 * result + Objects.hashCode(reason);
+    result = 31 * result + Objects.hashCode(reasonDescription);
+    result = 31 * result + Objects.hashCode(stoppedAt);
+    result = 31 * result + Objects.hashCode(stoppedTill);
+    return result;
+  }
+}
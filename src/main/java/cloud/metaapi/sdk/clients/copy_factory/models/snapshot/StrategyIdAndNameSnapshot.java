@@ -0,0 +1,73 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyIdAndName;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryStrategyIdAndName}
+ */
+public final class StrategyIdAndNameSnapshot extends Snapshot {
+  /**
+   * Unique strategy id
+   */
+  public final String id;
+  /**
+   * Human-readable strategy name
+   */
+  public final String name;
+
+  private StrategyIdAndNameSnapshot(CopyFactoryStrategyIdAndName model, StrategyIdAndNameSnapshot previous) {
+    id = model.id;
+    name = model.name;
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static StrategyIdAndNameSnapshot of(CopyFactoryStrategyIdAndName model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static StrategyIdAndNameSnapshot of(CopyFactoryStrategyIdAndName model, StrategyIdAndNameSnapshot previous) {
+    return model != null ? share(new StrategyIdAndNameSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryStrategyIdAndName toModel() {
+    CopyFactoryStrategyIdAndName model = new CopyFactoryStrategyIdAndName();
+    model.id = id;
+    model.name = name;
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof StrategyIdAndNameSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    StrategyIdAndNameSnapshot snapshot = (StrategyIdAndNameSnapshot) other;
+    return Objects.equals(id, snapshot.id) && Objects.equals(name, snapshot.name);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(id);
+    result = 31 * result + Objects.hashCode(name);
+    return result;
+  }
+}
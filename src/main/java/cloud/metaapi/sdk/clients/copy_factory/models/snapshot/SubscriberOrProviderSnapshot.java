@@ -0,0 +1,83 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.util.List;
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactorySubscriberOrProvider;
+
+/**
+ * Immutable snapshot of {@link CopyFactorySubscriberOrProvider}
+ */
+public final class SubscriberOrProviderSnapshot extends Snapshot {
+  /**
+   * Profile id
+   */
+  public final String id;
+  /**
+   * User name
+   */
+  public final String name;
+  /**
+   * List of strategy IDs provided by provider or subscribed to by subscriber
+   */
+  public final List<StrategyIdAndNameSnapshot> strategies;
+
+  private SubscriberOrProviderSnapshot(CopyFactorySubscriberOrProvider model, SubscriberOrProviderSnapshot previous) {
+    id = model.id;
+    name = model.name;
+    strategies = list(model.strategies, previous != null ? previous.strategies : null, StrategyIdAndNameSnapshot::of);
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static SubscriberOrProviderSnapshot of(CopyFactorySubscriberOrProvider model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static SubscriberOrProviderSnapshot of(CopyFactorySubscriberOrProvider model,
+    SubscriberOrProviderSnapshot previous) {
+    return model != null ? share(new SubscriberOrProviderSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactorySubscriberOrProvider toModel() {
+    CopyFactorySubscriberOrProvider model = new CopyFactorySubscriberOrProvider();
+    model.id = id;
+    model.name = name;
+    model.strategies = models(strategies, StrategyIdAndNameSnapshot::toModel);
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof SubscriberOrProviderSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    SubscriberOrProviderSnapshot snapshot = (SubscriberOrProviderSnapshot) other;
+    return Objects.equals(id, snapshot.id) && Objects.equals(name, snapshot.name)
+      && Objects.equals(strategies, snapshot.strategies);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(id);
+    result = 31 * result + Objects.hashCode(name);
+    result = 31 * result + Objects.hashCode(strategies);
+    return result;
+  }
+}
@@ -0,0 +1,75 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySymbolFilter;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryStrategySymbolFilter}
+ */
+public final class SymbolFilterSnapshot extends Snapshot {
+  /**
+   * List of symbols copied, or {@code null}. Leave the value empty to copy all symbols
+   */
+  public final List<String> included;
+  /**
+   * List of symbols excluded from copying, or {@code null}. Leave the value empty to copy all symbols
+   */
+  public final List<String> excluded;
+
+  private SymbolFilterSnapshot(CopyFactoryStrategySymbolFilter model, SymbolFilterSnapshot previous) {
+    included = strings(model.included, previous != null ? previous.included : null);
+    excluded = strings(model.excluded, previous != null ? previous.excluded : null);
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static SymbolFilterSnapshot of(CopyFactoryStrategySymbolFilter model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static SymbolFilterSnapshot of(CopyFactoryStrategySymbolFilter model, SymbolFilterSnapshot previous) {
+    return model != null ? share(new SymbolFilterSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryStrategySymbolFilter toModel() {
+    CopyFactoryStrategySymbolFilter model = new CopyFactoryStrategySymbolFilter();
+    model.included = included != null ? new ArrayList<>(included) : null;
+    model.excluded = excluded != null ? new ArrayList<>(excluded) : null;
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof SymbolFilterSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    SymbolFilterSnapshot snapshot = (SymbolFilterSnapshot) other;
+    return Objects.equals(included, snapshot.included) && Objects.equals(excluded, snapshot.excluded);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(included);
+    result = 31 * result + Objects.hashCode(excluded);
+    return result;
+  }
+}
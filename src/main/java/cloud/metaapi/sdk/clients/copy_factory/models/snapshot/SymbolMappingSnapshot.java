@@ -0,0 +1,73 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySymbolMapping;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryStrategySymbolMapping}
+ */
+public final class SymbolMappingSnapshot extends Snapshot {
+  /**
+   * Symbol name to convert from
+   */
+  public final String from;
+  /**
+   * Symbol name to convert to
+   */
+  public final String to;
+
+  private SymbolMappingSnapshot(CopyFactoryStrategySymbolMapping model, SymbolMappingSnapshot previous) {
+    from = model.from;
+    to = model.to;
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static SymbolMappingSnapshot of(CopyFactoryStrategySymbolMapping model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static SymbolMappingSnapshot of(CopyFactoryStrategySymbolMapping model, SymbolMappingSnapshot previous) {
+    return model != null ? share(new SymbolMappingSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryStrategySymbolMapping toModel() {
+    CopyFactoryStrategySymbolMapping model = new CopyFactoryStrategySymbolMapping();
+    model.from = from;
+    model.to = to;
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof SymbolMappingSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    SymbolMappingSnapshot snapshot = (SymbolMappingSnapshot) other;
+    return Objects.equals(from, snapshot.from) && Objects.equals(to, snapshot.to);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(from);
+    result = 31 * result + Objects.hashCode(to);
+    return result;
+  }
+}
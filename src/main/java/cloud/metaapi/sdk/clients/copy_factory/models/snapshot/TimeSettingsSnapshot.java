@@ -0,0 +1,75 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyTimeSettings;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryStrategyTimeSettings}
+ */
+public final class TimeSettingsSnapshot extends Snapshot {
+  /**
+   * Optional position lifetime, or {@code null}. Default is to keep positions open up to 90 days
+   */
+  public final Integer lifetimeInHours;
+  /**
+   * Optional time interval to copy new positions, or {@code null}. Default is to let 1 minute for the position to get
+   * copied. If position were not copied during this time, the copying will not be retried anymore.
+   */
+  public final Integer openingIntervalInMinutes;
+
+  private TimeSettingsSnapshot(CopyFactoryStrategyTimeSettings model, TimeSettingsSnapshot previous) {
+    lifetimeInHours = model.lifetimeInHours;
+    openingIntervalInMinutes = model.openingIntervalInMinutes;
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static TimeSettingsSnapshot of(CopyFactoryStrategyTimeSettings model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static TimeSettingsSnapshot of(CopyFactoryStrategyTimeSettings model, TimeSettingsSnapshot previous) {
+    return model != null ? share(new TimeSettingsSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryStrategyTimeSettings toModel() {
+    CopyFactoryStrategyTimeSettings model = new CopyFactoryStrategyTimeSettings();
+    model.lifetimeInHours = lifetimeInHours;
+    model.openingIntervalInMinutes = openingIntervalInMinutes;
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof TimeSettingsSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    TimeSettingsSnapshot snapshot = (TimeSettingsSnapshot) other;
+    return Objects.equals(lifetimeInHours, snapshot.lifetimeInHours)
+      && Objects.equals(openingIntervalInMinutes, snapshot.openingIntervalInMinutes);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(lifetimeInHours);
+    result = 31 * result + Objects.hashCode(openingIntervalInMinutes);
+    return result;
+  }
+}
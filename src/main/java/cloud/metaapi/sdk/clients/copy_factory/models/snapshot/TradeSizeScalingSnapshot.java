@@ -0,0 +1,88 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyTradeSizeScaling;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryStrategyTradeSizeScaling}
+ */
+public final class TradeSizeScalingSnapshot extends Snapshot {
+  /**
+   * If set to balance, the trade size on strategy subscriber will be scaled according to balance to preserve risk. If
+   * value is none, then trade size will be preserved irregardless of the subscriber balance. If value is contractSize,
+   * then trade size will be scaled according to contract size. If fixedVolume is set, then trade will be copied with a
+   * fixed volume of traceVolume setting. If fixedRisk is set, then each trade will be copied with a trade volume set to
+   * risk specific fraction of balance as configured by riskFraction setting. Note, that in fixedRisk mode trades
+   * without a SL are not copied. Default is balance. Allowed values: none, contractSize, balance, fixedVolume,
+   * fixedRisk
+   */
+  public final String mode;
+  /**
+   * Fixed trade volume for use with fixedVolume trade size scaling mode, or {@code null}
+   */
+  public final Double tradeVolume;
+  /**
+   * Fixed risk fraction for use with fixedRisk trade size scaling mode, or {@code null}
+   */
+  public final Double riskFraction;
+
+  private TradeSizeScalingSnapshot(CopyFactoryStrategyTradeSizeScaling model, TradeSizeScalingSnapshot previous) {
+    mode = model.mode;
+    tradeVolume = model.tradeVolume;
+    riskFraction = model.riskFraction;
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static TradeSizeScalingSnapshot of(CopyFactoryStrategyTradeSizeScaling model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static TradeSizeScalingSnapshot of(CopyFactoryStrategyTradeSizeScaling model,
+    TradeSizeScalingSnapshot previous) {
+    return model != null ? share(new TradeSizeScalingSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryStrategyTradeSizeScaling toModel() {
+    CopyFactoryStrategyTradeSizeScaling model = new CopyFactoryStrategyTradeSizeScaling();
+    model.mode = mode;
+    model.tradeVolume = tradeVolume;
+    model.riskFraction = riskFraction;
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof TradeSizeScalingSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    TradeSizeScalingSnapshot snapshot = (TradeSizeScalingSnapshot) other;
+    return Objects.equals(mode, snapshot.mode) && Objects.equals(tradeVolume, snapshot.tradeVolume)
+      && Objects.equals(riskFraction, snapshot.riskFraction);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(mode);
+    result = 31 * result + Objects.hashCode(tradeVolume);
+    result = 31 * result + Objects.hashCode(riskFraction);
+    return result;
+  }
+}
@@ -0,0 +1,118 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransactionMetrics;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryTransactionMetrics}
+ */
+public final class TransactionMetricsSnapshot extends Snapshot {
+  /**
+   * Trade copying latency, measured in milliseconds based on transaction time provided by broker, or {@code null}
+   */
+  public final Double tradeCopyingLatency;
+  /**
+   * Trade copying slippage, measured in basis points (0.01 percent) based on transaction price provided by broker, or
+   * {@code null}
+   */
+  public final Double tradeCopyingSlippageInBasisPoints;
+  /**
+   * Trade copying slippage, measured in account currency based on transaction price provided by broker, or {@code null}
+   */
+  public final Double tradeCopyingSlippageInAccountCurrency;
+  /**
+   * Trade signal latency introduced by broker and MT platform, measured in milliseconds, or {@code null}
+   */
+  public final Double mtAndBrokerSignalLatency;
+  /**
+   * Trade algorithm latency introduced by CopyFactory servers, measured in milliseconds, or {@code null}
+   */
+  public final Double tradeAlgorithmLatency;
+  /**
+   * Trade latency for a copied trade introduced by broker and MT platform, measured in milliseconds, or {@code null}
+   */
+  public final Double mtAndBrokerTradeLatency;
+  /**
+   * Total trade copying latency, measured in milliseconds, or {@code null}. This value might be slightly different from
+   * tradeCopyingLatency value due to limited measurement precision as it is measured based on timestamps captured
+   * during copy trading process as opposed to broker data
+   */
+  public final Double totalLatency;
+
+  private TransactionMetricsSnapshot(CopyFactoryTransactionMetrics model, TransactionMetricsSnapshot previous) {
+    tradeCopyingLatency = model.tradeCopyingLatency;
+    tradeCopyingSlippageInBasisPoints = model.tradeCopyingSlippageInBasisPoints;
+    tradeCopyingSlippageInAccountCurrency = model.tradeCopyingSlippageInAccountCurrency;
+    mtAndBrokerSignalLatency = model.mtAndBrokerSignalLatency;
+    tradeAlgorithmLatency = model.tradeAlgorithmLatency;
+    mtAndBrokerTradeLatency = model.mtAndBrokerTradeLatency;
+    totalLatency = model.totalLatency;
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static TransactionMetricsSnapshot of(CopyFactoryTransactionMetrics model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static TransactionMetricsSnapshot of(CopyFactoryTransactionMetrics model,
+    TransactionMetricsSnapshot previous) {
+    return model != null ? share(new TransactionMetricsSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryTransactionMetrics toModel() {
+    CopyFactoryTransactionMetrics model = new CopyFactoryTransactionMetrics();
+    model.tradeCopyingLatency = tradeCopyingLatency;
+    model.tradeCopyingSlippageInBasisPoints = tradeCopyingSlippageInBasisPoints;
+    model.tradeCopyingSlippageInAccountCurrency = tradeCopyingSlippageInAccountCurrency;
+    model.mtAndBrokerSignalLatency = mtAndBrokerSignalLatency;
+    model.tradeAlgorithmLatency = tradeAlgorithmLatency;
+    model.mtAndBrokerTradeLatency = mtAndBrokerTradeLatency;
+    model.totalLatency = totalLatency;
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof TransactionMetricsSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    TransactionMetricsSnapshot snapshot = (TransactionMetricsSnapshot) other;
+    return Objects.equals(tradeCopyingLatency, snapshot.tradeCopyingLatency)
+      && Objects.equals(tradeCopyingSlippageInBasisPoints, snapshot.tradeCopyingSlippageInBasisPoints)
+      && Objects.equals(tradeCopyingSlippageInAccountCurrency, snapshot.tradeCopyingSlippageInAccountCurrency)
+      && Objects.equals(mtAndBrokerSignalLatency, snapshot.mtAndBrokerSignalLatency)
+      && Objects.equals(tradeAlgorithmLatency, snapshot.tradeAlgorithmLatency)
+      && Objects.equals(mtAndBrokerTradeLatency, snapshot.mtAndBrokerTradeLatency)
+      && Objects.equals(totalLatency, snapshot.totalLatency);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(tradeCopyingLatency);
+    result = 31 * result + Objects.hashCode(tradeCopyingSlippageInBasisPoints);
+    result = 31 * result + Objects.hashCode(tradeCopyingSlippageInAccountCurrency);
+    result = 31 * result + Objects.hashCode(mtAndBrokerSignalLatency);
+    result = 31 * result + Objects.hashCode(tradeAlgorithmLatency);
+    result = 31 * result + Objects.hashCode(mtAndBrokerTradeLatency);
+    result = 31 * result + Objects.hashCode(totalLatency);
+    return result;
+  }
+}
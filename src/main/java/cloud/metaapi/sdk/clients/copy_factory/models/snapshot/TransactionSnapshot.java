@@ -0,0 +1,235 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction.DealType;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryTransaction}
+ */
+public final class TransactionSnapshot extends Snapshot {
+  /**
+   * Transaction id
+   */
+  public final String id;
+  /**
+   * Transaction type
+   */
+  public final DealType type;
+  /**
+   * Transaction time
+   */
+  public final Instant time;
+  /**
+   * CopyFactory account id
+   */
+  public final String accountId;
+  /**
+   * Optional symbol traded, or {@code null}
+   */
+  public final String symbol;
+  /**
+   * Strategy subscriber
+   */
+  public final SubscriberOrProviderSnapshot subscriber;
+  /**
+   * Demo account flag
+   */
+  public final boolean demo;
+  /**
+   * Strategy provider
+   */
+  public final SubscriberOrProviderSnapshot provider;
+  /**
+   * Strategy
+   */
+  public final StrategyIdAndNameSnapshot strategy;
+  /**
+   * Source position id, or {@code null}
+   */
+  public final String positionId;
+  /**
+   * High-water mark strategy balance improvement
+   */
+  public final double improvement;
+  /**
+   * Provider commission
+   */
+  public final double providerCommission;
+  /**
+   * Platform commission
+   */
+  public final double platformCommission;
+  /**
+   * Trade volume, or {@code null}
+   */
+  public final Double quantity;
+  /**
+   * Commission paid by provider to underlying providers, or {@code null}
+   */
+  public final Double incomingProviderCommission;
+  /**
+   * Platform commission paid by provider to underlying providers, or {@code null}
+   */
+  public final Double incomingPlatformCommission;
+  /**
+   * Trade lot price, or {@code null}
+   */
+  public final Double lotPrice;
+  /**
+   * Trade tick price, or {@code null}
+   */
+  public final Double tickPrice;
+  /**
+   * Trade amount, or {@code null}
+   */
+  public final Double amount;
+  /**
+   * Trade commission or {@code null}
+   */
+  public final Double commission;
+  /**
+   * Trade swap
+   */
+  public final Double swap;
+  /**
+   * Trade profit
+   */
+  public final Double profit;
+  /**
+   * Trade copying metrics such as slippage and latencies, or {@code null}. Measured selectively for copied trades
+   */
+  public final TransactionMetricsSnapshot metrics;
+
+  private TransactionSnapshot(CopyFactoryTransaction model, TransactionSnapshot previous) {
+    id = model.id;
+    type = model.type;
+    time = instant(model.time);
+    accountId = model.accountId;
+    symbol = model.symbol;
+    subscriber = SubscriberOrProviderSnapshot.of(model.subscriber, previous != null ? previous.subscriber : null);
+    demo = model.demo;
+    provider = SubscriberOrProviderSnapshot.of(model.provider, previous != null ? previous.provider : null);
+    strategy = StrategyIdAndNameSnapshot.of(model.strategy, previous != null ? previous.strategy : null);
+    positionId = model.positionId;
+    improvement = model.improvement;
+    providerCommission = model.providerCommission;
+    platformCommission = model.platformCommission;
+    quantity = model.quantity;
+    incomingProviderCommission = model.incomingProviderCommission;
+    incomingPlatformCommission = model.incomingPlatformCommission;
+    lotPrice = model.lotPrice;
+    tickPrice = model.tickPrice;
+    amount = model.amount;
+    commission = model.commission;
+    swap = model.swap;
+    profit = model.profit;
+    metrics = TransactionMetricsSnapshot.of(model.metrics, previous != null ? previous.metrics : null);
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static TransactionSnapshot of(CopyFactoryTransaction model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static TransactionSnapshot of(CopyFactoryTransaction model, TransactionSnapshot previous) {
+    return model != null ? share(new TransactionSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryTransaction toModel() {
+    CopyFactoryTransaction model = new CopyFactoryTransaction();
+    model.id = id;
+    model.type = type;
+    model.time = isoTime(time);
+    model.accountId = accountId;
+    model.symbol = symbol;
+    model.subscriber = subscriber != null ? subscriber.toModel() : null;
+    model.demo = demo;
+    model.provider = provider != null ? provider.toModel() : null;
+    model.strategy = strategy != null ? strategy.toModel() : null;
+    model.positionId = positionId;
+    model.improvement = improvement;
+    model.providerCommission = providerCommission;
+    model.platformCommission = platformCommission;
+    model.quantity = quantity;
+    model.incomingProviderCommission = incomingProviderCommission;
+    model.incomingPlatformCommission = incomingPlatformCommission;
+    model.lotPrice = lotPrice;
+    model.tickPrice = tickPrice;
+    model.amount = amount;
+    model.commission = commission;
+    model.swap = swap;
+    model.profit = profit;
+    model.metrics = metrics != null ? metrics.toModel() : null;
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof TransactionSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    TransactionSnapshot snapshot = (TransactionSnapshot) other;
+    return Objects.equals(id, snapshot.id) && Objects.equals(type, snapshot.type) && Objects.equals(time, snapshot.time)
+      && Objects.equals(accountId, snapshot.accountId) && Objects.equals(symbol, snapshot.symbol)
+      && Objects.equals(subscriber, snapshot.subscriber) && demo == snapshot.demo
+      && Objects.equals(provider, snapshot.provider) && Objects.equals(strategy, snapshot.strategy)
+      && Objects.equals(positionId, snapshot.positionId) && Double.compare(improvement, snapshot.improvement) == 0
+      && Double.compare(providerCommission, snapshot.providerCommission) == 0
+      && Double.compare(platformCommission, snapshot.platformCommission) == 0
+      && Objects.equals(quantity, snapshot.quantity)
+      && Objects.equals(incomingProviderCommission, snapshot.incomingProviderCommission)
+      && Objects.equals(incomingPlatformCommission, snapshot.incomingPlatformCommission)
+      && Objects.equals(lotPrice, snapshot.lotPrice) && Objects.equals(tickPrice, snapshot.tickPrice)
+      && Objects.equals(amount, snapshot.amount) && Objects.equals(commission, snapshot.commission)
+      && Objects.equals(swap, snapshot.swap) && Objects.equals(profit, snapshot.profit)
+      && Objects.equals(metrics, snapshot.metrics);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(id);
+    result = 31 * result + Objects.hashCode(type);
+    result = 31 * result + Objects.hashCode(time);
+    result = 31 * result + Objects.hashCode(accountId);
+    result = 31 * result + Objects.hashCode(symbol);
+    result = 31 * result + Objects.hashCode(subscriber);
+    result = 31 * result + Boolean.hashCode(demo);
+    result = 31 * result + Objects.hashCode(provider);
+    result = 31 * result + Objects.hashCode(strategy);
+    result = 31 * result + Objects.hashCode(positionId);
+    result = 31 * result + Double.hashCode(improvement);
+    result = 31 * result + Double.hashCode(providerCommission);
+    result = 31 * result + Double.hashCode(platformCommission);
+    result = 31 * result + Objects.hashCode(quantity);
+    result = 31 * result + Objects.hashCode(incomingProviderCommission);
+    result = 31 * result + Objects.hashCode(incomingPlatformCommission);
+    result = 31 * result + Objects.hashCode(lotPrice);
+    result = 31 * result + Objects.hashCode(tickPrice);
+    result = 31 * result + Objects.hashCode(amount);
+    result = 31 * result + Objects.hashCode(commission);
+    result = 31 * result + Objects.hashCode(swap);
+    result = 31 * result + Objects.hashCode(profit);
+    result = 31 * result + Objects.hashCode(metrics);
+    return result;
+  }
+}
@@ -0,0 +1,135 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryUserLogRecord;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryUserLogRecord.LogLevel;
+
+/**
+ * Immutable snapshot of {@link CopyFactoryUserLogRecord}
+ */
+public final class UserLogRecordSnapshot extends Snapshot {
+  /**
+   * Log record time
+   */
+  public final Instant time;
+  /**
+   * Log level
+   */
+  public final LogLevel level;
+  /**
+   * Log message
+   */
+  public final String message;
+  /**
+   * Symbol traded, or {@code null}
+   */
+  public final String symbol;
+  /**
+   * Id of the strategy event relates to, or {@code null}
+   */
+  public final String strategyId;
+  /**
+   * Name of the strategy event relates to, or {@code null}
+   */
+  public final String strategyName;
+  /**
+   * Position id event relates to, or {@code null}
+   */
+  public final String positionId;
+  /**
+   * Side of the trade event relates to. One of buy, sell, close, or {@code null}
+   */
+  public final String side;
+  /**
+   * Type of the trade event relates to. One of market, limit, stop, or {@code null}
+   */
+  public final String type;
+  /**
+   * Open price for limit and stop orders, or {@code null}
+   */
+  public final Double openPrice;
+
+  private UserLogRecordSnapshot(CopyFactoryUserLogRecord model, UserLogRecordSnapshot previous) {
+    time = instant(model.time);
+    level = model.level;
+    message = model.message;
+    symbol = model.symbol;
+    strategyId = model.strategyId;
+    strategyName = model.strategyName;
+    positionId = model.positionId;
+    side = model.side;
+    type = model.type;
+    openPrice = model.openPrice;
+  }
+
+  /**
+   * Creates snapshot of a model
+   * @param model model, or {@code null}
+   * @return snapshot, or {@code null}
+   */
+  public static UserLogRecordSnapshot of(CopyFactoryUserLogRecord model) {
+    return of(model, null);
+  }
+
+  /**
+   * Creates snapshot of a model sharing the parts equal to the previous snapshot
+   * @param model model, or {@code null}
+   * @param previous previous snapshot, or {@code null}
+   * @return snapshot, the previous snapshot if it is equal, or {@code null}
+   */
+  public static UserLogRecordSnapshot of(CopyFactoryUserLogRecord model, UserLogRecordSnapshot previous) {
+    return model != null ? share(new UserLogRecordSnapshot(model, previous), previous) : null;
+  }
+
+  /**
+   * Creates mutable copy of the snapshot
+   * @return model
+   */
+  public CopyFactoryUserLogRecord toModel() {
+    CopyFactoryUserLogRecord model = new CopyFactoryUserLogRecord();
+    model.time = isoTime(time);
+    model.level = level;
+    model.message = message;
+    model.symbol = symbol;
+    model.strategyId = strategyId;
+    model.strategyName = strategyName;
+    model.positionId = positionId;
+    model.side = side;
+    model.type = type;
+    model.openPrice = openPrice;
+    return model;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof UserLogRecordSnapshot) || other.hashCode() != hashCode()) {
+      return false;
+    }
+    UserLogRecordSnapshot snapshot = (UserLogRecordSnapshot) other;
+    return Objects.equals(time, snapshot.time) && Objects.equals(level, snapshot.level)
+      && Objects.equals(message, snapshot.message) && Objects.equals(symbol, snapshot.symbol)
+      && Objects.equals(strategyId, snapshot.strategyId) && Objects.equals(strategyName, snapshot.strategyName)
+      && Objects.equals(positionId, snapshot.positionId) && Objects.equals(side, snapshot.side)
+      && Objects.equals(type, snapshot.type) && Objects.equals(openPrice, snapshot.openPrice);
+  }
+
+  @Override
+  int computeHashCode() {
+    int result = Objects.hashCode(time);
+    result = 31 * result + Objects.hashCode(level);
+    result = 31 * result + Objects.hashCode(message);
+    result = 31 * result + Objects.hashCode(symbol);
+    result = 31 * result + Objects.hashCode(strategyId);
+    result = 31 * result + Objects.hashCode(strategyName);
+    result = 31 * result + Objects.hashCode(positionId);
+    result = 31 * result + Objects.hashCode(side);
+    result = 31 * result + Objects.hashCode(type);
+    result = 31 * result + Objects.hashCode(openPrice);
+    return result;
+  }
+}
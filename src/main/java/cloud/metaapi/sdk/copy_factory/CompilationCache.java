@@ -0,0 +1,102 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of compiled configuration objects. Compiled instances are looked up by the configuration object
+ * itself, and the contents the instance was compiled from are compared with the object, so that repeated lookups do
+ * not copy it. Objects seen for the first time or modified since are looked up by an immutable copy of their
+ * contents, so that equal configurations share one compiled instance. Both tables are split into segments guarded by
+ * their own locks, and each segment evicts the least recently used entries first
+ * @param <M> configuration object type
+ * @param <K> immutable contents type
+ * @param <C> compiled type
+ */
+class CompilationCache<M, K, C> {
+
+  private static final int SEGMENT_COUNT = 16;
+  private final Map<M, Entry<K, C>>[] objectSegments;
+  private final Map<K, C>[] contentSegments;
+  private final Function<M, K> contents;
+  private final BiPredicate<K, M> matches;
+  private final Function<K, C> compile;
+
+  /**
+   * Constructs compilation cache
+   * @param maximumSize maximum number of entries in each of the tables
+   * @param contents function creating immutable copy of the contents of a configuration object
+   * @param matches predicate checking whether contents still match a configuration object
+   * @param compile function compiling contents
+   */
+  @SuppressWarnings("unchecked")
+  CompilationCache(int maximumSize, Function<M, K> contents, BiPredicate<K, M> matches, Function<K, C> compile) {
+    this.contents = contents;
+    this.matches = matches;
+    this.compile = compile;
+    objectSegments = new Map[SEGMENT_COUNT];
+    contentSegments = new Map[SEGMENT_COUNT];
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      objectSegments[i] = createSegment(maximumSize);
+      contentSegments[i] = createSegment(maximumSize);
+    }
+  }
+
+  /**
+   * Returns compiled instance for the current contents of a configuration object
+   * @param object configuration object
+   * @return compiled instance
+   */
+  C get(M object) {
+    Map<M, Entry<K, C>> objectSegment = objectSegments[segmentIndex(object)];
+    Entry<K, C> entry;
+    synchronized (objectSegment) {
+      entry = objectSegment.get(object);
+    }
+    if (entry != null && matches.test(entry.contents, object)) {
+      return entry.compiled;
+    }
+    K key = contents.apply(object);
+    Map<K, C> contentSegment = contentSegments[segmentIndex(key)];
+    C compiled;
+    synchronized (contentSegment) {
+      compiled = contentSegment.get(key);
+      if (compiled == null) {
+        compiled = compile.apply(key);
+        contentSegment.put(key, compiled);
+      }
+    }
+    synchronized (objectSegment) {
+      objectSegment.put(object, new Entry<>(key, compiled));
+    }
+    return compiled;
+  }
+
+  private static int segmentIndex(Object key) {
+    return key.hashCode() * 0x9E3779B9 >>> 28;
+  }
+
+  private static <K, V> Map<K, V> createSegment(int maximumSize) {
+    int segmentSize = Math.max(1, (maximumSize + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+    return new LinkedHashMap<K, V>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > segmentSize;
+      }
+    };
+  }
+
+  private static class Entry<K, C> {
+    final K contents;
+    final C compiled;
+
+    Entry(K contents, C compiled) {
+      this.contents = contents;
+      this.compiled = compiled;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySymbolFilter;
+import cloud.metaapi.sdk.clients.copy_factory.models.snapshot.SymbolFilterSnapshot;
+
+/**
+ * Compiled representation of {@link CopyFactoryStrategySymbolFilter} for fast local symbol eligibility checks.
+ * Exact symbols are looked up in hash sets, symbols ending with {@code *} are treated as prefix patterns and
+ * matched with a trie. Instances are immutable and can be shared between threads
+ */
+public class CompiledSymbolFilter {
+
+  /**
+   * Filter which allows all symbols
+   */
+  public static final CompiledSymbolFilter ALLOW_ALL = new CompiledSymbolFilter(null);
+  private static final CompilationCache<CopyFactoryStrategySymbolFilter, SymbolFilterSnapshot, CompiledSymbolFilter>
+    cache = new CompilationCache<>(4096, SymbolFilterSnapshot::of, CompiledSymbolFilter::matches,
+    key -> new CompiledSymbolFilter(key.included, key.excluded));
+  private final Set<String> included;
+  private final SymbolPrefixTrie includedPrefixes;
+  private final Set<String> excluded;
+  private final SymbolPrefixTrie excludedPrefixes;
+
+  /**
+   * Constructs compiled symbol filter
+   * @param filter symbol filter to compile, or {@code null} to allow all symbols
+   */
+  public CompiledSymbolFilter(CopyFactoryStrategySymbolFilter filter) {
+    this(filter != null ? filter.included : null, filter != null ? filter.excluded : null);
+  }
+
+  private CompiledSymbolFilter(List<String> includedPatterns, List<String> excludedPatterns) {
+    if (includedPatterns == null) {
+      includedPatterns = Collections.emptyList();
+    }
+    if (excludedPatterns == null) {
+      excludedPatterns = Collections.emptyList();
+    }
+    included = exactSymbols(includedPatterns);
+    includedPrefixes = prefixes(includedPatterns);
+    excluded = exactSymbols(excludedPatterns);
+    excludedPrefixes = prefixes(excludedPatterns);
+  }
+
+  /**
+   * Returns compiled symbol filter cached for a filter. The filter is cached by the filter object, and its lists are
+   * compared with the ones it was compiled from, so later modifications of the filter do not affect the compiled
+   * filter returned. Equal filters share one compiled filter. The cache evicts least recently used filters first
+   * @param filter symbol filter, or {@code null}
+   * @return compiled symbol filter
+   */
+  public static CompiledSymbolFilter of(CopyFactoryStrategySymbolFilter filter) {
+    return filter != null ? cache.get(filter) : ALLOW_ALL;
+  }
+
+  /**
+   * Checks whether a symbol is allowed to be copied by the filter
+   * @param symbol symbol to check
+   * @return {@code true} if the symbol is allowed
+   */
+  public boolean isAllowed(String symbol) {
+    boolean isIncluded = (included == null && includedPrefixes == null)
+      || (included != null && included.contains(symbol))
+      || (includedPrefixes != null && includedPrefixes.matches(symbol));
+    return isIncluded && !((excluded != null && excluded.contains(symbol))
+      || (excludedPrefixes != null && excludedPrefixes.matches(symbol)));
+  }
+
+  private static boolean matches(SymbolFilterSnapshot snapshot, CopyFactoryStrategySymbolFilter filter) {
+    return Objects.equals(snapshot.included, filter.included) && Objects.equals(snapshot.excluded, filter.excluded);
+  }
+
+  private static Set<String> exactSymbols(List<String> patterns) {
+    Set<String> result = new HashSet<>();
+    for (String pattern : patterns) {
+      if (!pattern.endsWith("*")) {
+        result.add(pattern);
+      }
+    }
+    return result.isEmpty() ? null : result;
+  }
+
+  private static SymbolPrefixTrie prefixes(List<String> patterns) {
+    List<String> result = new ArrayList<>();
+    for (String pattern : patterns) {
+      if (pattern.endsWith("*")) {
+        result.add(pattern.substring(0, pattern.length() - 1));
+      }
+    }
+    return result.isEmpty() ? null : SymbolPrefixTrie.build(result);
+  }
+}
@@ -0,0 +1,97 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySymbolMapping;
+import cloud.metaapi.sdk.clients.copy_factory.models.snapshot.SymbolMappingSnapshot;
+
+/**
+ * Compiled representation of a {@link CopyFactoryStrategySymbolMapping} list backed by a hash map. Instances are
+ * immutable and can be shared between threads
+ */
+public class CompiledSymbolMapping {
+
+  /**
+   * Mapping which leaves all symbols unchanged
+   */
+  public static final CompiledSymbolMapping IDENTITY = new CompiledSymbolMapping(Collections.emptyMap());
+  private static final CompilationCache<List<CopyFactoryStrategySymbolMapping>, List<SymbolMappingSnapshot>,
+    CompiledSymbolMapping> cache = new CompilationCache<>(4096, CompiledSymbolMapping::snapshot,
+    CompiledSymbolMapping::matches, CompiledSymbolMapping::compile);
+  private final Map<String, String> mapping;
+
+  /**
+   * Constructs compiled symbol mapping
+   * @param symbolMapping symbol mapping list to compile, or {@code null} to leave symbols unchanged
+   */
+  public CompiledSymbolMapping(List<CopyFactoryStrategySymbolMapping> symbolMapping) {
+    Map<String, String> result = new HashMap<>();
+    if (symbolMapping != null) {
+      for (CopyFactoryStrategySymbolMapping item : symbolMapping) {
+        result.putIfAbsent(item.from, item.to);
+      }
+    }
+    mapping = result;
+  }
+
+  private CompiledSymbolMapping(Map<String, String> mapping) {
+    this.mapping = mapping;
+  }
+
+  /**
+   * Returns compiled symbol mapping cached for a mapping list. The mapping is cached by the list object, and its items
+   * are compared with the ones it was compiled from, so later modifications of the list do not affect the compiled
+   * mapping returned. Equal lists share one compiled mapping. The cache evicts least recently used lists first
+   * @param symbolMapping symbol mapping list, or {@code null}
+   * @return compiled symbol mapping
+   */
+  public static CompiledSymbolMapping of(List<CopyFactoryStrategySymbolMapping> symbolMapping) {
+    return symbolMapping != null && !symbolMapping.isEmpty() ? cache.get(symbolMapping) : IDENTITY;
+  }
+
+  /**
+   * Returns symbol name to trade on subscriber side
+   * @param symbol source symbol
+   * @return mapped symbol, or the source symbol if it is not mapped
+   */
+  public String map(String symbol) {
+    String result = mapping.get(symbol);
+    return result != null ? result : symbol;
+  }
+
+  private static CompiledSymbolMapping compile(List<SymbolMappingSnapshot> symbolMapping) {
+    Map<String, String> result = new HashMap<>();
+    for (SymbolMappingSnapshot item : symbolMapping) {
+      result.putIfAbsent(item.from, item.to);
+    }
+    return new CompiledSymbolMapping(result);
+  }
+
+  private static List<SymbolMappingSnapshot> snapshot(List<CopyFactoryStrategySymbolMapping> symbolMapping) {
+    List<SymbolMappingSnapshot> result = new ArrayList<>(symbolMapping.size());
+    for (CopyFactoryStrategySymbolMapping item : symbolMapping) {
+      result.add(SymbolMappingSnapshot.of(item));
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  private static boolean matches(List<SymbolMappingSnapshot> snapshot,
+      List<CopyFactoryStrategySymbolMapping> symbolMapping) {
+    if (snapshot.size() != symbolMapping.size()) {
+      return false;
+    }
+    for (int i = 0; i < snapshot.size(); i++) {
+      SymbolMappingSnapshot item = snapshot.get(i);
+      CopyFactoryStrategySymbolMapping actual = symbolMapping.get(i);
+      if (!Objects.equals(item.from, actual.from) || !Objects.equals(item.to, actual.to)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,47 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryAccount;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryPortfolioStrategy;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategy;
+
+/**
+ * Listener of CopyFactory configuration changes detected by {@link ConfigurationStore}
+ */
+public interface ConfigurationListener {
+
+  /**
+   * Invoked when an account was added or changed
+   * @param account account added or changed
+   */
+  default void onAccountUpdated(CopyFactoryAccount account) {}
+
+  /**
+   * Invoked when an account was removed
+   * @param accountId id of the account removed
+   */
+  default void onAccountRemoved(String accountId) {}
+
+  /**
+   * Invoked when a strategy was added or changed
+   * @param strategy strategy added or changed
+   */
+  default void onStrategyUpdated(CopyFactoryStrategy strategy) {}
+
+  /**
+   * Invoked when a strategy was removed
+   * @param strategyId id of the strategy removed
+   */
+  default void onStrategyRemoved(String strategyId) {}
+
+  /**
+   * Invoked when a portfolio strategy was added or changed
+   * @param portfolioStrategy portfolio strategy added or changed
+   */
+  default void onPortfolioStrategyUpdated(CopyFactoryPortfolioStrategy portfolioStrategy) {}
+
+  /**
+   * Invoked when a portfolio strategy was removed
+   * @param portfolioId id of the portfolio strategy removed
+   */
+  default void onPortfolioStrategyRemoved(String portfolioId) {}
+}
@@ -0,0 +1,40 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import java.util.List;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryAccount;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryPortfolioStrategy;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategy;
+import cloud.metaapi.sdk.clients.models.IsoTime;
+
+/**
+ * Serializable snapshot of the CopyFactory configuration state
+ */
+public class ConfigurationSnapshot {
+
+  /**
+   * Snapshot format version written by this SDK version
+   */
+  public static final int FORMAT_VERSION = 1;
+
+  /**
+   * Snapshot format version
+   */
+  public int version = FORMAT_VERSION;
+  /**
+   * Time the snapshot was taken at
+   */
+  public IsoTime createdAt;
+  /**
+   * CopyFactory accounts
+   */
+  public List<CopyFactoryAccount> accounts;
+  /**
+   * CopyFactory strategies
+   */
+  public List<CopyFactoryStrategy> strategies;
+  /**
+   * CopyFactory portfolio strategies
+   */
+  public List<CopyFactoryPortfolioStrategy> portfolioStrategies;
+}
@@ -0,0 +1,380 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import cloud.metaapi.sdk.clients.copy_factory.ConfigurationClient;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryAccount;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryPortfolioStrategy;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategy;
+import cloud.metaapi.sdk.clients.copy_factory.models.snapshot.AccountSnapshot;
+import cloud.metaapi.sdk.clients.copy_factory.models.snapshot.PortfolioStrategySnapshot;
+import cloud.metaapi.sdk.clients.copy_factory.models.snapshot.StrategySnapshot;
+import cloud.metaapi.sdk.clients.models.IsoTime;
+import cloud.metaapi.sdk.util.JsonMapper;
+
+/**
+ * Local copy of the CopyFactory configuration (accounts, strategies and portfolio strategies). The state can be
+ * exported to a compact snapshot file and imported from it on startup, so that the configuration is available
+ * immediately while the store is being refreshed from the API in background. Refreshes apply only the differences
+ * and notify registered {@link ConfigurationListener}s about them. The store keeps immutable snapshots of the models,
+ * which can be shared between threads without copying, and returns models as copies owned by the caller. Snapshots
+ * of changed objects reuse the unchanged parts of their previous snapshots, and the snapshots of unchanged objects
+ * are the previous ones, which is how the differences are detected
+ */
+public class ConfigurationStore {
+
+  private static Logger logger = LogManager.getLogger(ConfigurationStore.class);
+  private static ObjectMapper jsonMapper = JsonMapper.getInstance();
+  private ConfigurationClient configurationClient;
+  private Map<String, AccountSnapshot> accountSnapshots = new ConcurrentHashMap<>();
+  private Map<String, StrategySnapshot> strategySnapshots = new ConcurrentHashMap<>();
+  private Map<String, PortfolioStrategySnapshot> portfolioStrategySnapshots = new ConcurrentHashMap<>();
+  private List<ConfigurationListener> listeners = new CopyOnWriteArrayList<>();
+  private ScheduledExecutorService refreshExecutor;
+  private ScheduledFuture<?> refreshTask;
+
+  /**
+   * Constructs configuration store instance
+   * @param configurationClient configuration API client to load configuration with
+   */
+  public ConfigurationStore(ConfigurationClient configurationClient) {
+    this.configurationClient = configurationClient;
+  }
+
+  /**
+   * Starts the store. If the snapshot file exists and is valid, the configuration is imported from it and the
+   * returned future completes immediately, otherwise the configuration is loaded from the API first. After that
+   * the configuration is refreshed periodically in background
+   * @param snapshotFile snapshot file to import configuration from, or {@code null}
+   * @param refreshIntervalInSeconds interval between background refreshes in seconds
+   * @return completable future resolving when the configuration is available
+   */
+  public CompletableFuture<Void> start(Path snapshotFile, int refreshIntervalInSeconds) {
+    boolean imported = snapshotFile != null && importSnapshot(snapshotFile);
+    if (imported) {
+      scheduleRefresh(0, refreshIntervalInSeconds);
+      return CompletableFuture.completedFuture(null);
+    }
+    return refresh().thenRun(() -> scheduleRefresh(refreshIntervalInSeconds, refreshIntervalInSeconds));
+  }
+
+  /**
+   * Stops background refreshing
+   */
+  public synchronized void stop() {
+    if (refreshTask != null) {
+      refreshTask.cancel(false);
+      refreshTask = null;
+    }
+    if (refreshExecutor != null) {
+      refreshExecutor.shutdown();
+      refreshExecutor = null;
+    }
+  }
+
+  /**
+   * Loads the configuration from the API and applies the differences to the store
+   * @return completable future resolving when the configuration is refreshed
+   */
+  public CompletableFuture<Void> refresh() {
+    CompletableFuture<List<CopyFactoryAccount>> accountsFuture = configurationClient.getAccounts();
+    CompletableFuture<List<CopyFactoryStrategy>> strategiesFuture = configurationClient.getStrategies();
+    CompletableFuture<List<CopyFactoryPortfolioStrategy>> portfolioStrategiesFuture =
+      configurationClient.getPortfolioStrategies();
+    return CompletableFuture.allOf(accountsFuture, strategiesFuture, portfolioStrategiesFuture)
+      .thenRun(() -> {
+        ConfigurationSnapshot snapshot = new ConfigurationSnapshot();
+        snapshot.accounts = accountsFuture.join();
+        snapshot.strategies = strategiesFuture.join();
+        snapshot.portfolioStrategies = portfolioStrategiesFuture.join();
+        applySnapshot(snapshot);
+      });
+  }
+
+  /**
+   * Imports configuration from a snapshot file and applies the differences to the store
+   * @param file snapshot file
+   * @return {@code true} if the snapshot was imported, {@code false} if the file does not exist or can not be
+   * imported
+   */
+  public boolean importSnapshot(Path file) {
+    if (!Files.exists(file)) {
+      return false;
+    }
+    try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+      ConfigurationSnapshot snapshot = jsonMapper.readValue(in, ConfigurationSnapshot.class);
+      if (snapshot.version != ConfigurationSnapshot.FORMAT_VERSION) {
+        logger.warn("Ignoring configuration snapshot " + file + " of unsupported version " + snapshot.version);
+        return false;
+      }
+      applySnapshot(snapshot);
+      return true;
+    } catch (IOException e) {
+      logger.warn("Failed to import configuration snapshot " + file, e);
+      return false;
+    }
+  }
+
+  /**
+   * Exports current configuration to a snapshot file. The file is replaced atomically
+   * @param file snapshot file
+   * @throws IOException if the file can not be written
+   */
+  public void exportSnapshot(Path file) throws IOException {
+    Path directory = file.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tempFile))) {
+        jsonMapper.writeValue(out, getSnapshot());
+      }
+      Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
+  /**
+   * Returns snapshot of current configuration
+   * @return configuration snapshot
+   */
+  public ConfigurationSnapshot getSnapshot() {
+    ConfigurationSnapshot snapshot = new ConfigurationSnapshot();
+    snapshot.createdAt = new IsoTime(Instant.now());
+    snapshot.accounts = getAccounts();
+    snapshot.strategies = getStrategies();
+    snapshot.portfolioStrategies = getPortfolioStrategies();
+    return snapshot;
+  }
+
+  /**
+   * Applies configuration snapshot to the store. Only changed objects are replaced, listeners are notified
+   * about each change
+   * @param snapshot configuration snapshot
+   */
+  public synchronized void applySnapshot(ConfigurationSnapshot snapshot) {
+    if (snapshot.accounts != null) {
+      applyChanges(accountSnapshots, snapshot.accounts, account -> account._id, AccountSnapshot::of,
+        ConfigurationListener::onAccountUpdated, ConfigurationListener::onAccountRemoved);
+    }
+    if (snapshot.strategies != null) {
+      applyChanges(strategySnapshots, snapshot.strategies, strategy -> strategy._id, StrategySnapshot::of,
+        ConfigurationListener::onStrategyUpdated, ConfigurationListener::onStrategyRemoved);
+    }
+    if (snapshot.portfolioStrategies != null) {
+      applyChanges(portfolioStrategySnapshots, snapshot.portfolioStrategies,
+        strategy -> strategy._id, PortfolioStrategySnapshot::of, ConfigurationListener::onPortfolioStrategyUpdated,
+        ConfigurationListener::onPortfolioStrategyRemoved);
+    }
+  }
+
+  /**
+   * Returns copies of CopyFactory accounts
+   * @return CopyFactory accounts
+   */
+  public List<CopyFactoryAccount> getAccounts() {
+    return models(accountSnapshots.values(), AccountSnapshot::toModel);
+  }
+
+  /**
+   * Returns copy of CopyFactory account by id
+   * @param accountId account id
+   * @return CopyFactory account, or {@code null} if not found
+   */
+  public CopyFactoryAccount getAccount(String accountId) {
+    AccountSnapshot snapshot = accountSnapshots.get(accountId);
+    return snapshot != null ? snapshot.toModel() : null;
+  }
+
+  /**
+   * Returns immutable snapshots of CopyFactory accounts
+   * @return account snapshots
+   */
+  public List<AccountSnapshot> getAccountSnapshots() {
+    return new ArrayList<>(accountSnapshots.values());
+  }
+
+  /**
+   * Returns immutable snapshot of CopyFactory account by id
+   * @param accountId account id
+   * @return account snapshot, or {@code null} if not found
+   */
+  public AccountSnapshot getAccountSnapshot(String accountId) {
+    return accountSnapshots.get(accountId);
+  }
+
+  /**
+   * Returns copies of CopyFactory strategies
+   * @return CopyFactory strategies
+   */
+  public List<CopyFactoryStrategy> getStrategies() {
+    return models(strategySnapshots.values(), StrategySnapshot::toModel);
+  }
+
+  /**
+   * Returns copy of CopyFactory strategy by id
+   * @param strategyId strategy id
+   * @return CopyFactory strategy, or {@code null} if not found
+   */
+  public CopyFactoryStrategy getStrategy(String strategyId) {
+    StrategySnapshot snapshot = strategySnapshots.get(strategyId);
+    return snapshot != null ? snapshot.toModel() : null;
+  }
+
+  /**
+   * Returns immutable snapshots of CopyFactory strategies
+   * @return strategy snapshots
+   */
+  public List<StrategySnapshot> getStrategySnapshots() {
+    return new ArrayList<>(strategySnapshots.values());
+  }
+
+  /**
+   * Returns immutable snapshot of CopyFactory strategy by id
+   * @param strategyId strategy id
+   * @return strategy snapshot, or {@code null} if not found
+   */
+  public StrategySnapshot getStrategySnapshot(String strategyId) {
+    return strategySnapshots.get(strategyId);
+  }
+
+  /**
+   * Returns copies of CopyFactory portfolio strategies
+   * @return CopyFactory portfolio strategies
+   */
+  public List<CopyFactoryPortfolioStrategy> getPortfolioStrategies() {
+    return models(portfolioStrategySnapshots.values(), PortfolioStrategySnapshot::toModel);
+  }
+
+  /**
+   * Returns copy of CopyFactory portfolio strategy by id
+   * @param portfolioId portfolio strategy id
+   * @return CopyFactory portfolio strategy, or {@code null} if not found
+   */
+  public CopyFactoryPortfolioStrategy getPortfolioStrategy(String portfolioId) {
+    PortfolioStrategySnapshot snapshot = portfolioStrategySnapshots.get(portfolioId);
+    return snapshot != null ? snapshot.toModel() : null;
+  }
+
+  /**
+   * Returns immutable snapshots of CopyFactory portfolio strategies
+   * @return portfolio strategy snapshots
+   */
+  public List<PortfolioStrategySnapshot> getPortfolioStrategySnapshots() {
+    return new ArrayList<>(portfolioStrategySnapshots.values());
+  }
+
+  /**
+   * Returns immutable snapshot of CopyFactory portfolio strategy by id
+   * @param portfolioId portfolio strategy id
+   * @return portfolio strategy snapshot, or {@code null} if not found
+   */
+  public PortfolioStrategySnapshot getPortfolioStrategySnapshot(String portfolioId) {
+    return portfolioStrategySnapshots.get(portfolioId);
+  }
+
+  /**
+   * Adds configuration change listener
+   * @param listener listener to add
+   */
+  public void addListener(ConfigurationListener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes configuration change listener
+   * @param listener listener to remove
+   */
+  public void removeListener(ConfigurationListener listener) {
+    listeners.remove(listener);
+  }
+
+  private synchronized void scheduleRefresh(long initialDelayInSeconds, long intervalInSeconds) {
+    if (refreshExecutor == null) {
+      refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "CopyFactoryConfigurationRefresh");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    if (refreshTask == null) {
+      refreshTask = refreshExecutor.scheduleWithFixedDelay(() -> {
+        try {
+          refresh().join();
+        } catch (Throwable e) {
+          logger.error("Failed to refresh CopyFactory configuration", e);
+        }
+      }, initialDelayInSeconds, intervalInSeconds, TimeUnit.SECONDS);
+    }
+  }
+
+  private <T, S> void applyChanges(Map<String, S> snapshots, List<T> actual, Function<T, String> getId,
+    BiFunction<T, S, S> toSnapshot, BiConsumer<ConfigurationListener, T> onUpdated,
+    BiConsumer<ConfigurationListener, String> onRemoved) {
+    Set<String> actualIds = new HashSet<>();
+    for (T item : actual) {
+      String id = getId.apply(item);
+      actualIds.add(id);
+      S previousSnapshot = snapshots.get(id);
+      S snapshot = toSnapshot.apply(item, previousSnapshot);
+      if (snapshot != previousSnapshot) {
+        snapshots.put(id, snapshot);
+        notifyListeners(listener -> onUpdated.accept(listener, item));
+      }
+    }
+    for (String id : new ArrayList<>(snapshots.keySet())) {
+      if (!actualIds.contains(id)) {
+        snapshots.remove(id);
+        notifyListeners(listener -> onRemoved.accept(listener, id));
+      }
+    }
+  }
+
+  private static <S, T> List<T> models(Collection<S> snapshots, Function<S, T> toModel) {
+    List<T> result = new ArrayList<>(snapshots.size());
+    for (S snapshot : snapshots) {
+      result.add(toModel.apply(snapshot));
+    }
+    return result;
+  }
+
+  private void notifyListeners(Consumer<ConfigurationListener> action) {
+    for (ConfigurationListener listener : listeners) {
+      try {
+        action.accept(listener);
+      } catch (Throwable e) {
+        logger.error("Failed to notify configuration listener", e);
+      }
+    }
+  }
+}
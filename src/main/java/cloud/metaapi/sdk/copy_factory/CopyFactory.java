@@ -1,24 +1,126 @@
 package cloud.metaapi.sdk.copy_factory;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import cloud.metaapi.sdk.clients.HttpClient;
 import cloud.metaapi.sdk.clients.RetryOptions;
 import cloud.metaapi.sdk.clients.copy_factory.ConfigurationClient;
+import cloud.metaapi.sdk.clients.copy_factory.CopyFactoryApiClient;
 import cloud.metaapi.sdk.clients.copy_factory.HistoryClient;
 import cloud.metaapi.sdk.clients.copy_factory.TradingClient;
+import cloud.metaapi.sdk.clients.copy_factory.http.CanonicalizationOptions;
+import cloud.metaapi.sdk.clients.copy_factory.http.CircuitBreakerOpenException;
+import cloud.metaapi.sdk.clients.copy_factory.http.CircuitBreakerOptions;
+import cloud.metaapi.sdk.clients.copy_factory.http.CircuitBreakerStats;
+import cloud.metaapi.sdk.clients.copy_factory.http.ConnectionPoolOptions;
+import cloud.metaapi.sdk.clients.copy_factory.http.ConnectionPoolStats;
+import cloud.metaapi.sdk.clients.copy_factory.http.CopyFactoryHttpClient;
+import cloud.metaapi.sdk.clients.copy_factory.http.HedgingOptions;
+import cloud.metaapi.sdk.clients.copy_factory.http.IdentifierRegistry;
+import cloud.metaapi.sdk.clients.copy_factory.http.IdentifierRegistryOptions;
+import cloud.metaapi.sdk.clients.copy_factory.http.JsonCodecs;
+import cloud.metaapi.sdk.clients.copy_factory.http.ModelCanonicalizer;
+import cloud.metaapi.sdk.clients.copy_factory.http.RateLimitOptions;
+import cloud.metaapi.sdk.clients.copy_factory.http.VirtualThreads;
+import cloud.metaapi.sdk.clients.copy_factory.metrics.InMemoryMetricsRegistry;
+import cloud.metaapi.sdk.clients.copy_factory.metrics.MetricsRegistry;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryAccount;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryAccountUpdate;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryPortfolioStrategy;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryPortfolioStrategyUpdate;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategy;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyIdAndName;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyStopout;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyUpdate;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactorySubscriberOrProvider;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryUserLogRecord;
+import cloud.metaapi.sdk.clients.copy_factory.models.ResynchronizationTask;
+import cloud.metaapi.sdk.clients.copy_factory.models.StrategyId;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.CompactStopout;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.CompactTransaction;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.CompactUserLogRecord;
 import cloud.metaapi.sdk.clients.error_handler.ValidationException;
+import cloud.metaapi.sdk.util.Async;
 
 /**
- * MetaApi CopyFactory copy trading API SDK
+ * MetaApi CopyFactory copy trading API SDK. API clients are constructed when they are first requested, and
+ * {@link #warmUp()} can be called to prepare them and the JSON codecs of the models in the background before the
+ * first call
  */
 public class CopyFactory {
   
   private static Logger logger = LogManager.getLogger(CopyFactory.class);
-  private ConfigurationClient configurationClient;
-  private HistoryClient historyClient;
-  private TradingClient tradingClient;
+  private static final Class<?>[] DECODED_TYPES = {StrategyId.class, CopyFactoryAccount.class,
+    CopyFactoryAccount[].class, CopyFactoryStrategy.class, CopyFactoryStrategy[].class,
+    CopyFactoryPortfolioStrategy.class, CopyFactoryPortfolioStrategy[].class, CopyFactoryTransaction[].class,
+    CopyFactorySubscriberOrProvider[].class, CopyFactoryStrategyIdAndName[].class,
+    CopyFactoryStrategyStopout[].class, CopyFactoryUserLogRecord[].class, ResynchronizationTask[].class,
+    CompactTransaction[].class, CompactUserLogRecord[].class, CompactStopout[].class};
+  private static final Class<?>[] ENCODED_TYPES = {CopyFactoryAccountUpdate.class, CopyFactoryStrategyUpdate.class,
+    CopyFactoryPortfolioStrategyUpdate.class};
+  private CopyFactoryHttpClient httpClient;
+  private ExecutorService ownExecutor;
+  private MetricsRegistry metricsRegistry;
+  private String token;
+  private Options options;
+  final Lazy<ConfigurationClient> configurationApi = new Lazy<>(() -> withHost(new ConfigurationClient(httpClient,
+    token, options.domain)));
+  final Lazy<HistoryClient> historyApi = new Lazy<>(() -> withHost(new HistoryClient(httpClient, token,
+    options.domain)));
+  final Lazy<TradingClient> tradingApi = new Lazy<>(() -> withHost(new TradingClient(httpClient, token,
+    options.domain)));
+  private boolean sharedTransport;
+  
+  /**
+   * Value created when it is first requested
+   * @param <T> value type
+   */
+  static class Lazy<T> {
+
+    private final Supplier<T> factory;
+    private volatile T value;
+
+    /**
+     * Constructs lazy value
+     * @param factory factory creating the value
+     */
+    Lazy(Supplier<T> factory) {
+      this.factory = factory;
+    }
+
+    /**
+     * Returns the value, creating it on the first call
+     * @return value
+     */
+    T get() {
+      T result = value;
+      if (result == null) {
+        synchronized (this) {
+          result = value;
+          if (result == null) {
+            result = factory.get();
+            value = result;
+          }
+        }
+      }
+      return result;
+    }
+
+    /**
+     * Returns whether the value is created
+     * @return whether the value is created
+     */
+    boolean isCreated() {
+      return value != null;
+    }
+  }
   
   /**
    * CopyFactory options
@@ -28,6 +130,11 @@ public class CopyFactory {
      * Domain to connect to
      */
     public String domain = "agiliumtrade.agiliumtrade.ai";
+    /**
+     * URL of the CopyFactory API, or {@code null} to derive it from the domain. Can be used to connect to a local stub
+     * server in tests and benchmarks
+     */
+    public String url;
     /**
      * Timeout for http requests in seconds
      */
@@ -40,6 +147,61 @@ public class CopyFactory {
      * Retry options
      */
     public RetryOptions retryOpts = new RetryOptions();
+    /**
+     * Options of the connection pool shared by configuration, history and trading APIs
+     */
+    public ConnectionPoolOptions connectionPool = new ConnectionPoolOptions();
+    /**
+     * Executor to run requests and completions of returned futures on, or {@code null} to use the default SDK
+     * executor. The executor is not shut down by the SDK
+     */
+    public Executor executor;
+    /**
+     * Whether to run requests on virtual threads when no executor is specified. Virtual threads require JDK 21 or
+     * newer, on older JDKs the default SDK executor is used
+     */
+    public boolean useVirtualThreads = false;
+    /**
+     * Whether identical GET requests in flight at the same time should share one network call. Callers sharing a call
+     * receive the same decoded models, so a model modified by one caller is modified for the others as well. Disabled
+     * by default
+     */
+    public boolean deduplicateRequests = false;
+    /**
+     * Whether compressed responses should be requested. Successful responses are decompressed and decoded while they
+     * are received
+     */
+    public boolean compressResponses = true;
+    /**
+     * Maximum number of decoded accounts, strategies and portfolio strategies responses kept to revalidate them with
+     * conditional requests, or 0 to disable conditional requests
+     */
+    public int validatorCacheSize = 1000;
+    /**
+     * Client-side rate limit options
+     */
+    public RateLimitOptions rateLimit = new RateLimitOptions();
+    /**
+     * Options of hedging idempotent calls with duplicate requests when their responses are late
+     */
+    public HedgingOptions hedging = new HedgingOptions();
+    /**
+     * Options of circuit breakers making requests fail fast while their endpoints keep failing or responding slowly.
+     * Disabled by default
+     */
+    public CircuitBreakerOptions circuitBreaker = new CircuitBreakerOptions();
+    /**
+     * Options of the registry identifiers of decoded models are deduplicated through. Enabled by default
+     */
+    public IdentifierRegistryOptions identifierRegistry = new IdentifierRegistryOptions();
+    /**
+     * Options of canonicalization of model snapshots, which returns repeated snapshots as shared instances
+     */
+    public CanonicalizationOptions canonicalization = new CanonicalizationOptions();
+    /**
+     * Registry to record request metrics to, or {@code null} to record them to an in-memory registry
+     */
+    public MetricsRegistry metricsRegistry;
   }
   
   /**
@@ -64,12 +226,27 @@ public class CopyFactory {
     initialize(token, opts);
   }
   
+  /**
+   * Constructs CopyFactory class instance using a transport shared with other instances
+   * @param token authorization token
+   * @param opts connection options
+   * @param httpClient shared HTTP client
+   * @param metricsRegistry shared metrics registry
+   */
+  CopyFactory(String token, Options opts, CopyFactoryHttpClient httpClient, MetricsRegistry metricsRegistry) {
+    this.httpClient = httpClient;
+    this.metricsRegistry = metricsRegistry;
+    this.sharedTransport = true;
+    this.token = token;
+    this.options = opts;
+  }
+  
   /**
    * Returns CopyFactory configuration API
    * @return configuration API
    */
   public ConfigurationClient getConfigurationApi() {
-    return configurationClient;
+    return configurationApi.get();
   }
   
   /**
@@ -77,7 +254,7 @@ public class CopyFactory {
    * @return history API
    */
   public HistoryClient getHistoryApi() {
-    return historyClient;
+    return historyApi.get();
   }
   
   /**
@@ -85,13 +262,148 @@ public class CopyFactory {
    * @return trading API
    */
   public TradingClient getTradingApi() {
-    return tradingClient;
+    return tradingApi.get();
+  }
+  
+  /**
+   * Prepares API clients and JSON readers and writers of the API models on the executor of the SDK, so that the first
+   * calls do not pay for introspecting the model classes. Calls made before the warm-up completes work as usual
+   * @return completable future resolving when the warm-up is completed
+   */
+  public CompletableFuture<Void> warmUp() {
+    return CompletableFuture.runAsync(() -> {
+      getConfigurationApi();
+      getHistoryApi();
+      getTradingApi();
+      httpClient.warmUp();
+      boolean identifiers = httpClient.getIdentifierRegistry() != null;
+      for (Class<?> type : DECODED_TYPES) {
+        JsonCodecs.reader(type, identifiers);
+      }
+      for (Class<?> type : ENCODED_TYPES) {
+        JsonCodecs.writer(type);
+      }
+    }, httpClient.getExecutor());
+  }
+  
+  /**
+   * Returns registry request metrics are recorded to. Unless another registry is specified in options, it is an
+   * {@link InMemoryMetricsRegistry}
+   * @return metrics registry
+   */
+  public MetricsRegistry getMetricsRegistry() {
+    return metricsRegistry;
+  }
+  
+  /**
+   * Returns statistics of the connection pool shared by CopyFactory APIs
+   * @return connection pool statistics
+   */
+  public ConnectionPoolStats getConnectionPoolStats() {
+    return httpClient.getPoolStats();
+  }
+  
+  /**
+   * Returns statistics of circuit breakers of CopyFactory endpoints. While a breaker is open, requests to its endpoints
+   * fail with {@link CircuitBreakerOpenException}
+   * @return circuit breaker statistics
+   */
+  public List<CircuitBreakerStats> getCircuitBreakerStats() {
+    return httpClient.getCircuitBreakerStats();
+  }
+  
+  /**
+   * Returns registry identifiers of decoded models are deduplicated through. It can also map identifiers to int
+   * handles if they are enabled in options
+   * @return identifier registry, or {@code null} if identifiers are not deduplicated
+   */
+  public IdentifierRegistry getIdentifierRegistry() {
+    return httpClient.getIdentifierRegistry();
+  }
+  
+  /**
+   * Returns canonicalizer snapshots returned by the API clients are replaced with shared instances through
+   * @return model canonicalizer, or {@code null} if snapshots are not canonicalized
+   */
+  public ModelCanonicalizer getModelCanonicalizer() {
+    return httpClient.getModelCanonicalizer();
+  }
+  
+  /**
+   * Closes pooled connections. CopyFactory APIs can not be used after that. Does nothing if the instance is obtained
+   * from {@link MultiTenantCopyFactory}, the shared transport is closed by {@link MultiTenantCopyFactory#close()}
+   */
+  public void close() {
+    if (sharedTransport) {
+      return;
+    }
+    httpClient.close();
+    if (ownExecutor != null) {
+      ownExecutor.shutdown();
+    }
+  }
+  
+  private <T extends CopyFactoryApiClient> T withHost(T client) {
+    if (options.url != null) {
+      client.setHost(options.url);
+    }
+    return client;
+  }
+  
+  /**
+   * Creates executor owned by the SDK according to options
+   * @param opts connection options
+   * @return executor, or {@code null} if the executor specified in options or the default SDK executor is to be used
+   */
+  static ExecutorService createOwnExecutor(Options opts) {
+    if (opts.executor == null && opts.useVirtualThreads) {
+      if (VirtualThreads.isSupported()) {
+        return VirtualThreads.newExecutor();
+      } else {
+        logger.warn("Virtual threads are not supported by the current JDK, using default executor instead");
+      }
+    }
+    return null;
+  }
+  
+  /**
+   * Creates HTTP client according to options
+   * @param opts connection options
+   * @param ownExecutor executor owned by the SDK, or {@code null}
+   * @param metricsRegistry metrics registry
+   * @return HTTP client
+   * @throws ValidationException if specified options are invalid
+   */
+  static CopyFactoryHttpClient createHttpClient(Options opts, Executor ownExecutor, MetricsRegistry metricsRegistry)
+    throws ValidationException {
+    Executor executor = opts.executor != null ? opts.executor : ownExecutor;
+    CopyFactoryHttpClient httpClient = new CopyFactoryHttpClient(opts.requestTimeout * 1000,
+      opts.connectTimeout * 1000, opts.retryOpts, opts.connectionPool, executor != null ? executor
+      : Async.getExecutor());
+    httpClient.setDeduplicateRequests(opts.deduplicateRequests);
+    httpClient.setCompressResponses(opts.compressResponses);
+    httpClient.setValidatorCacheSize(opts.validatorCacheSize);
+    httpClient.setRateLimitOptions(opts.rateLimit);
+    httpClient.setHedgingOptions(opts.hedging);
+    httpClient.setCircuitBreakerOptions(opts.circuitBreaker);
+    if (opts.identifierRegistry != null && opts.identifierRegistry.enabled) {
+      httpClient.setIdentifierRegistry(new IdentifierRegistry(opts.identifierRegistry));
+    }
+    if (opts.canonicalization != null && opts.canonicalization.enabled) {
+      httpClient.setModelCanonicalizer(new ModelCanonicalizer(opts.canonicalization));
+    }
+    httpClient.setMetricsRegistry(metricsRegistry);
+    return httpClient;
   }
   
   private void initialize(String token, Options opts) throws ValidationException {
-    HttpClient httpClient = new HttpClient(opts.requestTimeout * 1000, opts.connectTimeout * 1000, opts.retryOpts);
-    configurationClient = new ConfigurationClient(httpClient, token, opts.domain);
-    historyClient = new HistoryClient(httpClient, token, opts.domain);
-    tradingClient = new TradingClient(httpClient, token, opts.domain);
+    if (opts == null) {
+      opts = new Options();
+    }
+    ownExecutor = createOwnExecutor(opts);
+    metricsRegistry = opts.metricsRegistry != null ? opts.metricsRegistry : new InMemoryMetricsRegistry();
+    httpClient = createHttpClient(opts, ownExecutor, metricsRegistry);
+    this.token = token;
+    this.options = opts;
   }
 }
\ No newline at end of file
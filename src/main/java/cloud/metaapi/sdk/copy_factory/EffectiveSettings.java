@@ -0,0 +1,58 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import java.util.List;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyRiskLimit;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyStopOutRisk;
+
+/**
+ * Settings effectively applied when an account copies a strategy, resolved from subscription, account, portfolio
+ * and strategy levels
+ */
+public class EffectiveSettings {
+  /**
+   * Subscriber account id
+   */
+  public String accountId;
+  /**
+   * Id of the strategy being copied
+   */
+  public String strategyId;
+  /**
+   * Id of the portfolio strategy the strategy is copied through, or {@code null} if the account is subscribed
+   * to the strategy directly
+   */
+  public String portfolioId;
+  /**
+   * Effective copying multiplier
+   */
+  public double multiplier;
+  /**
+   * Max leverage allowed, or {@code null}
+   */
+  public Double maxLeverage;
+  /**
+   * Risk limits of all levels
+   */
+  public List<CopyFactoryStrategyRiskLimit> riskLimits;
+  /**
+   * Stop out setting, or {@code null}
+   */
+  public CopyFactoryStrategyStopOutRisk stopOutRisk;
+  /**
+   * Flag indicating whether stop loss is copied
+   */
+  public boolean copyStopLoss;
+  /**
+   * Flag indicating whether take profit is copied
+   */
+  public boolean copyTakeProfit;
+  /**
+   * Minimum trade volume to copy, or {@code null}
+   */
+  public Double minTradeVolume;
+  /**
+   * Maximum trade volume to copy, or {@code null}
+   */
+  public Double maxTradeVolume;
+}
@@ -0,0 +1,231 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryAccount;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryPortfolioMember;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryPortfolioStrategy;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategy;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyRiskLimit;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySubscription;
+
+/**
+ * Resolves settings effectively applied to (account, strategy) pairs using configuration kept in a
+ * {@link ConfigurationStore}. A value is taken from the most specific level which defines it, in the order of
+ * subscription, account, portfolio member, portfolio strategy and strategy. Risk limits of all levels are combined,
+ * since each of them applies. Resolved settings are memoized and only the pairs depending on a changed
+ * configuration object are recomputed
+ */
+public class EffectiveSettingsResolver implements ConfigurationListener {
+
+  private ConfigurationStore store;
+  private Map<String, EffectiveSettings> settings = new ConcurrentHashMap<>();
+  private Map<String, Set<String>> dependentPairs = new ConcurrentHashMap<>();
+  private AtomicLong generation = new AtomicLong();
+
+  /**
+   * Constructs effective settings resolver and registers it as a listener of configuration store
+   * @param store configuration store
+   */
+  public EffectiveSettingsResolver(ConfigurationStore store) {
+    this.store = store;
+    store.addListener(this);
+  }
+
+  /**
+   * Resolves settings effectively applied when an account copies a strategy
+   * @param accountId account id
+   * @param strategyId strategy id
+   * @return effective settings, or {@code null} if the account does not copy the strategy
+   */
+  public EffectiveSettings resolve(String accountId, String strategyId) {
+    String pair = accountId + ":" + strategyId;
+    EffectiveSettings result = settings.get(pair);
+    if (result != null) {
+      return result;
+    }
+    // dependencies are registered before the settings are memoized and the generation is checked again after that,
+    // so an invalidation either finds the memoized settings through the dependencies or makes them removed here
+    long startGeneration = generation.get();
+    CopyFactoryAccount account = store.getAccount(accountId);
+    result = account != null ? compute(account, strategyId) : null;
+    if (result != null) {
+      addDependency("account:" + accountId, pair);
+      addDependency("strategy:" + strategyId, pair);
+      // every subscribed strategy is looked up as a portfolio, and an earlier one takes precedence once it includes
+      // the strategy
+      for (CopyFactoryStrategySubscription subscription : account.subscriptions) {
+        addDependency("strategy:" + subscription.strategyId, pair);
+      }
+      if (generation.get() == startGeneration && settings.putIfAbsent(pair, result) == null
+        && generation.get() != startGeneration) {
+        settings.remove(pair, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Resolves settings for all (account, strategy) pairs
+   * @return effective settings
+   */
+  public List<EffectiveSettings> resolveAll() {
+    List<EffectiveSettings> result = new ArrayList<>();
+    for (CopyFactoryAccount account : store.getAccounts()) {
+      if (account.subscriptions == null) {
+        continue;
+      }
+      for (CopyFactoryStrategySubscription subscription : account.subscriptions) {
+        CopyFactoryPortfolioStrategy portfolio = store.getPortfolioStrategy(subscription.strategyId);
+        if (portfolio == null) {
+          addIfResolved(result, account._id, subscription.strategyId);
+        } else if (portfolio.members != null) {
+          portfolio.members.forEach(member -> addIfResolved(result, account._id, member.strategyId));
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Drops all memoized settings
+   */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    settings.clear();
+    dependentPairs.clear();
+  }
+
+  @Override
+  public void onAccountUpdated(CopyFactoryAccount account) {
+    invalidate("account:" + account._id);
+  }
+
+  @Override
+  public void onAccountRemoved(String accountId) {
+    invalidate("account:" + accountId);
+  }
+
+  @Override
+  public void onStrategyUpdated(CopyFactoryStrategy strategy) {
+    invalidate("strategy:" + strategy._id);
+  }
+
+  @Override
+  public void onStrategyRemoved(String strategyId) {
+    invalidate("strategy:" + strategyId);
+  }
+
+  @Override
+  public void onPortfolioStrategyUpdated(CopyFactoryPortfolioStrategy portfolioStrategy) {
+    invalidate("strategy:" + portfolioStrategy._id);
+  }
+
+  @Override
+  public void onPortfolioStrategyRemoved(String portfolioId) {
+    invalidate("strategy:" + portfolioId);
+  }
+
+  private void addIfResolved(List<EffectiveSettings> result, String accountId, String strategyId) {
+    EffectiveSettings effectiveSettings = resolve(accountId, strategyId);
+    if (effectiveSettings != null) {
+      result.add(effectiveSettings);
+    }
+  }
+
+  private EffectiveSettings compute(CopyFactoryAccount account, String strategyId) {
+    if (account.subscriptions == null) {
+      return null;
+    }
+    CopyFactoryStrategySubscription subscription = null;
+    CopyFactoryPortfolioStrategy portfolio = null;
+    CopyFactoryPortfolioMember member = null;
+    for (CopyFactoryStrategySubscription item : account.subscriptions) {
+      if (strategyId.equals(item.strategyId)) {
+        subscription = item;
+        portfolio = null;
+        member = null;
+        break;
+      }
+      CopyFactoryPortfolioStrategy itemPortfolio = store.getPortfolioStrategy(item.strategyId);
+      if (member == null && itemPortfolio != null && itemPortfolio.members != null) {
+        for (CopyFactoryPortfolioMember itemMember : itemPortfolio.members) {
+          if (strategyId.equals(itemMember.strategyId)) {
+            subscription = item;
+            portfolio = itemPortfolio;
+            member = itemMember;
+            break;
+          }
+        }
+      }
+    }
+    if (subscription == null) {
+      return null;
+    }
+    CopyFactoryStrategy strategy = store.getStrategy(strategyId);
+    EffectiveSettings result = new EffectiveSettings();
+    result.accountId = account._id;
+    result.strategyId = strategyId;
+    result.portfolioId = portfolio != null ? portfolio._id : null;
+    result.multiplier = (subscription.multiplier != null ? subscription.multiplier : 1)
+      * (member != null ? member.multiplier : 1);
+    result.maxLeverage = first(subscription.maxLeverage, account.maxLeverage,
+      member != null ? member.maxLeverage : null, portfolio != null ? portfolio.maxLeverage : null,
+      strategy != null ? strategy.maxLeverage : null);
+    result.stopOutRisk = first(subscription.stopOutRisk, account.stopOutRisk,
+      member != null ? member.stopOutRisk : null, portfolio != null ? portfolio.stopOutRisk : null,
+      strategy != null ? strategy.stopOutRisk : null);
+    result.copyStopLoss = !Boolean.FALSE.equals(first(subscription.copyStopLoss, account.copyStopLoss,
+      member != null ? member.copyStopLoss : null, portfolio != null ? portfolio.copyStopLoss : null,
+      strategy != null ? strategy.copyStopLoss : null));
+    result.copyTakeProfit = !Boolean.FALSE.equals(first(subscription.copyTakeProfit, account.copyTakeProfit,
+      member != null ? member.copyTakeProfit : null, portfolio != null ? portfolio.copyTakeProfit : null,
+      strategy != null ? strategy.copyTakeProfit : null));
+    result.minTradeVolume = first(subscription.minTradeVolume, account.minTradeVolume,
+      member != null ? member.minTradeVolume : null, portfolio != null ? portfolio.minTradeVolume : null,
+      strategy != null ? strategy.minTradeVolume : null);
+    result.maxTradeVolume = first(subscription.maxTradeVolume, account.maxTradeVolume,
+      member != null ? member.maxTradeVolume : null, portfolio != null ? portfolio.maxTradeVolume : null,
+      strategy != null ? strategy.maxTradeVolume : null);
+    result.riskLimits = new ArrayList<>();
+    addAll(result.riskLimits, subscription.riskLimits);
+    addAll(result.riskLimits, account.riskLimits);
+    addAll(result.riskLimits, member != null ? member.riskLimits : null);
+    addAll(result.riskLimits, portfolio != null ? portfolio.riskLimits : null);
+    addAll(result.riskLimits, strategy != null ? strategy.riskLimits : null);
+    return result;
+  }
+
+  private void invalidate(String dependency) {
+    generation.incrementAndGet();
+    Set<String> pairs = dependentPairs.remove(dependency);
+    if (pairs != null) {
+      pairs.forEach(settings::remove);
+    }
+  }
+
+  private void addDependency(String dependency, String pair) {
+    dependentPairs.computeIfAbsent(dependency, key -> ConcurrentHashMap.newKeySet()).add(pair);
+  }
+
+  @SafeVarargs
+  private static <T> T first(T... values) {
+    for (T value : values) {
+      if (value != null) {
+        return value;
+      }
+    }
+    return null;
+  }
+
+  private static void addAll(List<CopyFactoryStrategyRiskLimit> target, List<CopyFactoryStrategyRiskLimit> source) {
+    if (source != null) {
+      target.addAll(source);
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import cloud.metaapi.sdk.clients.copy_factory.http.CircuitBreakerStats;
+import cloud.metaapi.sdk.clients.copy_factory.http.ConnectionPoolStats;
+import cloud.metaapi.sdk.clients.copy_factory.http.CopyFactoryHttpClient;
+import cloud.metaapi.sdk.clients.copy_factory.http.IdentifierRegistry;
+import cloud.metaapi.sdk.clients.copy_factory.http.ModelCanonicalizer;
+import cloud.metaapi.sdk.clients.copy_factory.http.TenantBudgetOptions;
+import cloud.metaapi.sdk.clients.copy_factory.metrics.InMemoryMetricsRegistry;
+import cloud.metaapi.sdk.clients.copy_factory.metrics.MetricsRegistry;
+import cloud.metaapi.sdk.clients.error_handler.ValidationException;
+
+/**
+ * MetaApi CopyFactory SDK acting on behalf of multiple users. All users share one transport, connection pool, executor
+ * and rate limiter, and are given lightweight {@link CopyFactory} instances bound to their authorization tokens. Calls
+ * of each token are limited by a per-tenant concurrency and rate budget, so that one busy tenant can not starve the
+ * others
+ */
+public class MultiTenantCopyFactory {
+
+  private Options options;
+  private CopyFactoryHttpClient httpClient;
+  private ExecutorService ownExecutor;
+  private MetricsRegistry metricsRegistry;
+
+  /**
+   * Multi-tenant CopyFactory options
+   */
+  public static class Options extends CopyFactory.Options {
+    /**
+     * Per-tenant budget options
+     */
+    public TenantBudgetOptions tenantBudget = new TenantBudgetOptions();
+  }
+
+  /**
+   * Constructs multi-tenant CopyFactory instance with default options
+   * @throws ValidationException if default options are invalid
+   */
+  public MultiTenantCopyFactory() throws ValidationException {
+    this(null);
+  }
+
+  /**
+   * Constructs multi-tenant CopyFactory instance
+   * @param opts connection options, or {@code null} to use default options
+   * @throws ValidationException if specified options are invalid
+   */
+  public MultiTenantCopyFactory(Options opts) throws ValidationException {
+    options = opts != null ? opts : new Options();
+    ownExecutor = CopyFactory.createOwnExecutor(options);
+    metricsRegistry = options.metricsRegistry != null ? options.metricsRegistry : new InMemoryMetricsRegistry();
+    httpClient = CopyFactory.createHttpClient(options, ownExecutor, metricsRegistry);
+    httpClient.setTenantBudgetOptions(options.tenantBudget);
+  }
+
+  /**
+   * Returns CopyFactory SDK acting on behalf of a user. The returned instance is lightweight and shares the transport
+   * of this instance, so it can be created per request or cached by the caller
+   * @param token authorization token of the user
+   * @return CopyFactory SDK of the user
+   */
+  public CopyFactory forToken(String token) {
+    return new CopyFactory(token, options, httpClient, metricsRegistry);
+  }
+
+  /**
+   * Returns registry request metrics of all tenants are recorded to
+   * @return metrics registry
+   */
+  public MetricsRegistry getMetricsRegistry() {
+    return metricsRegistry;
+  }
+
+  /**
+   * Returns statistics of the shared connection pool
+   * @return connection pool statistics
+   */
+  public ConnectionPoolStats getConnectionPoolStats() {
+    return httpClient.getPoolStats();
+  }
+
+  /**
+   * Returns statistics of circuit breakers of CopyFactory endpoints shared by all tenants
+   * @return circuit breaker statistics
+   */
+  public List<CircuitBreakerStats> getCircuitBreakerStats() {
+    return httpClient.getCircuitBreakerStats();
+  }
+
+  /**
+   * Returns registry identifiers of decoded models of all tenants are deduplicated through
+   * @return identifier registry, or {@code null} if identifiers are not deduplicated
+   */
+  public IdentifierRegistry getIdentifierRegistry() {
+    return httpClient.getIdentifierRegistry();
+  }
+
+  /**
+   * Returns canonicalizer snapshots returned to all tenants are replaced with shared instances through
+   * @return model canonicalizer, or {@code null} if snapshots are not canonicalized
+   */
+  public ModelCanonicalizer getModelCanonicalizer() {
+    return httpClient.getModelCanonicalizer();
+  }
+
+  /**
+   * Returns number of tenants which have made calls recently and have budgets allocated
+   * @return number of active tenants
+   */
+  public int getActiveTenantCount() {
+    return httpClient.getActiveTenantCount();
+  }
+
+  /**
+   * Closes pooled connections. CopyFactory instances of all tenants can not be used after that
+   */
+  public void close() {
+    httpClient.close();
+    if (ownExecutor != null) {
+      ownExecutor.shutdown();
+    }
+  }
+}
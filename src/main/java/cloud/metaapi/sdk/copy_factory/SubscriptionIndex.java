@@ -0,0 +1,248 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryAccount;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryPortfolioMember;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryPortfolioStrategy;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategy;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySubscription;
+
+/**
+ * In-memory index of the CopyFactory subscription graph. Maintains strategy to subscriber accounts, strategy to
+ * portfolios, portfolio to members and connection id to account and strategy mappings, so that the relations can
+ * be looked up without scanning the configuration. The index is updated incrementally when a single configuration
+ * object changes and can be registered as a listener of {@link ConfigurationStore} to stay up to date. Lookups are
+ * lock-free and return read-only views
+ */
+public class SubscriptionIndex implements ConfigurationListener {
+
+  private Map<String, Set<String>> strategySubscribers = new ConcurrentHashMap<>();
+  private Map<String, Set<String>> accountStrategies = new ConcurrentHashMap<>();
+  private Map<String, Set<String>> strategyPortfolios = new ConcurrentHashMap<>();
+  private Map<String, Set<String>> portfolioMembers = new ConcurrentHashMap<>();
+  private Map<String, Set<String>> connectionAccounts = new ConcurrentHashMap<>();
+  private Map<String, Set<String>> connectionStrategies = new ConcurrentHashMap<>();
+  private Map<String, String> accountConnections = new ConcurrentHashMap<>();
+  private Map<String, String> strategyConnections = new ConcurrentHashMap<>();
+
+  /**
+   * Indexes configuration objects
+   * @param accounts CopyFactory accounts
+   * @param strategies CopyFactory strategies
+   * @param portfolioStrategies CopyFactory portfolio strategies
+   */
+  public void index(List<CopyFactoryAccount> accounts, List<CopyFactoryStrategy> strategies,
+    List<CopyFactoryPortfolioStrategy> portfolioStrategies) {
+    accounts.forEach(this::updateAccount);
+    strategies.forEach(this::updateStrategy);
+    portfolioStrategies.forEach(this::updatePortfolioStrategy);
+  }
+
+  /**
+   * Adds or replaces an account in the index
+   * @param account CopyFactory account
+   */
+  public synchronized void updateAccount(CopyFactoryAccount account) {
+    removeAccount(account._id);
+    Set<String> strategyIds = new HashSet<>();
+    if (account.subscriptions != null) {
+      for (CopyFactoryStrategySubscription subscription : account.subscriptions) {
+        strategyIds.add(subscription.strategyId);
+        link(strategySubscribers, subscription.strategyId, account._id);
+      }
+    }
+    accountStrategies.put(account._id, strategyIds);
+    if (account.connectionId != null) {
+      accountConnections.put(account._id, account.connectionId);
+      link(connectionAccounts, account.connectionId, account._id);
+    }
+  }
+
+  /**
+   * Removes an account from the index
+   * @param accountId account id
+   */
+  public synchronized void removeAccount(String accountId) {
+    Set<String> strategyIds = accountStrategies.remove(accountId);
+    if (strategyIds != null) {
+      strategyIds.forEach(strategyId -> unlink(strategySubscribers, strategyId, accountId));
+    }
+    String connectionId = accountConnections.remove(accountId);
+    if (connectionId != null) {
+      unlink(connectionAccounts, connectionId, accountId);
+    }
+  }
+
+  /**
+   * Adds or replaces a strategy in the index
+   * @param strategy CopyFactory strategy
+   */
+  public synchronized void updateStrategy(CopyFactoryStrategy strategy) {
+    removeStrategy(strategy._id);
+    if (strategy.connectionId != null) {
+      strategyConnections.put(strategy._id, strategy.connectionId);
+      link(connectionStrategies, strategy.connectionId, strategy._id);
+    }
+  }
+
+  /**
+   * Removes a strategy from the index. Subscriptions and portfolio memberships referring to the strategy are kept
+   * until the corresponding accounts and portfolio strategies are updated
+   * @param strategyId strategy id
+   */
+  public synchronized void removeStrategy(String strategyId) {
+    String connectionId = strategyConnections.remove(strategyId);
+    if (connectionId != null) {
+      unlink(connectionStrategies, connectionId, strategyId);
+    }
+  }
+
+  /**
+   * Adds or replaces a portfolio strategy in the index
+   * @param portfolioStrategy CopyFactory portfolio strategy
+   */
+  public synchronized void updatePortfolioStrategy(CopyFactoryPortfolioStrategy portfolioStrategy) {
+    removePortfolioStrategy(portfolioStrategy._id);
+    Set<String> memberIds = new HashSet<>();
+    if (portfolioStrategy.members != null) {
+      for (CopyFactoryPortfolioMember member : portfolioStrategy.members) {
+        memberIds.add(member.strategyId);
+        link(strategyPortfolios, member.strategyId, portfolioStrategy._id);
+      }
+    }
+    portfolioMembers.put(portfolioStrategy._id, memberIds);
+  }
+
+  /**
+   * Removes a portfolio strategy from the index
+   * @param portfolioId portfolio strategy id
+   */
+  public synchronized void removePortfolioStrategy(String portfolioId) {
+    Set<String> memberIds = portfolioMembers.remove(portfolioId);
+    if (memberIds != null) {
+      memberIds.forEach(strategyId -> unlink(strategyPortfolios, strategyId, portfolioId));
+    }
+  }
+
+  /**
+   * Returns ids of the accounts subscribed to a strategy or a portfolio strategy directly
+   * @param strategyId strategy or portfolio strategy id
+   * @return subscriber account ids
+   */
+  public Set<String> getSubscribers(String strategyId) {
+    return view(strategySubscribers, strategyId);
+  }
+
+  /**
+   * Returns ids of the accounts copying a strategy either directly or through the portfolio strategies which
+   * include it
+   * @param strategyId strategy id
+   * @return subscriber account ids
+   */
+  public Set<String> getAllSubscribers(String strategyId) {
+    Set<String> portfolioIds = getPortfolios(strategyId);
+    if (portfolioIds.isEmpty()) {
+      return getSubscribers(strategyId);
+    }
+    Set<String> result = new HashSet<>(getSubscribers(strategyId));
+    portfolioIds.forEach(portfolioId -> result.addAll(getSubscribers(portfolioId)));
+    return Collections.unmodifiableSet(result);
+  }
+
+  /**
+   * Returns ids of the portfolio strategies which include a strategy
+   * @param strategyId strategy id
+   * @return portfolio strategy ids
+   */
+  public Set<String> getPortfolios(String strategyId) {
+    return view(strategyPortfolios, strategyId);
+  }
+
+  /**
+   * Returns ids of the strategies included into a portfolio strategy
+   * @param portfolioId portfolio strategy id
+   * @return member strategy ids
+   */
+  public Set<String> getPortfolioMembers(String portfolioId) {
+    return view(portfolioMembers, portfolioId);
+  }
+
+  /**
+   * Returns ids of the strategies and portfolio strategies an account is subscribed to
+   * @param accountId account id
+   * @return strategy ids
+   */
+  public Set<String> getAccountStrategies(String accountId) {
+    return view(accountStrategies, accountId);
+  }
+
+  /**
+   * Returns ids of the CopyFactory accounts connected to a MetaApi account
+   * @param connectionId MetaApi account id
+   * @return CopyFactory account ids
+   */
+  public Set<String> getAccountsByConnectionId(String connectionId) {
+    return view(connectionAccounts, connectionId);
+  }
+
+  /**
+   * Returns ids of the strategies provided by a MetaApi account
+   * @param connectionId MetaApi account id
+   * @return strategy ids
+   */
+  public Set<String> getStrategiesByConnectionId(String connectionId) {
+    return view(connectionStrategies, connectionId);
+  }
+
+  @Override
+  public void onAccountUpdated(CopyFactoryAccount account) {
+    updateAccount(account);
+  }
+
+  @Override
+  public void onAccountRemoved(String accountId) {
+    removeAccount(accountId);
+  }
+
+  @Override
+  public void onStrategyUpdated(CopyFactoryStrategy strategy) {
+    updateStrategy(strategy);
+  }
+
+  @Override
+  public void onStrategyRemoved(String strategyId) {
+    removeStrategy(strategyId);
+  }
+
+  @Override
+  public void onPortfolioStrategyUpdated(CopyFactoryPortfolioStrategy portfolioStrategy) {
+    updatePortfolioStrategy(portfolioStrategy);
+  }
+
+  @Override
+  public void onPortfolioStrategyRemoved(String portfolioId) {
+    removePortfolioStrategy(portfolioId);
+  }
+
+  private void link(Map<String, Set<String>> map, String key, String value) {
+    map.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(value);
+  }
+
+  private void unlink(Map<String, Set<String>> map, String key, String value) {
+    map.computeIfPresent(key, (k, values) -> {
+      values.remove(value);
+      return values.isEmpty() ? null : values;
+    });
+  }
+
+  private Set<String> view(Map<String, Set<String>> map, String key) {
+    Set<String> values = map.get(key);
+    return values != null ? Collections.unmodifiableSet(values) : Collections.emptySet();
+  }
+}
@@ -0,0 +1,75 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable trie matching symbols against a set of prefixes
+ */
+class SymbolPrefixTrie {
+
+  private final char[] keys;
+  private final SymbolPrefixTrie[] children;
+  private final boolean terminal;
+
+  private SymbolPrefixTrie(char[] keys, SymbolPrefixTrie[] children, boolean terminal) {
+    this.keys = keys;
+    this.children = children;
+    this.terminal = terminal;
+  }
+
+  /**
+   * Builds trie from prefixes
+   * @param prefixes prefixes to match
+   * @return trie built
+   */
+  static SymbolPrefixTrie build(Collection<String> prefixes) {
+    Builder root = new Builder();
+    for (String prefix : prefixes) {
+      Builder node = root;
+      for (int i = 0; i < prefix.length(); i++) {
+        node = node.children.computeIfAbsent(prefix.charAt(i), key -> new Builder());
+      }
+      node.terminal = true;
+    }
+    return root.build();
+  }
+
+  /**
+   * Checks whether a symbol starts with one of the prefixes
+   * @param symbol symbol to check
+   * @return {@code true} if the symbol starts with one of the prefixes
+   */
+  boolean matches(String symbol) {
+    SymbolPrefixTrie node = this;
+    for (int i = 0; !node.terminal; i++) {
+      if (i == symbol.length()) {
+        return false;
+      }
+      int index = Arrays.binarySearch(node.keys, symbol.charAt(i));
+      if (index < 0) {
+        return false;
+      }
+      node = node.children[index];
+    }
+    return true;
+  }
+
+  private static class Builder {
+    private Map<Character, Builder> children = new TreeMap<>();
+    private boolean terminal;
+
+    private SymbolPrefixTrie build() {
+      char[] keys = new char[children.size()];
+      SymbolPrefixTrie[] nodes = new SymbolPrefixTrie[children.size()];
+      int i = 0;
+      for (Map.Entry<Character, Builder> entry : children.entrySet()) {
+        keys[i] = entry.getKey();
+        nodes[i++] = entry.getValue().build();
+      }
+      return new SymbolPrefixTrie(keys, nodes, terminal);
+    }
+  }
+}
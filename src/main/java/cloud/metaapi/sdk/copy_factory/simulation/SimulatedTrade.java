@@ -0,0 +1,34 @@
+package cloud.metaapi.sdk.copy_factory.simulation;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction.DealType;
+import cloud.metaapi.sdk.clients.models.IsoTime;
+
+/**
+ * Trade which would be copied to a subscriber according to simulation
+ */
+public class SimulatedTrade {
+  /**
+   * Id of the source transaction
+   */
+  public String transactionId;
+  /**
+   * Source transaction time
+   */
+  public IsoTime time;
+  /**
+   * Symbol traded on subscriber side, i.e. after symbol mapping is applied
+   */
+  public String symbol;
+  /**
+   * Trade type on subscriber side, i.e. after reverse setting is applied
+   */
+  public DealType type;
+  /**
+   * Source trade volume
+   */
+  public double sourceVolume;
+  /**
+   * Trade volume on subscriber side
+   */
+  public double volume;
+}
@@ -0,0 +1,60 @@
+package cloud.metaapi.sdk.copy_factory.simulation;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySubscription;
+
+/**
+ * Aggregated result of a trade copying simulation for a single subscription
+ */
+public class SimulationResult {
+  /**
+   * Subscription simulated
+   */
+  public CopyFactoryStrategySubscription subscription;
+  /**
+   * Number of source trades replayed
+   */
+  public int sourceTradeCount;
+  /**
+   * Number of source deals closing positions opened by earlier source deals. Copied positions are closed together
+   * with the source positions, so these deals are not counted as copied trades
+   */
+  public int closingTradeCount;
+  /**
+   * Number of trades which would be copied
+   */
+  public int copiedTradeCount;
+  /**
+   * Number of trades skipped by symbol filter
+   */
+  public int skippedBySymbolFilter;
+  /**
+   * Number of trades skipped because their volume is less than the minimum trade volume
+   */
+  public int skippedByMinTradeVolume;
+  /**
+   * Number of trades skipped by trade size scaling mode, e.g. in fixedVolume mode without trade volume
+   */
+  public int skippedByTradeSizeScaling;
+  /**
+   * Number of trades which could not be simulated because the trade size scaling mode depends on data transaction
+   * history does not contain, i.e. stop losses in fixedRisk mode and contract sizes in contractSize mode. These trades
+   * are counted neither as copied nor as skipped
+   */
+  public int notSimulatedByTradeSizeScaling;
+  /**
+   * Number of copied trades which volume was reduced to the maximum trade volume
+   */
+  public int cappedByMaxTradeVolume;
+  /**
+   * Total volume of copied trades
+   */
+  public double totalVolume;
+  /**
+   * Total volume of copied buy trades
+   */
+  public double buyVolume;
+  /**
+   * Total volume of copied sell trades
+   */
+  public double sellVolume;
+}
@@ -0,0 +1,77 @@
+package cloud.metaapi.sdk.copy_factory.simulation;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySubscription;
+import cloud.metaapi.sdk.copy_factory.CompiledSymbolFilter;
+import cloud.metaapi.sdk.copy_factory.CompiledSymbolMapping;
+
+/**
+ * Subscription settings compiled against the symbols of a trade tape. Symbol filter and symbol mapping are resolved
+ * once per tape symbol, so that evaluating a trade requires only array lookups and arithmetic
+ */
+class SubscriptionEvaluator {
+
+  /**
+   * Volume returned for trades which are not copied because of the trade size scaling mode
+   */
+  static final double NOT_COPIED = -1;
+
+  final boolean[] allowedSymbols;
+  final String[] mappedSymbols;
+  final boolean reverse;
+  final double minTradeVolume;
+  final double maxTradeVolume;
+  /**
+   * Whether trade volumes can be simulated in the trade size scaling mode of the subscription. The fixedRisk mode
+   * depends on stop losses and the contractSize mode on contract sizes of symbols, which transaction history does not
+   * contain
+   */
+  final boolean volumeSimulated;
+  private final boolean fixedVolume;
+  private final double volumeFactor;
+
+  SubscriptionEvaluator(CopyFactoryStrategySubscription subscription, String[] symbols, double balanceRatio) {
+    CompiledSymbolFilter filter = CompiledSymbolFilter.of(subscription.symbolFilter);
+    CompiledSymbolMapping mapping = CompiledSymbolMapping.of(subscription.symbolMapping);
+    allowedSymbols = new boolean[symbols.length];
+    mappedSymbols = new String[symbols.length];
+    for (int i = 0; i < symbols.length; i++) {
+      allowedSymbols[i] = filter.isAllowed(symbols[i]);
+      mappedSymbols[i] = mapping.map(symbols[i]);
+    }
+    reverse = Boolean.TRUE.equals(subscription.reverse);
+    minTradeVolume = subscription.minTradeVolume != null ? subscription.minTradeVolume : 0;
+    maxTradeVolume = subscription.maxTradeVolume != null ? subscription.maxTradeVolume : Double.MAX_VALUE;
+    double multiplier = subscription.multiplier != null ? subscription.multiplier : 1;
+    String mode = subscription.tradeSizeScaling != null && subscription.tradeSizeScaling.mode != null
+      ? subscription.tradeSizeScaling.mode : "balance";
+    volumeSimulated = !mode.equals("fixedRisk") && !mode.equals("contractSize");
+    switch (mode) {
+      case "none":
+        fixedVolume = false;
+        volumeFactor = multiplier;
+        break;
+      case "fixedVolume":
+        fixedVolume = true;
+        volumeFactor = subscription.tradeSizeScaling.tradeVolume != null
+          ? subscription.tradeSizeScaling.tradeVolume : NOT_COPIED;
+        break;
+      case "fixedRisk":
+      case "contractSize":
+        fixedVolume = true;
+        volumeFactor = NOT_COPIED;
+        break;
+      default:
+        fixedVolume = false;
+        volumeFactor = multiplier * balanceRatio;
+    }
+  }
+
+  /**
+   * Calculates subscriber trade volume before min/max trade volume restrictions are applied
+   * @param sourceVolume source trade volume
+   * @return subscriber trade volume, or {@link #NOT_COPIED} if the trade is not copied
+   */
+  double scaleVolume(double sourceVolume) {
+    return fixedVolume ? volumeFactor : sourceVolume * volumeFactor;
+  }
+}
@@ -0,0 +1,127 @@
+package cloud.metaapi.sdk.copy_factory.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySubscription;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction.DealType;
+
+/**
+ * Local trade copying simulator. Replays provider trades through subscription settings in order to find out what
+ * would be copied to a subscriber. Applies symbol filter, symbol mapping, reverse, multiplier, trade size scaling
+ * and min/max trade volume settings. Deals closing positions opened by earlier deals are not counted as copied
+ * trades. Settings which depend on data not available in transaction history (max trade risk, max stop loss, pending
+ * orders skipping, fixedRisk and contractSize trade size scaling modes) are not simulated. Source trades are compiled once, so that the
+ * simulator can efficiently evaluate large numbers of candidate subscriptions in parallel
+ */
+public class TradeCopySimulator {
+
+  private TradeTape tape;
+  private double balanceRatio;
+
+  /**
+   * Constructs trade copying simulator instance assuming subscriber balance is equal to provider balance
+   * @param transactions provider transactions to replay. Only buy and sell deals are taken into account
+   */
+  public TradeCopySimulator(List<CopyFactoryTransaction> transactions) {
+    this(transactions, 1);
+  }
+
+  /**
+   * Constructs trade copying simulator instance
+   * @param transactions provider transactions to replay. Only buy and sell deals are taken into account
+   * @param balanceRatio ratio of subscriber balance to provider balance, used in balance trade size scaling mode
+   */
+  public TradeCopySimulator(List<CopyFactoryTransaction> transactions, double balanceRatio) {
+    this.tape = new TradeTape(transactions);
+    this.balanceRatio = balanceRatio;
+  }
+
+  /**
+   * Simulates trade copying for a subscription
+   * @param subscription subscription to simulate
+   * @return simulation result
+   */
+  public SimulationResult simulate(CopyFactoryStrategySubscription subscription) {
+    SubscriptionEvaluator evaluator = new SubscriptionEvaluator(subscription, tape.symbols, balanceRatio);
+    SimulationResult result = new SimulationResult();
+    result.subscription = subscription;
+    result.sourceTradeCount = tape.size;
+    for (int i = 0; i < tape.size; i++) {
+      if (tape.closes[i]) {
+        result.closingTradeCount++;
+        continue;
+      }
+      if (!evaluator.allowedSymbols[tape.symbolIndexes[i]]) {
+        result.skippedBySymbolFilter++;
+        continue;
+      }
+      if (!evaluator.volumeSimulated) {
+        result.notSimulatedByTradeSizeScaling++;
+        continue;
+      }
+      double volume = evaluator.scaleVolume(tape.volumes[i]);
+      if (volume == SubscriptionEvaluator.NOT_COPIED) {
+        result.skippedByTradeSizeScaling++;
+        continue;
+      }
+      if (volume < evaluator.minTradeVolume) {
+        result.skippedByMinTradeVolume++;
+        continue;
+      }
+      if (volume > evaluator.maxTradeVolume) {
+        volume = evaluator.maxTradeVolume;
+        result.cappedByMaxTradeVolume++;
+      }
+      result.copiedTradeCount++;
+      result.totalVolume += volume;
+      if (tape.buys[i] != evaluator.reverse) {
+        result.buyVolume += volume;
+      } else {
+        result.sellVolume += volume;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Simulates trade copying for a number of candidate subscriptions in parallel
+   * @param subscriptions subscriptions to simulate
+   * @return simulation results in the order of subscriptions
+   */
+  public List<SimulationResult> simulate(List<CopyFactoryStrategySubscription> subscriptions) {
+    return subscriptions.parallelStream().map(this::simulate).collect(Collectors.toList());
+  }
+
+  /**
+   * Replays source trades through a subscription and returns the trades which would be copied. Deals closing positions
+   * are not returned, and neither are trades which volume cannot be simulated in the trade size scaling mode of the
+   * subscription
+   * @param subscription subscription to simulate
+   * @return trades which would be copied to the subscriber
+   */
+  public List<SimulatedTrade> replay(CopyFactoryStrategySubscription subscription) {
+    SubscriptionEvaluator evaluator = new SubscriptionEvaluator(subscription, tape.symbols, balanceRatio);
+    List<SimulatedTrade> trades = new ArrayList<>();
+    for (int i = 0; i < tape.size; i++) {
+      int symbolIndex = tape.symbolIndexes[i];
+      double volume = evaluator.scaleVolume(tape.volumes[i]);
+      if (tape.closes[i] || !evaluator.allowedSymbols[symbolIndex] || !evaluator.volumeSimulated
+        || volume == SubscriptionEvaluator.NOT_COPIED || volume < evaluator.minTradeVolume) {
+        continue;
+      }
+      CopyFactoryTransaction transaction = tape.transactions[i];
+      SimulatedTrade trade = new SimulatedTrade();
+      trade.transactionId = transaction.id;
+      trade.time = transaction.time;
+      trade.symbol = evaluator.mappedSymbols[symbolIndex];
+      trade.type = tape.buys[i] != evaluator.reverse ? DealType.DEAL_TYPE_BUY : DealType.DEAL_TYPE_SELL;
+      trade.sourceVolume = tape.volumes[i];
+      trade.volume = Math.min(volume, evaluator.maxTradeVolume);
+      trades.add(trade);
+    }
+    return trades;
+  }
+}
@@ -0,0 +1,59 @@
+package cloud.metaapi.sdk.copy_factory.simulation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction.DealType;
+
+/**
+ * Columnar representation of the source trades prepared once and replayed for every simulated subscription. A deal
+ * of a position which an earlier deal of the tape opened is taken as closing the position
+ */
+class TradeTape {
+
+  final CopyFactoryTransaction[] transactions;
+  final String[] symbols;
+  final int[] symbolIndexes;
+  final boolean[] buys;
+  final boolean[] closes;
+  final double[] volumes;
+  final int size;
+
+  TradeTape(List<CopyFactoryTransaction> source) {
+    List<CopyFactoryTransaction> trades = new ArrayList<>(source.size());
+    for (CopyFactoryTransaction transaction : source) {
+      if ((transaction.type == DealType.DEAL_TYPE_BUY || transaction.type == DealType.DEAL_TYPE_SELL)
+        && transaction.symbol != null && transaction.quantity != null) {
+        trades.add(transaction);
+      }
+    }
+    size = trades.size();
+    transactions = trades.toArray(new CopyFactoryTransaction[size]);
+    symbolIndexes = new int[size];
+    buys = new boolean[size];
+    closes = new boolean[size];
+    volumes = new double[size];
+    Set<String> positionIds = new HashSet<>();
+    Map<String, Integer> indexBySymbol = new HashMap<>();
+    List<String> symbolList = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      CopyFactoryTransaction transaction = transactions[i];
+      Integer symbolIndex = indexBySymbol.get(transaction.symbol);
+      if (symbolIndex == null) {
+        symbolIndex = symbolList.size();
+        indexBySymbol.put(transaction.symbol, symbolIndex);
+        symbolList.add(transaction.symbol);
+      }
+      symbolIndexes[i] = symbolIndex;
+      buys[i] = transaction.type == DealType.DEAL_TYPE_BUY;
+      closes[i] = transaction.positionId != null && !positionIds.add(transaction.positionId);
+      volumes[i] = Math.abs(transaction.quantity);
+    }
+    symbols = symbolList.toArray(new String[symbolList.size()]);
+  }
+}
@@ -0,0 +1,41 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import cloud.metaapi.sdk.clients.HttpRequestOptions;
+
+/**
+ * Flight recorder events of API calls emitted as {@link RequestEvent}s. Loaded by {@link FlightRecorderEvents} if the
+ * flight recorder API is available
+ */
+class JdkFlightRecorderEvents extends FlightRecorderEvents {
+
+  @Override
+  Object beginEvent() {
+    RequestEvent event = new RequestEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  @Override
+  void commitEvent(Object event, HttpRequestOptions options, RequestContext context, Throwable error) {
+    RequestEvent requestEvent = (RequestEvent) event;
+    requestEvent.end();
+    if (requestEvent.shouldCommit()) {
+      UrlTemplate template = UrlTemplate.of(options.getUrl());
+      requestEvent.operation = context.operation;
+      requestEvent.method = options.getMethod().name();
+      requestEvent.urlTemplate = template.template;
+      requestEvent.accountId = template.accountId;
+      requestEvent.strategyId = template.strategyId;
+      requestEvent.responseBytes = context.responseBytes;
+      requestEvent.retries = Math.max(context.attempts.get() - 1, 0);
+      requestEvent.queueTime = context.queueTime;
+      requestEvent.networkTime = context.networkTime;
+      requestEvent.decodeTime = context.decodeTime;
+      requestEvent.error = error != null ? error.getClass().getSimpleName() : null;
+      requestEvent.commit();
+    }
+  }
+}
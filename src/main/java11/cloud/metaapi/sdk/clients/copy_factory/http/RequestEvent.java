@@ -0,0 +1,59 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event of a CopyFactory API call
+ */
+@Name("cloud.metaapi.copyfactory.Request")
+@Label("CopyFactory API Request")
+@Description("CopyFactory API call including retries")
+@Category({"MetaApi", "CopyFactory"})
+@StackTrace(false)
+class RequestEvent extends Event {
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Method")
+  String method;
+
+  @Label("URL Template")
+  String urlTemplate;
+
+  @Label("Account Id")
+  String accountId;
+
+  @Label("Strategy Id")
+  String strategyId;
+
+  @Label("Response Size")
+  @DataAmount
+  long responseBytes;
+
+  @Label("Retries")
+  int retries;
+
+  @Label("Queue Time")
+  @Description("Time spent waiting for rate limiter and executor")
+  @Timespan
+  long queueTime;
+
+  @Label("Network Time")
+  @Timespan
+  long networkTime;
+
+  @Label("Decode Time")
+  @Timespan
+  long decodeTime;
+
+  @Label("Error")
+  String error;
+}
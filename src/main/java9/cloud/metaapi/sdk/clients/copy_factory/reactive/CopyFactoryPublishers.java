@@ -0,0 +1,159 @@
+package cloud.metaapi.sdk.clients.copy_factory.reactive;
+
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import cloud.metaapi.sdk.clients.copy_factory.ConfigurationClient;
+import cloud.metaapi.sdk.clients.copy_factory.HistoryClient;
+import cloud.metaapi.sdk.clients.copy_factory.TradingClient;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryAccount;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryPortfolioStrategy;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategy;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyStopout;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryUserLogRecord;
+import cloud.metaapi.sdk.clients.models.IsoTime;
+import cloud.metaapi.sdk.copy_factory.CopyFactory;
+
+/**
+ * {@link Flow.Publisher} views of CopyFactory list endpoints. Paginated endpoints are loaded page by page as the
+ * subscriber requests items, so that long histories can be processed without holding them in memory. Publishers are
+ * cold: each subscription loads the data again. Requires Java 9 or newer, the classes are in the versioned part of the
+ * multi-release jar
+ */
+public class CopyFactoryPublishers {
+
+  /**
+   * Default page size, equal to the maximum page size of the API
+   */
+  public static final int DEFAULT_PAGE_SIZE = 1000;
+
+  private ConfigurationClient configurationClient;
+  private HistoryClient historyClient;
+  private TradingClient tradingClient;
+
+  /**
+   * Constructs publishers
+   * @param configurationClient configuration API client
+   * @param historyClient history API client
+   * @param tradingClient trading API client
+   */
+  public CopyFactoryPublishers(ConfigurationClient configurationClient, HistoryClient historyClient,
+    TradingClient tradingClient) {
+    this.configurationClient = configurationClient;
+    this.historyClient = historyClient;
+    this.tradingClient = tradingClient;
+  }
+
+  /**
+   * Constructs publishers using API clients of the SDK
+   * @param copyFactory CopyFactory SDK
+   */
+  public CopyFactoryPublishers(CopyFactory copyFactory) {
+    this(copyFactory.getConfigurationApi(), copyFactory.getHistoryApi(), copyFactory.getTradingApi());
+  }
+
+  /**
+   * Returns publisher of transactions on the strategies the current user provides to other users. Does not filter
+   * by strategies or subscribers. See {@link HistoryClient#getProvidedStrategiesTransactions(IsoTime, IsoTime)}
+   * @param from time to load transactions from
+   * @param till time to load transactions till
+   * @return transactions publisher
+   */
+  public Flow.Publisher<CopyFactoryTransaction> providedStrategiesTransactions(IsoTime from, IsoTime till) {
+    return providedStrategiesTransactions(from, till, null, null, null, DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Returns publisher of transactions on the strategies the current user provides to other users. See
+   * {@link HistoryClient#getProvidedStrategiesTransactions(IsoTime, IsoTime, List, List, List, Integer, Integer)}
+   * @param from time to load transactions from
+   * @param till time to load transactions till
+   * @param strategyIds optional list of strategy ids to filter transactions by, or {@code null}
+   * @param accountIds the list of CopyFactory subscriber account id (64-character long) to filter by, or {@code null}
+   * @param subscriberIds optional list of subscribers to filter transactions by, or {@code null}
+   * @param pageSize maximum number of transactions to load with one request
+   * @return transactions publisher
+   */
+  public Flow.Publisher<CopyFactoryTransaction> providedStrategiesTransactions(IsoTime from, IsoTime till,
+    List<String> strategyIds, List<String> accountIds, List<String> subscriberIds, int pageSize) {
+    return new PagedPublisher<>((offset, limit) -> historyClient.getProvidedStrategiesTransactions(from, till,
+      strategyIds, accountIds, subscriberIds, offset, limit), pageSize);
+  }
+
+  /**
+   * Returns publisher of transactions on the strategies the current user subscribed to. Does not filter by strategies
+   * or providers. See {@link HistoryClient#getStrategiesSubscribedTransactions(IsoTime, IsoTime)}
+   * @param from time to load transactions from
+   * @param till time to load transactions till
+   * @return transactions publisher
+   */
+  public Flow.Publisher<CopyFactoryTransaction> strategiesSubscribedTransactions(IsoTime from, IsoTime till) {
+    return strategiesSubscribedTransactions(from, till, null, null, null, DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Returns publisher of transactions on the strategies the current user subscribed to. See
+   * {@link HistoryClient#getStrategiesSubscribedTransactions(IsoTime, IsoTime, List, List, List, Integer, Integer)}
+   * @param from time to load transactions from
+   * @param till time to load transactions till
+   * @param strategyIds optional list of strategy ids to filter transactions by, or {@code null}
+   * @param accountIds the list of CopyFactory subscriber account id (64-character long) to filter by, or {@code null}
+   * @param providerIds optional list of providers to filter transactions by, or {@code null}
+   * @param pageSize maximum number of transactions to load with one request
+   * @return transactions publisher
+   */
+  public Flow.Publisher<CopyFactoryTransaction> strategiesSubscribedTransactions(IsoTime from, IsoTime till,
+    List<String> strategyIds, List<String> accountIds, List<String> providerIds, int pageSize) {
+    return new PagedPublisher<>((offset, limit) -> historyClient.getStrategiesSubscribedTransactions(from, till,
+      strategyIds, accountIds, providerIds, offset, limit), pageSize);
+  }
+
+  /**
+   * Returns publisher of copy trading user log records of an account. See
+   * {@link TradingClient#getUserLog(String, IsoTime, IsoTime, Integer, Integer)}
+   * @param accountId account id
+   * @param startTime time to start loading data from, or {@code null}
+   * @param endTime time to stop loading data at, or {@code null}
+   * @param pageSize maximum number of records to load with one request
+   * @return user log records publisher
+   */
+  public Flow.Publisher<CopyFactoryUserLogRecord> userLog(String accountId, IsoTime startTime, IsoTime endTime,
+    int pageSize) {
+    return new PagedPublisher<>((offset, limit) -> tradingClient.getUserLog(accountId, startTime, endTime,
+      offset, limit), pageSize);
+  }
+
+  /**
+   * Returns publisher of subscriber account stopouts. See {@link TradingClient#getStopouts(String)}
+   * @param accountId account id
+   * @return stopouts publisher
+   */
+  public Flow.Publisher<CopyFactoryStrategyStopout> stopouts(String accountId) {
+    return PagedPublisher.ofList(() -> tradingClient.getStopouts(accountId));
+  }
+
+  /**
+   * Returns publisher of CopyFactory accounts. See {@link ConfigurationClient#getAccounts()}
+   * @return accounts publisher
+   */
+  public Flow.Publisher<CopyFactoryAccount> accounts() {
+    return PagedPublisher.ofList(() -> configurationClient.getAccounts());
+  }
+
+  /**
+   * Returns publisher of CopyFactory strategies. See {@link ConfigurationClient#getStrategies()}
+   * @return strategies publisher
+   */
+  public Flow.Publisher<CopyFactoryStrategy> strategies() {
+    return PagedPublisher.ofList(() -> configurationClient.getStrategies());
+  }
+
+  /**
+   * Returns publisher of CopyFactory portfolio strategies. See {@link ConfigurationClient#getPortfolioStrategies()}
+   * @return portfolio strategies publisher
+   */
+  public Flow.Publisher<CopyFactoryPortfolioStrategy> portfolioStrategies() {
+    return PagedPublisher.ofList(() -> configurationClient.getPortfolioStrategies());
+  }
+}
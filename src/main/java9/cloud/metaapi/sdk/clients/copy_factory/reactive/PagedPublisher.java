@@ -0,0 +1,175 @@
+package cloud.metaapi.sdk.clients.copy_factory.reactive;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Publisher which loads items page by page according to subscriber demand. A full page is requested only when all
+ * items of the previous page are delivered and there is outstanding demand, so no more than one page is buffered per
+ * subscriber. Each subscriber gets its own independent sequence of pages. Cancelling a subscription cancels the
+ * future of the page being loaded
+ * @param <T> item type
+ */
+public class PagedPublisher<T> implements Flow.Publisher<T> {
+
+  /**
+   * Loader of a page of items
+   * @param <T> item type
+   */
+  @FunctionalInterface
+  public interface PageLoader<T> {
+    /**
+     * Loads a page of items
+     * @param offset pagination offset
+     * @param limit pagination limit
+     * @return completable future resolving with items of the page. A page smaller than the limit is the last one
+     */
+    CompletableFuture<List<T>> load(int offset, int limit);
+  }
+
+  private final PageLoader<T> loader;
+  private final int pageSize;
+  private final boolean paged;
+
+  /**
+   * Constructs publisher of a paginated endpoint
+   * @param loader page loader
+   * @param pageSize maximum page size
+   */
+  public PagedPublisher(PageLoader<T> loader, int pageSize) {
+    this(loader, pageSize, true);
+  }
+
+  private PagedPublisher(PageLoader<T> loader, int pageSize, boolean paged) {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("Page size must be positive");
+    }
+    this.loader = loader;
+    this.pageSize = pageSize;
+    this.paged = paged;
+  }
+
+  /**
+   * Creates publisher of an endpoint without pagination. The list is loaded on the first request of items and
+   * delivered according to subscriber demand
+   * @param <T> item type
+   * @param loader list loader
+   * @return publisher
+   */
+  public static <T> PagedPublisher<T> ofList(Supplier<CompletableFuture<List<T>>> loader) {
+    return new PagedPublisher<>((offset, limit) -> loader.get(), Integer.MAX_VALUE, false);
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super T> subscriber) {
+    if (subscriber == null) {
+      throw new NullPointerException("Subscriber must not be null");
+    }
+    PageSubscription subscription = new PageSubscription(subscriber);
+    subscriber.onSubscribe(subscription);
+  }
+
+  private class PageSubscription implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super T> subscriber;
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Queue<T> buffer = new ArrayDeque<>();
+    private int offset;
+    private boolean loading;
+    private boolean lastPageLoaded;
+    private volatile boolean done;
+    private volatile List<T> loadedPage;
+    private volatile CompletableFuture<List<T>> pageInFlight;
+    private volatile Throwable error;
+
+    PageSubscription(Flow.Subscriber<? super T> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      if (done) {
+        return;
+      }
+      if (n <= 0) {
+        error = new IllegalArgumentException("Number of requested items must be positive, got " + n);
+      } else {
+        demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      done = true;
+      CompletableFuture<List<T>> page = pageInFlight;
+      if (page != null) {
+        page.cancel(true);
+      }
+    }
+
+    private void drain() {
+      if (wip.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      do {
+        if (loadedPage != null) {
+          List<T> page = loadedPage;
+          loadedPage = null;
+          loading = false;
+          buffer.addAll(page);
+          offset += page.size();
+          lastPageLoaded = !paged || page.size() < pageSize;
+        }
+        while (!done && error == null && demand.get() > 0 && !buffer.isEmpty()) {
+          demand.decrementAndGet();
+          subscriber.onNext(buffer.poll());
+        }
+        if (!done && error != null) {
+          done = true;
+          buffer.clear();
+          subscriber.onError(error);
+        } else if (!done && buffer.isEmpty() && lastPageLoaded) {
+          done = true;
+          subscriber.onComplete();
+        } else if (!done && buffer.isEmpty() && !loading && demand.get() > 0) {
+          loading = true;
+          load(offset);
+        }
+        missed = wip.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void load(int offset) {
+      CompletableFuture<List<T>> page;
+      try {
+        page = loader.load(offset, pageSize);
+      } catch (Throwable e) {
+        page = new CompletableFuture<>();
+        page.completeExceptionally(e);
+      }
+      pageInFlight = page;
+      if (done) {
+        page.cancel(true);
+      }
+      page.whenComplete((items, e) -> {
+        pageInFlight = null;
+        if (e != null) {
+          error = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        } else {
+          loadedPage = items;
+        }
+        drain();
+      });
+    }
+  }
+}
@@ -23,6 +23,7 @@ import cloud.metaapi.sdk.clients.mocks.HttpClientMock;
 import cloud.metaapi.sdk.clients.models.IsoTime;
 import cloud.metaapi.sdk.util.JsonMapper;
 import cloud.metaapi.sdk.clients.copy_factory.models.*;
+import cloud.metaapi.sdk.clients.copy_factory.models.snapshot.AccountSnapshot;
 
 /**
  * Tests {@link ConfigurationClient}
@@ -131,6 +132,58 @@ class ConfigurationClientTest {
     assertThat(actualAccounts).usingRecursiveComparison().isEqualTo(expectedAccounts);
   }
   
+  /**
+   * Tests {@link ConfigurationClient#getAccounts()}
+   */
+  @Test
+  void testReturnsCopiesOfSharedCopyFactoryAccounts() throws Exception {
+    CopyFactoryAccount sharedAccount = new CopyFactoryAccount();
+    sharedAccount._id = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+    sharedAccount.subscriptions = Lists.list(new CopyFactoryStrategySubscription());
+    sharedAccount.subscriptions.get(0).strategyId = "ABCD";
+    sharedAccount.subscriptions.get(0).multiplier = 1.0;
+    httpClient = Mockito.mock(HttpClientMock.class);
+    Mockito.when(httpClient.requestJson(Mockito.any(HttpRequestOptions.class), Mockito.any()))
+      .thenReturn(CompletableFuture.completedFuture(new CopyFactoryAccount[] {sharedAccount}));
+    copyFactoryClient = new ConfigurationClient(httpClient, "header.payload.sign");
+    List<CopyFactoryAccount> accounts = copyFactoryClient.getAccounts().get();
+    assertNotSame(sharedAccount, accounts.get(0));
+    assertThat(accounts.get(0)).usingRecursiveComparison().isEqualTo(sharedAccount);
+    accounts.get(0).subscriptions.get(0).multiplier = 2.0;
+    accounts.add(new CopyFactoryAccount());
+    assertEquals(1.0, sharedAccount.subscriptions.get(0).multiplier);
+    assertEquals(1, copyFactoryClient.getAccounts().get().size());
+  }
+
+  /**
+   * Tests {@link ConfigurationClient#getAccountSnapshots()}
+   */
+  @Test
+  void testReusesSnapshotsOfUnchangedCopyFactoryAccounts() throws Exception {
+    CopyFactoryAccount account = new CopyFactoryAccount();
+    account._id = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+    account.name = "Demo account";
+    CopyFactoryAccount otherAccount = new CopyFactoryAccount();
+    otherAccount._id = "fedcba9876543210fedcba9876543210fedcba9876543210fedcba9876543210";
+    otherAccount.name = "Other account";
+    CopyFactoryAccount changedAccount = new CopyFactoryAccount();
+    changedAccount._id = otherAccount._id;
+    changedAccount.name = "Changed account";
+    CopyFactoryAccount[] decoded = new CopyFactoryAccount[] {account, otherAccount};
+    httpClient = Mockito.mock(HttpClientMock.class);
+    Mockito.when(httpClient.requestJson(Mockito.any(HttpRequestOptions.class), Mockito.any()))
+      .thenReturn(CompletableFuture.completedFuture(decoded), CompletableFuture.completedFuture(decoded),
+        CompletableFuture.completedFuture(new CopyFactoryAccount[] {account, changedAccount}));
+    copyFactoryClient = new ConfigurationClient(httpClient, "header.payload.sign");
+    List<AccountSnapshot> snapshots = copyFactoryClient.getAccountSnapshots().get();
+    assertEquals("Demo account", snapshots.get(0).name);
+    assertSame(snapshots, copyFactoryClient.getAccountSnapshots().get());
+    assertThrows(UnsupportedOperationException.class, () -> snapshots.remove(0));
+    List<AccountSnapshot> updated = copyFactoryClient.getAccountSnapshots().get();
+    assertSame(snapshots.get(0), updated.get(0));
+    assertEquals("Changed account", updated.get(1).name);
+  }
+
   /**
    * Tests {@link ConfigurationClient#getAccounts()}
    */
@@ -19,6 +19,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import cloud.metaapi.sdk.clients.HttpRequestOptions;
 import cloud.metaapi.sdk.clients.HttpRequestOptions.Method;
 import cloud.metaapi.sdk.clients.copy_factory.models.*;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction.DealType;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.CompactTransaction;
 import cloud.metaapi.sdk.clients.mocks.HttpClientMock;
 import cloud.metaapi.sdk.clients.models.IsoTime;
 import cloud.metaapi.sdk.util.JsonMapper;
@@ -374,4 +376,54 @@ class HistoryClientTest {
       );
     };
   }
-}
\ No newline at end of file
+  
+  /**
+   * Tests {@link HistoryClient#getProvidedStrategiesTransactionsCompact(IsoTime, IsoTime, List, List, List, Integer,
+   * Integer)}
+   */
+  @Test
+  void testRetrieveCompactTransactionsFromApi() throws Exception {
+    IsoTime from = new IsoTime("2020-08-01T00:00:00.000Z");
+    IsoTime till = new IsoTime("2020-08-10T00:00:00.000Z");
+    httpClient.setRequestMock((actualOptions) -> {
+      HttpRequestOptions expectedOptions = new HttpRequestOptions(
+        copyFactoryApiUrl + "/users/current/provided-strategies/transactions", Method.GET);
+      expectedOptions.getHeaders().put("auth-token", "header.payload.sign");
+      expectedOptions.getQueryParameters().put("from", from);
+      expectedOptions.getQueryParameters().put("till", till);
+      expectedOptions.getQueryParameters().put("subscriberId", Lists.list("subscriberId"));
+      expectedOptions.getQueryParameters().put("limit", 100);
+      assertThat(actualOptions).usingRecursiveComparison().isEqualTo(expectedOptions);
+      return CompletableFuture.completedFuture("[{\"id\":\"64c79f00-cb74-4b35-a2df-4d79a4fea97c\","
+        + "\"type\":\"DEAL_TYPE_SELL\",\"time\":\"2020-08-02T21:01:01.830Z\",\"accountId\":\"accountId\","
+        + "\"symbol\":\"EURJPY\",\"subscriber\":{\"id\":\"subscriberId\",\"name\":\"Subscriber\","
+        + "\"strategies\":[{\"id\":\"ABCD\"}]},\"demo\":true,\"provider\":{\"id\":\"providerId\"},"
+        + "\"strategy\":{\"id\":\"ABCD\",\"name\":\"Strategy\"},\"improvement\":0,\"providerCommission\":0.5,"
+        + "\"platformCommission\":0,\"quantity\":-0.04,\"profit\":null,\"unknown\":{\"nested\":[1,2]},"
+        + "\"metrics\":{\"tradeCopyingLatency\":10,\"totalLatency\":12.5}},"
+        + "{\"id\":\"2\",\"type\":\"DEAL_TYPE_UNKNOWN\",\"time\":\"2020-08-02T21:01:01Z\"}]");
+    });
+    List<CompactTransaction> transactions = copyFactoryClient.getProvidedStrategiesTransactionsCompact(from, till,
+      null, null, Lists.list("subscriberId"), null, 100).get();
+    assertEquals(2, transactions.size());
+    CompactTransaction transaction = transactions.get(0);
+    assertEquals(DealType.DEAL_TYPE_SELL, transaction.type);
+    assertEquals(Instant.parse("2020-08-02T21:01:01.830Z").toEpochMilli(), transaction.time);
+    assertEquals("subscriberId", transaction.subscriberId);
+    assertEquals("Subscriber", transaction.subscriberName);
+    assertEquals("providerId", transaction.providerId);
+    assertNull(transaction.providerName);
+    assertEquals("ABCD", transaction.strategyId);
+    assertEquals("Strategy", transaction.strategyName);
+    assertTrue(transaction.demo);
+    assertEquals(0.5, transaction.providerCommission);
+    assertEquals(-0.04, transaction.quantity);
+    assertTrue(Double.isNaN(transaction.profit));
+    assertTrue(Double.isNaN(transaction.swap));
+    assertEquals(10, transaction.tradeCopyingLatency);
+    assertEquals(12.5, transaction.totalLatency);
+    assertTrue(Double.isNaN(transaction.tradeAlgorithmLatency));
+    assertNull(transactions.get(1).type);
+    assertEquals(Instant.parse("2020-08-02T21:01:01Z").toEpochMilli(), transactions.get(1).time);
+  }
+}
@@ -3,6 +3,7 @@ package cloud.metaapi.sdk.clients.copy_factory;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -17,6 +18,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import cloud.metaapi.sdk.clients.HttpRequestOptions;
 import cloud.metaapi.sdk.clients.HttpRequestOptions.Method;
 import cloud.metaapi.sdk.clients.copy_factory.models.*;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.CompactStopout;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.CompactUserLogRecord;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.OrderType;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.StopoutReason;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.TradeSide;
 import cloud.metaapi.sdk.clients.mocks.HttpClientMock;
 import cloud.metaapi.sdk.clients.models.IsoTime;
 import cloud.metaapi.sdk.util.JsonMapper;
@@ -207,4 +213,55 @@ class TradingClientTest {
             );
         };
     }
-}
\ No newline at end of file
+    
+    /**
+     * Tests {@link TradingClient#getStopoutsCompact(String)}
+     */
+    @Test
+    void testRetrieveCompactStopouts() throws Exception {
+        httpClient.setRequestMock((actualOptions) -> CompletableFuture.completedFuture("[{\"strategy\":"
+            + "{\"id\":\"ABCD\",\"name\":\"Strategy\"},\"reason\":\"max-drawdown\",\"reasonDescription\":"
+            + "\"total strategy equity drawdown exceeded limit\",\"stoppedAt\":\"2020-08-08T07:57:30.328Z\"},"
+            + "{\"strategy\":{\"id\":\"EFGH\"},\"reason\":\"new-reason\","
+            + "\"stoppedAt\":\"2020-08-08T10:57:30.3+03:00\",\"stoppedTill\":null}]"));
+        List<CompactStopout> stopouts = tradingClient
+            .getStopoutsCompact("0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef").get();
+        assertEquals("ABCD", stopouts.get(0).strategyId);
+        assertEquals("Strategy", stopouts.get(0).strategyName);
+        assertEquals(StopoutReason.MAX_DRAWDOWN, stopouts.get(0).reason);
+        assertEquals(Instant.parse("2020-08-08T07:57:30.328Z").toEpochMilli(), stopouts.get(0).stoppedAt);
+        assertEquals(0, stopouts.get(0).stoppedTill);
+        assertEquals(StopoutReason.UNKNOWN, stopouts.get(1).reason);
+        assertEquals(Instant.parse("2020-08-08T07:57:30.300Z").toEpochMilli(), stopouts.get(1).stoppedAt);
+    }
+    
+    /**
+     * Tests {@link TradingClient#getUserLogCompact(String, IsoTime, IsoTime, Integer, Integer)}
+     */
+    @Test
+    void testRetrievesCompactCopyTradingUserLog() throws Exception {
+        httpClient.setRequestMock((actualOptions) -> {
+            HttpRequestOptions expectedOptions = new HttpRequestOptions(
+                copyFactoryApiUrl + "/users/current/accounts/"
+                    + "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef/user-log", Method.GET);
+            expectedOptions.getHeaders().put("auth-token", "header.payload.sign");
+            expectedOptions.getQueryParameters().put("limit", 100);
+            assertThat(actualOptions).usingRecursiveComparison().isEqualTo(expectedOptions);
+            return CompletableFuture.completedFuture("[{\"time\":\"2020-08-08T07:57:30.328Z\",\"level\":\"INFO\","
+                + "\"message\":\"message\",\"symbol\":\"EURUSD\",\"side\":\"buy\",\"type\":\"limit\","
+                + "\"openPrice\":1.1}]");
+        });
+        List<CompactUserLogRecord> records = tradingClient
+            .getUserLogCompact("0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef", null, null,
+                null, 100).get();
+        CompactUserLogRecord record = records.get(0);
+        assertEquals(Instant.parse("2020-08-08T07:57:30.328Z").toEpochMilli(), record.time);
+        assertEquals(CopyFactoryUserLogRecord.LogLevel.INFO, record.level);
+        assertEquals("message", record.message);
+        assertEquals("EURUSD", record.symbol);
+        assertEquals(TradeSide.BUY, record.side);
+        assertEquals(OrderType.LIMIT, record.type);
+        assertEquals(1.1, record.openPrice);
+        assertNull(record.positionId);
+    }
+}
@@ -0,0 +1,86 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link AdaptiveTokenBucket}
+ */
+class AdaptiveTokenBucketTest {
+
+    /**
+     * Tests {@link AdaptiveTokenBucket#reserve(long, long)}
+     */
+    @Test
+    void testQueuesRequestsExceedingBurst() {
+        AdaptiveTokenBucket bucket = new AdaptiveTokenBucket(10, 2, 0);
+        assertEquals(0, bucket.reserve(0, 1000));
+        assertEquals(0, bucket.reserve(0, 1000));
+        assertEquals(100, bucket.reserve(0, 1000));
+        assertEquals(200, bucket.reserve(0, 1000));
+        assertEquals(-1, bucket.reserve(0, 0));
+        assertEquals(0, bucket.reserve(1000, 0));
+    }
+
+    /**
+     * Tests {@link AdaptiveTokenBucket#onThrottled(long, long, double)}
+     */
+    @Test
+    void testSettlesUnderReportedServerLimit() {
+        AdaptiveTokenBucket bucket = new AdaptiveTokenBucket(100, 10, 0);
+        bucket.onThrottled(0, 5000, 20);
+        assertEquals(18, bucket.getRate(), 1e-9);
+        assertEquals(-1, bucket.reserve(0, 4999));
+        assertTrue(bucket.reserve(0, 10000) >= 5000);
+        for (int i = 0; i < 1000; i++) {
+            bucket.onSuccess(i);
+        }
+        assertEquals(18, bucket.getRate(), 1e-9);
+    }
+
+    /**
+     * Tests {@link AdaptiveTokenBucket#onThrottled(long, long, double)}
+     * and {@link AdaptiveTokenBucket#onSuccess(long)}
+     */
+    @Test
+    void testBacksOffAndRecoversWithoutReportedServerLimit() {
+        AdaptiveTokenBucket bucket = new AdaptiveTokenBucket(100, 10, 0);
+        bucket.onThrottled(0, 0, 0);
+        bucket.onThrottled(0, 0, 0);
+        assertEquals(25, bucket.getRate(), 1e-9);
+        bucket.onSuccess(0);
+        assertEquals(26, bucket.getRate(), 1e-9);
+        for (int i = 0; i < 100; i++) {
+            bucket.onSuccess(i);
+        }
+        assertEquals(100, bucket.getRate(), 1e-9);
+    }
+
+    /**
+     * Tests {@link AdaptiveTokenBucket#onThrottled(long, long, double)}
+     * and {@link AdaptiveTokenBucket#onSuccess(long)}
+     */
+    @Test
+    void testLimitsRequestsOnlyAfterTheyAreThrottled() {
+        AdaptiveTokenBucket bucket = new AdaptiveTokenBucket(0, 10, 0);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(0, bucket.reserve(i, 0));
+        }
+        assertEquals(Double.POSITIVE_INFINITY, bucket.getRate());
+        bucket.onThrottled(1000, 0, 0);
+        assertEquals(500, bucket.getRate(), 1e-9);
+        assertEquals(-1, bucket.reserve(1000, 0));
+        for (int i = 0; i < 100; i++) {
+            bucket.onSuccess(1000);
+        }
+        assertEquals(Double.POSITIVE_INFINITY, bucket.getRate());
+        assertTrue(bucket.isFull(1000));
+        bucket.onThrottled(1000, 0, 20);
+        assertEquals(18, bucket.getRate(), 1e-9);
+        for (int i = 0; i < 100; i++) {
+            bucket.onSuccess(1000);
+        }
+        assertEquals(18, bucket.getRate(), 1e-9);
+    }
+}
@@ -0,0 +1,68 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.http.conn.ConnectTimeoutException;
+import org.junit.jupiter.api.Test;
+
+import cloud.metaapi.sdk.clients.HttpRequestOptions;
+import cloud.metaapi.sdk.clients.HttpRequestOptions.Method;
+import kong.unirest.UnirestException;
+
+/**
+ * Tests {@link CircuitBreakerInterceptor}
+ */
+class CircuitBreakerInterceptorTest {
+
+    /**
+     * Tests {@link CircuitBreakerInterceptor#isCappedTimeout(RequestContext, Throwable)}
+     */
+    @Test
+    void testRecognizesTimeoutsCappedByDeadline() {
+        RequestContext context = new RequestContext("getValues", null);
+        Exception timeout = new UnirestException(new SocketTimeoutException("Read timed out"));
+        assertFalse(CircuitBreakerInterceptor.isCappedTimeout(context, timeout));
+        context.attemptTimeoutCapped = true;
+        assertTrue(CircuitBreakerInterceptor.isCappedTimeout(context, timeout));
+        assertTrue(CircuitBreakerInterceptor.isCappedTimeout(context,
+            new ConnectTimeoutException("Connect timed out")));
+        assertFalse(CircuitBreakerInterceptor.isCappedTimeout(context, new UnirestException(new ConnectException())));
+    }
+
+    /**
+     * Tests {@link CircuitBreakerInterceptor#onRejected(RequestAttempt)}
+     */
+    @Test
+    void testReleasesAdmissionsOfRejectedAttempts() {
+        CircuitBreakerOptions options = new CircuitBreakerOptions();
+        options.enabled = true;
+        options.minimumCalls = 1;
+        options.waitInOpenStateInSeconds = 0;
+        options.permittedCallsInHalfOpenState = 1;
+        CircuitBreakerInterceptor interceptor = new CircuitBreakerInterceptor(options);
+        RequestInterceptor rejecting = new RequestInterceptor() {
+            @Override
+            public CompletableFuture<Void> admit(RequestAttempt attempt) {
+                throw new IllegalStateException("Rejected");
+            }
+        };
+        InterceptorChain chain = new InterceptorChain(Arrays.asList(interceptor, rejecting));
+        HttpRequestOptions request = new HttpRequestOptions("https://localhost/users/current/subscribers", Method.GET);
+        RequestAttempt failed = new RequestAttempt(request, null, chain);
+        interceptor.admit(failed).join();
+        failed.sent = true;
+        interceptor.onExchange(failed, null, new ConnectException());
+        assertEquals(CircuitState.HALF_OPEN, interceptor.getStats(System.currentTimeMillis()).get(0).state);
+        for (int i = 0; i < 3; i++) {
+            RequestAttempt rejected = new RequestAttempt(request, null, chain);
+            assertTrue(chain.admit(rejected).isCompletedExceptionally());
+        }
+        RequestAttempt probe = new RequestAttempt(request, null, chain);
+        assertFalse(interceptor.admit(probe).isCompletedExceptionally());
+    }
+}
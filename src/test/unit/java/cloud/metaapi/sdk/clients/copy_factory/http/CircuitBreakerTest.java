@@ -0,0 +1,143 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link CircuitBreaker}
+ */
+class CircuitBreakerTest {
+
+    private CircuitBreakerOptions options;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        options = new CircuitBreakerOptions();
+        options.windowInSeconds = 10;
+        options.minimumCalls = 4;
+        options.failureRateThreshold = 50;
+        options.slowCallRateThreshold = 75;
+        options.slowCallDurationInMilliseconds = 1000;
+        options.waitInOpenStateInSeconds = 5;
+        options.permittedCallsInHalfOpenState = 2;
+        breaker = new CircuitBreaker("localhost", EndpointFamily.HISTORY, options);
+    }
+
+    /**
+     * Tests {@link CircuitBreaker#onResult(CircuitBreaker.Admission, long, long, boolean)}
+     */
+    @Test
+    void testOpensWhenFailureRateReachesThreshold() {
+        record(0, 10, true);
+        record(0, 10, true);
+        record(0, 10, false);
+        assertEquals(CircuitState.CLOSED, breaker.getState(0));
+        record(0, 10, false);
+        assertEquals(CircuitState.OPEN, breaker.getState(0));
+        assertEquals(5000, breaker.tryAcquire(0).retryAfter);
+        assertEquals(1000, breaker.tryAcquire(4000).retryAfter);
+        assertEquals(2, breaker.getStats(4000).rejectedCalls);
+    }
+
+    /**
+     * Tests {@link CircuitBreaker#onResult(CircuitBreaker.Admission, long, long, boolean)}
+     */
+    @Test
+    void testOpensWhenSlowCallRateReachesThreshold() {
+        for (int i = 0; i < 3; i++) {
+            record(0, 1000, false);
+        }
+        record(0, 10, false);
+        CircuitBreakerStats stats = breaker.getStats(0);
+        assertEquals(CircuitState.OPEN, stats.state);
+    }
+
+    /**
+     * Tests {@link CircuitBreaker#onResult(CircuitBreaker.Admission, long, long, boolean)}
+     */
+    @Test
+    void testForgetsOutcomesOutsideOfWindow() {
+        record(0, 10, true);
+        record(0, 10, true);
+        record(0, 10, true);
+        assertEquals(3, breaker.getStats(9999).calls);
+        assertEquals(0, breaker.getStats(10000).calls);
+        record(10000, 10, true);
+        CircuitBreakerStats stats = breaker.getStats(10000);
+        assertEquals(CircuitState.CLOSED, stats.state);
+        assertEquals(100, stats.failureRate, 1e-9);
+    }
+
+    /**
+     * Tests {@link CircuitBreaker#tryAcquire(long)}, {@link CircuitBreaker#release(CircuitBreaker.Admission)}
+     */
+    @Test
+    void testProbesEndpointsWhenHalfOpen() {
+        openBreaker();
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState(5000));
+        CircuitBreaker.Admission first = breaker.tryAcquire(5000);
+        CircuitBreaker.Admission second = breaker.tryAcquire(5000);
+        assertEquals(0, first.retryAfter);
+        assertEquals(0, second.retryAfter);
+        assertTrue(breaker.tryAcquire(5000).retryAfter > 0);
+        breaker.release(second);
+        CircuitBreaker.Admission third = breaker.tryAcquire(5000);
+        assertEquals(0, third.retryAfter);
+        breaker.onResult(first, 5100, 10, false);
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState(5100));
+        breaker.onResult(third, 5100, 10, false);
+        assertEquals(CircuitState.CLOSED, breaker.getState(5100));
+        assertEquals(0, breaker.getStats(5100).calls);
+    }
+
+    /**
+     * Tests {@link CircuitBreaker#onResult(CircuitBreaker.Admission, long, long, boolean)}
+     */
+    @Test
+    void testReopensWhenProbeFails() {
+        openBreaker();
+        CircuitBreaker.Admission probe = breaker.tryAcquire(5000);
+        assertEquals(0, probe.retryAfter);
+        breaker.onResult(probe, 5100, 10, true);
+        assertEquals(CircuitState.OPEN, breaker.getState(5100));
+        assertEquals(5000, breaker.tryAcquire(5100).retryAfter);
+    }
+
+    /**
+     * Tests {@link CircuitBreaker#onResult(CircuitBreaker.Admission, long, long, boolean)}
+     */
+    @Test
+    void testCountsOnlyProbesOfCurrentHalfOpenPeriod() {
+        CircuitBreaker.Admission closed = breaker.tryAcquire(0);
+        CircuitBreaker.Admission otherClosed = breaker.tryAcquire(0);
+        openBreaker();
+        CircuitBreaker.Admission staleProbe = breaker.tryAcquire(5000);
+        CircuitBreaker.Admission failedProbe = breaker.tryAcquire(5000);
+        breaker.onResult(closed, 5100, 10, false);
+        breaker.onResult(otherClosed, 5100, 10, false);
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState(5100));
+        breaker.onResult(failedProbe, 5100, 10, true);
+        assertEquals(CircuitState.OPEN, breaker.getState(5100));
+        CircuitBreaker.Admission probe = breaker.tryAcquire(10100);
+        breaker.onResult(staleProbe, 10200, 10, false);
+        breaker.release(staleProbe);
+        assertEquals(0, breaker.tryAcquire(10200).retryAfter);
+        assertTrue(breaker.tryAcquire(10200).retryAfter > 0);
+        breaker.onResult(probe, 10300, 10, false);
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState(10300));
+    }
+
+    private void record(long now, long duration, boolean failed) {
+        breaker.onResult(breaker.tryAcquire(now), now, duration, failed);
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 4; i++) {
+            record(0, 10, true);
+        }
+        assertEquals(CircuitState.OPEN, breaker.getState(0));
+    }
+}
@@ -0,0 +1,665 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import cloud.metaapi.sdk.clients.HttpRequestOptions;
+import cloud.metaapi.sdk.clients.HttpRequestOptions.Method;
+import cloud.metaapi.sdk.clients.RetryOptions;
+import cloud.metaapi.sdk.clients.TimeoutException;
+import cloud.metaapi.sdk.clients.copy_factory.metrics.InMemoryMetricsRegistry;
+import cloud.metaapi.sdk.clients.error_handler.InternalException;
+import cloud.metaapi.sdk.clients.copy_factory.metrics.OperationMetrics;
+import cloud.metaapi.sdk.clients.models.IsoTime;
+
+/**
+ * Tests {@link CopyFactoryHttpClient}
+ */
+class CopyFactoryHttpClientTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private CopyFactoryHttpClient httpClient;
+    private String baseUrl;
+    private AtomicInteger slowRequestCount = new AtomicInteger();
+    private CountDownLatch slowResponseLatch = new CountDownLatch(1);
+    private AtomicInteger limitedRequestCount = new AtomicInteger();
+    private AtomicReference<String> acceptEncoding = new AtomicReference<>();
+    private AtomicInteger versionedRequestCount = new AtomicInteger();
+    private AtomicInteger notModifiedCount = new AtomicInteger();
+    private volatile String version = "1";
+    private AtomicInteger hedgedRequestCount = new AtomicInteger();
+    private AtomicInteger failingRequestCount = new AtomicInteger();
+    private volatile boolean failing = true;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/echo", exchange -> {
+            String body = exchange.getRequestMethod() + " " + exchange.getRequestURI().getQuery() + " "
+                + IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8);
+            byte[] response = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream stream = exchange.getResponseBody()) {
+                stream.write(response);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            slowRequestCount.incrementAndGet();
+            try {
+                slowResponseLatch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] response = "[\"value\"]".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream stream = exchange.getResponseBody()) {
+                stream.write(response);
+            }
+        });
+        server.createContext("/hedged", exchange -> {
+            if (hedgedRequestCount.incrementAndGet() == 21) {
+                try {
+                    slowResponseLatch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            byte[] response = "[\"value\"]".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream stream = exchange.getResponseBody()) {
+                stream.write(response);
+            }
+        });
+        server.createContext("/failing", exchange -> {
+            failingRequestCount.incrementAndGet();
+            byte[] response = (failing ? "{\"id\":7,\"error\":\"InternalError\",\"message\":\"Internal error\"}"
+                : "[\"value\"]").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(failing ? 500 : 200, response.length);
+            try (OutputStream stream = exchange.getResponseBody()) {
+                stream.write(response);
+            }
+        });
+        server.createContext("/users/current/configuration/limited", exchange -> {
+            byte[] response;
+            if (limitedRequestCount.incrementAndGet() == 1) {
+                response = ("{\"id\":1,\"error\":\"TooManyRequestsError\",\"message\":\"Too many requests\","
+                    + "\"metadata\":{\"periodInMinutes\":1,\"requestsPerPeriodAllowed\":600,\"recommendedRetryTime\":\""
+                    + new IsoTime(new Date(System.currentTimeMillis() + 200)).getIsoString()
+                    + "\",\"type\":\"LIMIT_REQUEST_RATE_PER_USER\"}}")
+                    .getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(429, response.length);
+            } else {
+                response = "[]".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, response.length);
+            }
+            try (OutputStream stream = exchange.getResponseBody()) {
+                stream.write(response);
+            }
+        });
+        server.createContext("/compressed", exchange -> {
+            acceptEncoding.set(exchange.getRequestHeaders().getFirst("accept-encoding"));
+            StringBuilder body = new StringBuilder("[");
+            for (int i = 0; i < 1000; i++) {
+                body.append(i > 0 ? "," : "").append("\"value\"");
+            }
+            byte[] response = body.append("]").toString().getBytes(StandardCharsets.UTF_8);
+            if (acceptEncoding.get() != null && acceptEncoding.get().contains("gzip")) {
+                exchange.getResponseHeaders().set("content-encoding", "gzip");
+                exchange.sendResponseHeaders(200, 0);
+                try (OutputStream stream = new GZIPOutputStream(exchange.getResponseBody())) {
+                    stream.write(response);
+                }
+            } else {
+                exchange.sendResponseHeaders(200, response.length);
+                try (OutputStream stream = exchange.getResponseBody()) {
+                    stream.write(response);
+                }
+            }
+        });
+        server.createContext("/versioned", exchange -> {
+            versionedRequestCount.incrementAndGet();
+            String etag = "\"" + version + "\"";
+            String lastModified = "Thu, 01 Oct 2020 00:00:0" + version + " GMT";
+            if (etag.equals(exchange.getRequestHeaders().getFirst("if-none-match"))
+                || lastModified.equals(exchange.getRequestHeaders().getFirst("if-modified-since"))) {
+                notModifiedCount.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            if (exchange.getRequestURI().getQuery().contains("etag")) {
+                exchange.getResponseHeaders().set("etag", etag);
+            } else {
+                exchange.getResponseHeaders().set("last-modified", lastModified);
+            }
+            byte[] response = ("[\"" + version + "\"]").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream stream = exchange.getResponseBody()) {
+                stream.write(response);
+            }
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+        ConnectionPoolOptions poolOpts = new ConnectionPoolOptions();
+        poolOpts.maxConnections = 10;
+        poolOpts.maxConnectionsPerHost = 5;
+        httpClient = new CopyFactoryHttpClient(10000, 10000, new RetryOptions(), poolOpts);
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpClient.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#request(HttpRequestOptions)}
+     */
+    @Test
+    void testSendsRequestsThroughPooledTransport() {
+        HttpRequestOptions getOpts = new HttpRequestOptions(baseUrl + "/echo", Method.GET);
+        getOpts.getQueryParameters().put("limit", 10);
+        assertEquals("GET limit=10 ", httpClient.request(getOpts).join());
+        HttpRequestOptions postOpts = new HttpRequestOptions(baseUrl + "/echo", Method.POST);
+        postOpts.setBody(new Object() {
+            @SuppressWarnings("unused")
+            public String name = "value";
+        });
+        assertEquals("POST null {\"name\":\"value\"}", httpClient.request(postOpts).join());
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#getPoolStats()}
+     */
+    @Test
+    void testKeepsConnectionsAliveForReuse() {
+        for (int i = 0; i < 5; i++) {
+            httpClient.request(new HttpRequestOptions(baseUrl + "/echo", Method.GET)).join();
+        }
+        ConnectionPoolStats stats = httpClient.getPoolStats();
+        assertEquals(0, stats.leased);
+        assertEquals(1, stats.idle);
+        assertEquals(0, stats.pending);
+        assertEquals(10, stats.max);
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#request(HttpRequestOptions)}
+     */
+    @Test
+    void testRunsRequestsAndCallbacksOnSpecifiedExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "sdk-executor"));
+        CopyFactoryHttpClient executorHttpClient = new CopyFactoryHttpClient(10000, 10000, new RetryOptions(),
+            new ConnectionPoolOptions(), executor);
+        try {
+            String threadName = executorHttpClient.request(new HttpRequestOptions(baseUrl + "/echo", Method.GET))
+                .thenApply(response -> Thread.currentThread().getName()).join();
+            assertEquals("sdk-executor", threadName);
+        } finally {
+            executorHttpClient.close();
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#requestJson(HttpRequestOptions, Class, int)}
+     */
+    @Test
+    void testDeduplicatesIdenticalGetRequestsInFlight() throws Exception {
+        httpClient.setDeduplicateRequests(true);
+        List<CompletableFuture<String[]>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(httpClient.requestJson(createSlowRequestOptions(Method.GET, "token"), String[].class));
+        }
+        CompletableFuture<String[]> otherTokenResult = httpClient.requestJson(
+            createSlowRequestOptions(Method.GET, "otherToken"), String[].class);
+        CompletableFuture<String[]> postResult = httpClient.requestJson(
+            createSlowRequestOptions(Method.POST, "token"), String[].class);
+        CompletableFuture<String[]> secondPostResult = httpClient.requestJson(
+            createSlowRequestOptions(Method.POST, "token"), String[].class);
+        Thread.sleep(200);
+        slowResponseLatch.countDown();
+        for (CompletableFuture<String[]> result : results) {
+            assertSame(results.get(0).join(), result.join());
+        }
+        assertArrayEquals(new String[] {"value"}, otherTokenResult.join());
+        postResult.join();
+        secondPostResult.join();
+        assertEquals(4, slowRequestCount.get());
+        httpClient.requestJson(createSlowRequestOptions(Method.GET, "token"), String[].class).join();
+        assertEquals(5, slowRequestCount.get());
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#setDeduplicateRequests(boolean)}
+     */
+    @Test
+    void testDoesNotShareRequestsByDefault() throws Exception {
+        CompletableFuture<String[]> first = httpClient.requestJson(createSlowRequestOptions(Method.GET, "token"),
+            String[].class);
+        CompletableFuture<String[]> second = httpClient.requestJson(createSlowRequestOptions(Method.GET, "token"),
+            String[].class);
+        Thread.sleep(200);
+        slowResponseLatch.countDown();
+        assertNotSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+        assertEquals(2, slowRequestCount.get());
+    }
+
+    private HttpRequestOptions createSlowRequestOptions(Method method, String token) {
+        HttpRequestOptions opts = new HttpRequestOptions(baseUrl + "/slow", method);
+        opts.getHeaders().put("auth-token", token);
+        return opts;
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#getRateLimit(EndpointFamily)}
+     */
+    @Test
+    void testAdaptsRateLimitToServerLimit() {
+        httpClient.requestJson(new HttpRequestOptions(baseUrl + "/users/current/configuration/limited", Method.GET),
+            String[].class).join();
+        assertEquals(2, limitedRequestCount.get());
+        assertEquals(9, httpClient.getRateLimit(EndpointFamily.CONFIGURATION), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, httpClient.getRateLimit(EndpointFamily.HISTORY));
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#request(HttpRequestOptions, String, CallOptions)}
+     */
+    @Test
+    void testFailsFastWhenRateLimitIsExceeded() throws Exception {
+        RateLimitOptions rateLimitOpts = new RateLimitOptions();
+        rateLimitOpts.requestsPerSecond = 1;
+        rateLimitOpts.burst = 1;
+        httpClient.setRateLimitOptions(rateLimitOpts);
+        CallOptions callOpts = new CallOptions();
+        callOpts.rateLimitPolicy = RateLimitPolicy.FAIL_FAST;
+        httpClient.request(new HttpRequestOptions(baseUrl + "/echo", Method.GET), "echo", callOpts).get();
+        ExecutionException error = assertThrows(ExecutionException.class,
+            () -> httpClient.request(new HttpRequestOptions(baseUrl + "/echo", Method.GET), "echo", callOpts).get());
+        Assertions.assertThat(error).hasRootCauseInstanceOf(RateLimitExceededException.class);
+        long startTime = System.currentTimeMillis();
+        httpClient.request(new HttpRequestOptions(baseUrl + "/echo", Method.GET)).get();
+        assertTrue(System.currentTimeMillis() - startTime >= 500);
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#requestJson(HttpRequestOptions, Class, String, CallOptions)}
+     */
+    @Test
+    void testDoesNotShareRequestsOfCallsWithDifferentRateLimitPolicies() throws Exception {
+        httpClient.setDeduplicateRequests(true);
+        CallOptions failFastOpts = new CallOptions();
+        failFastOpts.rateLimitPolicy = RateLimitPolicy.FAIL_FAST;
+        CompletableFuture<String[]> queued = httpClient.requestJson(createSlowRequestOptions(Method.GET, "token"),
+            String[].class, "getValues", null);
+        CompletableFuture<String[]> failFast = httpClient.requestJson(createSlowRequestOptions(Method.GET, "token"),
+            String[].class, "getValues", failFastOpts);
+        CompletableFuture<String[]> sameQueued = httpClient.requestJson(createSlowRequestOptions(Method.GET, "token"),
+            String[].class, "getValues", null);
+        Thread.sleep(200);
+        assertEquals(2, slowRequestCount.get());
+        slowResponseLatch.countDown();
+        CompletableFuture.allOf(queued, failFast, sameQueued).get(10, TimeUnit.SECONDS);
+        assertSame(queued.join(), sameQueued.join());
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#requestJson(HttpRequestOptions, Class, String, CallOptions)}
+     */
+    @Test
+    void testDoesNotShareRequestsOfCallsWithDeadline() throws Exception {
+        httpClient.setDeduplicateRequests(true);
+        CallOptions deadlineOpts = new CallOptions();
+        deadlineOpts.timeoutInMilliseconds = 300;
+        CompletableFuture<String[]> leader = httpClient.requestJson(createSlowRequestOptions(Method.GET, "token"),
+            String[].class, "getValues", deadlineOpts);
+        CompletableFuture<String[]> follower = httpClient.requestJson(createSlowRequestOptions(Method.GET, "token"),
+            String[].class, "getValues", null);
+        Thread.sleep(200);
+        assertEquals(2, slowRequestCount.get());
+        ExecutionException error = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Assertions.assertThat(error).hasCauseInstanceOf(TimeoutException.class);
+        assertFalse(follower.isDone());
+        slowResponseLatch.countDown();
+        assertArrayEquals(new String[] {"value"}, follower.get(10, TimeUnit.SECONDS));
+        assertEquals(2, slowRequestCount.get());
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#setTenantBudgetOptions(TenantBudgetOptions)}
+     */
+    @Test
+    void testLimitsConcurrentCallsPerTenant() throws Exception {
+        TenantBudgetOptions tenantBudgetOpts = new TenantBudgetOptions();
+        tenantBudgetOpts.maxConcurrentRequests = 1;
+        httpClient.setTenantBudgetOptions(tenantBudgetOpts);
+        CompletableFuture<String> first = httpClient.request(createSlowRequestOptions(Method.POST, "token"),
+            "getValues", null);
+        CompletableFuture<String> second = httpClient.request(createSlowRequestOptions(Method.POST, "token"),
+            "getValues", null);
+        CompletableFuture<String> otherTenant = httpClient.request(createSlowRequestOptions(Method.POST, "otherToken"),
+            "getValues", null);
+        Thread.sleep(200);
+        assertEquals(2, slowRequestCount.get());
+        assertEquals(2, httpClient.getActiveTenantCount());
+        slowResponseLatch.countDown();
+        CompletableFuture.allOf(first, second, otherTenant).get(10, TimeUnit.SECONDS);
+        assertEquals(3, slowRequestCount.get());
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#request(HttpRequestOptions, String, CallOptions)}
+     */
+    @Test
+    void testAbortsCallAfterDeadline() throws Exception {
+        CallOptions callOpts = new CallOptions();
+        callOpts.timeoutInMilliseconds = 200;
+        long startTime = System.currentTimeMillis();
+        CompletableFuture<String> result = httpClient.request(new HttpRequestOptions(baseUrl + "/slow", Method.GET),
+            "getValues", callOpts);
+        ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        Assertions.assertThat(error).hasCauseInstanceOf(TimeoutException.class);
+        assertTrue(System.currentTimeMillis() - startTime < 1000);
+        awaitLeasedConnections(0);
+        assertEquals(1, slowRequestCount.get());
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#request(HttpRequestOptions, String, CallOptions)}
+     */
+    @Test
+    void testAbortsExchangeWhenCallIsCancelled() throws Exception {
+        CompletableFuture<String[]> result = httpClient.requestJson(new HttpRequestOptions(baseUrl + "/slow",
+            Method.GET), String[].class, "getValues", null);
+        awaitLeasedConnections(1);
+        result.cancel(true);
+        awaitLeasedConnections(0);
+        Thread.sleep(200);
+        assertEquals(1, slowRequestCount.get());
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#requestJson(HttpRequestOptions, Class, String, CallOptions)}
+     */
+    @Test
+    void testAbortsSharedExchangeWhenAllCallersAreCancelled() throws Exception {
+        httpClient.setDeduplicateRequests(true);
+        CompletableFuture<String[]> first = httpClient.requestJson(createSlowRequestOptions(Method.GET, "token"),
+            String[].class, "getValues", null);
+        CompletableFuture<String[]> second = httpClient.requestJson(createSlowRequestOptions(Method.GET, "token"),
+            String[].class, "getValues", null);
+        awaitLeasedConnections(1);
+        first.cancel(true);
+        Thread.sleep(200);
+        assertEquals(1, httpClient.getPoolStats().leased);
+        second.cancel(true);
+        awaitLeasedConnections(0);
+        assertEquals(1, slowRequestCount.get());
+        slowResponseLatch.countDown();
+        assertArrayEquals(new String[] {"value"}, httpClient.requestJson(createSlowRequestOptions(Method.GET, "token"),
+            String[].class, "getValues", null).get(10, TimeUnit.SECONDS));
+        assertEquals(2, slowRequestCount.get());
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#setHedgingOptions(HedgingOptions)}
+     */
+    @Test
+    void testHedgesLateResponses() throws Exception {
+        HedgingOptions hedgingOpts = new HedgingOptions();
+        hedgingOpts.enabled = true;
+        hedgingOpts.operations.add("getValues");
+        hedgingOpts.minDelayInMilliseconds = 50;
+        hedgingOpts.maxHedgeRatio = 0.1;
+        httpClient.setHedgingOptions(hedgingOpts);
+        for (int i = 0; i < 20; i++) {
+            httpClient.requestJson(new HttpRequestOptions(baseUrl + "/hedged", Method.GET), String[].class, "getValues",
+                null).join();
+        }
+        assertEquals(0, httpClient.getHedgedRequestCount());
+        long startTime = System.currentTimeMillis();
+        String[] result = httpClient.requestJson(new HttpRequestOptions(baseUrl + "/hedged", Method.GET),
+            String[].class, "getValues", null).get(5, TimeUnit.SECONDS);
+        assertArrayEquals(new String[] {"value"}, result);
+        assertTrue(System.currentTimeMillis() - startTime < 1000);
+        assertEquals(22, hedgedRequestCount.get());
+        assertEquals(1, httpClient.getHedgedRequestCount());
+        awaitLeasedConnections(0);
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#setCircuitBreakerOptions(CircuitBreakerOptions)}
+     */
+    @Test
+    void testFailsFastWhileCircuitBreakerIsOpen() throws Exception {
+        RetryOptions retryOpts = new RetryOptions();
+        retryOpts.retries = 0;
+        CopyFactoryHttpClient client = new CopyFactoryHttpClient(10000, 10000, retryOpts, new ConnectionPoolOptions());
+        try {
+            CircuitBreakerOptions circuitBreakerOpts = new CircuitBreakerOptions();
+            circuitBreakerOpts.enabled = true;
+            circuitBreakerOpts.minimumCalls = 3;
+            circuitBreakerOpts.waitInOpenStateInSeconds = 1;
+            circuitBreakerOpts.permittedCallsInHalfOpenState = 1;
+            client.setCircuitBreakerOptions(circuitBreakerOpts);
+            for (int i = 0; i < 3; i++) {
+                ExecutionException error = assertThrows(ExecutionException.class, () -> client.requestJson(
+                    new HttpRequestOptions(baseUrl + "/failing", Method.GET), String[].class, "getValues", null).get());
+                Assertions.assertThat(error).hasCauseInstanceOf(InternalException.class);
+            }
+            ExecutionException error = assertThrows(ExecutionException.class, () -> client.requestJson(
+                new HttpRequestOptions(baseUrl + "/failing", Method.GET), String[].class, "getValues", null).get());
+            Assertions.assertThat(error).hasCauseInstanceOf(CircuitBreakerOpenException.class);
+            assertEquals(EndpointFamily.HISTORY, ((CircuitBreakerOpenException) error.getCause()).endpointFamily);
+            assertEquals(3, failingRequestCount.get());
+            CircuitBreakerStats stats = client.getCircuitBreakerStats().get(0);
+            assertEquals(baseUrl.substring("http://".length()), stats.host);
+            assertEquals(CircuitState.OPEN, stats.state);
+            assertEquals(1, stats.rejectedCalls);
+            failing = false;
+            Thread.sleep(1000);
+            assertArrayEquals(new String[] {"value"}, client.requestJson(new HttpRequestOptions(baseUrl + "/failing",
+                Method.GET), String[].class, "getValues", null).get());
+            assertEquals(CircuitState.CLOSED, client.getCircuitBreakerStats().get(0).state);
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#setCircuitBreakerOptions(CircuitBreakerOptions)}
+     */
+    @Test
+    void testDoesNotCountDeadlineTimeoutsAsCircuitBreakerFailures() throws Exception {
+        CircuitBreakerOptions circuitBreakerOpts = new CircuitBreakerOptions();
+        circuitBreakerOpts.enabled = true;
+        circuitBreakerOpts.minimumCalls = 1;
+        httpClient.setCircuitBreakerOptions(circuitBreakerOpts);
+        CallOptions callOpts = new CallOptions();
+        callOpts.timeoutInMilliseconds = 200;
+        for (int i = 0; i < 3; i++) {
+            ExecutionException error = assertThrows(ExecutionException.class, () -> httpClient.requestJson(
+                new HttpRequestOptions(baseUrl + "/slow", Method.GET), String[].class, "getValues", callOpts)
+                .get(5, TimeUnit.SECONDS));
+            Assertions.assertThat(error).hasCauseInstanceOf(TimeoutException.class);
+        }
+        CircuitBreakerStats stats = httpClient.getCircuitBreakerStats().get(0);
+        assertEquals(CircuitState.CLOSED, stats.state);
+        assertEquals(0, stats.calls);
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#requestJson(HttpRequestOptions, Class, String, CallOptions)}
+     */
+    @Test
+    void testRetriesFailedCallsAfterDelay() throws Exception {
+        CompletableFuture<String[]> result = httpClient.requestJson(new HttpRequestOptions(baseUrl + "/failing",
+            Method.GET), String[].class, "getValues", null);
+        Thread.sleep(300);
+        assertEquals(1, failingRequestCount.get());
+        failing = false;
+        assertArrayEquals(new String[] {"value"}, result.get(5, TimeUnit.SECONDS));
+        assertEquals(2, failingRequestCount.get());
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#requestJson(HttpRequestOptions, Class, String, CallOptions)}
+     */
+    @Test
+    void testDoesNotWaitForRetryPastDeadline() throws Exception {
+        CallOptions callOpts = new CallOptions();
+        callOpts.timeoutInMilliseconds = 500;
+        long startTime = System.currentTimeMillis();
+        ExecutionException error = assertThrows(ExecutionException.class, () -> httpClient.requestJson(
+            new HttpRequestOptions(baseUrl + "/failing", Method.GET), String[].class, "getValues", callOpts)
+            .get(5, TimeUnit.SECONDS));
+        Assertions.assertThat(error).hasCauseInstanceOf(InternalException.class);
+        assertTrue(System.currentTimeMillis() - startTime < 500);
+        assertEquals(1, failingRequestCount.get());
+    }
+
+    private void awaitLeasedConnections(int leased) throws InterruptedException {
+        for (int i = 0; i < 100 && httpClient.getPoolStats().leased != leased; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(leased, httpClient.getPoolStats().leased);
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#requestJson(HttpRequestOptions, Class, String, CallOptions)}
+     */
+    @Test
+    void testRecordsOperationMetrics() {
+        InMemoryMetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+        httpClient.setMetricsRegistry(metricsRegistry);
+        slowResponseLatch.countDown();
+        for (int i = 0; i < 3; i++) {
+            httpClient.requestJson(new HttpRequestOptions(baseUrl + "/slow", Method.GET), String[].class,
+                "getValues", null).join();
+        }
+        assertThrows(CompletionException.class, () -> httpClient.requestJson(
+            new HttpRequestOptions(baseUrl + "/echo", Method.GET), String[].class, "getValues", null).join());
+        OperationMetrics metrics = metricsRegistry.getOperationMetrics("getValues");
+        assertEquals(4, metrics.count);
+        assertEquals(1, metrics.getErrorCount());
+        assertEquals(1, metrics.errors.get("JsonParseException"));
+        assertEquals(0, metrics.retries);
+        assertEquals(4, Arrays.stream(metrics.latencyHistogram).sum());
+        assertEquals(4 * 9, metrics.responseBytes);
+        assertEquals(4, metrics.decodeCount);
+        assertTrue(metrics.totalDecodeTimeInNanos > 0);
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#requestJson(HttpRequestOptions, Class, String, CallOptions)}
+     */
+    @Test
+    void testDecodesCompressedResponsesWhileReceived() {
+        InMemoryMetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+        httpClient.setMetricsRegistry(metricsRegistry);
+        String[] values = httpClient.requestJson(new HttpRequestOptions(baseUrl + "/compressed", Method.GET),
+            String[].class, "getValues", null).join();
+        assertEquals(1000, values.length);
+        assertEquals("value", values[999]);
+        Assertions.assertThat(acceptEncoding.get()).contains("gzip");
+        OperationMetrics metrics = metricsRegistry.getOperationMetrics("getValues");
+        assertEquals(1, metrics.decodeCount);
+        assertEquals(1000 * 8 + 1, metrics.responseBytes);
+        assertEquals(1, httpClient.getPoolStats().idle);
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#setCompressResponses(boolean)}
+     */
+    @Test
+    void testDoesNotRequestCompressedResponsesIfDisabled() {
+        httpClient.setCompressResponses(false);
+        String[] values = httpClient.requestJson(new HttpRequestOptions(baseUrl + "/compressed", Method.GET),
+            String[].class, "getValues", null).join();
+        assertEquals(1000, values.length);
+        Assertions.assertThat(acceptEncoding.get()).isNull();
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#requestConditionalJson(HttpRequestOptions, Class, String, CallOptions)}
+     */
+    @Test
+    void testRevalidatesResponsesWithEtag() {
+        testRevalidatesResponses("etag");
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#requestConditionalJson(HttpRequestOptions, Class, String, CallOptions)}
+     */
+    @Test
+    void testRevalidatesResponsesWithLastModified() {
+        testRevalidatesResponses("lastModified");
+    }
+
+    /**
+     * Tests {@link CopyFactoryHttpClient#setValidatorCacheSize(int)}
+     */
+    @Test
+    void testDoesNotRevalidateResponsesIfCacheIsDisabled() {
+        httpClient.setValidatorCacheSize(0);
+        String[] first = requestVersioned("etag");
+        String[] second = requestVersioned("etag");
+        assertNotSame(first, second);
+        assertArrayEquals(first, second);
+        assertEquals(2, versionedRequestCount.get());
+        assertEquals(0, notModifiedCount.get());
+    }
+
+    private void testRevalidatesResponses(String validator) {
+        InMemoryMetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+        httpClient.setMetricsRegistry(metricsRegistry);
+        String[] first = requestVersioned(validator);
+        String[] second = requestVersioned(validator);
+        assertSame(first, second);
+        assertEquals(2, versionedRequestCount.get());
+        assertEquals(1, notModifiedCount.get());
+        assertEquals(1, metricsRegistry.getOperationMetrics("getVersioned").decodeCount);
+        version = "2";
+        String[] third = requestVersioned(validator);
+        assertArrayEquals(new String[] {"2"}, third);
+        assertSame(third, requestVersioned(validator));
+        assertEquals(4, versionedRequestCount.get());
+        assertEquals(2, notModifiedCount.get());
+    }
+
+    private String[] requestVersioned(String validator) {
+        HttpRequestOptions opts = new HttpRequestOptions(baseUrl + "/versioned", Method.GET);
+        opts.getQueryParameters().put("validator", validator);
+        return httpClient.requestConditionalJson(opts, String[].class, "getVersioned", null).join();
+    }
+}
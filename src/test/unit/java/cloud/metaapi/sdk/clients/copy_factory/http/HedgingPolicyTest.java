@@ -0,0 +1,97 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link HedgingPolicy}
+ */
+class HedgingPolicyTest {
+
+    private HedgingOptions options;
+    private HedgingPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        options = new HedgingOptions();
+        options.enabled = true;
+        options.minSamples = 10;
+        options.minDelayInMilliseconds = 5;
+        options.percentile = 90;
+        options.maxHedgeRatio = 0.25;
+        policy = new HedgingPolicy(options);
+    }
+
+    /**
+     * Tests {@link HedgingPolicy#getHedgeDelay(String)}
+     */
+    @Test
+    void testDelaysHedgeByLatencyPercentile() {
+        for (int i = 1; i <= 9; i++) {
+            policy.recordLatency("getStrategy", i * 10);
+        }
+        assertEquals(-1, policy.getHedgeDelay("getStrategy"));
+        policy.recordLatency("getStrategy", 1000);
+        assertEquals(90, policy.getHedgeDelay("getStrategy"));
+        assertEquals(-1, policy.getHedgeDelay("getUserLog"));
+        for (int i = 0; i < HedgingPolicy.WINDOW_SIZE; i++) {
+            policy.recordLatency("getStrategy", 1);
+        }
+        assertEquals(5, policy.getHedgeDelay("getStrategy"));
+    }
+
+    /**
+     * Tests {@link HedgingPolicy#call(String, Supplier, Supplier)}
+     */
+    @Test
+    void testRecordsElapsedTimeOfOriginalRequestWhenHedgeWins() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            policy.recordLatency("getStrategy", 100);
+        }
+        for (int i = 0; i < 4; i++) {
+            policy.onCall();
+        }
+        CompletableFuture<String> original = new CompletableFuture<>();
+        assertEquals("hedge", policy.call("getStrategy", () -> original,
+            () -> CompletableFuture.completedFuture("hedge")).get(5, TimeUnit.SECONDS));
+        assertTrue(original.isCancelled());
+        options.percentile = 1;
+        assertTrue(policy.getHedgeDelay("getStrategy") >= 100);
+    }
+
+    /**
+     * Tests {@link HedgingPolicy#tryAcquire()}
+     */
+    @Test
+    void testLimitsHedgesByBudget() {
+        assertFalse(policy.tryAcquire());
+        for (int i = 0; i < 4; i++) {
+            policy.onCall();
+        }
+        assertTrue(policy.tryAcquire());
+        assertFalse(policy.tryAcquire());
+        for (int i = 0; i < 1000; i++) {
+            policy.onCall();
+        }
+        for (int i = 0; i < HedgingPolicy.MAX_BUDGET; i++) {
+            assertTrue(policy.tryAcquire());
+        }
+        assertFalse(policy.tryAcquire());
+        assertEquals(1 + (long) HedgingPolicy.MAX_BUDGET, policy.getHedgeCount());
+    }
+
+    /**
+     * Tests {@link HedgingPolicy#isHedged(String)}
+     */
+    @Test
+    void testHedgesConfiguredOperations() {
+        assertTrue(policy.isHedged("getStopouts"));
+        assertFalse(policy.isHedged("updateStrategy"));
+    }
+}
@@ -0,0 +1,101 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.CompactTransaction;
+import cloud.metaapi.sdk.clients.copy_factory.models.compact.IdentifierInterner;
+
+/**
+ * Tests {@link IdentifierRegistry}
+ */
+class IdentifierRegistryTest {
+
+    private IdentifierRegistryOptions options;
+    private IdentifierRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        options = new IdentifierRegistryOptions();
+        options.maximumSize = 32;
+        options.maximumLength = 16;
+        options.maximumHandles = 2;
+        registry = new IdentifierRegistry(options);
+    }
+
+    /**
+     * Tests {@link IdentifierRegistry#intern(String)}, {@link IdentifierRegistry#intern(char[], int, int)}
+     */
+    @Test
+    void testReturnsSameInstanceForEqualIdentifiers() {
+        String id = registry.intern(new String("accountId"));
+        assertSame(id, registry.intern(new String("accountId")));
+        assertSame(id, registry.intern("xaccountIdx".toCharArray(), 1, 9));
+        assertNotSame(registry.intern("a-very-long-identifier"), registry.intern(new String("a-very-long-identifier")));
+        IdentifierRegistryStats stats = registry.getStats();
+        assertEquals(1, stats.size);
+        assertEquals(2, stats.hits);
+        assertEquals(1, stats.misses);
+        assertEquals(200.0 / 3, stats.hitRate, 0.001);
+    }
+
+    /**
+     * Tests {@link IdentifierRegistry#intern(String)}
+     */
+    @Test
+    void testEvictsIdentifiersNotLookedUpRecently() {
+        String hot = registry.intern(new String("hot"));
+        for (int i = 0; i < 1000; i++) {
+            registry.intern("cold" + i);
+            assertSame(hot, registry.intern(new String("hot")));
+        }
+        IdentifierRegistryStats stats = registry.getStats();
+        assertTrue(stats.size <= 32);
+        assertEquals(1001 - stats.size, stats.evictions);
+    }
+
+    /**
+     * Tests {@link IdentifierRegistry#getHandle(String)}, {@link IdentifierRegistry#getIdentifier(int)}
+     */
+    @Test
+    void testMapsIdentifiersToHandles() {
+        assertEquals(0, registry.getHandle("ABCD"));
+        assertEquals(1, registry.getHandle("EFGH"));
+        assertEquals(0, registry.getHandle(new String("ABCD")));
+        assertEquals(-1, registry.getHandle("IJKL"));
+        for (int i = 0; i < 1000; i++) {
+            registry.intern("cold" + i);
+        }
+        assertEquals("EFGH", registry.getIdentifier(1));
+        assertNull(registry.getIdentifier(2));
+        assertEquals(2, registry.getStats().handles);
+        assertEquals(-1, new IdentifierRegistry(new IdentifierRegistryOptions()).getHandle("ABCD"));
+    }
+
+    /**
+     * Tests {@link IdentifierRegistry.Deserializer}, {@link JsonCodecs#reader(Class, boolean)}
+     */
+    @Test
+    void testDeduplicatesIdentifiersOfDecodedModels() throws Exception {
+        String json = "[{\"id\":\"1\",\"accountId\":\"e8867baa\",\"symbol\":\"EURUSD\",\"strategy\":{\"id\":\"ABCD\"}},"
+            + "{\"id\":\"2\",\"accountId\":\"e8867baa\",\"symbol\":\"EURUSD\",\"strategy\":{\"id\":\"ABCD\"}}]";
+        CopyFactoryTransaction[] transactions = JsonCodecs.reader(CopyFactoryTransaction[].class, true)
+            .withAttribute(IdentifierInterner.class, registry).readValue(json);
+        assertSame(transactions[0].accountId, transactions[1].accountId);
+        assertSame(transactions[0].symbol, transactions[1].symbol);
+        assertSame(transactions[0].strategy.id, transactions[1].strategy.id);
+        CompactTransaction[] compactTransactions = JsonCodecs.reader(CompactTransaction[].class, true)
+            .withAttribute(IdentifierInterner.class, registry).readValue(json);
+        assertSame(transactions[0].accountId, compactTransactions[1].accountId);
+        assertSame(transactions[0].strategy.id, compactTransactions[1].strategyId);
+        transactions = JsonCodecs.reader(CopyFactoryTransaction[].class).readValue(json);
+        assertEquals("e8867baa", transactions[1].accountId);
+        assertNotSame(transactions[0].accountId, transactions[1].accountId);
+        transactions = JsonCodecs.reader(CopyFactoryTransaction[].class)
+            .withAttribute(IdentifierInterner.class, registry).readValue(json);
+        assertNotSame(transactions[0].accountId, transactions[1].accountId);
+    }
+}
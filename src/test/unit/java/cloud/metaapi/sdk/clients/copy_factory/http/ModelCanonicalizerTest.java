@@ -0,0 +1,86 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyIdAndName;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySymbolFilter;
+import cloud.metaapi.sdk.clients.copy_factory.models.snapshot.StrategyIdAndNameSnapshot;
+import cloud.metaapi.sdk.clients.copy_factory.models.snapshot.SymbolFilterSnapshot;
+
+/**
+ * Tests {@link ModelCanonicalizer}
+ */
+class ModelCanonicalizerTest {
+
+    private CanonicalizationOptions options;
+    private ModelCanonicalizer canonicalizer;
+
+    @BeforeEach
+    void setUp() {
+        options = new CanonicalizationOptions();
+        options.maximumSize = 32;
+        canonicalizer = new ModelCanonicalizer(options);
+    }
+
+    /**
+     * Tests {@link ModelCanonicalizer#canonicalize(cloud.metaapi.sdk.clients.copy_factory.models.snapshot.Snapshot)}
+     */
+    @Test
+    void testReturnsSameInstanceForStructurallyEqualSnapshots() {
+        StrategyIdAndNameSnapshot strategy = canonicalizer.canonicalize(strategy("ABCD"));
+        assertSame(strategy, canonicalizer.canonicalize(strategy("ABCD")));
+        assertNotSame(strategy, canonicalizer.canonicalize(strategy("EFGH")));
+        SymbolFilterSnapshot filter = canonicalizer.canonicalize(symbolFilter("EURUSD"));
+        assertSame(filter, canonicalizer.canonicalize(symbolFilter("EURUSD")));
+        assertNotSame(filter, canonicalizer.canonicalize(symbolFilter("GBPUSD")));
+        assertThrows(UnsupportedOperationException.class, () -> filter.included.add("GBPUSD"));
+        CanonicalizerStats stats = canonicalizer.getStats();
+        assertEquals(4, stats.size);
+        assertEquals(2, stats.hits);
+        assertEquals(4, stats.misses);
+        assertEquals(100.0 / 3, stats.hitRate, 0.001);
+    }
+
+    /**
+     * Tests {@link ModelCanonicalizer#canonicalize(cloud.metaapi.sdk.clients.copy_factory.models.snapshot.Snapshot)}
+     */
+    @Test
+    void testEvictsLeastRecentlyUsedInstances() {
+        StrategyIdAndNameSnapshot hot = canonicalizer.canonicalize(strategy("hot"));
+        for (int i = 0; i < 1000; i++) {
+            canonicalizer.canonicalize(strategy("cold" + i));
+            assertSame(hot, canonicalizer.canonicalize(strategy("hot")));
+        }
+        assertTrue(canonicalizer.getStats().size <= 32);
+    }
+
+    /**
+     * Tests {@link ModelCanonicalizer#canonicalize(cloud.metaapi.sdk.clients.copy_factory.models.snapshot.Snapshot)}
+     */
+    @Test
+    void testDoesNotShareModelsOfCanonicalSnapshots() {
+        StrategyIdAndNameSnapshot strategy = canonicalizer.canonicalize(strategy("ABCD"));
+        CopyFactoryStrategyIdAndName model = strategy.toModel();
+        model.name = "Changed";
+        assertEquals("Strategy ABCD", canonicalizer.canonicalize(strategy("ABCD")).name);
+        assertNotSame(model, strategy.toModel());
+    }
+
+    private static StrategyIdAndNameSnapshot strategy(String id) {
+        CopyFactoryStrategyIdAndName strategy = new CopyFactoryStrategyIdAndName();
+        strategy.id = new String(id);
+        strategy.name = "Strategy " + id;
+        return StrategyIdAndNameSnapshot.of(strategy);
+    }
+
+    private static SymbolFilterSnapshot symbolFilter(String symbol) {
+        CopyFactoryStrategySymbolFilter filter = new CopyFactoryStrategySymbolFilter();
+        filter.included = Arrays.asList(symbol);
+        return SymbolFilterSnapshot.of(filter);
+    }
+}
@@ -0,0 +1,38 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ModelDecodingModule}
+ */
+class ModelDecodingModuleTest {
+
+    /**
+     * Tests {@link ModelDecodingModule#IDENTIFIER_FIELDS}, {@link ModelDecodingModule#IDENTIFIER_ELEMENT_FIELDS}
+     */
+    @Test
+    void testListsExistingModelFields() throws Exception {
+        List<Map<Class<?>, Set<String>>> tables = Arrays.asList(ModelDecodingModule.IDENTIFIER_FIELDS,
+            ModelDecodingModule.IDENTIFIER_ELEMENT_FIELDS);
+        for (Map<Class<?>, Set<String>> table : tables) {
+            for (Map.Entry<Class<?>, Set<String>> fields : table.entrySet()) {
+                for (String name : fields.getValue()) {
+                    Field field = fields.getKey().getDeclaredField(name);
+                    if (table == ModelDecodingModule.IDENTIFIER_FIELDS) {
+                        assertEquals(String.class, field.getType());
+                    } else {
+                        assertEquals(List.class, field.getType());
+                    }
+                }
+            }
+        }
+    }
+}
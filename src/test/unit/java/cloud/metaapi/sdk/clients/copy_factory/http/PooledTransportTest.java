@@ -0,0 +1,23 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link PooledTransport}
+ */
+class PooledTransportTest {
+
+        /**
+         * Tests {@link PooledTransport#getKeepAliveDuration(long, int)}
+         */
+        @Test
+        void testKeepsIdleConnectionsAliveForConfiguredTime() {
+                assertEquals(300000, PooledTransport.getKeepAliveDuration(-1, 300));
+                assertEquals(5000, PooledTransport.getKeepAliveDuration(5000, 300));
+                assertEquals(300000, PooledTransport.getKeepAliveDuration(600000, 300));
+                assertEquals(-1, PooledTransport.getKeepAliveDuration(-1, 0));
+                assertEquals(600000, PooledTransport.getKeepAliveDuration(600000, 0));
+        }
+}
@@ -0,0 +1,93 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link TenantBudgets}
+ */
+class TenantBudgetsTest {
+
+    private TenantBudgetOptions options;
+    private TenantBudgets budgets;
+
+    @BeforeEach
+    void setUp() {
+        options = new TenantBudgetOptions();
+        options.maxConcurrentRequests = 2;
+        options.requestsPerSecond = 1;
+        options.burst = 1;
+        budgets = new TenantBudgets(options);
+    }
+
+    /**
+     * Tests {@link TenantBudgets#acquire(String)}
+     */
+    @Test
+    void testLimitsConcurrentCallsOfTenant() {
+        CompletableFuture<TenantBudgets.Budget> first = budgets.acquire("token1");
+        CompletableFuture<TenantBudgets.Budget> second = budgets.acquire("token1");
+        CompletableFuture<TenantBudgets.Budget> third = budgets.acquire("token1");
+        CompletableFuture<TenantBudgets.Budget> otherTenant = budgets.acquire("token2");
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        assertFalse(third.isDone());
+        assertTrue(otherTenant.isDone());
+        first.join().release();
+        assertTrue(third.isDone());
+        assertSame(first.join(), third.join());
+    }
+
+    /**
+     * Tests {@link TenantBudgets#acquire(String)}
+     */
+    @Test
+    void testRemovesCancelledCallsFromQueue() {
+        CompletableFuture<TenantBudgets.Budget> first = budgets.acquire("token1");
+        budgets.acquire("token1");
+        CompletableFuture<TenantBudgets.Budget> cancelled = budgets.acquire("token1");
+        CompletableFuture<TenantBudgets.Budget> queued = budgets.acquire("token1");
+        cancelled.cancel(false);
+        first.join().release();
+        assertTrue(cancelled.isCancelled());
+        assertTrue(queued.isDone());
+        queued.join().release();
+        assertTrue(budgets.acquire("token1").isDone());
+    }
+
+    /**
+     * Tests {@link TenantBudgets.Budget#reserve(EndpointFamily, RateLimitPolicy)}
+     */
+    @Test
+    void testLimitsRateOfTenant() {
+        TenantBudgets.Budget budget = budgets.acquire("token1").join();
+        assertTrue(budget.reserve(EndpointFamily.HISTORY, null).isDone());
+        CompletableFuture<Void> queued = budget.reserve(EndpointFamily.HISTORY, null);
+        assertFalse(queued.isDone());
+        CompletableFuture<Void> rejected = budget.reserve(EndpointFamily.HISTORY, RateLimitPolicy.FAIL_FAST);
+        Assertions.assertThatThrownBy(rejected::join).hasCauseInstanceOf(RateLimitExceededException.class);
+        assertTrue(budgets.acquire("token2").join().reserve(EndpointFamily.HISTORY, null).isDone());
+        queued.join();
+    }
+
+    /**
+     * Tests {@link TenantBudgets#sweep(long)}
+     */
+    @Test
+    void testDropsBudgetsOfIdleTenants() {
+        options.requestsPerSecond = 1000;
+        TenantBudgets.Budget active = budgets.acquire("token1").join();
+        budgets.acquire("token2").join().release();
+        assertEquals(2, budgets.size());
+        budgets.sweep(System.currentTimeMillis());
+        assertEquals(1, budgets.size());
+        active.release();
+        budgets.sweep(System.currentTimeMillis());
+        assertEquals(0, budgets.size());
+    }
+}
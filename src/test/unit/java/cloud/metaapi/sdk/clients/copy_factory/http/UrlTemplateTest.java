@@ -0,0 +1,40 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link UrlTemplate}
+ */
+class UrlTemplateTest {
+
+    /**
+     * Tests {@link UrlTemplate#of(String)}
+     */
+    @Test
+    void testReplacesIdsWithPlaceholders() {
+        UrlTemplate template = UrlTemplate.of("https://trading-api-v1.agiliumtrade.agiliumtrade.ai/users/current/"
+            + "accounts/accountId/strategies-subscribed/ABCD/stopouts/daily-equity/reset");
+        assertEquals("/users/current/accounts/:accountId/strategies-subscribed/:strategyId/stopouts/:reason/reset",
+            template.template);
+        assertEquals("accountId", template.accountId);
+        assertEquals("ABCD", template.strategyId);
+    }
+
+    /**
+     * Tests {@link UrlTemplate#of(String)}
+     */
+    @Test
+    void testKeepsCollectionPaths() {
+        UrlTemplate template = UrlTemplate.of("https://trading-api-v1.agiliumtrade.agiliumtrade.ai/users/current/"
+            + "configuration/strategies");
+        assertEquals("/users/current/configuration/strategies", template.template);
+        assertNull(template.accountId);
+        assertNull(template.strategyId);
+        assertEquals("/users/current/strategies/transactions", UrlTemplate.of(
+            "https://host/users/current/strategies/transactions").template);
+        assertEquals("/users/current/accounts/:accountId/stopouts", UrlTemplate.of(
+            "https://host/users/current/accounts/accountId/stopouts").template);
+    }
+}
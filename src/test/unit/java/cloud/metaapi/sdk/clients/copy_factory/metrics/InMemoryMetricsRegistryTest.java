@@ -0,0 +1,74 @@
+package cloud.metaapi.sdk.clients.copy_factory.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import cloud.metaapi.sdk.clients.error_handler.NotFoundException;
+
+/**
+ * Tests {@link InMemoryMetricsRegistry}
+ */
+class InMemoryMetricsRegistryTest {
+
+    private InMemoryMetricsRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new InMemoryMetricsRegistry();
+    }
+
+    /**
+     * Tests {@link InMemoryMetricsRegistry#recordCall(String, long, int, Throwable)}
+     */
+    @Test
+    void testRecordsCallsAndErrorsByType() {
+        registry.recordCall("getUserLog", TimeUnit.MILLISECONDS.toNanos(3), 0, null);
+        registry.recordCall("getUserLog", TimeUnit.MILLISECONDS.toNanos(150), 2, new NotFoundException("Not found"));
+        registry.recordCall("updateAccount", TimeUnit.MILLISECONDS.toNanos(70000), 0, null);
+        OperationMetrics metrics = registry.getOperationMetrics("getUserLog");
+        assertEquals(2, metrics.count);
+        assertEquals(2, metrics.retries);
+        assertEquals(1, metrics.errors.get("NotFoundException"));
+        assertEquals(1, metrics.latencyHistogram[2]);
+        assertEquals(1, metrics.latencyHistogram[7]);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(153), metrics.totalLatencyInNanos);
+        assertEquals(1, registry.getOperationMetrics("updateAccount").latencyHistogram[15]);
+        assertThat(registry.getMetrics()).extracting(item -> item.operation)
+            .containsExactlyInAnyOrder("getUserLog", "updateAccount");
+        assertNull(registry.getOperationMetrics("getStrategies"));
+    }
+
+    /**
+     * Tests {@link OperationMetrics#getLatencyPercentileInMilliseconds(double)}
+     */
+    @Test
+    void testEstimatesLatencyPercentiles() {
+        IntStream.rangeClosed(1, 100).forEach(i -> registry.recordCall("getStrategies",
+            TimeUnit.MILLISECONDS.toNanos(i <= 90 ? 8 : 400), 0, null));
+        OperationMetrics metrics = registry.getOperationMetrics("getStrategies");
+        assertEquals(10, metrics.getLatencyPercentileInMilliseconds(50));
+        assertEquals(10, metrics.getLatencyPercentileInMilliseconds(90));
+        assertEquals(500, metrics.getLatencyPercentileInMilliseconds(99));
+    }
+
+    /**
+     * Tests {@link InMemoryMetricsRegistry#recordResponse(String, long)}
+     * and {@link InMemoryMetricsRegistry#recordDecode(String, long)}
+     */
+    @Test
+    void testRecordsResponseSizeAndDecodeTime() {
+        registry.recordResponse("getAccounts", 1000);
+        registry.recordResponse("getAccounts", 500);
+        registry.recordDecode("getAccounts", 2000);
+        OperationMetrics metrics = registry.getOperationMetrics("getAccounts");
+        assertEquals(1500, metrics.responseBytes);
+        assertEquals(1, metrics.decodeCount);
+        assertEquals(2000, metrics.totalDecodeTimeInNanos);
+    }
+}
@@ -0,0 +1,49 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.compact;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link CompactTimes}
+ */
+class CompactTimesTest {
+
+    /**
+     * Tests {@link CompactTimes#parse(String)}
+     */
+    @Test
+    void testParsesUtcTimes() {
+        for (String time : new String[] {"2020-08-02T21:01:01.830Z", "2020-08-02T21:01:01Z", "2020-08-02T21:01:01.8Z",
+            "2020-08-02T21:01:01.830123456Z", "1970-01-01T00:00:00.000Z", "1969-12-31T23:59:59.999Z",
+            "2000-02-29T12:00:00.000Z", "2100-03-01T00:00:00.000Z", "1600-01-01T00:00:00.000Z"}) {
+            assertEquals(Instant.parse(time).toEpochMilli(), CompactTimes.parse(time), time);
+        }
+    }
+
+    /**
+     * Tests {@link CompactTimes#parse(String)}
+     */
+    @Test
+    void testParsesTimesWithOffsets() {
+        String time = "2020-08-02T23:01:01.830+02:00";
+        assertEquals(OffsetDateTime.parse(time).toInstant().toEpochMilli(), CompactTimes.parse(time));
+        assertThrows(DateTimeParseException.class, () -> CompactTimes.parse("2020-08-02T21:01:61.000Z"));
+    }
+
+    /**
+     * Tests {@link CompactTimes#parse(String)}
+     */
+    @Test
+    void testRejectsImpossibleDates() {
+        for (String time : new String[] {"2020-02-31T00:00:00.000Z", "2021-02-29T00:00:00Z", "1900-02-29T00:00:00.000Z",
+            "2020-04-31T00:00:00.000Z", "2020-13-01T00:00:00.000Z"}) {
+            assertThrows(DateTimeParseException.class, () -> CompactTimes.parse(time), time);
+        }
+        assertEquals(Instant.parse("2020-02-29T00:00:00Z").toEpochMilli(), CompactTimes.parse("2020-02-29T00:00:00Z"));
+    }
+}
@@ -0,0 +1,31 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.compact;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import cloud.metaapi.sdk.clients.copy_factory.http.JsonCodecs;
+
+/**
+ * Tests {@link CompactTransaction}
+ */
+class CompactTransactionTest {
+
+    /**
+     * Tests {@link CompactTransaction.Deserializer}
+     */
+    @Test
+    void testSkipsNestedObjectsOfUnexpectedType() throws Exception {
+        String json = "[{\"id\":\"1\",\"subscriber\":[{\"id\":\"e8867baa\"}],"
+            + "\"metrics\":[1,{\"tradeAlgorithmLatency\":2}],\"strategy\":{\"id\":\"ABCD\"},\"symbol\":\"EURUSD\"},"
+            + "{\"id\":\"2\",\"provider\":[],\"symbol\":\"GBPUSD\"}]";
+        CompactTransaction[] transactions = JsonCodecs.reader(CompactTransaction[].class).readValue(json);
+        assertEquals(2, transactions.length);
+        assertNull(transactions[0].subscriberId);
+        assertTrue(Double.isNaN(transactions[0].tradeAlgorithmLatency));
+        assertEquals("ABCD", transactions[0].strategyId);
+        assertEquals("EURUSD", transactions[0].symbol);
+        assertEquals("2", transactions[1].id);
+        assertEquals("GBPUSD", transactions[1].symbol);
+    }
+}
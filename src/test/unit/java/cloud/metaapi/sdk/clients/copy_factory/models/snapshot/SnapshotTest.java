@@ -0,0 +1,158 @@
+package cloud.metaapi.sdk.clients.copy_factory.models.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategy;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategyRiskLimit;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySymbolFilter;
+import cloud.metaapi.sdk.clients.models.IsoTime;
+
+/**
+ * Tests {@link Snapshot}
+ */
+class SnapshotTest {
+
+    private static final List<Class<?>> SNAPSHOT_TYPES = Arrays.asList(AccountSnapshot.class,
+        BreakingNewsFilterSnapshot.class, CalendarNewsFilterSnapshot.class, CommissionSchemeSnapshot.class,
+        EquityCurveFilterSnapshot.class, MagicFilterSnapshot.class, MaxStopLossSnapshot.class, NewsFilterSnapshot.class,
+        PortfolioMemberSnapshot.class, PortfolioStrategySnapshot.class, RiskLimitSnapshot.class,
+        StopOutRiskSnapshot.class, StopoutSnapshot.class, StrategyIdAndNameSnapshot.class, StrategySnapshot.class,
+        SubscriberOrProviderSnapshot.class, SubscriptionSnapshot.class, SymbolFilterSnapshot.class,
+        SymbolMappingSnapshot.class, TimeSettingsSnapshot.class, TradeSizeScalingSnapshot.class,
+        TransactionMetricsSnapshot.class, TransactionSnapshot.class, UserLogRecordSnapshot.class);
+
+    /**
+     * Tests {@link StrategySnapshot#of(CopyFactoryStrategy)}, {@link StrategySnapshot#toModel()}
+     */
+    @Test
+    void testCreatesImmutableSnapshotAndMutableCopy() {
+        CopyFactoryStrategy strategy = createStrategy(0.1);
+        StrategySnapshot snapshot = StrategySnapshot.of(strategy);
+        strategy.symbolFilter.included.add("GBPUSD");
+        strategy.riskLimits.get(0).maxRisk = 0.5;
+        assertEquals("ABCD", snapshot.id);
+        assertEquals(Arrays.asList("EURUSD"), snapshot.symbolFilter.included);
+        assertEquals(0.1, snapshot.riskLimits.get(0).maxRisk);
+        assertEquals(Instant.ofEpochMilli(1598227200000L), snapshot.riskLimits.get(0).startTime);
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.symbolFilter.included.add("GBPUSD"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.riskLimits.clear());
+        CopyFactoryStrategy copy = snapshot.toModel();
+        copy.symbolFilter.included.add("GBPUSD");
+        assertEquals("ABCD", copy._id);
+        assertEquals(new IsoTime(new Date(1598227200000L)), copy.riskLimits.get(0).startTime);
+        assertEquals(snapshot, StrategySnapshot.of(snapshot.toModel()));
+        assertEquals(snapshot.hashCode(), StrategySnapshot.of(snapshot.toModel()).hashCode());
+        assertNotEquals(snapshot, StrategySnapshot.of(copy));
+    }
+
+    /**
+     * Tests {@link StrategySnapshot#of(CopyFactoryStrategy, StrategySnapshot)}
+     */
+    @Test
+    void testSharesPartsEqualToPreviousSnapshot() {
+        StrategySnapshot previous = StrategySnapshot.of(createStrategy(0.1));
+        assertSame(previous, StrategySnapshot.of(createStrategy(0.1), previous));
+        CopyFactoryStrategy strategy = createStrategy(0.1);
+        strategy.riskLimits.get(1).maxRisk = 0.2;
+        StrategySnapshot updated = StrategySnapshot.of(strategy, previous);
+        assertNotSame(previous, updated);
+        assertSame(previous.symbolFilter, updated.symbolFilter);
+        assertNotSame(previous.riskLimits, updated.riskLimits);
+        assertSame(previous.riskLimits.get(0), updated.riskLimits.get(0));
+        assertEquals(0.2, updated.riskLimits.get(1).maxRisk);
+    }
+
+    /**
+     * Tests {@link Snapshot#equals(Object)}, {@link Snapshot#hashCode()}
+     */
+    @Test
+    void testComparesSnapshotsByAllFields() throws Exception {
+        Field hash = Snapshot.class.getDeclaredField("hash");
+        hash.setAccessible(true);
+        for (Class<?> type : SNAPSHOT_TYPES) {
+            Snapshot snapshot = createEmptySnapshot(type);
+            Snapshot equal = createEmptySnapshot(type);
+            assertEquals(snapshot, equal, type.getSimpleName());
+            assertEquals(snapshot.hashCode(), equal.hashCode(), type.getSimpleName());
+            for (Field field : type.getFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                String name = type.getSimpleName() + "." + field.getName();
+                field.setAccessible(true);
+                Snapshot changed = createEmptySnapshot(type);
+                field.set(changed, createSampleValue(field.getType()));
+                assertNotEquals(snapshot.hashCode(), changed.hashCode(), name);
+                Snapshot colliding = createEmptySnapshot(type);
+                field.set(colliding, createSampleValue(field.getType()));
+                Snapshot base = createEmptySnapshot(type);
+                hash.set(base, 1);
+                hash.set(colliding, 1);
+                assertNotEquals(base, colliding, name);
+                assertNotEquals(colliding, base, name);
+            }
+        }
+    }
+
+    private static Snapshot createEmptySnapshot(Class<?> type) throws Exception {
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals("of") && method.getParameterCount() == 1) {
+                return (Snapshot) method.invoke(null, method.getParameterTypes()[0].getConstructor().newInstance());
+            }
+        }
+        throw new IllegalArgumentException(type.getName());
+    }
+
+    private static Object createSampleValue(Class<?> type) throws Exception {
+        if (type == String.class) {
+            return "value";
+        } else if (type == double.class || type == Double.class) {
+            return 1.0;
+        } else if (type == float.class) {
+            return 1.0f;
+        } else if (type == Integer.class) {
+            return 1;
+        } else if (type == boolean.class || type == Boolean.class) {
+            return true;
+        } else if (type == Instant.class) {
+            return Instant.ofEpochMilli(1598227200000L);
+        } else if (type == List.class) {
+            return Arrays.asList("value");
+        } else if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        Snapshot snapshot = createEmptySnapshot(type);
+        Field field = type.getFields()[0];
+        field.setAccessible(true);
+        field.set(snapshot, createSampleValue(field.getType()));
+        return snapshot;
+    }
+
+    private static CopyFactoryStrategy createStrategy(double maxRisk) {
+        CopyFactoryStrategy strategy = new CopyFactoryStrategy();
+        strategy._id = "ABCD";
+        strategy.name = "Strategy";
+        strategy.symbolFilter = new CopyFactoryStrategySymbolFilter();
+        strategy.symbolFilter.included = new ArrayList<>(Arrays.asList("EURUSD"));
+        strategy.riskLimits = new ArrayList<>();
+        for (String type : Arrays.asList("day", "week")) {
+            CopyFactoryStrategyRiskLimit limit = new CopyFactoryStrategyRiskLimit();
+            limit.type = type;
+            limit.maxRisk = maxRisk;
+            limit.startTime = new IsoTime(new Date(1598227200000L));
+            strategy.riskLimits.add(limit);
+        }
+        return strategy;
+    }
+}
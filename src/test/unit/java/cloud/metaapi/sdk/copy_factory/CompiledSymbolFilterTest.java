@@ -0,0 +1,88 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.assertj.core.util.Lists;
+import org.junit.jupiter.api.Test;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySymbolFilter;
+
+/**
+ * Tests {@link CompiledSymbolFilter}
+ */
+class CompiledSymbolFilterTest {
+
+    /**
+     * Tests {@link CompiledSymbolFilter#isAllowed(String)}
+     */
+    @Test
+    void testAllowsAllSymbolsWithoutFilter() {
+        assertTrue(CompiledSymbolFilter.of(null).isAllowed("EURUSD"));
+        assertTrue(new CompiledSymbolFilter(new CopyFactoryStrategySymbolFilter()).isAllowed("EURUSD"));
+    }
+
+    /**
+     * Tests {@link CompiledSymbolFilter#isAllowed(String)}
+     */
+    @Test
+    void testMatchesExactSymbols() {
+        CompiledSymbolFilter filter = new CompiledSymbolFilter(new CopyFactoryStrategySymbolFilter() {{
+            included = Lists.list("EURUSD", "GBPUSD");
+            excluded = Lists.list("GBPUSD");
+        }});
+        assertTrue(filter.isAllowed("EURUSD"));
+        assertFalse(filter.isAllowed("GBPUSD"));
+        assertFalse(filter.isAllowed("EURUSD.m"));
+    }
+
+    /**
+     * Tests {@link CompiledSymbolFilter#isAllowed(String)}
+     */
+    @Test
+    void testMatchesPrefixPatterns() {
+        CompiledSymbolFilter filter = new CompiledSymbolFilter(new CopyFactoryStrategySymbolFilter() {{
+            included = Lists.list("EUR*", "XAUUSD");
+            excluded = Lists.list("EURJ*");
+        }});
+        assertTrue(filter.isAllowed("EURUSD"));
+        assertTrue(filter.isAllowed("EURGBP.m"));
+        assertTrue(filter.isAllowed("XAUUSD"));
+        assertFalse(filter.isAllowed("EURJPY"));
+        assertFalse(filter.isAllowed("EU"));
+        assertFalse(filter.isAllowed("GBPUSD"));
+    }
+
+    /**
+     * Tests {@link CompiledSymbolFilter#of(CopyFactoryStrategySymbolFilter)}
+     */
+    @Test
+    void testCachesCompiledFilterPerFilterContents() {
+        CopyFactoryStrategySymbolFilter filter = new CopyFactoryStrategySymbolFilter();
+        filter.excluded = Lists.list("EURUSD");
+        CompiledSymbolFilter compiled = CompiledSymbolFilter.of(filter);
+        assertSame(compiled, CompiledSymbolFilter.of(filter));
+        CopyFactoryStrategySymbolFilter equalFilter = new CopyFactoryStrategySymbolFilter();
+        equalFilter.excluded = Lists.list("EURUSD");
+        assertSame(compiled, CompiledSymbolFilter.of(equalFilter));
+        assertNotSame(compiled, CompiledSymbolFilter.of(new CopyFactoryStrategySymbolFilter()));
+        filter.excluded.add("GBPUSD");
+        assertTrue(compiled.isAllowed("GBPUSD"));
+        assertFalse(CompiledSymbolFilter.of(filter).isAllowed("GBPUSD"));
+    }
+
+    /**
+     * Tests {@link CompiledSymbolFilter#of(CopyFactoryStrategySymbolFilter)}
+     */
+    @Test
+    void testKeepsCachingRecentFiltersAfterCacheIsFull() {
+        CopyFactoryStrategySymbolFilter filter = new CopyFactoryStrategySymbolFilter();
+        filter.included = Lists.list("EURUSD");
+        CompiledSymbolFilter compiled = CompiledSymbolFilter.of(filter);
+        for (int i = 0; i < 10000; i++) {
+            CopyFactoryStrategySymbolFilter other = new CopyFactoryStrategySymbolFilter();
+            other.included = Lists.list("SYMBOL" + i);
+            assertSame(CompiledSymbolFilter.of(other), CompiledSymbolFilter.of(other));
+            assertSame(compiled, CompiledSymbolFilter.of(filter));
+        }
+    }
+}
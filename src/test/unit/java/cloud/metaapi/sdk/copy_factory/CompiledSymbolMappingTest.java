@@ -0,0 +1,46 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.assertj.core.util.Lists;
+import org.junit.jupiter.api.Test;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryStrategySymbolMapping;
+
+/**
+ * Tests {@link CompiledSymbolMapping}
+ */
+class CompiledSymbolMappingTest {
+
+    /**
+     * Tests {@link CompiledSymbolMapping#map(String)}
+     */
+    @Test
+    void testMapsSymbols() {
+        CompiledSymbolMapping mapping = new CompiledSymbolMapping(Lists.list(new CopyFactoryStrategySymbolMapping() {{
+            from = "EURUSD";
+            to = "EURUSD.m";
+        }}));
+        assertEquals("EURUSD.m", mapping.map("EURUSD"));
+        assertEquals("GBPUSD", mapping.map("GBPUSD"));
+        assertEquals("EURUSD", CompiledSymbolMapping.of(null).map("EURUSD"));
+    }
+
+    /**
+     * Tests {@link CompiledSymbolMapping#of(List)}
+     */
+    @Test
+    void testCachesCompiledMappingPerListContents() {
+        List<CopyFactoryStrategySymbolMapping> symbolMapping = Lists.list(new CopyFactoryStrategySymbolMapping() {{
+            from = "EURUSD";
+            to = "EURUSD.m";
+        }});
+        CompiledSymbolMapping compiled = CompiledSymbolMapping.of(symbolMapping);
+        assertSame(compiled, CompiledSymbolMapping.of(symbolMapping));
+        symbolMapping.get(0).to = "EURUSD.pro";
+        assertEquals("EURUSD.m", compiled.map("EURUSD"));
+        assertEquals("EURUSD.pro", CompiledSymbolMapping.of(symbolMapping).map("EURUSD"));
+    }
+}
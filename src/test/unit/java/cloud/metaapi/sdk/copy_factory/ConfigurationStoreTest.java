@@ -0,0 +1,212 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.assertj.core.util.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import cloud.metaapi.sdk.clients.copy_factory.ConfigurationClient;
+import cloud.metaapi.sdk.clients.copy_factory.models.*;
+import cloud.metaapi.sdk.clients.copy_factory.models.snapshot.AccountSnapshot;
+import cloud.metaapi.sdk.clients.copy_factory.models.snapshot.StrategySnapshot;
+import cloud.metaapi.sdk.clients.mocks.HttpClientMock;
+import cloud.metaapi.sdk.util.JsonMapper;
+
+/**
+ * Tests {@link ConfigurationStore}
+ */
+class ConfigurationStoreTest {
+
+    private static ObjectMapper jsonMapper = JsonMapper.getInstance();
+    private HttpClientMock httpClient;
+    private ConfigurationStore store;
+    private List<CopyFactoryAccount> accounts;
+    private List<CopyFactoryStrategy> strategies;
+    private List<CopyFactoryPortfolioStrategy> portfolioStrategies;
+    private int requestCount;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        accounts = Lists.list(createAccount("account1", "ABCD"), createAccount("account2", "BCDE"));
+        strategies = Lists.list(createStrategy("ABCD", "Strategy A"), createStrategy("BCDE", "Strategy B"));
+        portfolioStrategies = new ArrayList<>();
+        requestCount = 0;
+        httpClient = new HttpClientMock((opts) -> {
+            try {
+                requestCount++;
+                if (opts.getUrl().endsWith("/configuration/accounts")) {
+                    return CompletableFuture.completedFuture(jsonMapper.writeValueAsString(accounts));
+                } else if (opts.getUrl().endsWith("/configuration/strategies")) {
+                    return CompletableFuture.completedFuture(jsonMapper.writeValueAsString(strategies));
+                } else {
+                    return CompletableFuture.completedFuture(jsonMapper.writeValueAsString(portfolioStrategies));
+                }
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        store = new ConfigurationStore(new ConfigurationClient(httpClient, "header.payload.sign"));
+    }
+
+    /**
+     * Tests {@link ConfigurationStore#refresh()}
+     */
+    @Test
+    void testLoadsConfigurationFromApi() throws Exception {
+        store.refresh().get();
+        assertEquals(3, requestCount);
+        assertEquals(2, store.getAccounts().size());
+        assertEquals("ABCD", store.getAccount("account1").subscriptions.get(0).strategyId);
+        assertEquals("Strategy B", store.getStrategy("BCDE").name);
+        assertTrue(store.getPortfolioStrategies().isEmpty());
+    }
+
+    /**
+     * Tests {@link ConfigurationStore#refresh()}
+     */
+    @Test
+    void testNotifiesListenersOnlyAboutDifferences() throws Exception {
+        store.refresh().get();
+        StrategySnapshot unchangedStrategy = store.getStrategySnapshot("ABCD");
+        List<String> events = new ArrayList<>();
+        store.addListener(new ConfigurationListener() {
+            @Override
+            public void onAccountUpdated(CopyFactoryAccount account) {
+                events.add("account updated " + account._id);
+            }
+            @Override
+            public void onAccountRemoved(String accountId) {
+                events.add("account removed " + accountId);
+            }
+            @Override
+            public void onStrategyUpdated(CopyFactoryStrategy strategy) {
+                events.add("strategy updated " + strategy._id);
+            }
+        });
+        accounts = Lists.list(createAccount("account1", "BCDE"));
+        strategies.get(1).name = "Strategy B updated";
+        store.refresh().get();
+        assertThat(events).containsExactlyInAnyOrder("account updated account1", "account removed account2",
+            "strategy updated BCDE");
+        assertNull(store.getAccount("account2"));
+        assertEquals("Strategy B updated", store.getStrategy("BCDE").name);
+        assertSame(unchangedStrategy, store.getStrategySnapshot("ABCD"));
+    }
+
+    /**
+     * Tests {@link ConfigurationStore#getAccount(String)}, {@link ConfigurationStore#getStrategies()}
+     */
+    @Test
+    void testReturnsCopiesOfStoredModels() throws Exception {
+        store.refresh().get();
+        CopyFactoryAccount account = store.getAccount("account1");
+        account.name = "Account changed";
+        account.subscriptions.clear();
+        store.getStrategies().get(0).name = "Strategy changed";
+        assertEquals("Account account1", store.getAccount("account1").name);
+        assertEquals(1, store.getAccount("account1").subscriptions.size());
+        assertThat(store.getStrategies()).extracting(strategy -> strategy.name).doesNotContain("Strategy changed");
+        assertNotSame(store.getAccount("account1"), store.getAccount("account1"));
+    }
+
+    /**
+     * Tests {@link ConfigurationStore#getAccountSnapshot(String)},
+     * {@link ConfigurationStore#getStrategySnapshot(String)}
+     */
+    @Test
+    void testKeepsSnapshotsSharingUnchangedParts() throws Exception {
+        store.refresh().get();
+        AccountSnapshot account = store.getAccountSnapshot("account1");
+        StrategySnapshot strategy = store.getStrategySnapshot("ABCD");
+        assertEquals("ABCD", account.subscriptions.get(0).strategyId);
+        assertThrows(UnsupportedOperationException.class, () -> account.subscriptions.clear());
+        accounts.get(0).name = "Account updated";
+        accounts.remove(1);
+        store.refresh().get();
+        AccountSnapshot updatedAccount = store.getAccountSnapshot("account1");
+        assertEquals("Account updated", updatedAccount.name);
+        assertEquals("Account account1", account.name);
+        assertSame(account.subscriptions, updatedAccount.subscriptions);
+        assertSame(strategy, store.getStrategySnapshot("ABCD"));
+        assertNull(store.getAccountSnapshot("account2"));
+        assertEquals(1, store.getAccountSnapshots().size());
+    }
+
+    /**
+     * Tests {@link ConfigurationStore#exportSnapshot(Path)}
+     * and {@link ConfigurationStore#importSnapshot(Path)}
+     */
+    @Test
+    void testExportsAndImportsSnapshot(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("configuration.snapshot");
+        store.refresh().get();
+        store.exportSnapshot(file);
+        requestCount = 0;
+        ConfigurationStore restoredStore = new ConfigurationStore(
+            new ConfigurationClient(httpClient, "header.payload.sign"));
+        assertTrue(restoredStore.importSnapshot(file));
+        assertEquals(0, requestCount);
+        assertThat(restoredStore.getAccounts()).usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyInAnyOrderElementsOf(store.getAccounts());
+        assertThat(restoredStore.getStrategies()).usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyInAnyOrderElementsOf(store.getStrategies());
+    }
+
+    /**
+     * Tests {@link ConfigurationStore#importSnapshot(Path)}
+     */
+    @Test
+    void testDoesNotImportMissingSnapshot(@TempDir Path directory) {
+        assertFalse(store.importSnapshot(directory.resolve("missing.snapshot")));
+    }
+
+    /**
+     * Tests {@link ConfigurationStore#start(Path, int)}
+     */
+    @Test
+    void testStartsFromSnapshotWithoutWaitingForApi(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("configuration.snapshot");
+        store.refresh().get();
+        store.exportSnapshot(file);
+        httpClient.setRequestMock((opts) -> new CompletableFuture<>());
+        ConfigurationStore restoredStore = new ConfigurationStore(
+            new ConfigurationClient(httpClient, "header.payload.sign"));
+        try {
+            assertTrue(restoredStore.start(file, 60).isDone());
+            assertEquals(2, restoredStore.getAccounts().size());
+        } finally {
+            restoredStore.stop();
+        }
+    }
+
+    private CopyFactoryAccount createAccount(String id, String strategyId) {
+        CopyFactoryAccount account = new CopyFactoryAccount();
+        account._id = id;
+        account.name = "Account " + id;
+        account.connectionId = "connection-" + id;
+        CopyFactoryStrategySubscription subscription = new CopyFactoryStrategySubscription();
+        subscription.strategyId = strategyId;
+        subscription.multiplier = 1.0;
+        account.subscriptions = Lists.list(subscription);
+        return account;
+    }
+
+    private CopyFactoryStrategy createStrategy(String id, String name) {
+        CopyFactoryStrategy strategy = new CopyFactoryStrategy();
+        strategy._id = id;
+        strategy.name = name;
+        strategy.connectionId = "connection-" + id;
+        return strategy;
+    }
+}
@@ -0,0 +1,104 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import cloud.metaapi.sdk.clients.copy_factory.ConfigurationClient;
+
+/**
+ * Tests {@link CopyFactory}
+ */
+class CopyFactoryTest {
+
+    private CopyFactory copyFactory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CopyFactory.Options opts = new CopyFactory.Options();
+        opts.url = "http://localhost:1";
+        copyFactory = new CopyFactory("header.payload.sign", opts);
+    }
+
+    @AfterEach
+    void tearDown() {
+        copyFactory.close();
+    }
+
+    /**
+     * Tests {@link CopyFactory#getConfigurationApi()}, {@link CopyFactory#getHistoryApi()},
+     * {@link CopyFactory#getTradingApi()}
+     */
+    @Test
+    void testConstructsApisWhenTheyAreFirstRequested() {
+        assertFalse(copyFactory.configurationApi.isCreated());
+        assertFalse(copyFactory.historyApi.isCreated());
+        assertFalse(copyFactory.tradingApi.isCreated());
+        ConfigurationClient configurationApi = copyFactory.getConfigurationApi();
+        assertTrue(copyFactory.configurationApi.isCreated());
+        assertFalse(copyFactory.historyApi.isCreated());
+        assertFalse(copyFactory.tradingApi.isCreated());
+        assertSame(configurationApi, copyFactory.getConfigurationApi());
+        assertSame(copyFactory.getHistoryApi(), copyFactory.getHistoryApi());
+        assertSame(copyFactory.getTradingApi(), copyFactory.getTradingApi());
+    }
+
+    /**
+     * Tests {@link CopyFactory.Lazy#get()}
+     */
+    @Test
+    void testCreatesLazyValueOnceWhenRequestedConcurrently() throws Exception {
+        AtomicInteger creations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CopyFactory.Lazy<Object> lazy = new CopyFactory.Lazy<>(() -> {
+            creations.incrementAndGet();
+            return new Object();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<Object>> values = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                values.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return lazy.get();
+                }, executor));
+            }
+            start.countDown();
+            for (CompletableFuture<Object> value : values) {
+                assertSame(lazy.get(), value.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, creations.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests {@link CopyFactory#warmUp()}
+     */
+    @Test
+    void testConstructsApisOnWarmUp() throws Exception {
+        copyFactory.warmUp().get(5, TimeUnit.SECONDS);
+        assertTrue(copyFactory.configurationApi.isCreated());
+        assertTrue(copyFactory.historyApi.isCreated());
+        assertTrue(copyFactory.tradingApi.isCreated());
+        ConfigurationClient configurationApi = copyFactory.getConfigurationApi();
+        copyFactory.warmUp().get(5, TimeUnit.SECONDS);
+        assertSame(configurationApi, copyFactory.getConfigurationApi());
+    }
+}
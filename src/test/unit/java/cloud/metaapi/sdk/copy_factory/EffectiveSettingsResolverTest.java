@@ -0,0 +1,194 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.assertj.core.util.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import cloud.metaapi.sdk.clients.copy_factory.ConfigurationClient;
+import cloud.metaapi.sdk.clients.copy_factory.models.*;
+import cloud.metaapi.sdk.clients.mocks.HttpClientMock;
+
+/**
+ * Tests {@link EffectiveSettingsResolver}
+ */
+class EffectiveSettingsResolverTest {
+
+    private ConfigurationStore store;
+    private EffectiveSettingsResolver resolver;
+    private CopyFactoryAccount account1;
+    private CopyFactoryAccount account2;
+    private CopyFactoryStrategy strategyA;
+    private CopyFactoryStrategy strategyB;
+    private CopyFactoryPortfolioStrategy portfolio;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = new ConfigurationStore(new ConfigurationClient(
+            new HttpClientMock((opts) -> CompletableFuture.completedFuture("[]")), "header.payload.sign"));
+        resolver = new EffectiveSettingsResolver(store);
+        strategyA = createStrategy("ABCD");
+        strategyA.maxLeverage = 10.0;
+        strategyA.copyStopLoss = false;
+        strategyA.riskLimits = Lists.list(createRiskLimit("day"));
+        strategyB = createStrategy("BCDE");
+        strategyB.maxTradeVolume = 5.0;
+        portfolio = new CopyFactoryPortfolioStrategy();
+        portfolio._id = "PORT";
+        portfolio.maxTradeVolume = 3.0;
+        portfolio.members = Lists.list(new CopyFactoryPortfolioMember() {{
+            strategyId = "BCDE";
+            multiplier = 0.5;
+            minTradeVolume = 0.1;
+        }});
+        account1 = createAccount("account1", createSubscription("ABCD", 2.0));
+        account1.maxLeverage = 5.0;
+        account1.riskLimits = Lists.list(createRiskLimit("week"));
+        account2 = createAccount("account2", createSubscription("PORT", 3.0));
+        applySnapshot();
+    }
+
+    /**
+     * Tests {@link EffectiveSettingsResolver#resolve(String, String)}
+     */
+    @Test
+    void testResolvesDirectSubscriptionSettings() {
+        EffectiveSettings settings = resolver.resolve("account1", "ABCD");
+        assertEquals(2.0, settings.multiplier);
+        assertEquals(5.0, settings.maxLeverage);
+        assertFalse(settings.copyStopLoss);
+        assertTrue(settings.copyTakeProfit);
+        assertNull(settings.portfolioId);
+        assertThat(settings.riskLimits).extracting(limit -> limit.type).containsExactly("week", "day");
+        assertNull(resolver.resolve("account1", "BCDE"));
+    }
+
+    /**
+     * Tests {@link EffectiveSettingsResolver#resolve(String, String)}
+     */
+    @Test
+    void testResolvesSettingsOfStrategyCopiedThroughPortfolio() {
+        EffectiveSettings settings = resolver.resolve("account2", "BCDE");
+        assertEquals("PORT", settings.portfolioId);
+        assertEquals(1.5, settings.multiplier);
+        assertEquals(0.1, settings.minTradeVolume);
+        assertEquals(3.0, settings.maxTradeVolume);
+    }
+
+    /**
+     * Tests {@link EffectiveSettingsResolver#resolve(String, String)}
+     */
+    @Test
+    void testMemoizesSettingsAndInvalidatesOnlyDependentPairs() {
+        EffectiveSettings settings1 = resolver.resolve("account1", "ABCD");
+        EffectiveSettings settings2 = resolver.resolve("account2", "BCDE");
+        assertSame(settings1, resolver.resolve("account1", "ABCD"));
+        portfolio = new CopyFactoryPortfolioStrategy();
+        portfolio._id = "PORT";
+        portfolio.maxTradeVolume = 2.0;
+        portfolio.members = Lists.list(new CopyFactoryPortfolioMember() {{
+            strategyId = "BCDE";
+            multiplier = 1;
+        }});
+        applySnapshot();
+        assertSame(settings1, resolver.resolve("account1", "ABCD"));
+        EffectiveSettings updatedSettings2 = resolver.resolve("account2", "BCDE");
+        assertNotSame(settings2, updatedSettings2);
+        assertEquals(2.0, updatedSettings2.maxTradeVolume);
+        assertEquals(3.0, updatedSettings2.multiplier);
+    }
+
+    /**
+     * Tests {@link EffectiveSettingsResolver#resolve(String, String)}
+     */
+    @Test
+    void testInvalidatesSettingsWhenEarlierSubscriptionBecomesPortfolioOfStrategy() {
+        account2.subscriptions = Lists.list(createSubscription("OTHER", 1.0), createSubscription("PORT", 3.0));
+        applySnapshot();
+        assertEquals("PORT", resolver.resolve("account2", "BCDE").portfolioId);
+        CopyFactoryPortfolioStrategy otherPortfolio = new CopyFactoryPortfolioStrategy();
+        otherPortfolio._id = "OTHER";
+        otherPortfolio.members = Lists.list(new CopyFactoryPortfolioMember() {{
+            strategyId = "BCDE";
+            multiplier = 1;
+        }});
+        ConfigurationSnapshot snapshot = new ConfigurationSnapshot();
+        snapshot.accounts = Lists.list(account1, account2);
+        snapshot.strategies = Lists.list(strategyA, strategyB);
+        snapshot.portfolioStrategies = Lists.list(portfolio, otherPortfolio);
+        store.applySnapshot(snapshot);
+        EffectiveSettings settings = resolver.resolve("account2", "BCDE");
+        assertEquals("OTHER", settings.portfolioId);
+        assertEquals(1.0, settings.multiplier);
+    }
+
+    /**
+     * Tests {@link EffectiveSettingsResolver#resolve(String, String)}
+     */
+    @Test
+    void testDoesNotMemoizeSettingsInvalidatedWhileResolving() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (int i = 0; i < 2000; i++) {
+                Future<?> resolving = executor.submit(() -> resolver.resolve("account1", "ABCD"));
+                strategyA = createStrategy("ABCD");
+                strategyA.minTradeVolume = (double) i;
+                applySnapshot();
+                resolving.get();
+                assertEquals(i, resolver.resolve("account1", "ABCD").minTradeVolume);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests {@link EffectiveSettingsResolver#resolveAll()}
+     */
+    @Test
+    void testResolvesAllPairs() {
+        assertThat(resolver.resolveAll()).extracting(settings -> settings.accountId + ":" + settings.strategyId)
+            .containsExactlyInAnyOrder("account1:ABCD", "account2:BCDE");
+    }
+
+    private void applySnapshot() {
+        ConfigurationSnapshot snapshot = new ConfigurationSnapshot();
+        snapshot.accounts = Lists.list(account1, account2);
+        snapshot.strategies = Lists.list(strategyA, strategyB);
+        snapshot.portfolioStrategies = Lists.list(portfolio);
+        store.applySnapshot(snapshot);
+    }
+
+    private CopyFactoryAccount createAccount(String id, CopyFactoryStrategySubscription subscription) {
+        CopyFactoryAccount account = new CopyFactoryAccount();
+        account._id = id;
+        account.subscriptions = Lists.list(subscription);
+        return account;
+    }
+
+    private CopyFactoryStrategySubscription createSubscription(String strategyId, Double multiplier) {
+        CopyFactoryStrategySubscription subscription = new CopyFactoryStrategySubscription();
+        subscription.strategyId = strategyId;
+        subscription.multiplier = multiplier;
+        return subscription;
+    }
+
+    private CopyFactoryStrategy createStrategy(String id) {
+        CopyFactoryStrategy strategy = new CopyFactoryStrategy();
+        strategy._id = id;
+        return strategy;
+    }
+
+    private CopyFactoryStrategyRiskLimit createRiskLimit(String type) {
+        CopyFactoryStrategyRiskLimit limit = new CopyFactoryStrategyRiskLimit();
+        limit.type = type;
+        return limit;
+    }
+}
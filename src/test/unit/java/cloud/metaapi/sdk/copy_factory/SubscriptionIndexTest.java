@@ -0,0 +1,126 @@
+package cloud.metaapi.sdk.copy_factory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core.util.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.*;
+
+/**
+ * Tests {@link SubscriptionIndex}
+ */
+class SubscriptionIndexTest {
+
+    private SubscriptionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SubscriptionIndex();
+        index.index(
+            Lists.list(createAccount("account1", "connection1", "ABCD"),
+                createAccount("account2", "connection2", "PORT"),
+                createAccount("account3", "connection2", "BCDE", "ABCD")),
+            Lists.list(createStrategy("ABCD", "provider1"), createStrategy("BCDE", "provider1")),
+            Lists.list(createPortfolioStrategy("PORT", "ABCD", "BCDE")));
+    }
+
+    /**
+     * Tests {@link SubscriptionIndex#getSubscribers(String)}
+     */
+    @Test
+    void testReturnsDirectSubscribers() {
+        assertThat(index.getSubscribers("ABCD")).containsExactlyInAnyOrder("account1", "account3");
+        assertThat(index.getSubscribers("PORT")).containsExactly("account2");
+        assertThat(index.getSubscribers("unknown")).isEmpty();
+    }
+
+    /**
+     * Tests {@link SubscriptionIndex#getAllSubscribers(String)}
+     */
+    @Test
+    void testReturnsSubscribersCopyingThroughPortfolios() {
+        assertThat(index.getAllSubscribers("ABCD")).containsExactlyInAnyOrder("account1", "account2", "account3");
+        assertThat(index.getAllSubscribers("BCDE")).containsExactlyInAnyOrder("account2", "account3");
+    }
+
+    /**
+     * Tests {@link SubscriptionIndex#getPortfolios(String)}
+     */
+    @Test
+    void testReturnsPortfoliosIncludingStrategy() {
+        assertThat(index.getPortfolios("ABCD")).containsExactly("PORT");
+        assertThat(index.getPortfolioMembers("PORT")).containsExactlyInAnyOrder("ABCD", "BCDE");
+    }
+
+    /**
+     * Tests {@link SubscriptionIndex#getAccountsByConnectionId(String)}
+     * and {@link SubscriptionIndex#getStrategiesByConnectionId(String)}
+     */
+    @Test
+    void testReturnsObjectsByConnectionId() {
+        assertThat(index.getAccountsByConnectionId("connection2")).containsExactlyInAnyOrder("account2", "account3");
+        assertThat(index.getStrategiesByConnectionId("provider1")).containsExactlyInAnyOrder("ABCD", "BCDE");
+    }
+
+    /**
+     * Tests {@link SubscriptionIndex#updateAccount(CopyFactoryAccount)}
+     */
+    @Test
+    void testUpdatesAccountIncrementally() {
+        index.updateAccount(createAccount("account3", "connection3", "BCDE"));
+        assertThat(index.getSubscribers("ABCD")).containsExactly("account1");
+        assertThat(index.getSubscribers("BCDE")).containsExactly("account3");
+        assertThat(index.getAccountsByConnectionId("connection2")).containsExactly("account2");
+        assertThat(index.getAccountsByConnectionId("connection3")).containsExactly("account3");
+        assertThat(index.getAccountStrategies("account3")).containsExactly("BCDE");
+    }
+
+    /**
+     * Tests {@link SubscriptionIndex#removeAccount(String)}
+     * and {@link SubscriptionIndex#removePortfolioStrategy(String)}
+     */
+    @Test
+    void testRemovesObjectsFromIndex() {
+        index.removeAccount("account1");
+        index.removePortfolioStrategy("PORT");
+        assertThat(index.getSubscribers("ABCD")).containsExactly("account3");
+        assertThat(index.getAllSubscribers("BCDE")).containsExactly("account3");
+        assertThat(index.getPortfolios("ABCD")).isEmpty();
+        assertThat(index.getAccountsByConnectionId("connection1")).isEmpty();
+    }
+
+    private CopyFactoryAccount createAccount(String id, String connectionId, String... strategyIds) {
+        CopyFactoryAccount account = new CopyFactoryAccount();
+        account._id = id;
+        account.connectionId = connectionId;
+        account.subscriptions = Lists.list();
+        for (String strategyId : strategyIds) {
+            CopyFactoryStrategySubscription subscription = new CopyFactoryStrategySubscription();
+            subscription.strategyId = strategyId;
+            account.subscriptions.add(subscription);
+        }
+        return account;
+    }
+
+    private CopyFactoryStrategy createStrategy(String id, String connectionId) {
+        CopyFactoryStrategy strategy = new CopyFactoryStrategy();
+        strategy._id = id;
+        strategy.connectionId = connectionId;
+        return strategy;
+    }
+
+    private CopyFactoryPortfolioStrategy createPortfolioStrategy(String id, String... memberIds) {
+        CopyFactoryPortfolioStrategy strategy = new CopyFactoryPortfolioStrategy();
+        strategy._id = id;
+        strategy.members = Lists.list();
+        for (String memberId : memberIds) {
+            CopyFactoryPortfolioMember member = new CopyFactoryPortfolioMember();
+            member.strategyId = memberId;
+            member.multiplier = 1;
+            strategy.members.add(member);
+        }
+        return strategy;
+    }
+}
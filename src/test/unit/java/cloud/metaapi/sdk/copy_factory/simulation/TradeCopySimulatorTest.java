@@ -0,0 +1,167 @@
+package cloud.metaapi.sdk.copy_factory.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.util.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import cloud.metaapi.sdk.clients.copy_factory.models.*;
+import cloud.metaapi.sdk.clients.copy_factory.models.CopyFactoryTransaction.DealType;
+
+/**
+ * Tests {@link TradeCopySimulator}
+ */
+class TradeCopySimulatorTest {
+
+    private TradeCopySimulator simulator;
+
+    @BeforeEach
+    void setUp() {
+        simulator = new TradeCopySimulator(Lists.list(
+            createTransaction("1", DealType.DEAL_TYPE_BUY, "EURUSD", 0.1),
+            createTransaction("2", DealType.DEAL_TYPE_SELL, "EURUSD", -0.2),
+            createTransaction("3", DealType.DEAL_TYPE_BUY, "GBPUSD", 1.0),
+            createTransaction("4", DealType.DEAL_TYPE_BALANCE, null, null),
+            createTransaction("5", DealType.DEAL_TYPE_SELL, "XAUUSD", -0.05)
+        ), 2);
+    }
+
+    /**
+     * Tests {@link TradeCopySimulator#simulate(CopyFactoryStrategySubscription)}
+     */
+    @Test
+    void testScalesTradesByBalanceAndMultiplier() {
+        SimulationResult result = simulator.simulate(new CopyFactoryStrategySubscription() {{
+            multiplier = 0.5;
+        }});
+        assertEquals(4, result.sourceTradeCount);
+        assertEquals(4, result.copiedTradeCount);
+        assertEquals(1.35, result.totalVolume, 1e-9);
+        assertEquals(1.1, result.buyVolume, 1e-9);
+        assertEquals(0.25, result.sellVolume, 1e-9);
+    }
+
+    /**
+     * Tests {@link TradeCopySimulator#simulate(CopyFactoryStrategySubscription)}
+     */
+    @Test
+    void testAppliesSymbolFilterAndVolumeLimits() {
+        SimulationResult result = simulator.simulate(new CopyFactoryStrategySubscription() {{
+            symbolFilter = new CopyFactoryStrategySymbolFilter() {{
+                excluded = Lists.list("XAUUSD");
+            }};
+            tradeSizeScaling = new CopyFactoryStrategyTradeSizeScaling() {{
+                mode = "none";
+            }};
+            minTradeVolume = 0.15;
+            maxTradeVolume = 0.5;
+        }});
+        assertEquals(1, result.skippedBySymbolFilter);
+        assertEquals(1, result.skippedByMinTradeVolume);
+        assertEquals(1, result.cappedByMaxTradeVolume);
+        assertEquals(2, result.copiedTradeCount);
+        assertEquals(0.7, result.totalVolume, 1e-9);
+    }
+
+    /**
+     * Tests {@link TradeCopySimulator#simulate(CopyFactoryStrategySubscription)}
+     */
+    @Test
+    void testReportsTradesOfModesDependingOnMissingDataAsNotSimulated() {
+        for (String scalingMode : Lists.list("fixedRisk", "contractSize")) {
+            CopyFactoryStrategySubscription subscription = new CopyFactoryStrategySubscription() {{
+                tradeSizeScaling = new CopyFactoryStrategyTradeSizeScaling() {{
+                    mode = scalingMode;
+                    riskFraction = 0.01;
+                }};
+            }};
+            SimulationResult result = simulator.simulate(subscription);
+            assertEquals(0, result.copiedTradeCount);
+            assertEquals(0, result.skippedByTradeSizeScaling);
+            assertEquals(4, result.notSimulatedByTradeSizeScaling);
+            assertEquals(0, result.totalVolume);
+            assertTrue(simulator.replay(subscription).isEmpty());
+        }
+    }
+
+    /**
+     * Tests {@link TradeCopySimulator#simulate(CopyFactoryStrategySubscription)}
+     */
+    @Test
+    void testDoesNotCountClosingDealsAsCopiedTrades() {
+        CopyFactoryTransaction open = createTransaction("1", DealType.DEAL_TYPE_BUY, "EURUSD", 0.1);
+        open.positionId = "46214692";
+        CopyFactoryTransaction close = createTransaction("2", DealType.DEAL_TYPE_SELL, "EURUSD", -0.1);
+        close.positionId = "46214692";
+        CopyFactoryTransaction other = createTransaction("3", DealType.DEAL_TYPE_SELL, "GBPUSD", -0.2);
+        other.positionId = "46214693";
+        simulator = new TradeCopySimulator(Lists.list(open, close, other));
+        SimulationResult result = simulator.simulate(new CopyFactoryStrategySubscription());
+        assertEquals(3, result.sourceTradeCount);
+        assertEquals(1, result.closingTradeCount);
+        assertEquals(2, result.copiedTradeCount);
+        assertEquals(0.1, result.buyVolume, 1e-9);
+        assertEquals(0.2, result.sellVolume, 1e-9);
+        assertThat(simulator.replay(new CopyFactoryStrategySubscription())).extracting(trade -> trade.transactionId)
+            .containsExactly("1", "3");
+    }
+
+    /**
+     * Tests {@link TradeCopySimulator#replay(CopyFactoryStrategySubscription)}
+     */
+    @Test
+    void testReplaysTradesWithSymbolMappingAndReverse() {
+        List<SimulatedTrade> trades = simulator.replay(new CopyFactoryStrategySubscription() {{
+            reverse = true;
+            symbolFilter = new CopyFactoryStrategySymbolFilter() {{
+                included = Lists.list("EURUSD");
+            }};
+            symbolMapping = Lists.list(new CopyFactoryStrategySymbolMapping() {{
+                from = "EURUSD";
+                to = "EURUSD.m";
+            }});
+            tradeSizeScaling = new CopyFactoryStrategyTradeSizeScaling() {{
+                mode = "fixedVolume";
+                tradeVolume = 0.01;
+            }};
+        }});
+        assertThat(trades).extracting(trade -> trade.transactionId).containsExactly("1", "2");
+        assertThat(trades).extracting(trade -> trade.symbol).containsOnly("EURUSD.m");
+        assertThat(trades).extracting(trade -> trade.type)
+            .containsExactly(DealType.DEAL_TYPE_SELL, DealType.DEAL_TYPE_BUY);
+        assertThat(trades).extracting(trade -> trade.volume).containsOnly(0.01);
+    }
+
+    /**
+     * Tests {@link TradeCopySimulator#simulate(List)}
+     */
+    @Test
+    void testSimulatesCandidateSubscriptionsInParallel() {
+        List<CopyFactoryStrategySubscription> subscriptions = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            CopyFactoryStrategySubscription subscription = new CopyFactoryStrategySubscription();
+            subscription.multiplier = i / 10.0;
+            subscriptions.add(subscription);
+        }
+        List<SimulationResult> results = simulator.simulate(subscriptions);
+        assertEquals(100, results.size());
+        for (int i = 0; i < 100; i++) {
+            assertSame(subscriptions.get(i), results.get(i).subscription);
+            assertEquals(2.7 * subscriptions.get(i).multiplier, results.get(i).totalVolume, 1e-9);
+        }
+    }
+
+    private CopyFactoryTransaction createTransaction(String id, DealType type, String symbol, Double quantity) {
+        CopyFactoryTransaction transaction = new CopyFactoryTransaction();
+        transaction.id = id;
+        transaction.type = type;
+        transaction.symbol = symbol;
+        transaction.quantity = quantity;
+        return transaction;
+    }
+}
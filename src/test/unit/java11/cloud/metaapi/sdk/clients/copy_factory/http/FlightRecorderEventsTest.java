@@ -0,0 +1,85 @@
+package cloud.metaapi.sdk.clients.copy_factory.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import cloud.metaapi.sdk.clients.HttpRequestOptions;
+import cloud.metaapi.sdk.clients.HttpRequestOptions.Method;
+import cloud.metaapi.sdk.clients.RetryOptions;
+
+/**
+ * Tests {@link FlightRecorderEvents}
+ */
+class FlightRecorderEventsTest {
+
+    private HttpServer server;
+    private CopyFactoryHttpClient httpClient;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/values", exchange -> {
+            byte[] response = "[\"value\"]".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream stream = exchange.getResponseBody()) {
+                stream.write(response);
+            }
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+        httpClient = new CopyFactoryHttpClient(10000, 10000, new RetryOptions(), new ConnectionPoolOptions());
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    /**
+     * Tests {@link FlightRecorderEvents#commit(Object, HttpRequestOptions, RequestContext, Throwable)}
+     */
+    @Test
+    void testEmitsFlightRecorderEvents() throws Exception {
+        assertTrue(FlightRecorderEvents.AVAILABLE);
+        Path file = Files.createTempFile("copyfactory", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("cloud.metaapi.copyfactory.Request").withoutThreshold();
+            recording.start();
+            httpClient.requestJson(new HttpRequestOptions(baseUrl + "/values", Method.GET), String[].class,
+                "getValues", null).join();
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertEquals(1, events.size());
+            RecordedEvent event = events.get(0);
+            assertEquals("getValues", event.getString("operation"));
+            assertEquals("GET", event.getString("method"));
+            assertEquals("/values", event.getString("urlTemplate"));
+            assertEquals(9, event.getLong("responseBytes"));
+            assertEquals(0, event.getInt("retries"));
+            assertTrue(event.getDuration("networkTime").toNanos() > 0);
+            assertTrue(event.getDuration("decodeTime").toNanos() > 0);
+            assertNull(event.getString("error"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
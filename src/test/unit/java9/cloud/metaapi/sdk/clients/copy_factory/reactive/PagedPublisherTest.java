@@ -0,0 +1,198 @@
+package cloud.metaapi.sdk.clients.copy_factory.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import cloud.metaapi.sdk.clients.error_handler.NotFoundException;
+
+/**
+ * Tests {@link PagedPublisher}
+ */
+class PagedPublisherTest {
+
+    private List<int[]> pageRequests;
+    private TestSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        pageRequests = new ArrayList<>();
+        subscriber = new TestSubscriber();
+    }
+
+    /**
+     * Tests {@link PagedPublisher#subscribe(Flow.Subscriber)}
+     */
+    @Test
+    void testLoadsPagesOnlyWhenRequested() {
+        new PagedPublisher<>(loader(25), 10).subscribe(subscriber);
+        assertThat(pageRequests).isEmpty();
+        subscriber.subscription.request(1);
+        subscriber.subscription.request(1);
+        subscriber.subscription.request(1);
+        assertThat(subscriber.items).containsExactly(0, 1, 2);
+        assertThat(pageRequests).containsExactly(new int[] {0, 10});
+        subscriber.subscription.request(15);
+        assertThat(subscriber.items).hasSize(18);
+        assertThat(pageRequests).containsExactly(new int[] {0, 10}, new int[] {10, 10});
+        assertFalse(subscriber.completed);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.items).isEqualTo(IntStream.range(0, 25).boxed().collect(Collectors.toList()));
+        assertThat(pageRequests).containsExactly(new int[] {0, 10}, new int[] {10, 10}, new int[] {20, 10});
+        assertTrue(subscriber.completed);
+    }
+
+    /**
+     * Tests {@link PagedPublisher#subscribe(Flow.Subscriber)}
+     */
+    @Test
+    void testCompletesAfterFullLastPage() {
+        new PagedPublisher<>(loader(20), 10).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.items).hasSize(20);
+        assertThat(pageRequests).containsExactly(new int[] {0, 10}, new int[] {10, 10}, new int[] {20, 10});
+        assertTrue(subscriber.completed);
+    }
+
+    /**
+     * Tests {@link PagedPublisher#subscribe(Flow.Subscriber)}
+     */
+    @Test
+    void testDoesNotLoadPagesAfterCancel() {
+        new PagedPublisher<>(loader(25), 10).subscribe(subscriber);
+        subscriber.subscription.request(10);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+        assertThat(subscriber.items).hasSize(10);
+        assertThat(pageRequests).hasSize(1);
+        assertFalse(subscriber.completed);
+    }
+
+    /**
+     * Tests {@link PagedPublisher#subscribe(Flow.Subscriber)}
+     */
+    @Test
+    void testCancelsPageInFlightOnCancel() {
+        CompletableFuture<List<Integer>> page = new CompletableFuture<>();
+        new PagedPublisher<Integer>((offset, limit) -> page, 10).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        assertTrue(page.isCancelled());
+        assertThat(subscriber.items).isEmpty();
+        assertNull(subscriber.error);
+        assertFalse(subscriber.completed);
+    }
+
+    /**
+     * Tests {@link PagedPublisher#subscribe(Flow.Subscriber)}
+     */
+    @Test
+    void testDeliversPagesLoadedAsynchronously() {
+        List<CompletableFuture<List<Integer>>> pages = new ArrayList<>();
+        new PagedPublisher<Integer>((offset, limit) -> {
+            CompletableFuture<List<Integer>> page = new CompletableFuture<>();
+            pages.add(page);
+            return page;
+        }, 2).subscribe(subscriber);
+        subscriber.subscription.request(5);
+        assertThat(pages).hasSize(1);
+        pages.get(0).complete(Arrays.asList(1, 2));
+        assertThat(subscriber.items).containsExactly(1, 2);
+        assertThat(pages).hasSize(2);
+        pages.get(1).complete(Collections.singletonList(3));
+        assertThat(subscriber.items).containsExactly(1, 2, 3);
+        assertTrue(subscriber.completed);
+    }
+
+    /**
+     * Tests {@link PagedPublisher#subscribe(Flow.Subscriber)}
+     */
+    @Test
+    void testSignalsLoadingErrors() {
+        NotFoundException error = new NotFoundException("Not found");
+        new PagedPublisher<Integer>((offset, limit) -> {
+            CompletableFuture<List<Integer>> page = new CompletableFuture<>();
+            page.completeExceptionally(error);
+            return page;
+        }, 10).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertSame(error, subscriber.error);
+        assertFalse(subscriber.completed);
+    }
+
+    /**
+     * Tests {@link PagedPublisher#subscribe(Flow.Subscriber)}
+     */
+    @Test
+    void testSignalsErrorOnNonPositiveRequest() {
+        new PagedPublisher<>(loader(25), 10).subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(pageRequests).isEmpty();
+    }
+
+    /**
+     * Tests {@link PagedPublisher#ofList(java.util.function.Supplier)}
+     */
+    @Test
+    void testDeliversListAccordingToDemand() {
+        PagedPublisher.ofList(() -> {
+            pageRequests.add(new int[0]);
+            return CompletableFuture.completedFuture(Arrays.asList(1, 2, 3));
+        }).subscribe(subscriber);
+        subscriber.subscription.request(2);
+        assertThat(subscriber.items).containsExactly(1, 2);
+        assertFalse(subscriber.completed);
+        subscriber.subscription.request(2);
+        assertThat(subscriber.items).containsExactly(1, 2, 3);
+        assertTrue(subscriber.completed);
+        assertThat(pageRequests).hasSize(1);
+    }
+
+    private PagedPublisher.PageLoader<Integer> loader(int total) {
+        return (offset, limit) -> {
+            pageRequests.add(new int[] {offset, limit});
+            return CompletableFuture.completedFuture(IntStream.range(offset, Math.min(offset + limit, total)).boxed()
+                .collect(Collectors.toList()));
+        };
+    }
+
+    private static class TestSubscriber implements Flow.Subscriber<Integer> {
+
+        private Flow.Subscription subscription;
+        private List<Integer> items = new ArrayList<>();
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}